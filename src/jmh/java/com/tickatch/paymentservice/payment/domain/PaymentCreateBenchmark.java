@@ -0,0 +1,55 @@
+package com.tickatch.paymentservice.payment.domain;
+
+import com.tickatch.paymentservice.payment.domain.dto.PaymentReservationInfo;
+import com.tickatch.paymentservice.payment.domain.exception.PaymentException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 결제 생성 벤치마크.
+ *
+ * <p>{@link Payment#create}의 링크 생성, 총액 계산, 네 가지 검증(링크/금액/결제 수단/중복 예매 id)을 예매 수별로 측정한다. 중복 예매 id로 거절되는
+ * 경로는 예외 생성 비용까지 포함한다.
+ */
+@State(Scope.Benchmark)
+public class PaymentCreateBenchmark {
+
+  @Param({"1", "10", "50"})
+  int linkCount;
+
+  private List<PaymentReservationInfo> infos;
+  private List<PaymentReservationInfo> duplicateInfos;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    infos = new ArrayList<>(linkCount);
+    for (int i = 0; i < linkCount; i++) {
+      infos.add(new PaymentReservationInfo(UUID.randomUUID().toString(), 15_000L));
+    }
+
+    // 마지막 예매 id가 첫 번째와 같아 중복 검증에서 거절된다
+    duplicateInfos = new ArrayList<>(infos);
+    duplicateInfos.add(new PaymentReservationInfo(infos.get(0).reservationId(), 15_000L));
+  }
+
+  @Benchmark
+  public Payment create() {
+    return Payment.create("benchmark", infos, PaymentMethod.TOSS_CARD);
+  }
+
+  @Benchmark
+  public Object createWithDuplicateReservationId() {
+    try {
+      return Payment.create("benchmark", duplicateInfos, PaymentMethod.TOSS_CARD);
+    } catch (PaymentException e) {
+      return e;
+    }
+  }
+}
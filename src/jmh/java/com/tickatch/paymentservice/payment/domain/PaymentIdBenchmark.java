@@ -0,0 +1,51 @@
+package com.tickatch.paymentservice.payment.domain;
+
+import java.util.UUID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * 결제 id 생성 벤치마크.
+ *
+ * <p>결제 생성마다 결제 id와 주문 id(UUID)를 하나씩 만든다. 동시 결제 생성에서의 경합도 보기 위해 4 스레드 측정을 함께 둔다.
+ * random*는 기존 {@link UUID#randomUUID()}(전역 NativePRNG) 기준값이다.
+ */
+@State(Scope.Benchmark)
+public class PaymentIdBenchmark {
+
+  private final UUID existing = UUID.randomUUID();
+
+  @Benchmark
+  public PaymentId generate() {
+    return PaymentId.of();
+  }
+
+  @Benchmark
+  @Threads(4)
+  public PaymentId generateContended() {
+    return PaymentId.of();
+  }
+
+  @Benchmark
+  public UUID randomUuid() {
+    return UUID.randomUUID();
+  }
+
+  @Benchmark
+  @Threads(4)
+  public UUID randomUuidContended() {
+    return UUID.randomUUID();
+  }
+
+  @Benchmark
+  public PaymentId wrapExisting() {
+    return PaymentId.of(existing);
+  }
+
+  @Benchmark
+  public String generateToString() {
+    return PaymentId.of().toString();
+  }
+}
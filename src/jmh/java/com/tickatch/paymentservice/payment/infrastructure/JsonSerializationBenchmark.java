@@ -0,0 +1,87 @@
+package com.tickatch.paymentservice.payment.infrastructure;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tickatch.paymentservice.payment.application.dto.RefundJobProgress;
+import com.tickatch.paymentservice.payment.domain.RefundJobStatus;
+import com.tickatch.paymentservice.payment.domain.RefundReason;
+import io.github.tickatch.common.api.ApiResponse;
+import io.github.tickatch.common.util.JsonUtils;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JSON 직렬화 벤치마크.
+ *
+ * <p>아웃박스에 저장하고 릴레이가 다시 읽는 {@link PaymentLogEvent}와, 결제 API 응답({@link ApiResponse}) 본문을 서비스와 같은
+ * ObjectMapper({@link JsonUtils})로 직렬화한다.
+ */
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+  private ObjectMapper objectMapper;
+  private PaymentLogEvent logEvent;
+  private String logEventJson;
+  private ApiResponse<Map<String, String>> checkoutResponse;
+  private ApiResponse<RefundJobProgress> refundJobResponse;
+
+  @Setup(Level.Trial)
+  public void setUp() throws JsonProcessingException {
+    objectMapper = JsonUtils.getObjectMapper();
+
+    logEvent =
+        new PaymentLogEvent(
+            UUID.randomUUID(),
+            UUID.randomUUID(),
+            "TOSS_CARD",
+            0,
+            "CONFIRM",
+            "USER",
+            UUID.randomUUID(),
+            LocalDateTime.now());
+    logEventJson = objectMapper.writeValueAsString(logEvent);
+
+    checkoutResponse =
+        ApiResponse.success(
+            Map.of("checkoutUrl", "https://api.tosspayments.com/v1/payments/" + UUID.randomUUID()));
+    refundJobResponse =
+        ApiResponse.success(
+            new RefundJobProgress(
+                UUID.randomUUID(),
+                RefundReason.PRODUCT_CANCEL,
+                RefundJobStatus.RUNNING,
+                10_000,
+                2_500,
+                7_400,
+                60,
+                40,
+                LocalDateTime.now().minusMinutes(5),
+                null));
+  }
+
+  @Benchmark
+  public String writePaymentLogEvent() throws JsonProcessingException {
+    return objectMapper.writeValueAsString(logEvent);
+  }
+
+  @Benchmark
+  public PaymentLogEvent readPaymentLogEvent() throws JsonProcessingException {
+    return objectMapper.readValue(logEventJson, PaymentLogEvent.class);
+  }
+
+  @Benchmark
+  public byte[] writeCheckoutResponse() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(checkoutResponse);
+  }
+
+  @Benchmark
+  public byte[] writeRefundJobResponse() throws JsonProcessingException {
+    return objectMapper.writeValueAsBytes(refundJobResponse);
+  }
+}
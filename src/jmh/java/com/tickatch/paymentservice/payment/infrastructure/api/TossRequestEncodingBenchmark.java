@@ -0,0 +1,59 @@
+package com.tickatch.paymentservice.payment.infrastructure.api;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 토스 요청 본문 생성 벤치마크.
+ *
+ * <p>format, map 벤치마크는 이전 게이트웨이처럼 {@code String.format} 또는 {@code Map.of} + {@code writeValueAsString}으로 문자열을
+ * 만든 뒤 전송용 바이트로 바꾸고, codec 벤치마크는 {@link TossJsonCodec}으로 레코드를 바로 바이트에 쓴다. 호출당 할당량은 gc.alloc.rate.norm으로
+ * 비교한다.
+ */
+@State(Scope.Benchmark)
+public class TossRequestEncodingBenchmark {
+
+  private static final String ORDER_NAME = "콘서트 티켓 2매";
+  private static final String CALLBACK_URL = "https://tickatch.example/payment/callback";
+  private static final String PAYMENT_KEY = "5EnNZRJGvaBX7zk2yd8ydw26XvwXkLrx9POLqKQjmAw4b0e1";
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final TossJsonCodec codec = new TossJsonCodec(objectMapper.getFactory());
+  private final UUID orderId = UUID.randomUUID();
+
+  @Benchmark
+  public byte[] formatCreate() {
+    return String.format(
+            "{\"method\":\"CARD\", \"amount\":%d, \"orderId\":\"%s\", \"orderName\":\"%s\", "
+                + "\"successUrl\":\"%s\", \"failUrl\":\"%s\"}",
+            30000L, orderId, ORDER_NAME, CALLBACK_URL, CALLBACK_URL)
+        .getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public byte[] codecCreate() {
+    return codec.encode(
+        new TossCreatePaymentRequest(
+            "CARD", 30000L, orderId.toString(), ORDER_NAME, CALLBACK_URL, CALLBACK_URL));
+  }
+
+  @Benchmark
+  public void mapConfirm(Blackhole blackhole) throws JsonProcessingException {
+    String body =
+        objectMapper.writeValueAsString(
+            Map.of("paymentKey", PAYMENT_KEY, "orderId", orderId.toString(), "amount", 30000L));
+    blackhole.consume(body.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Benchmark
+  public byte[] codecConfirm() {
+    return codec.encode(new TossConfirmRequest(PAYMENT_KEY, orderId.toString(), 30000L));
+  }
+}
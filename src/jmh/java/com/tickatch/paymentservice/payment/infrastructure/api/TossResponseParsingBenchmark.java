@@ -0,0 +1,110 @@
+package com.tickatch.paymentservice.payment.infrastructure.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tickatch.paymentservice.payment.application.dto.TossResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 토스 응답 파싱 벤치마크.
+ *
+ * <p>결제 서비스가 확인하는 필드(status, paymentKey, 오류 code/message)를 꺼내는 두 경로를 비교한다. tree 벤치마크는 이전 게이트웨이처럼 본문을
+ * 문자열로 바꾼 뒤 {@code JsonNode} 트리로 읽고, streaming 벤치마크는 {@link TossJsonCodec}으로 바이트에서 필요한 필드만 읽는다. 호출당 할당량은
+ * gc 프로파일러의 gc.alloc.rate.norm으로 비교한다. 본문은 토스 결제 객체 형식을 따른 승인/취소/오류 응답이다.
+ */
+@State(Scope.Benchmark)
+public class TossResponseParsingBenchmark {
+
+  private static final String CONFIRM_BODY =
+      """
+      {"mId":"tvivarepublica","lastTransactionKey":"9C62B18EEF0DE3EB7F4422EB6D14BC6E",
+       "paymentKey":"5EnNZRJGvaBX7zk2yd8ydw26XvwXkLrx9POLqKQjmAw4b0e1","orderId":"a4CWyWY5m89PNh7xJwhk1",
+       "orderName":"콘서트 티켓 2매","taxExemptionAmount":0,"status":"DONE",
+       "requestedAt":"2024-02-13T12:17:57+09:00","approvedAt":"2024-02-13T12:18:14+09:00",
+       "useEscrow":false,"cultureExpense":false,
+       "card":{"issuerCode":"71","acquirerCode":"71","number":"12345678****000*","installmentPlanMonths":0,
+               "isInterestFree":false,"interestPayer":null,"approveNo":"00000000","useCardPoint":false,
+               "cardType":"신용","ownerType":"개인","acquireStatus":"READY","amount":30000},
+       "virtualAccount":null,"transfer":null,"mobilePhone":null,"giftCertificate":null,
+       "cashReceipt":null,"cashReceipts":null,"discount":null,"cancels":null,"secret":null,
+       "type":"NORMAL","easyPay":{"provider":"토스페이","amount":0,"discountAmount":0},
+       "country":"KR","failure":null,"isPartialCancelable":true,
+       "receipt":{"url":"https://dashboard.tosspayments.com/receipt/redirection?transactionId=tviva20240213121757MvuS8"},
+       "checkout":{"url":"https://api.tosspayments.com/v1/payments/5EnNZRJGvaBX7zk2yd8ydw26XvwXkLrx9POLqKQjmAw4b0e1/checkout"},
+       "currency":"KRW","totalAmount":30000,"balanceAmount":30000,"suppliedAmount":27273,"vat":2727,
+       "taxFreeAmount":0,"method":"카드","version":"2022-11-16"}
+      """;
+
+  private static final String CANCEL_BODY =
+      CONFIRM_BODY
+          .replace("\"status\":\"DONE\"", "\"status\":\"CANCELED\"")
+          .replace(
+              "\"cancels\":null",
+              """
+              "cancels":[{"transactionKey":"090A796806E726BBB929F4A2CA7DB9A7","cancelReason":"PRODUCT_CANCEL",
+                "taxExemptionAmount":0,"canceledAt":"2024-02-13T12:20:23+09:00","easyPayDiscountAmount":0,
+                "receiptKey":null,"cancelStatus":"DONE","cancelRequestId":null,"cancelAmount":30000,
+                "taxFreeAmount":0,"refundableAmount":0}]
+              """);
+
+  private static final String ERROR_BODY =
+      """
+      {"code":"ALREADY_CANCELED_PAYMENT","message":"이미 취소된 결제 입니다."}
+      """;
+
+  private static final byte[] CONFIRM_BYTES = CONFIRM_BODY.getBytes(StandardCharsets.UTF_8);
+  private static final byte[] CANCEL_BYTES = CANCEL_BODY.getBytes(StandardCharsets.UTF_8);
+  private static final byte[] ERROR_BYTES = ERROR_BODY.getBytes(StandardCharsets.UTF_8);
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final TossJsonCodec codec = new TossJsonCodec(objectMapper.getFactory());
+
+  // 기준: 이전 게이트웨이 경로 (본문 문자열 변환 + JsonNode 트리)
+
+  @Benchmark
+  public void treeConfirm(Blackhole blackhole) throws IOException {
+    JsonNode body = objectMapper.readTree(new String(CONFIRM_BYTES, StandardCharsets.UTF_8));
+    blackhole.consume("DONE".equals(body.path("status").asText()));
+    blackhole.consume(body.path("paymentKey").asText());
+  }
+
+  @Benchmark
+  public void treeCancel(Blackhole blackhole) throws IOException {
+    JsonNode body = objectMapper.readTree(new String(CANCEL_BYTES, StandardCharsets.UTF_8));
+    blackhole.consume("CANCELED".equals(body.path("status").asText()));
+  }
+
+  @Benchmark
+  public void treeError(Blackhole blackhole) throws IOException {
+    JsonNode body = objectMapper.readTree(new String(ERROR_BYTES, StandardCharsets.UTF_8));
+    blackhole.consume(body.path("code").asText());
+    blackhole.consume(body.path("message").asText("refund failed"));
+  }
+
+  // 스트리밍 코덱: 바이트에서 사용하는 필드만 읽음
+
+  @Benchmark
+  public void streamingConfirm(Blackhole blackhole) throws IOException {
+    TossResponse response = codec.decode(200, CONFIRM_BYTES);
+    blackhole.consume(response.isOk() && "DONE".equals(response.status()));
+    blackhole.consume(response.paymentKey());
+  }
+
+  @Benchmark
+  public void streamingCancel(Blackhole blackhole) throws IOException {
+    TossResponse response = codec.decode(200, CANCEL_BYTES);
+    blackhole.consume(response.isOk() && "CANCELED".equals(response.status()));
+  }
+
+  @Benchmark
+  public void streamingError(Blackhole blackhole) throws IOException {
+    TossResponse response = codec.decode(400, ERROR_BYTES);
+    blackhole.consume(response.code());
+    blackhole.consume(response.messageOrElse("refund failed"));
+  }
+}
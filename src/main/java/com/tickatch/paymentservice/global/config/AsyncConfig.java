@@ -0,0 +1,24 @@
+package com.tickatch.paymentservice.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+
+/**
+ * 비동기 실행 설정.
+ *
+ * <p>Spring Boot가 구성하는 applicationTaskExecutor(가상 스레드 모드에서는 SimpleAsyncTaskExecutor)에 컨텍스트 전파
+ * TaskDecorator를 적용한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Configuration
+public class AsyncConfig {
+
+  /** 비동기 작업 컨텍스트 전파. trace/MDC/SecurityContext/RequestAttributes를 작업 스레드로 복사한다. */
+  @Bean
+  public TaskDecorator contextPropagationTaskDecorator() {
+    return new ContextPropagationTaskDecorator();
+  }
+}
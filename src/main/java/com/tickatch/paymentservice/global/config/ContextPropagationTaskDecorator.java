@@ -0,0 +1,66 @@
+package com.tickatch.paymentservice.global.config;
+
+import io.micrometer.context.ContextSnapshot;
+import io.micrometer.context.ContextSnapshotFactory;
+import java.util.Map;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 비동기 작업에 요청 컨텍스트를 전파하는 TaskDecorator.
+ *
+ * <p>작업을 제출한 스레드의 컨텍스트를 캡처해 실행 스레드(플랫폼/가상 스레드 모두)에 복원하고, 작업이 끝나면 원래 상태로 되돌린다.
+ *
+ * <ul>
+ *   <li>Micrometer Observation/Tracing 컨텍스트 (traceId, spanId)
+ *   <li>MDC
+ *   <li>SecurityContext ({@link AuthExtractor}, {@link ActorExtractor}, {@link AuditorAwareImpl}에서
+ *       사용)
+ *   <li>RequestAttributes ({@link FeignRequestInterceptor}의 헤더 전파에 사용)
+ * </ul>
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public class ContextPropagationTaskDecorator implements TaskDecorator {
+
+  private final ContextSnapshotFactory snapshotFactory = ContextSnapshotFactory.builder().build();
+
+  @Override
+  public Runnable decorate(Runnable runnable) {
+    ContextSnapshot snapshot = snapshotFactory.captureAll();
+    Map<String, String> mdc = MDC.getCopyOfContextMap();
+    SecurityContext securityContext = SecurityContextHolder.getContext();
+    RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+
+    return () -> {
+      Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+      SecurityContext previousSecurityContext = SecurityContextHolder.getContext();
+      RequestAttributes previousRequestAttributes = RequestContextHolder.getRequestAttributes();
+
+      try (ContextSnapshot.Scope ignored = snapshot.setThreadLocals()) {
+        setMdc(mdc);
+        SecurityContextHolder.setContext(securityContext);
+        RequestContextHolder.setRequestAttributes(requestAttributes);
+
+        runnable.run();
+      } finally {
+        setMdc(previousMdc);
+        SecurityContextHolder.setContext(previousSecurityContext);
+        RequestContextHolder.setRequestAttributes(previousRequestAttributes);
+      }
+    };
+  }
+
+  private static void setMdc(Map<String, String> contextMap) {
+    if (contextMap == null) {
+      MDC.clear();
+    } else {
+      MDC.setContextMap(contextMap);
+    }
+  }
+}
@@ -16,7 +16,7 @@ import org.springframework.context.annotation.Configuration;
  *   <li>로깅 레벨: BASIC
  *   <li>에러 디코더: FeignErrorDecoder (BusinessException 변환)
  *   <li>요청 인터셉터: 인증 헤더 전파
- *   <li>재시도: 100ms 간격으로 최대 3회
+ *   <li>재시도: 없음 (예매 API는 PATCH라 재시도 시 중복 반영될 수 있음, 장애는 서킷 브레이커로 차단)
  * </ul>
  *
  * @author Tickatch
@@ -58,10 +58,10 @@ public class FeignConfig {
   }
 
   /**
-   * Feign 재시도 설정. 100ms 간격으로 최대 3회 재시도한다.
+   * Feign 재시도 설정. 읽기 타임아웃 후 재시도하면 이미 반영된 PATCH가 다시 전송되므로 재시도하지 않는다.
    */
   @Bean
   public Retryer retryer() {
-    return new Retryer.Default(100, 1000, 3);
+    return Retryer.NEVER_RETRY;
   }
 }
\ No newline at end of file
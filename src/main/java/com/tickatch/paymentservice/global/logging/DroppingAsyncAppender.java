@@ -0,0 +1,54 @@
+package com.tickatch.paymentservice.global.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 호출 스레드를 막지 않는 비동기 appender.
+ *
+ * <p>이벤트를 고정 크기 큐(ring buffer)에 넣고 워커 스레드 하나가 하위 appender 하나(콘솔 또는 logstash)로 보낸다. 출력 대상마다
+ * 따로 두므로 한쪽이 느려도 다른 쪽 큐는 영향받지 않는다. 큐가 찰 때의 처리는 다음과 같다.
+ *
+ * <ul>
+ *   <li>남은 칸이 discardingThreshold(기본 큐 크기의 20%) 미만이면 ERROR가 아닌 이벤트를 버린다
+ *   <li>큐가 가득 차면 ERROR도 버린다 (결제 스레드를 기다리게 하지 않음)
+ * </ul>
+ *
+ * <p>버린 이벤트는 레벨별로 세며 {@link LoggingMetrics}가 logging.events.dropped 지표로 노출한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public class DroppingAsyncAppender extends AsyncAppender {
+
+  private final Map<Level, LongAdder> dropped = new ConcurrentHashMap<>();
+
+  public DroppingAsyncAppender() {
+    setNeverBlock(true);
+  }
+
+  @Override
+  protected void append(ILoggingEvent event) {
+    int remaining = getRemainingCapacity();
+    if (remaining == 0 || (remaining < getDiscardingThreshold() && isDiscardable(event))) {
+      dropped.computeIfAbsent(event.getLevel(), level -> new LongAdder()).increment();
+      return;
+    }
+    super.append(event);
+  }
+
+  // 기본 정책(INFO 이하)보다 넓게 WARN까지 버린다
+  @Override
+  protected boolean isDiscardable(ILoggingEvent event) {
+    return event.getLevel().toInt() <= Level.WARN_INT;
+  }
+
+  public long getDroppedCount(Level level) {
+    LongAdder count = dropped.get(level);
+    return count == null ? 0 : count.sum();
+  }
+}
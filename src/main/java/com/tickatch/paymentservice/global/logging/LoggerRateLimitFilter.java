@@ -0,0 +1,91 @@
+package com.tickatch.paymentservice.global.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Marker;
+
+/**
+ * 로거별 초당 로그 수 제한 필터.
+ *
+ * <p>loggerPrefix로 시작하는 로거의 INFO 이하 로그를 초당 permitsPerSecond건까지만 통과시키고 나머지는 이벤트 생성 전에
+ * 버린다. WARN/ERROR는 제한하지 않는다. 초 단위 고정 윈도우라 경계에서 잠깐 두 배까지 통과할 수 있다.
+ *
+ * <p>버린 로그 수는 {@link LoggingMetrics}가 logging.events.suppressed 지표로 노출한다.
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+public class LoggerRateLimitFilter extends TurboFilter {
+
+  private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+  private String loggerPrefix;
+  private int permitsPerSecond = 10;
+
+  private final AtomicLong window = new AtomicLong(Long.MIN_VALUE);
+  private final AtomicInteger used = new AtomicInteger();
+  private final LongAdder suppressed = new LongAdder();
+
+  @Override
+  public FilterReply decide(
+      Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+    // format이 없으면 isInfoEnabled() 같은 레벨 확인 호출
+    if (!isStarted()
+        || format == null
+        || level.isGreaterOrEqual(Level.WARN)
+        || !level.isGreaterOrEqual(logger.getEffectiveLevel())
+        || !logger.getName().startsWith(loggerPrefix)) {
+      return FilterReply.NEUTRAL;
+    }
+
+    long second = System.nanoTime() / NANOS_PER_SECOND;
+    long current = window.get();
+    if (current != second && window.compareAndSet(current, second)) {
+      used.set(0);
+    }
+    if (used.incrementAndGet() <= permitsPerSecond) {
+      return FilterReply.NEUTRAL;
+    }
+
+    suppressed.increment();
+    return FilterReply.DENY;
+  }
+
+  @Override
+  public void start() {
+    if (loggerPrefix == null || loggerPrefix.isBlank()) {
+      addError("loggerPrefix is required for " + getName());
+      return;
+    }
+    if (permitsPerSecond < 0) {
+      addError("permitsPerSecond must not be negative: " + permitsPerSecond);
+      return;
+    }
+    super.start();
+  }
+
+  public String getLoggerPrefix() {
+    return loggerPrefix;
+  }
+
+  public void setLoggerPrefix(String loggerPrefix) {
+    this.loggerPrefix = loggerPrefix;
+  }
+
+  public int getPermitsPerSecond() {
+    return permitsPerSecond;
+  }
+
+  public void setPermitsPerSecond(int permitsPerSecond) {
+    this.permitsPerSecond = permitsPerSecond;
+  }
+
+  public long getSuppressedCount() {
+    return suppressed.sum();
+  }
+}
@@ -0,0 +1,77 @@
+package com.tickatch.paymentservice.global.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그 파이프라인 지표.
+ *
+ * <p>logback 설정(logback-spring.xml)으로 생성된 {@link DroppingAsyncAppender}와 {@link
+ * LoggerRateLimitFilter}를 LoggerContext에서 찾아 등록한다.
+ *
+ * <ul>
+ *   <li>logging.events.dropped: 큐가 차서 버린 로그 수 (appender, level)
+ *   <li>logging.events.suppressed: 초당 제한으로 버린 로그 수 (logger)
+ *   <li>logging.async.queue.remaining: 비동기 큐 남은 칸 (appender)
+ * </ul>
+ *
+ * @author Tickatch
+ * @since 1.0.0
+ */
+@Component
+public class LoggingMetrics implements MeterBinder {
+
+  private static final List<Level> LEVELS =
+      List.of(Level.TRACE, Level.DEBUG, Level.INFO, Level.WARN, Level.ERROR);
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+      return;
+    }
+
+    for (TurboFilter filter : context.getTurboFilterList()) {
+      if (filter instanceof LoggerRateLimitFilter rateLimit) {
+        FunctionCounter.builder(
+                "logging.events.suppressed", rateLimit, LoggerRateLimitFilter::getSuppressedCount)
+            .tag("logger", rateLimit.getLoggerPrefix())
+            .register(registry);
+      }
+    }
+
+    Iterator<Appender<ILoggingEvent>> appenders =
+        context.getLogger(Logger.ROOT_LOGGER_NAME).iteratorForAppenders();
+    while (appenders.hasNext()) {
+      if (appenders.next() instanceof DroppingAsyncAppender async) {
+        bindAppender(registry, async);
+      }
+    }
+  }
+
+  private static void bindAppender(MeterRegistry registry, DroppingAsyncAppender appender) {
+    for (Level level : LEVELS) {
+      FunctionCounter.builder(
+              "logging.events.dropped", appender, async -> async.getDroppedCount(level))
+          .tag("appender", appender.getName())
+          .tag("level", level.toString().toLowerCase(Locale.ROOT))
+          .register(registry);
+    }
+    Gauge.builder(
+            "logging.async.queue.remaining", appender, DroppingAsyncAppender::getRemainingCapacity)
+        .tag("appender", appender.getName())
+        .register(registry);
+  }
+}
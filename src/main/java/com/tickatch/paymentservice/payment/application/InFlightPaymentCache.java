@@ -0,0 +1,22 @@
+package com.tickatch.paymentservice.payment.application;
+
+import com.tickatch.paymentservice.payment.domain.dto.PaymentSnapshot;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 진행 중(PROCESSING) 결제 캐시.
+ *
+ * <p>결제 생성부터 성공/실패 콜백까지 orderId로 반복 조회되는 결제를 DB 대신 캐시에서 조회한다. 변경은 모두 트랜잭션 커밋 후 반영되며, 제거는 다른 노드에도
+ * 전파된다.
+ */
+public interface InFlightPaymentCache {
+
+  Optional<PaymentSnapshot> get(UUID orderId);
+
+  // PROCESSING 상태만 저장
+  void put(PaymentSnapshot snapshot);
+
+  // 모든 노드에서 제거
+  void evict(UUID orderId);
+}
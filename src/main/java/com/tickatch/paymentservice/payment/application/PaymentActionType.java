@@ -6,5 +6,6 @@ public enum PaymentActionType {
   CANCEL,
   CONFIRM_FAIL,
   REFUND,
-  REFUND_FAIL
+  REFUND_FAIL,
+  EXPIRE
 }
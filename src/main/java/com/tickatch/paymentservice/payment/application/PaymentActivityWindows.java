@@ -0,0 +1,243 @@
+package com.tickatch.paymentservice.payment.application;
+
+import com.tickatch.paymentservice.payment.application.dto.PaymentActivitySnapshot;
+import com.tickatch.paymentservice.payment.domain.PaymentStatus;
+import com.tickatch.paymentservice.payment.domain.event.PaymentStatusChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 최근 1초/1분/1시간 결제 집계 (메모리).
+ *
+ * <p>커밋된 상태 전이마다 결과(생성/승인/실패/취소/환불/만료)별 건수와 금액을 초 단위, 분 단위 링 버퍼 칸에 더한다. 칸은 {@link LongAdder}라
+ * 동시에 기록해도 경합하지 않고, 칸 재사용(초기화)만 CAS로 한 스레드가 맡는다. 조회는 완료된 칸만 더하며 DB를 읽지 않는다 (현재 진행 중인 칸은 제외하므로
+ * 1초 구간은 직전 1초, 1시간 구간은 최대 1분 늦게 반영된다). 인스턴스별 값이므로 전체 합계는 Prometheus에서 sum으로 구한다.
+ *
+ * <ul>
+ *   <li>payment.window.events: 구간 내 결과별 결제 수 (window, outcome)
+ *   <li>payment.window.amount: 구간 내 결과별 결제 금액 합 (window, outcome)
+ *   <li>payment.window.conversion: 구간 내 승인 수 / 생성 수 (window)
+ * </ul>
+ */
+@Component
+public class PaymentActivityWindows implements MeterBinder {
+
+  public enum Outcome {
+    CREATED,
+    CONFIRMED,
+    FAILED,
+    CANCELED,
+    REFUNDED,
+    EXPIRED;
+
+    // 집계 대상이 아닌 전이(승인 선점 등)는 null
+    static Outcome of(PaymentStatus from, PaymentStatus to) {
+      return switch (to) {
+        case PROCESSING -> from == PaymentStatus.REQUESTED ? CREATED : null;
+        case SUCCESS -> CONFIRMED;
+        case FAIL -> FAILED;
+        case CANCEL -> CANCELED;
+        case REFUND -> REFUNDED;
+        case EXPIRED -> EXPIRED;
+        default -> null;
+      };
+    }
+  }
+
+  public enum Window {
+    SECOND("1s"),
+    MINUTE("1m"),
+    HOUR("1h");
+
+    private final String label;
+
+    Window(String label) {
+      this.label = label;
+    }
+
+    public String label() {
+      return label;
+    }
+  }
+
+  private static final Outcome[] OUTCOMES = Outcome.values();
+
+  private final LongSupplier clock;
+  private final Ring seconds = new Ring(1_000L, 60);
+  private final Ring minutes = new Ring(60_000L, 60);
+
+  public PaymentActivityWindows() {
+    this(System::currentTimeMillis);
+  }
+
+  PaymentActivityWindows(LongSupplier clock) {
+    this.clock = clock;
+  }
+
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onStatusChanged(PaymentStatusChangedEvent event) {
+    Outcome outcome = Outcome.of(event.from(), event.to());
+    if (outcome != null) {
+      record(outcome, event.amount());
+    }
+  }
+
+  void record(Outcome outcome, long amount) {
+    long now = clock.getAsLong();
+    seconds.add(now, outcome, amount);
+    minutes.add(now, outcome, amount);
+  }
+
+  public long count(Window window, Outcome outcome) {
+    return switch (window) {
+      case SECOND -> seconds.sum(clock.getAsLong(), 1, outcome, false);
+      case MINUTE -> seconds.sum(clock.getAsLong(), 60, outcome, false);
+      case HOUR -> minutes.sum(clock.getAsLong(), 60, outcome, false);
+    };
+  }
+
+  public long amount(Window window, Outcome outcome) {
+    return switch (window) {
+      case SECOND -> seconds.sum(clock.getAsLong(), 1, outcome, true);
+      case MINUTE -> seconds.sum(clock.getAsLong(), 60, outcome, true);
+      case HOUR -> minutes.sum(clock.getAsLong(), 60, outcome, true);
+    };
+  }
+
+  // 생성이 없던 구간은 0
+  public double conversion(Window window) {
+    long created = count(window, Outcome.CREATED);
+    return created == 0 ? 0.0 : (double) count(window, Outcome.CONFIRMED) / created;
+  }
+
+  public Map<String, PaymentActivitySnapshot> snapshot() {
+    Map<String, PaymentActivitySnapshot> windows = new LinkedHashMap<>();
+    for (Window window : Window.values()) {
+      Map<String, Long> counts = new LinkedHashMap<>();
+      Map<String, Long> amounts = new LinkedHashMap<>();
+      for (Outcome outcome : OUTCOMES) {
+        counts.put(tag(outcome), count(window, outcome));
+        amounts.put(tag(outcome), amount(window, outcome));
+      }
+      windows.put(window.label(), new PaymentActivitySnapshot(counts, amounts, conversion(window)));
+    }
+    return windows;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    for (Window window : Window.values()) {
+      for (Outcome outcome : OUTCOMES) {
+        Gauge.builder("payment.window.events", this, stats -> stats.count(window, outcome))
+            .tag("window", window.label())
+            .tag("outcome", tag(outcome))
+            .register(registry);
+        Gauge.builder("payment.window.amount", this, stats -> stats.amount(window, outcome))
+            .tag("window", window.label())
+            .tag("outcome", tag(outcome))
+            .register(registry);
+      }
+      Gauge.builder("payment.window.conversion", this, stats -> stats.conversion(window))
+          .tag("window", window.label())
+          .register(registry);
+    }
+  }
+
+  private static String tag(Outcome outcome) {
+    return outcome.name().toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * 고정 길이 칸 링 버퍼.
+   *
+   * <p>칸마다 자신이 담고 있는 구간 번호(시각 / 칸 길이)를 두고, 다른 구간의 기록이 오면 CAS로 초기화 중 표시를 건 스레드가 값을 비운 뒤 새 구간 번호를
+   * 연다. 초기화 중인 칸에 기록하려는 스레드는 잠깐 기다린다 (칸당 결과 수만큼의 reset이라 짧다). 조회할 구간보다 한 칸 더 두어 기록 중인 칸이 조회
+   * 대상 칸을 덮지 않게 한다.
+   */
+  static final class Ring {
+
+    private static final long RESETTING = -1L;
+
+    private final long bucketMillis;
+    private final int slots;
+    private final AtomicLongArray epochs;
+    private final LongAdder[] counts;
+    private final LongAdder[] amounts;
+
+    Ring(long bucketMillis, int buckets) {
+      this.bucketMillis = bucketMillis;
+      this.slots = buckets + 1;
+      this.epochs = new AtomicLongArray(slots);
+      this.counts = adders(slots * OUTCOMES.length);
+      this.amounts = adders(slots * OUTCOMES.length);
+    }
+
+    void add(long now, Outcome outcome, long amount) {
+      long epoch = now / bucketMillis;
+      int slot = (int) (epoch % slots);
+      if (!enter(slot, epoch)) {
+        return;
+      }
+      int index = slot * OUTCOMES.length + outcome.ordinal();
+      counts[index].increment();
+      amounts[index].add(amount);
+    }
+
+    // 현재 시각 직전 완료된 buckets 칸의 합
+    long sum(long now, int buckets, Outcome outcome, boolean amount) {
+      long current = now / bucketMillis;
+      LongAdder[] values = amount ? amounts : counts;
+      long total = 0;
+      for (long epoch = current - buckets; epoch < current; epoch++) {
+        int slot = (int) (epoch % slots);
+        if (epochs.get(slot) == epoch) {
+          total += values[slot * OUTCOMES.length + outcome.ordinal()].sum();
+        }
+      }
+      return total;
+    }
+
+    // 칸이 epoch 구간을 담고 있게 한다. 한 바퀴 이상 늦은 기록이면 false (버림)
+    private boolean enter(int slot, long epoch) {
+      while (true) {
+        long seen = epochs.get(slot);
+        if (seen == epoch) {
+          return true;
+        }
+        if (seen == RESETTING) {
+          Thread.onSpinWait();
+          continue;
+        }
+        if (seen > epoch) {
+          return false;
+        }
+        if (epochs.compareAndSet(slot, seen, RESETTING)) {
+          for (int i = slot * OUTCOMES.length; i < (slot + 1) * OUTCOMES.length; i++) {
+            counts[i].reset();
+            amounts[i].reset();
+          }
+          epochs.set(slot, epoch);
+          return true;
+        }
+      }
+    }
+
+    private static LongAdder[] adders(int size) {
+      LongAdder[] adders = new LongAdder[size];
+      for (int i = 0; i < size; i++) {
+        adders[i] = new LongAdder();
+      }
+      return adders;
+    }
+  }
+}
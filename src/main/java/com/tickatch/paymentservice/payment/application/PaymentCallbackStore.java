@@ -0,0 +1,24 @@
+package com.tickatch.paymentservice.payment.application;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 토스 결제 결과 콜백 처리 기록 저장소.
+ *
+ * <p>여러 노드가 같은 콜백을 받더라도 한 번만 처리되도록 멱등 키 단위로 선점/완료 상태를 공유한다.
+ */
+public interface PaymentCallbackStore {
+
+  // 저장된 처리 결과 조회 (완료된 경우에만)
+  Optional<String> findOutcome(String idempotencyKey);
+
+  // 처리 선점. 다른 요청의 선점이 완료되지 않은 채 만료되었다면 넘겨받고, 아직 유효하다면 false
+  boolean tryClaim(String idempotencyKey, UUID orderId);
+
+  // 처리 결과 저장
+  void complete(String idempotencyKey, String outcome);
+
+  // 처리 실패 시 선점 해제 (재시도 허용)
+  void release(String idempotencyKey);
+}
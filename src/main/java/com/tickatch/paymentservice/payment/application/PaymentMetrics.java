@@ -0,0 +1,104 @@
+package com.tickatch.paymentservice.payment.application;
+
+import com.tickatch.paymentservice.payment.domain.PaymentStatus;
+import com.tickatch.paymentservice.payment.domain.event.PaymentStatusChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 결제 흐름 단계별 지표.
+ *
+ * <p>생성/승인/실패/환불 흐름의 단계(DB 조회, DB 반영, 토스 호출, 예매 서비스 호출, 로그 이벤트 기록)마다 지연을 히스토그램으로 기록하고, 결제 상태 전이를
+ * 센다. 태그는 모두 고정된 enum 값이라 결제/주문 id 같은 고유 값이 지표 차원에 들어가지 않는다. 히스토그램 버킷에는 요청이 샘플링된 경우 Zipkin trace
+ * id가 exemplar로 붙는다(Prometheus OpenMetrics 형식).
+ *
+ * <ul>
+ *   <li>payment.stage: 단계 지연 (flow, stage, outcome=success/error)
+ *   <li>payment.status.transitions: 상태 전이 수 (from, to)
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class PaymentMetrics {
+
+  private static final String METRIC_STAGE = "payment.stage";
+  private static final String METRIC_TRANSITIONS = "payment.status.transitions";
+
+  // 히스토그램 버킷 범위 (버킷 수 제한)
+  private static final Duration MIN_EXPECTED = Duration.ofMillis(1);
+  private static final Duration MAX_EXPECTED = Duration.ofSeconds(30);
+
+  private final MeterRegistry meterRegistry;
+
+  public enum Flow {
+    CREATE,
+    CONFIRM,
+    FAIL,
+    REFUND,
+    BULK_REFUND
+  }
+
+  public enum Stage {
+    DB_READ, // 결제 조회 (캐시 미스 포함)
+    DB_WRITE, // 상태 반영 (트랜잭션 템플릿 사용 시 커밋 포함)
+    TOSS, // 토스 API 호출
+    RESERVATION, // 예매 서비스 호출/전달
+    PUBLISH // 결제 로그 이벤트 기록 (아웃박스)
+  }
+
+  public <T> T stage(Flow flow, Stage stage, Supplier<T> action) {
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String outcome = "error";
+    try {
+      T result = action.get();
+      outcome = "success";
+      return result;
+    } finally {
+      sample.stop(timer(flow, stage, outcome));
+    }
+  }
+
+  public void stage(Flow flow, Stage stage, Runnable action) {
+    stage(
+        flow,
+        stage,
+        () -> {
+          action.run();
+          return null;
+        });
+  }
+
+  // 조건부 update처럼 도메인 이벤트 없이 바뀐 상태 전이
+  public void transition(PaymentStatus from, PaymentStatus to) {
+    Counter.builder(METRIC_TRANSITIONS)
+        .tag("from", from.name())
+        .tag("to", to.name())
+        .register(meterRegistry)
+        .increment();
+  }
+
+  // 커밋된 상태 전이만 센다
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onStatusChanged(PaymentStatusChangedEvent event) {
+    transition(event.from(), event.to());
+  }
+
+  private Timer timer(Flow flow, Stage stage, String outcome) {
+    return Timer.builder(METRIC_STAGE)
+        .tag("flow", flow.name().toLowerCase(Locale.ROOT))
+        .tag("stage", stage.name().toLowerCase(Locale.ROOT))
+        .tag("outcome", outcome)
+        .publishPercentileHistogram()
+        .minimumExpectedValue(MIN_EXPECTED)
+        .maximumExpectedValue(MAX_EXPECTED)
+        .register(meterRegistry);
+  }
+}
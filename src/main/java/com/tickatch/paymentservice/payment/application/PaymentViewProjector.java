@@ -0,0 +1,45 @@
+package com.tickatch.paymentservice.payment.application;
+
+import com.tickatch.paymentservice.payment.domain.PaymentView;
+import com.tickatch.paymentservice.payment.domain.event.PaymentStatusChangedEvent;
+import com.tickatch.paymentservice.payment.domain.repository.PaymentRepository;
+import com.tickatch.paymentservice.payment.domain.repository.PaymentViewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 결제 상태 전이를 조회 모델(p_payment_view)에 반영한다.
+ *
+ * <p>커밋 직전에 같은 트랜잭션에서 실행되므로 결제와 조회 모델은 함께 커밋되거나 함께 롤백된다. 이미 있는 행은 상태/시각 컬럼만 update 하고, 없으면(결제
+ * 생성 직후, 또는 백필 이전 결제) 결제 id의 생성 시각 구간으로 결제를 다시 읽어 행을 만든다. p_payment_view에만 쓰므로 결제 행에 잠금을 더 잡지 않는다.
+ *
+ * <p>승인 선점(PROCESSING → CONFIRMING)은 도메인 이벤트 없는 조건부 update라 반영하지 않는다. 조회 모델에서는 승인 중인 결제가
+ * PROCESSING으로 보이다가 승인 결과가 커밋될 때 SUCCESS/FAIL로 바뀐다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentViewProjector {
+
+  private final PaymentViewRepository paymentViewRepository;
+  private final PaymentRepository paymentRepository;
+
+  @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+  public void onStatusChanged(PaymentStatusChangedEvent event) {
+    int updated =
+        paymentViewRepository.applyStatus(
+            event.paymentId(), event.to().name(), event.occurredAt());
+    if (updated > 0) {
+      return;
+    }
+
+    paymentRepository
+        .findWithDetailAndLinksById(event.paymentId())
+        .ifPresentOrElse(
+            payment -> paymentViewRepository.save(PaymentView.from(payment)),
+            () -> log.warn("payment view source not found. paymentId={}", event.paymentId()));
+  }
+}
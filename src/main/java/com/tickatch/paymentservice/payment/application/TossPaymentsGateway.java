@@ -0,0 +1,24 @@
+package com.tickatch.paymentservice.payment.application;
+
+import com.tickatch.paymentservice.payment.application.dto.TossResponse;
+import java.util.UUID;
+
+/**
+ * 토스페이먼츠 결제 API 게이트웨이.
+ *
+ * <p>결제 키 발급, 결제 승인, 결제 취소(환불), 결제 조회 호출을 담당한다. 구현체는 하나의 장수명 HTTP 클라이언트를 재사용해야 한다.
+ */
+public interface TossPaymentsGateway {
+
+  // 결제 키 발급 (POST /v1/payments)
+  TossResponse createPayment(String orderName, UUID orderId, long amount);
+
+  // 결제 승인 (POST /v1/payments/confirm)
+  TossResponse confirm(String paymentKey, UUID orderId, long amount);
+
+  // 결제 취소 (POST /v1/payments/{paymentKey}/cancel)
+  TossResponse cancel(String paymentKey, String cancelReason);
+
+  // 주문 id로 결제 조회 (GET /v1/payments/orders/{orderId})
+  TossResponse findByOrderId(UUID orderId);
+}
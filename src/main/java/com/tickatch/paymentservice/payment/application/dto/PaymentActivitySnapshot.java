@@ -0,0 +1,7 @@
+package com.tickatch.paymentservice.payment.application.dto;
+
+import java.util.Map;
+
+// 구간별 결제 집계 (결과별 건수/금액, 승인 수 / 생성 수)
+public record PaymentActivitySnapshot(
+    Map<String, Long> counts, Map<String, Long> amounts, double conversion) {}
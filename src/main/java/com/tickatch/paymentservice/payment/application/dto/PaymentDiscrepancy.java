@@ -0,0 +1,30 @@
+package com.tickatch.paymentservice.payment.application.dto;
+
+import com.tickatch.paymentservice.payment.domain.PaymentStatus;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 대사 불일치 항목 (로컬 결제 상태 vs 토스 결제 상태)
+public record PaymentDiscrepancy(
+    UUID paymentId,
+    UUID orderId,
+    PaymentStatus localStatus,
+    String tossStatus,
+    Type type,
+    boolean repaired) {
+
+  @Getter
+  @RequiredArgsConstructor
+  public enum Type {
+    CAPTURED_IN_FLIGHT(true), // 토스 승인(DONE) / 로컬 진행 중 -> 결제 성공으로 복구
+    CANCELED_REFUND_FAIL(true), // 토스 취소 / 로컬 환불 실패 -> 환불 성공으로 정정
+    CAPTURED_NOT_SUCCESS(false), // 토스 승인 / 로컬 실패, 취소, 만료 (수동 확인)
+    CANCELED_BUT_SUCCESS(false), // 토스 취소 / 로컬 결제 성공 (수동 확인)
+    REFUNDED_NOT_CANCELED(false), // 토스 승인 / 로컬 환불 (수동 확인)
+    NOT_CAPTURED_AT_TOSS(false); // 토스에 승인 건 없음 / 로컬 성공, 환불, 환불 실패 (수동 확인)
+
+    // 자동 복구 가능 여부
+    private final boolean repairable;
+  }
+}
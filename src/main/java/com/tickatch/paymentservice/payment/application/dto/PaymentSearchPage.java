@@ -0,0 +1,7 @@
+package com.tickatch.paymentservice.payment.application.dto;
+
+import com.tickatch.paymentservice.payment.domain.dto.PaymentSummary;
+import java.util.List;
+
+// 결제 검색 결과 페이지 (nextCursor가 null이면 마지막 페이지)
+public record PaymentSearchPage(List<PaymentSummary> items, String nextCursor) {}
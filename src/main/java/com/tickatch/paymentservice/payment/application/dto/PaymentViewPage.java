@@ -0,0 +1,6 @@
+package com.tickatch.paymentservice.payment.application.dto;
+
+import java.util.List;
+
+// 내 결제 목록 페이지 (nextCursor가 null이면 마지막 페이지)
+public record PaymentViewPage(List<PaymentViewResult> items, String nextCursor) {}
@@ -0,0 +1,38 @@
+package com.tickatch.paymentservice.payment.application.dto;
+
+import com.tickatch.paymentservice.payment.domain.PaymentMethod;
+import com.tickatch.paymentservice.payment.domain.PaymentStatus;
+import com.tickatch.paymentservice.payment.domain.PaymentView;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+// 결제 조회 모델 응답
+public record PaymentViewResult(
+    UUID paymentId,
+    UUID orderId,
+    PaymentStatus status,
+    PaymentMethod method,
+    String orderName,
+    long totalPrice,
+    List<String> reservationIds,
+    LocalDateTime createdAt,
+    LocalDateTime approvedAt,
+    LocalDateTime canceledAt,
+    LocalDateTime refundedAt) {
+
+  public static PaymentViewResult from(PaymentView view) {
+    return new PaymentViewResult(
+        view.getPaymentId(),
+        view.getOrderId(),
+        view.getStatus(),
+        view.getMethod(),
+        view.getOrderName(),
+        view.getTotalPrice(),
+        List.copyOf(view.getReservationIds()),
+        view.getCreatedAt(),
+        view.getApprovedAt(),
+        view.getCanceledAt(),
+        view.getRefundedAt());
+  }
+}
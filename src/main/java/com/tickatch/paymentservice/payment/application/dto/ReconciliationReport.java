@@ -0,0 +1,21 @@
+package com.tickatch.paymentservice.payment.application.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+// 대사 결과 (discrepancies는 최대 max-report-items건까지만 담고 truncated로 표시)
+public record ReconciliationReport(
+    LocalDateTime from,
+    LocalDateTime to,
+    boolean repair,
+    long scanned,
+    long matched,
+    long skipped,
+    long errors,
+    long repaired,
+    Map<PaymentDiscrepancy.Type, Long> discrepancyCounts,
+    List<PaymentDiscrepancy> discrepancies,
+    boolean truncated,
+    long elapsedMillis,
+    double rowsPerSecond) {}
@@ -0,0 +1,18 @@
+package com.tickatch.paymentservice.payment.application.dto;
+
+import com.tickatch.paymentservice.payment.domain.RefundJobStatus;
+import com.tickatch.paymentservice.payment.domain.RefundReason;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record RefundJobProgress(
+    UUID jobId,
+    RefundReason reason,
+    RefundJobStatus status,
+    long total,
+    long pending,
+    long refunded,
+    long failed,
+    long skipped,
+    LocalDateTime createdAt,
+    LocalDateTime completedAt) {}
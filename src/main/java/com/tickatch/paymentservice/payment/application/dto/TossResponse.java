@@ -0,0 +1,29 @@
+package com.tickatch.paymentservice.payment.application.dto;
+
+/**
+ * 토스 API 응답 중 결제 서비스가 사용하는 필드.
+ *
+ * @param statusCode HTTP 상태 코드
+ * @param status 결제 상태 (DONE, CANCELED 등)
+ * @param paymentKey 결제 키
+ * @param checkoutUrl 결제창 URL (checkout.url)
+ * @param code 오류 코드 (오류 응답)
+ * @param message 오류 메시지 (오류 응답)
+ */
+public record TossResponse(
+    int statusCode,
+    String status,
+    String paymentKey,
+    String checkoutUrl,
+    String code,
+    String message) {
+
+  public boolean isOk() {
+    return statusCode == 200;
+  }
+
+  // 오류 메시지 (없으면 기본값)
+  public String messageOrElse(String fallback) {
+    return message != null ? message : fallback;
+  }
+}
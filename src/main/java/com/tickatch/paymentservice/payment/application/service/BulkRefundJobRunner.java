@@ -0,0 +1,311 @@
+package com.tickatch.paymentservice.payment.application.service;
+
+import com.tickatch.paymentservice.payment.domain.Payment;
+import com.tickatch.paymentservice.payment.domain.PaymentStatus;
+import com.tickatch.paymentservice.payment.domain.RefundJob;
+import com.tickatch.paymentservice.payment.domain.RefundJobItem;
+import com.tickatch.paymentservice.payment.domain.RefundJobItemStatus;
+import com.tickatch.paymentservice.payment.domain.RefundJobStatus;
+import com.tickatch.paymentservice.payment.domain.RefundReason;
+import com.tickatch.paymentservice.payment.domain.exception.PaymentErrorCode;
+import com.tickatch.paymentservice.payment.domain.exception.PaymentException;
+import com.tickatch.paymentservice.payment.domain.repository.PaymentRepository;
+import com.tickatch.paymentservice.payment.domain.repository.RefundJobItemRepository;
+import com.tickatch.paymentservice.payment.domain.repository.RefundJobRepository;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 일괄 환불 작업 실행기.
+ *
+ * <p>RUNNING 작업의 리스를 잡은 인스턴스가 대기 항목을 청크 단위로 읽어 결제별로 묶고, 토스 취소를 병렬({@code parallelism})로 호출한다. 토스
+ * 호출은 토스 API 한도에 맞춘 rate limiter({@code rate-per-second})를 통과해야 하며, 결제 한 건이 끝날 때마다 해당 항목의 상태를 기록한다.
+ * 항목 상태가 체크포인트이므로 인스턴스가 중단되면 리스 만료 후 남은 항목부터 이어서 처리한다. 토스 차단이나 허용량 부족으로 한 청크에서 아무
+ * 항목도 처리하지 못하면 같은 항목을 바로 다시 읽지 않고 이번 실행을 끝내 다음 주기에 이어서 처리한다.
+ *
+ * <ul>
+ *   <li>payment.refund.job.items: 처리한 예매 항목 수 (outcome=refunded/failed/skipped)
+ *   <li>payment.refund.job.pending: 이 인스턴스가 마지막으로 실행한 RUNNING 작업들의 처리 대기 항목 수 (작업 시작 시 작업별로 집계하고
+ *       처리할 때마다 차감)
+ *   <li>payment.refund.job.refund: 결제 한 건 환불(토스 취소 + 결과 반영) 시간
+ *   <li>payment.refund.job.throttle: rate limiter 대기 시간
+ * </ul>
+ */
+@Slf4j
+@Service
+public class BulkRefundJobRunner {
+
+  private final PaymentService paymentService;
+  private final PaymentRepository paymentRepository;
+  private final RefundJobRepository refundJobRepository;
+  private final RefundJobItemRepository refundJobItemRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final MeterRegistry meterRegistry;
+  private final RateLimiter rateLimiter;
+  private final ExecutorService executor;
+  private final int chunkSize;
+  private final Duration lease;
+
+  // 리스 소유자 식별
+  private final String nodeId = UUID.randomUUID().toString();
+
+  // 작업별 처리 대기 항목 수 (payment.refund.job.pending)
+  private final ConcurrentMap<UUID, AtomicLong> pendingByJob = new ConcurrentHashMap<>();
+
+  private final Timer refundTimer;
+  private final Timer throttleTimer;
+
+  public BulkRefundJobRunner(
+      PaymentService paymentService,
+      PaymentRepository paymentRepository,
+      RefundJobRepository refundJobRepository,
+      RefundJobItemRepository refundJobItemRepository,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${payment.refund-job.parallelism:8}") int parallelism,
+      @Value("${payment.refund-job.rate-per-second:20}") int ratePerSecond,
+      @Value("${payment.refund-job.chunk-size:100}") int chunkSize,
+      @Value("${payment.refund-job.lease:60s}") Duration lease) {
+    this.paymentService = paymentService;
+    this.paymentRepository = paymentRepository;
+    this.refundJobRepository = refundJobRepository;
+    this.refundJobItemRepository = refundJobItemRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.meterRegistry = meterRegistry;
+    this.chunkSize = chunkSize;
+    this.lease = lease;
+
+    this.rateLimiter =
+        RateLimiter.of(
+            "toss-refund",
+            RateLimiterConfig.custom()
+                .limitForPeriod(ratePerSecond)
+                .limitRefreshPeriod(Duration.ofSeconds(1))
+                .timeoutDuration(lease.dividedBy(2))
+                .build());
+    this.executor =
+        Executors.newFixedThreadPool(
+            parallelism, Thread.ofPlatform().name("refund-job-", 0).factory());
+
+    this.refundTimer = Timer.builder("payment.refund.job.refund").register(meterRegistry);
+    this.throttleTimer = Timer.builder("payment.refund.job.throttle").register(meterRegistry);
+    Gauge.builder(
+            "payment.refund.job.pending",
+            pendingByJob,
+            jobs -> jobs.values().stream().mapToLong(AtomicLong::get).sum())
+        .register(meterRegistry);
+  }
+
+  @Scheduled(fixedDelayString = "${payment.refund-job.poll-interval-ms:5000}")
+  public void runPendingJobs() {
+    List<UUID> runningJobIds = refundJobRepository.findIdsByStatus(RefundJobStatus.RUNNING);
+    // 완료되었거나 다른 인스턴스가 끝낸 작업은 대기 항목 수에서 뺀다
+    pendingByJob.keySet().retainAll(runningJobIds);
+
+    for (UUID jobId : runningJobIds) {
+      if (!acquireLease(jobId)) {
+        continue;
+      }
+
+      try {
+        runJob(jobId);
+      } catch (Exception e) {
+        log.error("[REFUND-JOB] run failed. jobId={}", jobId, e);
+      } finally {
+        transactionTemplate.executeWithoutResult(
+            status -> refundJobRepository.releaseLease(jobId, nodeId));
+      }
+    }
+  }
+
+  // 대기 항목이 없을 때까지 청크 단위로 처리 (청크마다 리스 연장, 리스를 잃거나 진척이 없으면 중단)
+  private void runJob(UUID jobId) {
+    RefundReason reason =
+        refundJobRepository.findById(jobId).map(RefundJob::getReason).orElseThrow();
+    AtomicLong pending = pendingByJob.computeIfAbsent(jobId, id -> new AtomicLong());
+    pending.set(
+        refundJobItemRepository.countByJobIdAndStatus(jobId, RefundJobItemStatus.PENDING));
+
+    while (true) {
+      List<RefundJobItem> chunk =
+          refundJobItemRepository.findByJobIdAndStatusOrderByIdAsc(
+              jobId, RefundJobItemStatus.PENDING, PageRequest.of(0, chunkSize));
+
+      if (chunk.isEmpty()) {
+        pendingByJob.remove(jobId);
+        Integer completed =
+            transactionTemplate.execute(
+                status -> refundJobRepository.completeIfDrained(jobId, LocalDateTime.now()));
+        if (Objects.requireNonNullElse(completed, 0) > 0) {
+          log.info("[REFUND-JOB] completed. jobId={}", jobId);
+        }
+        return;
+      }
+
+      long pendingBefore = pending.get();
+      processChunk(jobId, reason, chunk);
+
+      // 모든 항목이 대기 상태로 남았다면 (토스 차단, 허용량 부족) 같은 청크를 바로 다시 읽지 않는다
+      if (pending.get() == pendingBefore) {
+        log.info(
+            "[REFUND-JOB] no progress, retry on next run. jobId={}, pending={}",
+            jobId,
+            pendingBefore);
+        return;
+      }
+
+      if (!acquireLease(jobId)) {
+        log.warn("[REFUND-JOB] lease lost. jobId={}", jobId);
+        return;
+      }
+    }
+  }
+
+  private void processChunk(UUID jobId, RefundReason reason, List<RefundJobItem> chunk) {
+    List<String> reservationIds = chunk.stream().map(RefundJobItem::getReservationId).toList();
+    Set<String> unmatched = new HashSet<>(reservationIds);
+
+    List<CompletableFuture<Void>> refunds = new ArrayList<>();
+    for (Payment payment : paymentRepository.findPaymentsByReservationIds(reservationIds)) {
+      List<String> paymentItems =
+          payment.getReservationIds().stream().filter(unmatched::remove).toList();
+      UUID paymentId = payment.getId().toUuid();
+
+      switch (payment.getStatus()) {
+        // 이전 실행 또는 단건 환불로 이미 환불됨
+        case REFUND -> record(jobId, paymentItems, RefundJobItemStatus.REFUNDED, paymentId, null);
+        case SUCCESS ->
+            refunds.add(
+                CompletableFuture.runAsync(
+                    () -> refund(jobId, paymentId, reason, paymentItems), executor));
+        default ->
+            record(
+                jobId,
+                paymentItems,
+                RefundJobItemStatus.SKIPPED,
+                paymentId,
+                payment.getStatus().name());
+      }
+    }
+
+    if (!unmatched.isEmpty()) {
+      record(jobId, unmatched, RefundJobItemStatus.SKIPPED, null, "PAYMENT_NOT_FOUND");
+    }
+
+    CompletableFuture.allOf(refunds.toArray(CompletableFuture[]::new)).join();
+  }
+
+  private void refund(UUID jobId, UUID paymentId, RefundReason reason, List<String> items) {
+    long waitStart = System.nanoTime();
+    boolean permitted = rateLimiter.acquirePermission();
+    throttleTimer.record(Duration.ofNanos(System.nanoTime() - waitStart));
+
+    // 허용량을 얻지 못하면 대기 상태로 두고 다음 청크/실행에서 다시 처리
+    if (!permitted) {
+      return;
+    }
+
+    refundTimer.record(
+        () -> {
+          try {
+            PaymentStatus status = paymentService.refundPayment(paymentId, reason);
+            switch (status) {
+              case REFUND -> record(jobId, items, RefundJobItemStatus.REFUNDED, paymentId, null);
+              case REFUND_FAIL ->
+                  record(jobId, items, RefundJobItemStatus.FAILED, paymentId, status.name());
+              default ->
+                  record(jobId, items, RefundJobItemStatus.SKIPPED, paymentId, status.name());
+            }
+          } catch (Exception e) {
+            if (retryLater(e)) {
+              log.info(
+                  "[REFUND-JOB] left pending. jobId={}, paymentId={}, cause={}",
+                  jobId,
+                  paymentId,
+                  e.toString());
+              return;
+            }
+            log.warn("[REFUND-JOB] refund failed. jobId={}, paymentId={}", jobId, paymentId, e);
+            record(jobId, items, RefundJobItemStatus.FAILED, paymentId, abbreviate(e.toString()));
+          }
+        });
+  }
+
+  // 대기 상태로 두고 다음 실행에서 다시 처리할 오류
+  // 토스 차단(서킷 오픈)은 취소 요청이 전달되지 않았고, 결과 미확인(재시도 소진, IO 오류)은 취소됐을 수 있으므로
+  // 실패로 확정하지 않는다 (다음 실행에서 ALREADY_CANCELED_PAYMENT로 환불 확정)
+  private static boolean retryLater(Exception e) {
+    if (e instanceof PaymentException pe) {
+      return pe.getErrorCode() == PaymentErrorCode.TOSS_UNAVAILABLE
+          || pe.getErrorCode() == PaymentErrorCode.TOSS_OUTCOME_UNKNOWN;
+    }
+    return e instanceof UncheckedIOException;
+  }
+
+  // 체크포인트 기록
+  private void record(
+      UUID jobId,
+      Collection<String> items,
+      RefundJobItemStatus status,
+      UUID paymentId,
+      String message) {
+    transactionTemplate.executeWithoutResult(
+        tx ->
+            refundJobItemRepository.markProcessed(
+                jobId, items, status, paymentId, message, LocalDateTime.now()));
+
+    AtomicLong pending = pendingByJob.get(jobId);
+    if (pending != null) {
+      pending.addAndGet(-items.size());
+    }
+    Counter.builder("payment.refund.job.items")
+        .tag("outcome", status.name().toLowerCase())
+        .register(meterRegistry)
+        .increment(items.size());
+  }
+
+  private boolean acquireLease(UUID jobId) {
+    LocalDateTime now = LocalDateTime.now();
+    Integer acquired =
+        transactionTemplate.execute(
+            status -> refundJobRepository.acquireLease(jobId, nodeId, now, now.plus(lease)));
+    return Objects.requireNonNullElse(acquired, 0) > 0;
+  }
+
+  private static String abbreviate(String message) {
+    return message.length() <= 255 ? message : message.substring(0, 255);
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executor.shutdownNow();
+  }
+}
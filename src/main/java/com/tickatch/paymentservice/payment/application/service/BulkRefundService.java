@@ -0,0 +1,127 @@
+package com.tickatch.paymentservice.payment.application.service;
+
+import com.tickatch.paymentservice.global.config.AuthExtractor.AuthInfo;
+import com.tickatch.paymentservice.payment.application.dto.RefundJobProgress;
+import com.tickatch.paymentservice.payment.domain.RefundJob;
+import com.tickatch.paymentservice.payment.domain.RefundJobItem;
+import com.tickatch.paymentservice.payment.domain.RefundJobItemStatus;
+import com.tickatch.paymentservice.payment.domain.RefundReason;
+import com.tickatch.paymentservice.payment.domain.dto.RefundJobItemCount;
+import com.tickatch.paymentservice.payment.domain.exception.PaymentErrorCode;
+import com.tickatch.paymentservice.payment.domain.exception.PaymentException;
+import com.tickatch.paymentservice.payment.domain.repository.RefundJobItemRepository;
+import com.tickatch.paymentservice.payment.domain.repository.RefundJobRepository;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 일괄 환불 작업 등록/조회 (관리자 전용).
+ *
+ * <p>공연 취소처럼 많은 결제를 한 번에 환불할 때 사용한다. 예매 id 목록으로 작업을 만들고, 목록이 크면 같은 작업에 나눠서 추가할 수 있다. 실제 환불은 {@link
+ * BulkRefundJobRunner}가 처리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkRefundService {
+
+  // 등록 시 중복 조회 in 절 크기
+  private static final int LOOKUP_CHUNK = 1000;
+
+  private final RefundJobRepository refundJobRepository;
+  private final RefundJobItemRepository refundJobItemRepository;
+
+  // 작업 생성
+  @Transactional
+  public UUID createJob(RefundReason reason, List<String> reservationIds, AuthInfo authInfo) {
+    validateAdmin(authInfo);
+
+    RefundJob job = refundJobRepository.save(RefundJob.create(reason));
+    int added = addItems(job.getId(), reservationIds);
+
+    log.info("[REFUND-JOB] created. jobId={}, reason={}, items={}", job.getId(), reason, added);
+    return job.getId();
+  }
+
+  // 예매 id 추가 (대량 목록을 나눠서 전달). 완료된 작업이면 다시 처리한다.
+  @Transactional
+  public int appendReservations(UUID jobId, List<String> reservationIds, AuthInfo authInfo) {
+    validateAdmin(authInfo);
+
+    RefundJob job = findJob(jobId);
+    int added = addItems(jobId, reservationIds);
+    if (added > 0) {
+      job.reopen();
+    }
+
+    log.info("[REFUND-JOB] appended. jobId={}, items={}", jobId, added);
+    return added;
+  }
+
+  // 진행 상황 조회
+  @Transactional(readOnly = true)
+  public RefundJobProgress getProgress(UUID jobId, AuthInfo authInfo) {
+    validateAdmin(authInfo);
+
+    RefundJob job = findJob(jobId);
+
+    Map<RefundJobItemStatus, Long> counts = new EnumMap<>(RefundJobItemStatus.class);
+    for (RefundJobItemCount count : refundJobItemRepository.countByJobIdGroupByStatus(jobId)) {
+      counts.put(count.status(), count.count());
+    }
+    long total = counts.values().stream().mapToLong(Long::longValue).sum();
+
+    return new RefundJobProgress(
+        job.getId(),
+        job.getReason(),
+        job.getStatus(),
+        total,
+        counts.getOrDefault(RefundJobItemStatus.PENDING, 0L),
+        counts.getOrDefault(RefundJobItemStatus.REFUNDED, 0L),
+        counts.getOrDefault(RefundJobItemStatus.FAILED, 0L),
+        counts.getOrDefault(RefundJobItemStatus.SKIPPED, 0L),
+        job.getCreatedAt(),
+        job.getCompletedAt());
+  }
+
+  // 이미 등록된 예매 id는 건너뛴다
+  private int addItems(UUID jobId, List<String> reservationIds) {
+    List<String> distinct = reservationIds.stream().distinct().toList();
+
+    int added = 0;
+    for (int from = 0; from < distinct.size(); from += LOOKUP_CHUNK) {
+      List<String> chunk = distinct.subList(from, Math.min(from + LOOKUP_CHUNK, distinct.size()));
+      Set<String> existing =
+          new HashSet<>(refundJobItemRepository.findReservationIds(jobId, chunk));
+
+      List<RefundJobItem> items =
+          chunk.stream()
+              .filter(reservationId -> !existing.contains(reservationId))
+              .map(reservationId -> new RefundJobItem(jobId, reservationId))
+              .toList();
+      refundJobItemRepository.saveAll(items);
+      added += items.size();
+    }
+    return added;
+  }
+
+  private RefundJob findJob(UUID jobId) {
+    return refundJobRepository
+        .findById(jobId)
+        .orElseThrow(() -> new PaymentException(PaymentErrorCode.REFUND_JOB_NOT_FOUND));
+  }
+
+  private void validateAdmin(AuthInfo authInfo) {
+    if (!authInfo.isAdmin()) {
+      throw new PaymentException(PaymentErrorCode.ACCESS_DENIED);
+    }
+  }
+}
@@ -0,0 +1,144 @@
+package com.tickatch.paymentservice.payment.application.service;
+
+import com.tickatch.paymentservice.payment.application.PaymentCallbackStore;
+import com.tickatch.paymentservice.payment.domain.PaymentStatus;
+import com.tickatch.paymentservice.payment.domain.exception.PaymentErrorCode;
+import com.tickatch.paymentservice.payment.domain.exception.PaymentException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 토스 결제 성공/실패 콜백의 멱등 처리.
+ *
+ * <p>브라우저 리다이렉트와 토스 재호출로 같은 콜백이 여러 번 들어오므로 orderId + paymentKey(실패 시 오류 코드)를 멱등 키로 사용한다.
+ *
+ * <ul>
+ *   <li>같은 노드의 동시 중복 요청은 하나의 실행으로 합쳐진다 (collapsed)
+ *   <li>이미 처리된 요청은 저장된 결과를 돌려주며 토스를 다시 호출하지 않는다 (hit)
+ *   <li>다른 노드로 라우팅된 중복 요청은 DB 선점 기록으로 걸러진다 (선점이 만료되면 다음 요청이 넘겨받는다)
+ * </ul>
+ *
+ * <p>결과는 payment.callback.idempotency 카운터(result=hit/miss/collapsed/conflict)로 기록된다.
+ */
+@Slf4j
+@Service
+public class PaymentCallbackService {
+
+  private static final String METRIC_NAME = "payment.callback.idempotency";
+
+  private final PaymentService paymentService;
+  private final PaymentCallbackStore callbackStore;
+  private final ConcurrentMap<String, CompletableFuture<PaymentStatus>> inFlight =
+      new ConcurrentHashMap<>();
+
+  private final Counter hitCounter;
+  private final Counter missCounter;
+  private final Counter collapsedCounter;
+  private final Counter conflictCounter;
+
+  public PaymentCallbackService(
+      PaymentService paymentService,
+      PaymentCallbackStore callbackStore,
+      MeterRegistry meterRegistry) {
+    this.paymentService = paymentService;
+    this.callbackStore = callbackStore;
+    this.hitCounter = counter(meterRegistry, "hit");
+    this.missCounter = counter(meterRegistry, "miss");
+    this.collapsedCounter = counter(meterRegistry, "collapsed");
+    this.conflictCounter = counter(meterRegistry, "conflict");
+  }
+
+  // 결제 성공 콜백
+  public PaymentStatus confirm(String paymentKey, UUID orderId, long amount) {
+    return execute(
+        "SUCCESS:" + orderId + ":" + paymentKey,
+        orderId,
+        () -> paymentService.confirmPayment(paymentKey, orderId, amount));
+  }
+
+  // 결제 실패 콜백
+  public PaymentStatus fail(UUID orderId, String code) {
+    return execute(
+        "FAIL:" + orderId + ":" + code, orderId, () -> paymentService.failPayment(orderId, code));
+  }
+
+  private PaymentStatus execute(String key, UUID orderId, Supplier<PaymentStatus> action) {
+    CompletableFuture<PaymentStatus> execution = new CompletableFuture<>();
+    CompletableFuture<PaymentStatus> running = inFlight.putIfAbsent(key, execution);
+
+    // 같은 노드에서 처리 중인 요청이 있으면 그 결과를 기다린다
+    if (running != null) {
+      collapsedCounter.increment();
+      return await(running);
+    }
+
+    try {
+      PaymentStatus outcome = executeOnce(key, orderId, action);
+      execution.complete(outcome);
+      return outcome;
+    } catch (RuntimeException e) {
+      execution.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, execution);
+    }
+  }
+
+  private PaymentStatus executeOnce(String key, UUID orderId, Supplier<PaymentStatus> action) {
+    Optional<PaymentStatus> stored = findStoredOutcome(key);
+    if (stored.isPresent()) {
+      return stored.get();
+    }
+
+    if (!callbackStore.tryClaim(key, orderId)) {
+      // 다른 노드가 먼저 선점: 완료되었다면 그 결과를, 아니면 처리 중임을 알린다
+      stored = findStoredOutcome(key);
+      if (stored.isPresent()) {
+        return stored.get();
+      }
+      conflictCounter.increment();
+      log.info("[PAYMENT-CALLBACK] in progress on another node. key={}", key);
+      throw new PaymentException(PaymentErrorCode.PAYMENT_CALLBACK_IN_PROGRESS);
+    }
+
+    missCounter.increment();
+    try {
+      PaymentStatus outcome = action.get();
+      callbackStore.complete(key, outcome.name());
+      return outcome;
+    } catch (RuntimeException e) {
+      callbackStore.release(key);
+      throw e;
+    }
+  }
+
+  private Optional<PaymentStatus> findStoredOutcome(String key) {
+    Optional<PaymentStatus> stored = callbackStore.findOutcome(key).map(PaymentStatus::valueOf);
+    stored.ifPresent(outcome -> hitCounter.increment());
+    return stored;
+  }
+
+  private static PaymentStatus await(CompletableFuture<PaymentStatus> running) {
+    try {
+      return running.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private static Counter counter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder(METRIC_NAME).tag("result", result).register(meterRegistry);
+  }
+}
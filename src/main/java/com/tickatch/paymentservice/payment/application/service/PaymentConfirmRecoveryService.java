@@ -0,0 +1,149 @@
+package com.tickatch.paymentservice.payment.application.service;
+
+import com.tickatch.paymentservice.payment.application.TossPaymentsGateway;
+import com.tickatch.paymentservice.payment.application.dto.TossResponse;
+import com.tickatch.paymentservice.payment.domain.repository.PaymentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 승인 중(CONFIRMING)에 멈춘 결제 복구.
+ *
+ * <p>토스 승인 호출 중 IO 오류, 결과 미확정(TOSS_OUTCOME_UNKNOWN), 승인 후 결과 반영 실패가 나면 결제는 CONFIRMING으로 남는다. 같은 콜백을
+ * 다시 받아도 승인 선점에서 걸러지고 만료 대상도 아니므로, {@code payment.confirm-recovery.stale-after}가 지나도록 CONFIRMING인
+ * 결제를 주기적으로 토스에서 조회해 정리한다.
+ *
+ * <ul>
+ *   <li>토스 승인(DONE): 성공 반영 + 예매 쪽 SUCCESS 통지 ({@link PaymentService#recoverConfirmedPayment})
+ *   <li>토스 결제 없음(404), ABORTED, EXPIRED, CANCELED: 실패 반영 + 예매 쪽 FAIL 통지
+ *   <li>그 외(진행 중 등), 조회 실패: 그대로 두고 다음 주기에 다시 조회
+ * </ul>
+ *
+ * <p>조회 전에 결제의 변경 시각을 조건부 update로 갱신해 선점하므로 여러 인스턴스가 같은 결제를 동시에 복구하지 않는다.
+ *
+ * <ul>
+ *   <li>payment.confirm.recovery: 처리한 결제 수 (outcome=success/fail/pending/error)
+ * </ul>
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(
+    name = "payment.confirm-recovery.enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class PaymentConfirmRecoveryService {
+
+  // 승인되지 않은 것으로 확정된 토스 결제 상태
+  private static final Set<String> NOT_CAPTURED = Set.of("ABORTED", "EXPIRED", "CANCELED");
+
+  private final PaymentRepository paymentRepository;
+  private final PaymentService paymentService;
+  private final TossPaymentsGateway tossPaymentsGateway;
+  private final TransactionTemplate transactionTemplate;
+  private final MeterRegistry meterRegistry;
+  private final Duration staleAfter;
+  private final int batchSize;
+
+  public PaymentConfirmRecoveryService(
+      PaymentRepository paymentRepository,
+      PaymentService paymentService,
+      TossPaymentsGateway tossPaymentsGateway,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${payment.confirm-recovery.stale-after:5m}") Duration staleAfter,
+      @Value("${payment.confirm-recovery.batch-size:50}") int batchSize) {
+    this.paymentRepository = paymentRepository;
+    this.paymentService = paymentService;
+    this.tossPaymentsGateway = tossPaymentsGateway;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.meterRegistry = meterRegistry;
+    this.staleAfter = staleAfter;
+    this.batchSize = batchSize;
+  }
+
+  @Scheduled(
+      fixedDelayString = "${payment.confirm-recovery.interval-ms:60000}",
+      initialDelayString = "${payment.confirm-recovery.interval-ms:60000}")
+  public void recoverScheduled() {
+    recover();
+  }
+
+  /**
+   * 오래 남은 승인 중 결제 한 배치를 정리한다.
+   *
+   * @return 성공/실패로 정리한 결제 수
+   */
+  public int recover() {
+    LocalDateTime staleBefore = LocalDateTime.now().minus(staleAfter);
+    List<UUID> orderIds = paymentRepository.findStaleConfirmingOrderIds(staleBefore, batchSize);
+
+    int resolved = 0;
+    for (UUID orderId : orderIds) {
+      if (claim(orderId, staleBefore)) {
+        resolved += recover(orderId) ? 1 : 0;
+      }
+    }
+    return resolved;
+  }
+
+  private boolean claim(UUID orderId, LocalDateTime staleBefore) {
+    Integer claimed =
+        transactionTemplate.execute(
+            status ->
+                paymentRepository.claimStaleConfirming(
+                    orderId, staleBefore, LocalDateTime.now()));
+    return claimed != null && claimed > 0;
+  }
+
+  private boolean recover(UUID orderId) {
+    try {
+      TossResponse response = tossPaymentsGateway.findByOrderId(orderId);
+
+      if (response.isOk() && "DONE".equals(response.status())) {
+        paymentService.recoverConfirmedPayment(orderId, response.paymentKey());
+        return resolved(orderId, "success");
+      }
+      if (response.statusCode() == 404
+          || (response.isOk() && NOT_CAPTURED.contains(response.status()))) {
+        paymentService.failUnconfirmedPayment(orderId);
+        return resolved(orderId, "fail");
+      }
+
+      log.info(
+          "[CONFIRM-RECOVERY] not settled at toss yet. orderId={}, response={}",
+          orderId,
+          response);
+      count("pending");
+      return false;
+    } catch (Exception e) {
+      log.warn("[CONFIRM-RECOVERY] recovery failed. orderId={}", orderId, e);
+      count("error");
+      return false;
+    }
+  }
+
+  private boolean resolved(UUID orderId, String outcome) {
+    log.info("[CONFIRM-RECOVERY] recovered. orderId={}, outcome={}", orderId, outcome);
+    count(outcome);
+    return true;
+  }
+
+  private void count(String outcome) {
+    Counter.builder("payment.confirm.recovery")
+        .tag("outcome", outcome)
+        .register(meterRegistry)
+        .increment();
+  }
+}
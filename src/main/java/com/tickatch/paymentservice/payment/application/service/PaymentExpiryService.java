@@ -0,0 +1,191 @@
+package com.tickatch.paymentservice.payment.application.service;
+
+import com.tickatch.paymentservice.payment.application.PaymentActionType;
+import com.tickatch.paymentservice.payment.application.PaymentLogEventPublisher;
+import com.tickatch.paymentservice.payment.domain.Payment;
+import com.tickatch.paymentservice.payment.domain.PaymentStatus;
+import com.tickatch.paymentservice.payment.domain.repository.PaymentRepository;
+import com.tickatch.paymentservice.payment.domain.service.ReservationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 결제 만료 엔진.
+ *
+ * <p>생성 후 {@code payment.expiry.ttl}이 지나도록 승인되지 않은 결제(REQUESTED/PROCESSING)를 배치 단위로 EXPIRED 처리하고,
+ * 배치의 예매 id를 모아 예매 서비스에 한 번에 FAIL로 알린다. 대상은 {@code FOR UPDATE SKIP LOCKED}로 잠그므로 여러 인스턴스가 동시에 돌아도
+ * 같은 결제를 두 번 처리하지 않고, 승인 중인 요청이 잡고 있는 행은 건너뛴다.
+ *
+ * <p>결제 API 지연에 영향을 주지 않도록 배치 트랜잭션을 짧게 유지하고(부분 인덱스 조회 + 배치 크기 제한), 배치 사이에 잠시 쉬며, 한 주기에 처리하는 배치 수를
+ * 제한한다.
+ *
+ * <ul>
+ *   <li>payment.expiry.expired: 만료 처리한 결제 수 (처리량)
+ *   <li>payment.expiry.batch.size: 배치당 만료 결제 수
+ *   <li>payment.expiry.lag: 만료 시각부터 실제 만료 처리까지 걸린 시간
+ *   <li>payment.expiry.run: 한 주기 처리 시간
+ *   <li>payment.expiry.notify.failures: 예매 서비스 통지 실패 배치 수
+ * </ul>
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "payment.expiry.enabled", havingValue = "true", matchIfMissing = true)
+public class PaymentExpiryService {
+
+  // 승인 API 호출 중(CONFIRMING)인 결제는 토스 결과를 기다려야 하므로 만료 대상에서 제외
+  private static final List<String> EXPIRABLE_STATUSES =
+      List.of(PaymentStatus.REQUESTED.name(), PaymentStatus.PROCESSING.name());
+
+  private final PaymentRepository paymentRepository;
+  private final ReservationService reservationService;
+  private final PaymentLogEventPublisher logEventPublisher;
+  private final TransactionTemplate transactionTemplate;
+  private final Duration ttl;
+  private final int batchSize;
+  private final int maxBatchesPerRun;
+  private final long batchPauseMillis;
+
+  private final Counter expiredCounter;
+  private final DistributionSummary batchSizeSummary;
+  private final Timer lagTimer;
+  private final Timer runTimer;
+  private final Counter notifyFailureCounter;
+
+  public PaymentExpiryService(
+      PaymentRepository paymentRepository,
+      ReservationService reservationService,
+      PaymentLogEventPublisher logEventPublisher,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${payment.expiry.ttl:30m}") Duration ttl,
+      @Value("${payment.expiry.batch-size:200}") int batchSize,
+      @Value("${payment.expiry.max-batches-per-run:20}") int maxBatchesPerRun,
+      @Value("${payment.expiry.batch-pause-ms:20}") long batchPauseMillis) {
+    this.paymentRepository = paymentRepository;
+    this.reservationService = reservationService;
+    this.logEventPublisher = logEventPublisher;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.ttl = ttl;
+    this.batchSize = batchSize;
+    this.maxBatchesPerRun = maxBatchesPerRun;
+    this.batchPauseMillis = batchPauseMillis;
+
+    this.expiredCounter = Counter.builder("payment.expiry.expired").register(meterRegistry);
+    this.batchSizeSummary =
+        DistributionSummary.builder("payment.expiry.batch.size").register(meterRegistry);
+    this.lagTimer = Timer.builder("payment.expiry.lag").register(meterRegistry);
+    this.runTimer = Timer.builder("payment.expiry.run").register(meterRegistry);
+    this.notifyFailureCounter =
+        Counter.builder("payment.expiry.notify.failures").register(meterRegistry);
+  }
+
+  // 남은 대상이 배치 크기보다 적어지거나 주기당 배치 수 제한에 닿을 때까지 연속 처리
+  @Scheduled(
+      fixedDelayString = "${payment.expiry.interval-ms:30000}",
+      initialDelayString = "${payment.expiry.interval-ms:30000}")
+  public void expire() {
+    runTimer.record(
+        () -> {
+          int batches = 0;
+          int expired;
+          do {
+            expired = expireBatch();
+            batches++;
+          } while (expired == batchSize && batches < maxBatchesPerRun && pause());
+        });
+  }
+
+  /**
+   * 만료 대상 한 배치를 처리한다.
+   *
+   * @return 만료 처리한 결제 수
+   */
+  public int expireBatch() {
+    LocalDateTime now = LocalDateTime.now();
+
+    List<String> reservationIds = new ArrayList<>();
+    Integer expired =
+        transactionTemplate.execute(
+            status -> {
+              List<UUID> ids =
+                  paymentRepository.lockExpirableIds(EXPIRABLE_STATUSES, now.minus(ttl), batchSize);
+              if (ids.isEmpty()) {
+                return 0;
+              }
+
+              List<Payment> payments = paymentRepository.findAllWithDetailAndLinksByIds(ids);
+              for (Payment payment : payments) {
+                payment.expire();
+                reservationIds.addAll(payment.getReservationIds());
+                lagTimer.record(Duration.between(payment.getCreatedAt().plus(ttl), now));
+                logEventPublisher.publish(
+                    payment.getId().toUuid(),
+                    payment.getMethod(),
+                    payment.getRetryCount(),
+                    PaymentActionType.EXPIRE.name());
+              }
+
+              // 상태 변경 이벤트로 진행 중 결제 캐시도 커밋 후 무효화된다
+              paymentRepository.saveAll(payments);
+
+              // 만료와 함께 기록되면 커밋 후 따로 통지하지 않는다
+              if (reservationService.recordResult("FAIL", reservationIds)) {
+                reservationIds.clear();
+              }
+              return payments.size();
+            });
+
+    int count = expired == null ? 0 : expired;
+    if (count == 0) {
+      return 0;
+    }
+
+    expiredCounter.increment(count);
+    batchSizeSummary.record(count);
+    notifyReservations(reservationIds);
+    return count;
+  }
+
+  // 커밋 후 배치의 예매 id를 한 번에 통지 (실패해도 만료는 유지하고 예매 쪽 만료 정리에 맡긴다)
+  private void notifyReservations(List<String> reservationIds) {
+    if (reservationIds.isEmpty()) {
+      return;
+    }
+
+    try {
+      reservationService.applyResult("FAIL", reservationIds);
+    } catch (Exception e) {
+      notifyFailureCounter.increment();
+      log.warn("만료 결제 예매 통지 실패: size={}", reservationIds.size(), e);
+    }
+  }
+
+  private boolean pause() {
+    if (batchPauseMillis <= 0) {
+      return true;
+    }
+
+    try {
+      TimeUnit.MILLISECONDS.sleep(batchPauseMillis);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
@@ -0,0 +1,64 @@
+package com.tickatch.paymentservice.payment.application.service;
+
+import com.tickatch.paymentservice.global.config.AuthExtractor.AuthInfo;
+import com.tickatch.paymentservice.payment.application.dto.PaymentSearchPage;
+import com.tickatch.paymentservice.payment.domain.dto.PaymentSearchCondition;
+import com.tickatch.paymentservice.payment.domain.dto.PaymentSearchCursor;
+import com.tickatch.paymentservice.payment.domain.dto.PaymentSummary;
+import com.tickatch.paymentservice.payment.domain.exception.PaymentErrorCode;
+import com.tickatch.paymentservice.payment.domain.exception.PaymentException;
+import com.tickatch.paymentservice.payment.domain.repository.PaymentSearchRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 결제 검색.
+ *
+ * <p>관리자는 모든 결제를 사용자/상태/수단/생성 시각 구간으로 검색할 수 있고, 그 외 사용자는 본인이 생성한 결제만 조회된다. 페이지는 keyset
+ * 커서로 이어 읽는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PaymentQueryService {
+
+  private static final int MAX_PAGE_SIZE = 100;
+
+  private final PaymentSearchRepository paymentSearchRepository;
+
+  public PaymentSearchPage search(
+      PaymentSearchCondition condition, String cursor, int size, AuthInfo authInfo) {
+    PaymentSearchCondition scoped = scope(condition, authInfo);
+    if (size < 1 || size > MAX_PAGE_SIZE) {
+      throw new PaymentException(PaymentErrorCode.INVALID_SEARCH_CONDITION);
+    }
+    if (scoped.from() != null && scoped.to() != null && !scoped.from().isBefore(scoped.to())) {
+      throw new PaymentException(PaymentErrorCode.INVALID_SEARCH_CONDITION);
+    }
+
+    PaymentSearchCursor after = cursor == null ? null : PaymentSearchCursor.decode(cursor);
+
+    // 한 건 더 읽어 다음 페이지 존재 여부를 판단
+    List<PaymentSummary> rows = paymentSearchRepository.search(scoped, after, size + 1);
+    if (rows.size() <= size) {
+      return new PaymentSearchPage(rows, null);
+    }
+
+    List<PaymentSummary> items = rows.subList(0, size);
+    return new PaymentSearchPage(
+        List.copyOf(items), PaymentSearchCursor.of(items.get(size - 1)).encode());
+  }
+
+  // 관리자가 아니면 본인 결제로 한정
+  private static PaymentSearchCondition scope(PaymentSearchCondition condition, AuthInfo authInfo) {
+    if (authInfo.isAdmin()) {
+      return condition;
+    }
+    if (authInfo.userId() == null) {
+      throw new PaymentException(PaymentErrorCode.ACCESS_DENIED);
+    }
+    return condition.withCreatedBy(authInfo.userId());
+  }
+}
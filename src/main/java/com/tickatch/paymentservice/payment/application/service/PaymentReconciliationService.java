@@ -0,0 +1,355 @@
+package com.tickatch.paymentservice.payment.application.service;
+
+import com.tickatch.paymentservice.global.config.AuthExtractor.AuthInfo;
+import com.tickatch.paymentservice.payment.application.TossPaymentsGateway;
+import com.tickatch.paymentservice.payment.application.dto.PaymentDiscrepancy;
+import com.tickatch.paymentservice.payment.application.dto.ReconciliationReport;
+import com.tickatch.paymentservice.payment.application.dto.TossResponse;
+import com.tickatch.paymentservice.payment.domain.PaymentStatus;
+import com.tickatch.paymentservice.payment.domain.dto.PaymentReconciliationRow;
+import com.tickatch.paymentservice.payment.domain.exception.PaymentErrorCode;
+import com.tickatch.paymentservice.payment.domain.exception.PaymentException;
+import com.tickatch.paymentservice.payment.domain.repository.PaymentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 결제 대사(reconciliation).
+ *
+ * <p>시간 구간의 결제를 생성 시각 순으로 서버 측 커서(fetch size 단위)에서 읽으면서 토스 결제 조회를 병렬({@code parallelism})로 호출하고,
+ * 로컬 상태와 토스 상태를 비교해 불일치 보고서를 만든다. 조회 중인 건수를 세마포어로 제한하므로 구간이 커도 힙에 쌓이는 행은 {@code parallelism}의
+ * 두 배를 넘지 않는다. {@code repair}이면 자동 복구 가능한 불일치(토스 승인/로컬 진행 중, 토스 취소/로컬 환불 실패)를 {@link
+ * PaymentService}를 통해 {@code Payment} 상태 메서드로 바로잡는다.
+ *
+ * <ul>
+ *   <li>payment.reconciliation.rows: 처리한 결제 수 (outcome=matched/discrepancy/skipped/error)
+ *   <li>payment.reconciliation.lookup: 토스 결제 조회 시간
+ *   <li>payment.reconciliation.repaired: 자동 복구한 결제 수
+ *   <li>payment.reconciliation.run: 한 번의 대사 처리 시간
+ * </ul>
+ */
+@Slf4j
+@Service
+public class PaymentReconciliationService {
+
+  private static final String TOSS_NOT_FOUND = "NOT_FOUND";
+
+  private final PaymentRepository paymentRepository;
+  private final PaymentService paymentService;
+  private final TossPaymentsGateway tossPaymentsGateway;
+  private final TransactionTemplate streamTemplate;
+  private final MeterRegistry meterRegistry;
+  private final ExecutorService executor;
+  private final int maxInFlight;
+  private final Duration maxWindow;
+  private final int maxReportItems;
+  private final Duration scheduleWindow;
+  private final Duration settleDelay;
+  private final boolean scheduledRepair;
+
+  private final Timer lookupTimer;
+  private final Timer runTimer;
+  private final Counter repairedCounter;
+
+  public PaymentReconciliationService(
+      PaymentRepository paymentRepository,
+      PaymentService paymentService,
+      TossPaymentsGateway tossPaymentsGateway,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${payment.reconciliation.parallelism:8}") int parallelism,
+      @Value("${payment.reconciliation.max-window:1d}") Duration maxWindow,
+      @Value("${payment.reconciliation.max-report-items:1000}") int maxReportItems,
+      @Value("${payment.reconciliation.schedule.window:1d}") Duration scheduleWindow,
+      @Value("${payment.reconciliation.schedule.settle-delay:1h}") Duration settleDelay,
+      @Value("${payment.reconciliation.schedule.repair:false}") boolean scheduledRepair) {
+    this.paymentRepository = paymentRepository;
+    this.paymentService = paymentService;
+    this.tossPaymentsGateway = tossPaymentsGateway;
+    this.meterRegistry = meterRegistry;
+    this.maxInFlight = parallelism * 2;
+    this.maxWindow = maxWindow;
+    this.maxReportItems = maxReportItems;
+    this.scheduleWindow = scheduleWindow;
+    this.settleDelay = settleDelay;
+    this.scheduledRepair = scheduledRepair;
+
+    // 스트리밍 조회는 커서를 유지하는 동안 읽기 전용 트랜잭션 하나로 묶는다 (복구는 작업 스레드의 별도 트랜잭션)
+    this.streamTemplate = new TransactionTemplate(transactionManager);
+    this.streamTemplate.setReadOnly(true);
+
+    this.executor =
+        Executors.newFixedThreadPool(
+            parallelism, Thread.ofPlatform().name("reconciliation-", 0).factory());
+
+    this.lookupTimer = Timer.builder("payment.reconciliation.lookup").register(meterRegistry);
+    this.runTimer = Timer.builder("payment.reconciliation.run").register(meterRegistry);
+    this.repairedCounter =
+        Counter.builder("payment.reconciliation.repaired").register(meterRegistry);
+  }
+
+  // 관리자 수동 실행
+  public ReconciliationReport reconcile(
+      LocalDateTime from, LocalDateTime to, boolean repair, AuthInfo authInfo) {
+    if (!authInfo.isAdmin()) {
+      throw new PaymentException(PaymentErrorCode.ACCESS_DENIED);
+    }
+    return reconcile(from, to, repair);
+  }
+
+  // 정기 실행: 진행 중 결제가 정리될 시간(settle-delay)을 두고 직전 구간을 대사한다
+  @Scheduled(cron = "${payment.reconciliation.schedule.cron:-}")
+  public void reconcileScheduled() {
+    LocalDateTime to = LocalDateTime.now().minus(settleDelay);
+    reconcile(to.minus(scheduleWindow), to, scheduledRepair);
+  }
+
+  public ReconciliationReport reconcile(LocalDateTime from, LocalDateTime to, boolean repair) {
+    if (from == null || to == null || !from.isBefore(to) || from.plus(maxWindow).isBefore(to)) {
+      throw new PaymentException(PaymentErrorCode.INVALID_RECONCILIATION_WINDOW);
+    }
+
+    Run run = new Run(repair);
+    long start = System.nanoTime();
+
+    streamTemplate.executeWithoutResult(
+        status -> {
+          try (Stream<PaymentReconciliationRow> rows =
+              paymentRepository.streamReconciliationRows(from, to)) {
+            rows.forEach(run::submit);
+          }
+        });
+    run.awaitCompletion();
+
+    long elapsedNanos = System.nanoTime() - start;
+    runTimer.record(Duration.ofNanos(elapsedNanos));
+
+    ReconciliationReport report = run.toReport(from, to, elapsedNanos);
+    log.info(
+        "[RECONCILIATION] from={}, to={}, repair={}, scanned={}, discrepancies={}, repaired={}, errors={}, rowsPerSecond={}",
+        from,
+        to,
+        repair,
+        report.scanned(),
+        report.discrepancyCounts(),
+        report.repaired(),
+        report.errors(),
+        String.format("%.1f", report.rowsPerSecond()));
+    return report;
+  }
+
+  // 토스 상태 기준 불일치 분류 (일치하면 null)
+  static PaymentDiscrepancy.Type classify(PaymentStatus local, String tossStatus) {
+    switch (tossStatus) {
+      case "DONE" -> {
+        return switch (local) {
+          case PROCESSING, CONFIRMING -> PaymentDiscrepancy.Type.CAPTURED_IN_FLIGHT;
+          case FAIL, CANCEL, EXPIRED -> PaymentDiscrepancy.Type.CAPTURED_NOT_SUCCESS;
+          case REFUND -> PaymentDiscrepancy.Type.REFUNDED_NOT_CANCELED;
+          default -> null;
+        };
+      }
+      case "CANCELED", "PARTIAL_CANCELED" -> {
+        return switch (local) {
+          case REFUND_FAIL -> PaymentDiscrepancy.Type.CANCELED_REFUND_FAIL;
+          case SUCCESS -> PaymentDiscrepancy.Type.CANCELED_BUT_SUCCESS;
+          default -> null;
+        };
+      }
+      // 승인되지 않은 결제 (NOT_FOUND, READY, IN_PROGRESS, ABORTED, EXPIRED 등)
+      default -> {
+        return switch (local) {
+          case SUCCESS, REFUND, REFUND_FAIL -> PaymentDiscrepancy.Type.NOT_CAPTURED_AT_TOSS;
+          default -> null;
+        };
+      }
+    }
+  }
+
+  // 한 번의 대사 실행 상태
+  private class Run {
+
+    private final boolean repair;
+    private final Semaphore permits = new Semaphore(maxInFlight);
+    private final LongAdder scanned = new LongAdder();
+    private final LongAdder matched = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder repaired = new LongAdder();
+    private final Map<PaymentDiscrepancy.Type, LongAdder> counts = new ConcurrentHashMap<>();
+    private final List<PaymentDiscrepancy> discrepancies =
+        Collections.synchronizedList(new ArrayList<>());
+
+    private Run(boolean repair) {
+      this.repair = repair;
+    }
+
+    // 커서 스레드: 조회 중인 건수가 한도에 닿으면 다음 행을 읽지 않고 기다린다
+    private void submit(PaymentReconciliationRow row) {
+      scanned.increment();
+
+      // 토스에 결제 요청 전인 결제
+      if (row.status() == PaymentStatus.REQUESTED) {
+        skipped.increment();
+        count("skipped");
+        return;
+      }
+
+      permits.acquireUninterruptibly();
+      try {
+        executor.execute(
+            () -> {
+              try {
+                check(row);
+              } finally {
+                permits.release();
+              }
+            });
+      } catch (RuntimeException e) {
+        permits.release();
+        throw e;
+      }
+    }
+
+    private void check(PaymentReconciliationRow row) {
+      try {
+        TossResponse response =
+            lookupTimer.record(() -> tossPaymentsGateway.findByOrderId(row.orderId()));
+
+        String tossStatus;
+        if (response.isOk()) {
+          tossStatus = response.status();
+        } else if (response.statusCode() == 404) {
+          tossStatus = TOSS_NOT_FOUND;
+        } else {
+          log.warn(
+              "[RECONCILIATION] toss lookup failed. orderId={}, response={}",
+              row.orderId(),
+              response);
+          errors.increment();
+          count("error");
+          return;
+        }
+
+        PaymentDiscrepancy.Type type = classify(row.status(), tossStatus);
+        if (type == null) {
+          matched.increment();
+          count("matched");
+          return;
+        }
+
+        boolean fixed = repair && type.isRepairable() && repair(row, type, response);
+        record(
+            new PaymentDiscrepancy(
+                row.paymentId(), row.orderId(), row.status(), tossStatus, type, fixed));
+      } catch (Exception e) {
+        log.warn("[RECONCILIATION] check failed. paymentId={}", row.paymentId(), e);
+        errors.increment();
+        count("error");
+      }
+    }
+
+    private boolean repair(
+        PaymentReconciliationRow row, PaymentDiscrepancy.Type type, TossResponse response) {
+      try {
+        PaymentStatus repairedStatus =
+            switch (type) {
+              case CAPTURED_IN_FLIGHT ->
+                  paymentService.recoverConfirmedPayment(row.orderId(), response.paymentKey());
+              case CANCELED_REFUND_FAIL -> paymentService.resolveRefund(row.paymentId());
+              default -> throw new IllegalStateException("not repairable: " + type);
+            };
+
+        log.info(
+            "[RECONCILIATION] repaired. paymentId={}, type={}, status={}",
+            row.paymentId(),
+            type,
+            repairedStatus);
+        repaired.increment();
+        repairedCounter.increment();
+        return true;
+      } catch (Exception e) {
+        // 대사 조회 후 다른 경로(콜백, 만료)에서 먼저 상태가 바뀐 경우 등
+        log.warn(
+            "[RECONCILIATION] repair failed. paymentId={}, type={}", row.paymentId(), type, e);
+        return false;
+      }
+    }
+
+    private void record(PaymentDiscrepancy discrepancy) {
+      counts.computeIfAbsent(discrepancy.type(), type -> new LongAdder()).increment();
+      count("discrepancy");
+
+      synchronized (discrepancies) {
+        if (discrepancies.size() < maxReportItems) {
+          discrepancies.add(discrepancy);
+        }
+      }
+    }
+
+    private void count(String outcome) {
+      Counter.builder("payment.reconciliation.rows")
+          .tag("outcome", outcome)
+          .register(meterRegistry)
+          .increment();
+    }
+
+    // 남은 조회가 모두 끝날 때까지 대기
+    private void awaitCompletion() {
+      permits.acquireUninterruptibly(maxInFlight);
+      permits.release(maxInFlight);
+    }
+
+    private ReconciliationReport toReport(
+        LocalDateTime from, LocalDateTime to, long elapsedNanos) {
+      Map<PaymentDiscrepancy.Type, Long> discrepancyCounts =
+          new EnumMap<>(PaymentDiscrepancy.Type.class);
+      counts.forEach((type, count) -> discrepancyCounts.put(type, count.sum()));
+      long total = discrepancyCounts.values().stream().mapToLong(Long::longValue).sum();
+
+      long rows = scanned.sum();
+      double seconds = elapsedNanos / 1_000_000_000.0;
+
+      return new ReconciliationReport(
+          from,
+          to,
+          repair,
+          rows,
+          matched.sum(),
+          skipped.sum(),
+          errors.sum(),
+          repaired.sum(),
+          discrepancyCounts,
+          List.copyOf(discrepancies),
+          total > discrepancies.size(),
+          elapsedNanos / 1_000_000,
+          seconds > 0 ? rows / seconds : 0);
+    }
+  }
+
+  @PreDestroy
+  void shutdown() {
+    executor.shutdownNow();
+  }
+}
@@ -1,12 +1,17 @@
 package com.tickatch.paymentservice.payment.application.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tickatch.paymentservice.global.config.AuthExtractor.AuthInfo;
+import com.tickatch.paymentservice.payment.application.InFlightPaymentCache;
 import com.tickatch.paymentservice.payment.application.PaymentActionType;
 import com.tickatch.paymentservice.payment.application.PaymentLogEventPublisher;
+import com.tickatch.paymentservice.payment.application.PaymentMetrics;
+import com.tickatch.paymentservice.payment.application.PaymentMetrics.Flow;
+import com.tickatch.paymentservice.payment.application.PaymentMetrics.Stage;
+import com.tickatch.paymentservice.payment.application.TossPaymentsGateway;
 import com.tickatch.paymentservice.payment.application.dto.PaymentRequest;
 import com.tickatch.paymentservice.payment.application.dto.RefundRequest;
+import com.tickatch.paymentservice.payment.application.dto.TossResponse;
+import com.tickatch.paymentservice.payment.domain.LinkStatus;
 import com.tickatch.paymentservice.payment.domain.Payment;
 import com.tickatch.paymentservice.payment.domain.PaymentDetail;
 import com.tickatch.paymentservice.payment.domain.PaymentMethod;
@@ -14,46 +19,39 @@ import com.tickatch.paymentservice.payment.domain.PaymentStatus;
 import com.tickatch.paymentservice.payment.domain.RefundReason;
 import com.tickatch.paymentservice.payment.domain.TossCardDetail;
 import com.tickatch.paymentservice.payment.domain.dto.PaymentReservationInfo;
+import com.tickatch.paymentservice.payment.domain.dto.PaymentSnapshot;
 import com.tickatch.paymentservice.payment.domain.exception.PaymentErrorCode;
 import com.tickatch.paymentservice.payment.domain.exception.PaymentException;
 import com.tickatch.paymentservice.payment.domain.repository.PaymentRepository;
 import com.tickatch.paymentservice.payment.domain.service.ReservationService;
 import feign.FeignException;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
-import java.nio.charset.StandardCharsets;
-import java.util.Base64;
+import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class PaymentService {
 
-  private final ObjectMapper objectMapper;
+  // 이미 취소된 결제에 대한 토스 취소 응답 코드
+  private static final String ALREADY_CANCELED_PAYMENT = "ALREADY_CANCELED_PAYMENT";
+
   private final PaymentRepository paymentRepository;
   private final ReservationService reservationService;
   private final PaymentLogEventPublisher logEventPublisher;
-
-  @Value("${toss.secret-key}")
-  private String secretKey;
-
-  @Value("${app.base-url}")
-  private String baseUrl;
-
-  @Value("${app.frontend-url}")
-  private String frontendUrl;
+  private final TossPaymentsGateway tossPaymentsGateway;
+  private final TransactionTemplate transactionTemplate;
+  private final InFlightPaymentCache inFlightPayments;
+  private final PaymentMetrics metrics;
 
   // 1. 결제 생성
 
@@ -68,131 +66,244 @@ public class PaymentService {
             .toList();
 
     // 결제 엔티티 생성 후 저장(id 생성)
+    // insert는 커밋 시 실행되므로 커밋 시간은 http.server.requests와의 차이로 본다
     Payment payment = Payment.create(paymentRequest.orderName(), infos, PaymentMethod.TOSS_CARD);
     payment.markProcessing();
-    paymentRepository.save(payment);
+    metrics.stage(Flow.CREATE, Stage.DB_WRITE, () -> paymentRepository.save(payment));
+
+    // 콜백까지 반복 조회되므로 진행 중 결제 캐시에 등록 (커밋 후 반영)
+    inFlightPayments.put(
+        new PaymentSnapshot(
+            payment.getId().toUuid(),
+            payment.getOrderId(),
+            payment.getStatus(),
+            payment.getTotalPrice()));
 
     // 예매 쪽 상태 변경
     try {
-      reservationService.changeStatus(payment.getReservationIds());
+      metrics.stage(
+          Flow.CREATE,
+          Stage.RESERVATION,
+          () -> reservationService.changeStatus(payment.getReservationIds()));
     } catch (FeignException e) {
       log.error("Reservation status change failed. status={}", e.status());
       throw new PaymentException(PaymentErrorCode.RESERVATION_STATUS_CHANGE_FAILED);
     }
 
     String paymentKey =
-        createPaymentKey(payment.getOrderName(), payment.getOrderId(), payment.getTotalPrice());
+        metrics.stage(
+            Flow.CREATE,
+            Stage.TOSS,
+            () ->
+                createPaymentKey(
+                    payment.getOrderName(), payment.getOrderId(), payment.getTotalPrice()));
 
-    logAction(payment, PaymentActionType.CREATE);
+    logAction(Flow.CREATE, payment, PaymentActionType.CREATE);
 
     return paymentKey;
   }
 
   // 결제 승인 처리
+  // 토스 승인과 예매 서비스 호출은 트랜잭션 밖에서 수행하여 외부 API 대기 중에 DB 커넥션을 점유하지 않는다.
+  // 1) 금액 검증 + 승인 선점 (PROCESSING -> CONFIRMING) 2) 토스 승인 3) 결과 반영 트랜잭션 4) 예매 쪽 통지
 
-  @Transactional
-  public void confirmPayment(String paymentKey, UUID orderId, long totalPrice) {
+  public PaymentStatus confirmPayment(String paymentKey, UUID orderId, long totalPrice) {
     try {
-      String url = "https://api.tosspayments.com/v1/payments/confirm";
-      String auth = secretKey.trim() + ":";
-      String encodedAuth =
-          Base64.getEncoder().encodeToString(auth.getBytes(StandardCharsets.UTF_8));
-
-      String bodyJson =
-          objectMapper.writeValueAsString(
-              Map.of(
-                  "paymentKey", paymentKey,
-                  "orderId", orderId.toString(),
-                  "amount", totalPrice));
-
-      HttpRequest request =
-          HttpRequest.newBuilder()
-              .uri(URI.create(url))
-              .header("Authorization", "Basic " + encodedAuth)
-              .header("Content-Type", "application/json")
-              .POST(HttpRequest.BodyPublishers.ofString(bodyJson))
-              .build();
-
-      HttpResponse<String> response =
-          HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofString());
-
-      log.info("[TOSS-CONFIRM] status={}, body={}", response.statusCode(), response.body());
-
-      JsonNode jsonNode = objectMapper.readTree(response.body());
-
-      Payment payment =
-          paymentRepository
-              .findByOrderId(orderId)
-              .orElseThrow(() -> new PaymentException(PaymentErrorCode.PAYMENT_NOT_FOUND));
-
-      // 승인 상태 확인
-      if (response.statusCode() == 200 && "DONE".equals(jsonNode.path("status").asText())) {
-        TossCardDetail detail = TossCardDetail.create(payment, paymentKey);
+      PaymentSnapshot inFlight =
+          metrics.stage(Flow.CONFIRM, Stage.DB_READ, () -> findInFlightPayment(orderId));
 
-        // 결제 성공 상태로 변경
-        payment.markSuccess();
+      // 콜백으로 전달된 금액이 결제 금액과 다르면 토스 승인 요청하지 않음
+      if (inFlight.totalPrice() != totalPrice) {
+        throw new PaymentException(PaymentErrorCode.PAYMENT_AMOUNT_MISMATCH);
+      }
 
-        // 결제-예매 링크 확정
-        payment.confirmReservationLinks();
+      // 승인 선점: 중복 콜백은 여기서 걸러진다
+      metrics.stage(Flow.CONFIRM, Stage.DB_WRITE, () -> claimConfirming(orderId));
 
-        // 예매 쪽에 결제 성공 알리기
-        reservationService.applyResult("SUCCESS", payment.getReservationIds());
+      TossResponse response =
+          metrics.stage(
+              Flow.CONFIRM, Stage.TOSS, () -> confirmOrRelease(paymentKey, orderId, totalPrice));
 
-        logAction(payment, PaymentActionType.CONFIRM);
-      } else {
-        // 실패 처리
-        payment.markFail();
+      log.info("[TOSS-CONFIRM] {}", response);
 
-        // 예매 쪽에 결제 실패 알리기
-        reservationService.applyResult("FAIL", payment.getReservationIds());
+      // 승인 상태 확인
+      boolean approved = response.isOk() && "DONE".equals(response.status());
 
-        logAction(payment, PaymentActionType.CONFIRM_FAIL);
-      }
+      List<String> reservationIds =
+          metrics.stage(
+              Flow.CONFIRM,
+              Stage.DB_WRITE,
+              () ->
+                  transactionTemplate.execute(
+                      status -> applyConfirmResult(orderId, paymentKey, approved)));
 
-      // DB 저장
-      paymentRepository.save(payment);
+      // 예매 쪽에 결제 결과 알리기 (결과 반영 트랜잭션에 기록된 경우 제외)
+      notifyCommittedResult(approved ? "SUCCESS" : "FAIL", reservationIds);
 
+      return approved ? PaymentStatus.SUCCESS : PaymentStatus.FAIL;
     } catch (Exception e) {
+      // 토스 차단은 선점이 해제된 상태이므로 503 그대로 전달 (콜백 재시도 가능)
+      if (e instanceof PaymentException pe
+          && pe.getErrorCode() == PaymentErrorCode.TOSS_UNAVAILABLE) {
+        throw pe;
+      }
+      // 토스 승인 여부를 알 수 없으면 실패로 확정하지 않고 CONFIRMING으로 남긴다 (승인 복구 작업이 토스 조회로 정리)
+      if (e instanceof PaymentException pe
+          && pe.getErrorCode() == PaymentErrorCode.TOSS_OUTCOME_UNKNOWN) {
+        log.warn("[TOSS-CONFIRM] outcome unknown, left CONFIRMING. orderId={}", orderId);
+        throw pe;
+      }
       log.error("[TOSS-CONFIRM-ERROR] 결제 승인 중 오류 발생", e);
       throw new PaymentException(PaymentErrorCode.PAYMENT_CONFIRM_FAILED, e);
     }
   }
 
+  // 결과 반영이 커밋된 뒤의 통지 실패는 결제 결과를 바꾸지 않는다 (호출자에게 실패로 돌려보내지 않음)
+  private void notifyCommittedResult(String status, List<String> reservationIds) {
+    if (reservationIds.isEmpty()) {
+      return;
+    }
+
+    try {
+      metrics.stage(
+          Flow.CONFIRM,
+          Stage.RESERVATION,
+          () -> reservationService.applyResult(status, reservationIds));
+    } catch (Exception e) {
+      log.error(
+          "[RESERVATION-NOTIFY-FAIL] 커밋된 결제 결과 통지 실패: status={}, reservationIds={}",
+          status,
+          reservationIds,
+          e);
+    }
+  }
+
+  // 토스 호출이 차단된 경우(서킷 오픈, 동시 호출 한도 초과) 승인 요청은 전달되지 않았으므로
+  // 선점을 되돌려 콜백 재시도 시 다시 승인할 수 있게 한다
+  private TossResponse confirmOrRelease(String paymentKey, UUID orderId, long totalPrice) {
+    try {
+      return tossPaymentsGateway.confirm(paymentKey, orderId, totalPrice);
+    } catch (PaymentException e) {
+      if (e.getErrorCode() == PaymentErrorCode.TOSS_UNAVAILABLE) {
+        releaseConfirming(orderId);
+      }
+      throw e;
+    }
+  }
+
+  private void releaseConfirming(UUID orderId) {
+    Integer released =
+        transactionTemplate.execute(
+            status ->
+                paymentRepository.updateStatus(
+                    orderId,
+                    PaymentStatus.CONFIRMING,
+                    PaymentStatus.PROCESSING,
+                    LocalDateTime.now()));
+    if (released != null && released > 0) {
+      metrics.transition(PaymentStatus.CONFIRMING, PaymentStatus.PROCESSING);
+    }
+  }
+
+  // 커밋 후 예매 쪽에 통지할 예매 id를 반환한다 (결과를 트랜잭션에 기록했으면 빈 목록)
+  private List<String> applyConfirmResult(UUID orderId, String paymentKey, boolean approved) {
+    Payment payment = findPaymentByOrderId(orderId);
+
+    if (approved) {
+      TossCardDetail.create(payment, paymentKey);
+
+      // 결제 성공 상태로 변경
+      payment.markSuccess();
+
+      // 결제-예매 링크 확정 (링크마다 update 하지 않고 한 번에)
+      paymentRepository.updateLinkStatus(
+          payment.getId(), payment.getCreatedAt(), LinkStatus.CONFIRMED);
+
+      logAction(Flow.CONFIRM, payment, PaymentActionType.CONFIRM);
+    } else {
+      // 실패 처리
+      payment.markFail();
+
+      logAction(Flow.CONFIRM, payment, PaymentActionType.CONFIRM_FAIL);
+    }
+
+    // DB 저장
+    paymentRepository.save(payment);
+
+    List<String> reservationIds = payment.getReservationIds();
+    if (reservationService.recordResult(approved ? "SUCCESS" : "FAIL", reservationIds)) {
+      return List.of();
+    }
+    return reservationIds;
+  }
+
   // 결제 실패 처리 : 사용자 취소로 인한 실패, 그 이외의 이유로 인한 실패
 
   @Transactional
-  public void failPayment(UUID orderId, String code) {
+  public PaymentStatus failPayment(UUID orderId, String code) {
 
-    Payment payment =
-        paymentRepository
-            .findByOrderId(orderId)
-            .orElseThrow(() -> new PaymentException(PaymentErrorCode.PAYMENT_NOT_FOUND));
+    Payment payment = metrics.stage(Flow.FAIL, Stage.DB_READ, () -> findPaymentByOrderId(orderId));
 
     // 실패 처리할 수 없는 경우
     if (!payment.getStatus().canFail()) {
       log.warn("invalid fail transition. status={}", payment.getStatus());
-      return;
+      return payment.getStatus();
+    }
+
+    PaymentStatus from = payment.getStatus();
+    boolean canceled = "PAY_PROCESS_CANCELED".equals(code);
+
+    // 읽은 상태 그대로일 때만 바꾼다 (승인 선점과 같은 조건부 update)
+    // 읽은 뒤 승인 선점(CONFIRMING) 등이 먼저 커밋됐으면 0건이므로 엔티티를 바꾸지 않고 현재 상태를 돌려준다
+    // 변경에 성공하면 이 트랜잭션이 행 잠금을 가지므로 아래 엔티티 저장이 다른 전이를 덮어쓰지 않는다
+    int claimed =
+        metrics.stage(
+            Flow.FAIL,
+            Stage.DB_WRITE,
+            () ->
+                paymentRepository.updateStatus(
+                    orderId,
+                    from,
+                    canceled ? PaymentStatus.CANCEL : PaymentStatus.FAIL,
+                    LocalDateTime.now()));
+    if (claimed == 0) {
+      PaymentStatus current =
+          paymentRepository
+              .findSnapshotByOrderId(orderId)
+              .map(PaymentSnapshot::status)
+              .orElse(from);
+      log.warn("fail transition lost to concurrent change. status={}", current);
+      return current;
     }
 
     // 사용자 취소로 인한 결제 실패
-    if ("PAY_PROCESS_CANCELED".equals(code)) {
+    if (canceled) {
       // 결제 상태 cancel로 변경
       payment.cancel(RefundReason.CUSTOMER_CANCEL);
+      metrics.stage(Flow.FAIL, Stage.DB_WRITE, () -> paymentRepository.save(payment));
 
       // 예매 쪽에 전달
-      reservationService.applyResult("CANCEL", payment.getReservationIds());
+      metrics.stage(
+          Flow.FAIL,
+          Stage.RESERVATION,
+          () -> reservationService.applyResult("CANCEL", payment.getReservationIds()));
 
-      logAction(payment, PaymentActionType.CANCEL);
-      return;
+      logAction(Flow.FAIL, payment, PaymentActionType.CANCEL);
+      return payment.getStatus();
     }
 
     // 결제 실패로 상태 변경
     payment.markFail();
+    metrics.stage(Flow.FAIL, Stage.DB_WRITE, () -> paymentRepository.save(payment));
 
     // 예매 쪽에 결제 실패 알리기
-    reservationService.applyResult("FAIL", payment.getReservationIds());
+    metrics.stage(
+        Flow.FAIL,
+        Stage.RESERVATION,
+        () -> reservationService.applyResult("FAIL", payment.getReservationIds()));
 
-    logAction(payment, PaymentActionType.CONFIRM_FAIL);
+    logAction(Flow.FAIL, payment, PaymentActionType.CONFIRM_FAIL);
+    return payment.getStatus();
   }
 
   // 환불: 예매 취소 시 환불, 상품 삭제 시 환불
@@ -204,7 +315,11 @@ public class PaymentService {
     RefundReason reason = request.reason();
 
     // 예매 id들이 속하는 payment 가져오기
-    List<Payment> payments = paymentRepository.findPaymentsByReservationIds(reservationIds);
+    List<Payment> payments =
+        metrics.stage(
+            Flow.REFUND,
+            Stage.DB_READ,
+            () -> paymentRepository.findPaymentsByReservationIds(reservationIds));
 
     // 결제가 없을 때
     if (payments.isEmpty()) {
@@ -244,98 +359,171 @@ public class PaymentService {
     String paymentKey = detail.getPaymentKey();
 
     try {
-      String auth = secretKey.trim() + ":";
-      String encodedAuth =
-          Base64.getEncoder().encodeToString(auth.getBytes(StandardCharsets.UTF_8));
+      TossResponse response =
+          metrics.stage(
+              Flow.REFUND, Stage.TOSS, () -> tossPaymentsGateway.cancel(paymentKey, reason.name()));
 
-      HttpRequest httpRequest =
-          HttpRequest.newBuilder()
-              .uri(URI.create("https://api.tosspayments.com/v1/payments/" + paymentKey + "/cancel"))
-              .header("Authorization", "Basic " + encodedAuth)
-              .header("Content-Type", "application/json")
-              .POST(
-                  HttpRequest.BodyPublishers.ofString(
-                      "{\"cancelReason\":\"" + reason.name() + "\"}"))
-              .build();
-
-      HttpResponse<String> response =
-          HttpClient.newHttpClient().send(httpRequest, HttpResponse.BodyHandlers.ofString());
-
-      JsonNode jsonNode = objectMapper.readTree(response.body());
-
-      if (response.statusCode() == 200 && "CANCELED".equals(jsonNode.path("status").asText())) {
+      if (response.isOk() && "CANCELED".equals(response.status())) {
 
         // 환불 성공으로 상태 변경
         log.info("[SUCCESS REFUND] refund paymentId={}", payment.getId());
         payment.refund(reason);
 
-        logAction(payment, PaymentActionType.REFUND);
+        logAction(Flow.REFUND, payment, PaymentActionType.REFUND);
       } else {
-        String errorMessage = jsonNode.path("message").asText("refund failed");
+        String errorMessage = response.messageOrElse("refund failed");
 
         // 환불 실패로 상태 변경
         payment.refundFail(reason);
         log.error("[PAYMENT-REFUND-FAIL] {}", errorMessage);
 
-        logAction(payment, PaymentActionType.REFUND_FAIL);
+        logAction(Flow.REFUND, payment, PaymentActionType.REFUND_FAIL);
       }
 
+      metrics.stage(Flow.REFUND, Stage.DB_WRITE, () -> paymentRepository.save(payment));
     } catch (Exception e) {
       payment.refundFail(reason);
       log.error("[PAYMENT-REFUND-ERROR]", e);
-      logAction(payment, PaymentActionType.REFUND_FAIL);
+      logAction(Flow.REFUND, payment, PaymentActionType.REFUND_FAIL);
 
       throw new PaymentException(PaymentErrorCode.INTERNAL_SERVER_ERROR);
     }
   }
 
+  // 일괄 환불: 결제 한 건 전액 환불
+  // 토스 취소는 트랜잭션 밖에서 호출하고, 결과는 다시 조회한 결제에 반영한다.
+  // 토스 호출 오류(응답 없음, 재시도 소진)는 결과를 알 수 없으므로 상태를 바꾸지 않고 예외를 그대로 던진다 (재시도 시 ALREADY_CANCELED_PAYMENT로 확인).
+
+  public PaymentStatus refundPayment(UUID paymentId, RefundReason reason) {
+    Payment payment =
+        metrics.stage(Flow.BULK_REFUND, Stage.DB_READ, () -> findPaymentById(paymentId));
+
+    // 이미 환불됐거나 환불 대상이 아닌 결제
+    if (payment.getStatus() != PaymentStatus.SUCCESS) {
+      return payment.getStatus();
+    }
+
+    PaymentDetail detail = payment.getDetail();
+    if (detail == null || detail.getPaymentKey() == null) {
+      throw new PaymentException(PaymentErrorCode.PAYMENT_KEY_NOT_FOUND);
+    }
+
+    TossResponse response =
+        metrics.stage(
+            Flow.BULK_REFUND,
+            Stage.TOSS,
+            () -> tossPaymentsGateway.cancel(detail.getPaymentKey(), reason.name()));
+
+    // 이전 시도에서 토스 취소는 됐지만 결과를 반영하지 못한 경우도 환불 성공으로 본다
+    boolean canceled =
+        (response.isOk() && "CANCELED".equals(response.status()))
+            || ALREADY_CANCELED_PAYMENT.equals(response.code());
+
+    if (!canceled) {
+      log.error(
+          "[PAYMENT-REFUND-FAIL] paymentId={}, message={}",
+          paymentId,
+          response.messageOrElse("refund failed"));
+    }
+
+    return metrics.stage(
+        Flow.BULK_REFUND,
+        Stage.DB_WRITE,
+        () ->
+            transactionTemplate.execute(
+                status -> applyRefundResult(paymentId, reason, canceled)));
+  }
+
+  private PaymentStatus applyRefundResult(UUID paymentId, RefundReason reason, boolean canceled) {
+    Payment payment = findPaymentById(paymentId);
+
+    // 토스 호출 중 다른 경로(단건 환불)에서 먼저 처리된 경우
+    if (payment.getStatus() != PaymentStatus.SUCCESS) {
+      return payment.getStatus();
+    }
+
+    if (canceled) {
+      payment.refund(reason);
+      logAction(Flow.BULK_REFUND, payment, PaymentActionType.REFUND);
+    } else {
+      payment.refundFail(reason);
+      logAction(Flow.BULK_REFUND, payment, PaymentActionType.REFUND_FAIL);
+    }
+
+    paymentRepository.save(payment);
+    return payment.getStatus();
+  }
+
+  // 대사(reconciliation) 복구: 토스 기준 상태로 로컬 결제를 바로잡는다
+
+  // 토스에서 승인(DONE)됐지만 진행 중으로 남은 결제 -> 성공 반영 + 예매 쪽 통지
+  // PROCESSING이면 승인 콜백과 같은 조건부 update로 선점하고, CONFIRMING(승인 중 중단)이면 그대로 결과를 반영한다
+  public PaymentStatus recoverConfirmedPayment(UUID orderId, String paymentKey) {
+    Integer claimed =
+        transactionTemplate.execute(
+            status ->
+                paymentRepository.updateStatus(
+                    orderId,
+                    PaymentStatus.PROCESSING,
+                    PaymentStatus.CONFIRMING,
+                    LocalDateTime.now()));
+    if (claimed != null && claimed > 0) {
+      metrics.transition(PaymentStatus.PROCESSING, PaymentStatus.CONFIRMING);
+    }
+    inFlightPayments.evict(orderId);
+
+    List<String> reservationIds =
+        transactionTemplate.execute(status -> applyConfirmResult(orderId, paymentKey, true));
+
+    notifyCommittedResult("SUCCESS", reservationIds);
+    return PaymentStatus.SUCCESS;
+  }
+
+  // 승인 중(CONFIRMING)에 중단됐고 토스에서 승인되지 않은 것으로 확인된 결제 -> 실패 반영 + 예매 쪽 통지
+  public PaymentStatus failUnconfirmedPayment(UUID orderId) {
+    inFlightPayments.evict(orderId);
+
+    List<String> reservationIds =
+        transactionTemplate.execute(status -> applyConfirmResult(orderId, null, false));
+
+    notifyCommittedResult("FAIL", reservationIds);
+    return PaymentStatus.FAIL;
+  }
+
+  // 토스에서 취소(CANCELED)됐지만 환불 실패로 남은 결제 -> 환불 성공으로 정정
+  @Transactional
+  public PaymentStatus resolveRefund(UUID paymentId) {
+    Payment payment = findPaymentById(paymentId);
+
+    payment.resolveRefund();
+    logAction(Flow.REFUND, payment, PaymentActionType.REFUND);
+
+    paymentRepository.save(payment);
+    return payment.getStatus();
+  }
+
   // 결제 키 발급
 
   private String createPaymentKey(String orderName, UUID orderId, long totalPrice) {
     try {
-      String url = "https://api.tosspayments.com/v1/payments";
-      String auth = secretKey.trim() + ":";
-      String encodedAuth =
-          Base64.getEncoder().encodeToString(auth.getBytes(StandardCharsets.UTF_8));
-
-      String bodyJson =
-          String.format(
-              "{\"method\":\"CARD\", \"amount\":%d, \"orderId\":\"%s\", \"orderName\":\"%s\", "
-                  + "\"successUrl\":\"%s/payment/callback\", "
-                  + "\"failUrl\":\"%s/payment/callback\"}",
-              totalPrice, orderId, orderName, frontendUrl, frontendUrl);
-
-      HttpRequest request =
-          HttpRequest.newBuilder()
-              .uri(URI.create(url))
-              .header("Authorization", "Basic " + encodedAuth)
-              .header("Content-Type", "application/json")
-              .POST(HttpRequest.BodyPublishers.ofString(bodyJson))
-              .build();
-
-      HttpResponse<String> response =
-          HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofString());
-
-      JsonNode jsonNode = objectMapper.readTree(response.body());
-
-      String checkoutUrl = jsonNode.get("checkout").get("url").asText();
-      System.out.println("결제 UI : " + checkoutUrl);
+      TossResponse response = tossPaymentsGateway.createPayment(orderName, orderId, totalPrice);
 
       // http 상태 체크
-      if (response.statusCode() != 200) {
-        log.error(
-            "[TOSS-PAYMENT-ERROR] status={}, body={}", response.statusCode(), response.body());
+      if (!response.isOk()) {
+        log.error("[TOSS-PAYMENT-ERROR] {}", response);
         throw new PaymentException(PaymentErrorCode.PAYMENT_KEY_GENERATION_FAILED);
       }
 
-      // paymentKey 존재 여부 확인
-      JsonNode paymentKeyNode = jsonNode.get("paymentKey");
-      if (paymentKeyNode == null || paymentKeyNode.asText().isBlank()) {
-        log.error("[TOSS-PAYMENT-ERROR] paymentKey missing, body={}", response.body());
+      // paymentKey, 결제창 URL 존재 여부 확인
+      if (response.paymentKey() == null
+          || response.paymentKey().isBlank()
+          || response.checkoutUrl() == null) {
+        log.error("[TOSS-PAYMENT-ERROR] paymentKey missing, {}", response);
         throw new PaymentException(PaymentErrorCode.PAYMENT_KEY_GENERATION_FAILED);
       }
 
-      return checkoutUrl;
+      log.debug("[TOSS-PAYMENT] checkout url created. orderId={}", orderId);
+      return response.checkoutUrl();
     } catch (PaymentException e) {
       throw e;
     } catch (Exception e) {
@@ -344,9 +532,61 @@ public class PaymentService {
     }
   }
 
-  private void logAction(Payment payment, PaymentActionType actionType) {
-    logEventPublisher.publish(
-        payment.getId().toUuid(), payment.getMethod(), payment.getRetryCount(), actionType.name());
+  // 결제 + 세부 정보 + 예매 링크를 한 번에 조회
+  private Payment findPaymentByOrderId(UUID orderId) {
+    return paymentRepository
+        .findWithDetailAndLinksByOrderId(orderId)
+        .orElseThrow(() -> new PaymentException(PaymentErrorCode.PAYMENT_NOT_FOUND));
+  }
+
+  private Payment findPaymentById(UUID paymentId) {
+    return paymentRepository
+        .findWithDetailAndLinksById(paymentId)
+        .orElseThrow(() -> new PaymentException(PaymentErrorCode.PAYMENT_NOT_FOUND));
+  }
+
+  // 진행 중 결제 조회: 캐시 미스 시 DB 스냅샷을 조회하여 캐시에 채운다 (PROCESSING만 저장됨)
+  private PaymentSnapshot findInFlightPayment(UUID orderId) {
+    return inFlightPayments
+        .get(orderId)
+        .or(
+            () -> {
+              Optional<PaymentSnapshot> snapshot = paymentRepository.findSnapshotByOrderId(orderId);
+              snapshot.ifPresent(inFlightPayments::put);
+              return snapshot;
+            })
+        .orElseThrow(() -> new PaymentException(PaymentErrorCode.PAYMENT_NOT_FOUND));
+  }
+
+  // 승인 선점: 조건부 update로 동시에 들어온 승인 요청 중 하나만 통과시킨다
+  private void claimConfirming(UUID orderId) {
+    Integer claimed =
+        transactionTemplate.execute(
+            status ->
+                paymentRepository.updateStatus(
+                    orderId,
+                    PaymentStatus.PROCESSING,
+                    PaymentStatus.CONFIRMING,
+                    LocalDateTime.now()));
+
+    if (claimed == null || claimed == 0) {
+      throw new PaymentException(PaymentErrorCode.INVALID_STATUS_FOR_CONFIRMING);
+    }
+
+    metrics.transition(PaymentStatus.PROCESSING, PaymentStatus.CONFIRMING);
+    inFlightPayments.evict(orderId);
+  }
+
+  private void logAction(Flow flow, Payment payment, PaymentActionType actionType) {
+    metrics.stage(
+        flow,
+        Stage.PUBLISH,
+        () ->
+            logEventPublisher.publish(
+                payment.getId().toUuid(),
+                payment.getMethod(),
+                payment.getRetryCount(),
+                actionType.name()));
   }
 
   private void validatePaymentOwner(Payment payment, AuthInfo authInfo) {
@@ -0,0 +1,75 @@
+package com.tickatch.paymentservice.payment.application.service;
+
+import com.tickatch.paymentservice.global.config.AuthExtractor.AuthInfo;
+import com.tickatch.paymentservice.payment.application.dto.PaymentViewPage;
+import com.tickatch.paymentservice.payment.application.dto.PaymentViewResult;
+import com.tickatch.paymentservice.payment.domain.PaymentView;
+import com.tickatch.paymentservice.payment.domain.dto.PaymentSearchCursor;
+import com.tickatch.paymentservice.payment.domain.exception.PaymentErrorCode;
+import com.tickatch.paymentservice.payment.domain.exception.PaymentException;
+import com.tickatch.paymentservice.payment.domain.repository.PaymentViewRepository;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 결제 조회 모델 기반 조회.
+ *
+ * <p>"내 결제" 목록과 결제 단건을 p_payment_view 한 테이블에서 읽는다. 결제 aggregate(예매 링크, 세부 정보)를 로딩하지 않으며 쓰기
+ * 트랜잭션이 잡는 결제 행 잠금과 겹치지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PaymentViewQueryService {
+
+  private static final int MAX_PAGE_SIZE = 100;
+
+  private final PaymentViewRepository paymentViewRepository;
+
+  public PaymentViewPage getMyPayments(String cursor, int size, AuthInfo authInfo) {
+    if (authInfo.userId() == null) {
+      throw new PaymentException(PaymentErrorCode.ACCESS_DENIED);
+    }
+    if (size < 1 || size > MAX_PAGE_SIZE) {
+      throw new PaymentException(PaymentErrorCode.INVALID_SEARCH_CONDITION);
+    }
+
+    // 한 건 더 읽어 다음 페이지 존재 여부를 판단
+    Limit limit = Limit.of(size + 1);
+    List<PaymentView> rows;
+    if (cursor == null) {
+      rows = paymentViewRepository.findLatest(authInfo.userId(), limit);
+    } else {
+      PaymentSearchCursor after = PaymentSearchCursor.decode(cursor);
+      rows =
+          paymentViewRepository.findLatestBefore(
+              authInfo.userId(), after.createdAt(), after.paymentId(), limit);
+    }
+
+    List<PaymentViewResult> items =
+        rows.stream().limit(size).map(PaymentViewResult::from).toList();
+    if (rows.size() <= size) {
+      return new PaymentViewPage(items, null);
+    }
+
+    PaymentViewResult last = items.get(size - 1);
+    return new PaymentViewPage(
+        items, new PaymentSearchCursor(last.createdAt(), last.paymentId()).encode());
+  }
+
+  // 관리자 외에는 본인 결제만
+  public PaymentViewResult getPayment(UUID paymentId, AuthInfo authInfo) {
+    PaymentView view =
+        paymentViewRepository
+            .findById(paymentId)
+            .orElseThrow(() -> new PaymentException(PaymentErrorCode.PAYMENT_NOT_FOUND));
+    if (!authInfo.isAdmin() && !view.getCreatedBy().equals(authInfo.userId())) {
+      throw new PaymentException(PaymentErrorCode.ACCESS_DENIED);
+    }
+    return PaymentViewResult.from(view);
+  }
+}
@@ -2,6 +2,7 @@ package com.tickatch.paymentservice.payment.domain;
 
 import com.tickatch.paymentservice.global.domain.AbstractAuditEntity;
 import com.tickatch.paymentservice.payment.domain.dto.PaymentReservationInfo;
+import com.tickatch.paymentservice.payment.domain.event.PaymentStatusChangedEvent;
 import com.tickatch.paymentservice.payment.domain.exception.PaymentErrorCode;
 import com.tickatch.paymentservice.payment.domain.exception.PaymentException;
 import jakarta.persistence.CascadeType;
@@ -10,9 +11,14 @@ import jakarta.persistence.EmbeddedId;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -22,13 +28,20 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.AfterDomainEventPublication;
+import org.springframework.data.domain.DomainEvents;
+import org.springframework.data.domain.Persistable;
 
 @Slf4j
 @Table(name = "p_payment")
 @Entity
+// 승인/실패/환불: 결제 + 세부 정보 + 예매 링크 (mappedBy 1:1은 지연 로딩이 안 되므로 조인으로 함께 조회)
+@NamedEntityGraph(
+    name = "Payment.withDetailAndLinks",
+    attributeNodes = {@NamedAttributeNode("detail"), @NamedAttributeNode("links")})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class Payment extends AbstractAuditEntity {
+public class Payment extends AbstractAuditEntity implements Persistable<PaymentId> {
 
   // 결제 id
   @EmbeddedId private PaymentId id;
@@ -79,6 +92,16 @@ public class Payment extends AbstractAuditEntity {
   @OneToMany(mappedBy = "payment", cascade = CascadeType.ALL)
   List<PaymentReservationLink> links = new ArrayList<>();
 
+  // 저장 시 발행할 상태 변경 이벤트
+  @Transient
+  @Getter(AccessLevel.NONE)
+  private final List<PaymentStatusChangedEvent> statusEvents = new ArrayList<>();
+
+  // 새 결제는 merge 대신 persist로 저장 (select 없이 insert, 예매 링크/세부 정보는 결제 생성 시각이 정해진 뒤 cascade 저장)
+  @Transient
+  @Getter(AccessLevel.NONE)
+  private boolean isNew = false;
+
   // =================================
 
   // 생성
@@ -91,6 +114,7 @@ public class Payment extends AbstractAuditEntity {
     this.totalPrice = totalPrice;
     this.orderName = orderName;
     this.orderId = orderId;
+    this.isNew = true;
   }
 
   public static Payment create(
@@ -103,7 +127,7 @@ public class Payment extends AbstractAuditEntity {
             .status(PaymentStatus.REQUESTED)
             .totalPrice(totalPrice)
             .orderName(orderName)
-            .orderId(UUID.randomUUID())
+            .orderId(TimeOrderedUuid.generate())
             .build();
 
     payment.addReservationLinks(infos);
@@ -122,9 +146,9 @@ public class Payment extends AbstractAuditEntity {
       PaymentReservationLink link =
           new PaymentReservationLink(this, info.reservationId(), info.price(), LinkStatus.PENDING);
       this.links.add(link);
-      log.info("Added link, current size: {}", this.links.size());
+      log.debug("Added link, current size: {}", this.links.size());
     }
-    log.info("After adding links, size: {}", this.links.size());
+    log.debug("After adding links, size: {}", this.links.size());
   }
 
   // 결제 총 금액 계산
@@ -137,17 +161,17 @@ public class Payment extends AbstractAuditEntity {
   // 상태 관련
 
   // 1. 결제 성공으로 상태 변경
-  // 이전 상태: 결제 처리중
+  // 이전 상태: 결제 승인 진행중
   public void markSuccess() {
-    if (this.status != PaymentStatus.PROCESSING) {
+    if (this.status != PaymentStatus.CONFIRMING) {
       throw new PaymentException(PaymentErrorCode.INVALID_STATUS_FOR_SUCCESS);
     }
-    this.status = PaymentStatus.SUCCESS;
+    changeStatus(PaymentStatus.SUCCESS);
     this.approvedAt = LocalDateTime.now();
   }
 
   // 결제 취소는 결제가 일어나기 전에 취소된 거 : processing 상태에서만 결제 취소로 갈 수 있다.
-  // processing -> cancel/success/fail
+  // processing -> cancel/fail, processing -> confirming -> success/fail
   // 환불은 결제 완료 된 후에 취소되는거 : 예매가 취소될 때 환불. -> SUCCESS 상태에서만 가능
   // success -> refund/refund_fail
 
@@ -157,18 +181,20 @@ public class Payment extends AbstractAuditEntity {
     if (this.status != PaymentStatus.REQUESTED && this.status != PaymentStatus.PROCESSING) {
       throw new PaymentException(PaymentErrorCode.INVALID_STATUS_FOR_CANCEL);
     }
-    this.status = PaymentStatus.CANCEL;
+    changeStatus(PaymentStatus.CANCEL);
     this.refundReason = reason;
     this.canceledAt = LocalDateTime.now();
   }
 
   // 3. 결제 실패로 상태 변경
-  // 이전 상태: 결제 처리중
+  // 이전 상태: 결제 요청, 결제 처리중, 결제 승인 진행중
   public void markFail() {
-    if (this.status != PaymentStatus.REQUESTED && this.status != PaymentStatus.PROCESSING) {
+    if (this.status != PaymentStatus.REQUESTED
+        && this.status != PaymentStatus.PROCESSING
+        && this.status != PaymentStatus.CONFIRMING) {
       throw new PaymentException(PaymentErrorCode.INVALID_STATUS_FOR_FAIL);
     }
-    this.status = PaymentStatus.FAIL;
+    changeStatus(PaymentStatus.FAIL);
     this.retryCount += 1;
   }
 
@@ -179,7 +205,7 @@ public class Payment extends AbstractAuditEntity {
       throw new PaymentException(PaymentErrorCode.INVALID_STATUS_FOR_REFUND);
     }
 
-    this.status = PaymentStatus.REFUND;
+    changeStatus(PaymentStatus.REFUND);
     this.refundReason = reason;
     this.refundedAt = LocalDateTime.now();
   }
@@ -190,7 +216,7 @@ public class Payment extends AbstractAuditEntity {
     if (this.status != PaymentStatus.SUCCESS) {
       throw new PaymentException(PaymentErrorCode.INVALID_STATUS_FOR_REFUND_FAIL);
     }
-    this.status = PaymentStatus.REFUND_FAIL;
+    changeStatus(PaymentStatus.REFUND_FAIL);
     this.refundReason = reason;
   }
 
@@ -204,7 +230,7 @@ public class Payment extends AbstractAuditEntity {
       throw new PaymentException(PaymentErrorCode.INVALID_STATUS_FOR_EXPIRED);
     }
 
-    this.status = PaymentStatus.EXPIRED;
+    changeStatus(PaymentStatus.EXPIRED);
   }
 
   // 7. 결제 처리중으로 상태 변경
@@ -214,7 +240,51 @@ public class Payment extends AbstractAuditEntity {
     if (this.status != PaymentStatus.REQUESTED) {
       throw new PaymentException(PaymentErrorCode.INVALID_STATUS_FOR_PROCESSING);
     }
-    this.status = PaymentStatus.PROCESSING;
+    changeStatus(PaymentStatus.PROCESSING);
+  }
+
+  // 8. 결제 승인 진행중(CONFIRMING)
+  // 토스 승인 전 선점은 PaymentRepository.updateStatus 조건부 update(PROCESSING -> CONFIRMING)로 수행한다
+
+  // 9. 환불 실패 -> 환불 성공 정정
+  // 토스에서는 취소됐지만 환불 실패로 남은 결제를 대사(reconciliation)에서 바로잡을 때 사용
+  // 이전 상태: 환불 실패
+  public void resolveRefund() {
+    if (this.status != PaymentStatus.REFUND_FAIL) {
+      throw new PaymentException(PaymentErrorCode.INVALID_STATUS_FOR_REFUND);
+    }
+
+    changeStatus(PaymentStatus.REFUND);
+    this.refundedAt = LocalDateTime.now();
+  }
+
+  // 상태 변경 + 이벤트 기록
+  private void changeStatus(PaymentStatus next) {
+    statusEvents.add(
+        new PaymentStatusChangedEvent(
+            id.toUuid(), orderId, this.status, next, totalPrice, LocalDateTime.now()));
+    this.status = next;
+  }
+
+  @Override
+  public boolean isNew() {
+    return isNew;
+  }
+
+  @PostPersist
+  @PostLoad
+  void markNotNew() {
+    this.isNew = false;
+  }
+
+  @DomainEvents
+  List<PaymentStatusChangedEvent> statusEvents() {
+    return List.copyOf(statusEvents);
+  }
+
+  @AfterDomainEventPublication
+  void clearStatusEvents() {
+    statusEvents.clear();
   }
 
   // ==================================
@@ -262,13 +332,6 @@ public class Payment extends AbstractAuditEntity {
     return this.links.stream().map(PaymentReservationLink::getReservationId).toList();
   }
 
-  // 연관 링크 상태 변경
-  public void confirmReservationLinks() {
-    for (PaymentReservationLink link : links) {
-      link.confirm();
-    }
-  }
-
   // 결제 상태가 success인지 확인
   public boolean isSuccess() {
     return this.status == PaymentStatus.SUCCESS;
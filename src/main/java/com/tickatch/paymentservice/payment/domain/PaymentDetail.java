@@ -10,7 +10,9 @@ import jakarta.persistence.Inheritance;
 import jakarta.persistence.InheritanceType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import java.time.LocalDateTime;
 import java.util.UUID;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -35,10 +37,19 @@ public abstract class PaymentDetail {
   @Column(nullable = false)
   private String paymentKey;
 
+  // 결제 생성 시각 (파티션 키). 결제와 같은 월 파티션에 저장된다
+  @Column(nullable = false, updatable = false)
+  private LocalDateTime createdAt;
+
   public PaymentDetail(Payment payment) {
     this.payment = payment;
   }
 
+  @PrePersist
+  void copyPaymentCreatedAt() {
+    this.createdAt = payment.getCreatedAt();
+  }
+
   // paymentKey 업데이트
   public void updatePaymentKey(String paymentKey) {
     if (this.paymentKey != null) {
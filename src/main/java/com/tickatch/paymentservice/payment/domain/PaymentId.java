@@ -22,8 +22,9 @@ public class PaymentId {
     return of(null);
   }
 
+  // id가 없으면 시간순 UUID로 생성
   public static PaymentId of(UUID id) {
-    id = Objects.requireNonNullElse(id, UUID.randomUUID());
+    id = Objects.requireNonNullElseGet(id, TimeOrderedUuid::generate);
     return new PaymentId(id);
   }
 
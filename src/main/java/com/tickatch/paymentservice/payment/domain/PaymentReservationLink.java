@@ -10,7 +10,10 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -21,8 +24,13 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class PaymentReservationLink {
 
+  // insert 배치를 위해 시퀀스에서 50개씩 id를 받는다 (V6 마이그레이션, V9부터 파티션 테이블의 일반 시퀀스)
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payment_reservation_seq")
+  @SequenceGenerator(
+      name = "payment_reservation_seq",
+      sequenceName = "p_payment_reservation_id_seq",
+      allocationSize = 50)
   private Long id;
 
   @Column(name = "reservation_id", nullable = false)
@@ -37,6 +45,10 @@ public class PaymentReservationLink {
   @Enumerated(EnumType.STRING)
   private LinkStatus status;
 
+  // 결제 생성 시각 (파티션 키). 결제와 같은 월 파티션에 저장된다
+  @Column(nullable = false, updatable = false)
+  private LocalDateTime createdAt;
+
   public PaymentReservationLink(
       Payment payment, String reservationId, Long price, LinkStatus status) {
     this.payment = payment;
@@ -45,7 +57,9 @@ public class PaymentReservationLink {
     this.status = status;
   }
 
-  public void confirm() {
-    this.status = LinkStatus.CONFIRMED;
+  // 결제의 생성 시각은 결제 insert 직전(감사 리스너)에 정해지고, 링크는 그 뒤에 cascade로 저장된다
+  @PrePersist
+  void copyPaymentCreatedAt() {
+    this.createdAt = payment.getCreatedAt();
   }
 }
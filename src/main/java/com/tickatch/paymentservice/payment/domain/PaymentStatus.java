@@ -8,7 +8,8 @@ public enum PaymentStatus {
   REFUND, // 환불 성공
   REFUND_FAIL, // 환불 실패
   EXPIRED, // 결제 시간 만료
-  PROCESSING; // 결제 처리 중
+  PROCESSING, // 결제 처리 중
+  CONFIRMING; // 결제 승인 진행 중 (토스 승인 API 호출 중)
 
   public boolean canFail() {
     return this == REQUESTED || this == PROCESSING;
@@ -0,0 +1,101 @@
+package com.tickatch.paymentservice.payment.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 결제 조회 모델 (결제당 한 행).
+ *
+ * <p>결제 + 예매 링크 + 세부 정보 aggregate를 로딩하지 않고 "내 결제" 화면을 인덱스 조회 한 번으로 보여 주기 위한 비정규화 테이블이다. 결제 상태 전이
+ * 이벤트로 같은 트랜잭션 안에서 갱신되며 p_payment에는 쓰지 않는다.
+ */
+@Entity
+@Getter
+@Table(name = "p_payment_view")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PaymentView implements Persistable<UUID> {
+
+  @Id private UUID paymentId;
+
+  @Column(nullable = false, updatable = false)
+  private UUID orderId;
+
+  @Column(nullable = false, updatable = false)
+  private String createdBy;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  private PaymentStatus status;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, updatable = false)
+  private PaymentMethod method;
+
+  @Column(nullable = false, updatable = false)
+  private String orderName;
+
+  @Column(nullable = false, updatable = false)
+  private long totalPrice;
+
+  @JdbcTypeCode(SqlTypes.ARRAY)
+  @Column(nullable = false, updatable = false)
+  private List<String> reservationIds;
+
+  @Column(nullable = false, updatable = false)
+  private LocalDateTime createdAt;
+
+  @Column(nullable = false)
+  private LocalDateTime updatedAt;
+
+  @Column private LocalDateTime approvedAt;
+
+  @Column private LocalDateTime canceledAt;
+
+  @Column private LocalDateTime refundedAt;
+
+  // 처음 만들 때는 항상 insert (merge 시 select가 먼저 나감)
+  @Transient private boolean isNew = false;
+
+  public static PaymentView from(Payment payment) {
+    PaymentView view = new PaymentView();
+    view.paymentId = payment.getId().toUuid();
+    view.orderId = payment.getOrderId();
+    view.createdBy = payment.getCreatedBy();
+    view.status = payment.getStatus();
+    view.method = payment.getMethod();
+    view.orderName = payment.getOrderName();
+    view.totalPrice = payment.getTotalPrice();
+    view.reservationIds = payment.getReservationIds();
+    view.createdAt = payment.getCreatedAt();
+    view.updatedAt = LocalDateTime.now();
+    view.approvedAt = payment.getApprovedAt();
+    view.canceledAt = payment.getCanceledAt();
+    view.refundedAt = payment.getRefundedAt();
+    view.isNew = true;
+    return view;
+  }
+
+  @Override
+  public UUID getId() {
+    return paymentId;
+  }
+
+  @Override
+  public boolean isNew() {
+    return isNew;
+  }
+}
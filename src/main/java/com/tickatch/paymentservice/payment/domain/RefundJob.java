@@ -0,0 +1,63 @@
+package com.tickatch.paymentservice.payment.domain;
+
+import com.tickatch.paymentservice.global.domain.AbstractAuditEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 환불 작업.
+ *
+ * <p>환불 대상 예매 id는 {@link RefundJobItem}으로 저장되며 항목별 처리 상태가 체크포인트가 된다. 작업은 리스(leaseOwner,
+ * leaseUntil)를 가진 인스턴스 하나만 처리하고, 리스가 만료되면 다른 인스턴스가 남은 항목부터 이어서 처리한다.
+ */
+@Entity
+@Getter
+@Table(name = "p_refund_job")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RefundJob extends AbstractAuditEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.UUID)
+  private UUID id;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, updatable = false)
+  private RefundReason reason;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  private RefundJobStatus status;
+
+  // 작업을 처리 중인 인스턴스와 리스 만료 시각
+  @Column private String leaseOwner;
+
+  @Column private LocalDateTime leaseUntil;
+
+  @Column private LocalDateTime completedAt;
+
+  private RefundJob(RefundReason reason) {
+    this.reason = reason;
+    this.status = RefundJobStatus.RUNNING;
+  }
+
+  public static RefundJob create(RefundReason reason) {
+    return new RefundJob(reason);
+  }
+
+  // 완료 후 항목이 추가되면 다시 처리
+  public void reopen() {
+    this.status = RefundJobStatus.RUNNING;
+    this.completedAt = null;
+  }
+}
@@ -0,0 +1,55 @@
+package com.tickatch.paymentservice.payment.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Getter
+@Table(name = "p_refund_job_item")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RefundJobItem {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "refund_job_item_seq")
+  @SequenceGenerator(
+      name = "refund_job_item_seq",
+      sequenceName = "p_refund_job_item_seq",
+      allocationSize = 50)
+  private Long id;
+
+  @Column(nullable = false, updatable = false)
+  private UUID jobId;
+
+  @Column(nullable = false, updatable = false)
+  private String reservationId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  private RefundJobItemStatus status;
+
+  // 예매 id가 속한 결제 (처리 후 기록)
+  @Column private UUID paymentId;
+
+  // 실패/건너뜀 사유
+  @Column private String message;
+
+  @Column private LocalDateTime processedAt;
+
+  public RefundJobItem(UUID jobId, String reservationId) {
+    this.jobId = jobId;
+    this.reservationId = reservationId;
+    this.status = RefundJobItemStatus.PENDING;
+  }
+}
@@ -0,0 +1,8 @@
+package com.tickatch.paymentservice.payment.domain;
+
+public enum RefundJobItemStatus {
+  PENDING, // 처리 대기
+  REFUNDED, // 환불 완료 (이미 환불된 결제 포함)
+  FAILED, // 환불 실패 또는 토스 호출 오류
+  SKIPPED // 환불 대상 아님 (결제 없음, 성공 상태가 아님)
+}
@@ -0,0 +1,6 @@
+package com.tickatch.paymentservice.payment.domain;
+
+public enum RefundJobStatus {
+  RUNNING, // 미처리 항목이 남아 있음 (항목이 추가되면 다시 RUNNING)
+  COMPLETED // 모든 항목 처리 완료
+}
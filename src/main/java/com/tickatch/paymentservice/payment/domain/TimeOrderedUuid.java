@@ -0,0 +1,70 @@
+package com.tickatch.paymentservice.payment.domain;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.UUID;
+
+/**
+ * 시간순 UUID(RFC 9562 UUIDv7) 생성기.
+ *
+ * <p>상위 48비트는 Unix 밀리초 시각, 나머지 74비트는 난수다. PostgreSQL uuid는 바이트 순으로 비교되므로 새 키가 B-tree 인덱스의 오른쪽
+ * 끝에 모여 삽입되고, {@link UUID#randomUUID()}처럼 인덱스 전체에 흩어져 페이지 분할과 캐시 미스를 일으키지 않는다. 같은 밀리초 안의 순서는
+ * 보장하지 않는다.
+ *
+ * <p>난수는 스레드 id로 고른 DRBG 인스턴스(CPU 수의 2배)에서 뽑는다. {@link UUID#randomUUID()}는 JVM 전역 NativePRNG 하나를
+ * 잠금으로 공유하므로 동시 결제 생성이 몰리면 경합이 생긴다. 주문 id는 외부(토스, 클라이언트)에 노출되므로 예측 가능한 {@code
+ * ThreadLocalRandom} 대신 암호학적 난수를 유지한다.
+ */
+public final class TimeOrderedUuid {
+
+  private static final int VERSION_7 = 0x7000;
+  private static final long VARIANT_RFC = 0x8000_0000_0000_0000L;
+  private static final long VARIANT_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+  private static final SecureRandom[] SOURCES = sources();
+  private static final int STRIPE_MASK = SOURCES.length - 1;
+
+  private TimeOrderedUuid() {}
+
+  public static UUID generate() {
+    return generate(System.currentTimeMillis());
+  }
+
+  static UUID generate(long epochMillis) {
+    byte[] random = new byte[10];
+    SOURCES[(int) Thread.currentThread().threadId() & STRIPE_MASK].nextBytes(random);
+
+    long randA = ((random[0] & 0x0FL) << 8) | (random[1] & 0xFFL);
+    long randB = 0;
+    for (int i = 2; i < random.length; i++) {
+      randB = (randB << 8) | (random[i] & 0xFFL);
+    }
+
+    long msb = (epochMillis << 16) | VERSION_7 | randA;
+    long lsb = (randB & VARIANT_MASK) | VARIANT_RFC;
+    return new UUID(msb, lsb);
+  }
+
+  // UUIDv7의 생성 시각 (밀리초)
+  public static long epochMillis(UUID uuid) {
+    return uuid.getMostSignificantBits() >>> 16;
+  }
+
+  // UUIDv7 형식인지 (이전에 발급된 무작위 UUID는 false)
+  public static boolean isTimeOrdered(UUID uuid) {
+    return uuid.version() == 7 && uuid.variant() == 2;
+  }
+
+  private static SecureRandom[] sources() {
+    int stripes = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1) << 1;
+    SecureRandom[] sources = new SecureRandom[stripes];
+    try {
+      for (int i = 0; i < stripes; i++) {
+        sources[i] = SecureRandom.getInstance("DRBG");
+      }
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("DRBG SecureRandom is not available", e);
+    }
+    return sources;
+  }
+}
@@ -0,0 +1,51 @@
+package com.tickatch.paymentservice.payment.domain.dto;
+
+import com.tickatch.paymentservice.payment.domain.TimeOrderedUuid;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * 결제/주문 id로 추정한 결제 생성 시각 구간 [from, to).
+ *
+ * <p>결제 테이블은 생성 월 단위로 파티션되어 있어 조회 조건에 생성 시각 구간을 함께 걸면 해당 월 파티션만 읽는다. UUIDv7 id는 결제 생성 직전
+ * 시각을 담고 있으므로 그 앞뒤 하루(시간대/서버 시계 차이 여유)를 구간으로 쓴다. 이전에 발급된 무작위 UUID는 시각을 알 수 없어 전체 구간을 쓴다.
+ */
+public record PaymentCreatedAtRange(LocalDateTime from, LocalDateTime to) {
+
+  private static final Duration MARGIN = Duration.ofDays(1);
+
+  private static final PaymentCreatedAtRange ALL =
+      new PaymentCreatedAtRange(
+          LocalDateTime.of(1970, 1, 1, 0, 0), LocalDateTime.of(9999, 1, 1, 0, 0));
+
+  public static PaymentCreatedAtRange around(UUID id) {
+    if (!TimeOrderedUuid.isTimeOrdered(id)) {
+      return ALL;
+    }
+    long epochMillis = TimeOrderedUuid.epochMillis(id);
+    // 형식만 맞고 시각이 미래인 id(외부 입력)는 믿지 않는다
+    if (epochMillis > System.currentTimeMillis() + MARGIN.toMillis()) {
+      return ALL;
+    }
+    LocalDateTime at =
+        LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    return new PaymentCreatedAtRange(at.minus(MARGIN), at.plus(MARGIN));
+  }
+
+  // 여러 id의 구간을 모두 덮는 구간 (시각을 알 수 없는 id가 하나라도 있으면 전체 구간)
+  public static PaymentCreatedAtRange spanning(Collection<UUID> ids) {
+    return ids.stream()
+        .map(PaymentCreatedAtRange::around)
+        .reduce(PaymentCreatedAtRange::union)
+        .orElse(ALL);
+  }
+
+  private PaymentCreatedAtRange union(PaymentCreatedAtRange other) {
+    return new PaymentCreatedAtRange(
+        from.isBefore(other.from) ? from : other.from, to.isAfter(other.to) ? to : other.to);
+  }
+}
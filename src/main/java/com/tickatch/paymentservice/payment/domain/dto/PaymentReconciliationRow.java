@@ -0,0 +1,9 @@
+package com.tickatch.paymentservice.payment.domain.dto;
+
+import com.tickatch.paymentservice.payment.domain.PaymentStatus;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 대사(reconciliation) 스트리밍 조회용 행 (엔티티/연관관계 로딩 없음)
+public record PaymentReconciliationRow(
+    UUID paymentId, UUID orderId, PaymentStatus status, LocalDateTime createdAt) {}
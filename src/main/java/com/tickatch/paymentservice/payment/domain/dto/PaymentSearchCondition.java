@@ -0,0 +1,18 @@
+package com.tickatch.paymentservice.payment.domain.dto;
+
+import com.tickatch.paymentservice.payment.domain.PaymentMethod;
+import com.tickatch.paymentservice.payment.domain.PaymentStatus;
+import java.time.LocalDateTime;
+
+// 결제 검색 조건 (null인 조건은 적용하지 않음, 생성 시각 구간은 [from, to))
+public record PaymentSearchCondition(
+    String createdBy,
+    PaymentStatus status,
+    PaymentMethod method,
+    LocalDateTime from,
+    LocalDateTime to) {
+
+  public PaymentSearchCondition withCreatedBy(String createdBy) {
+    return new PaymentSearchCondition(createdBy, status, method, from, to);
+  }
+}
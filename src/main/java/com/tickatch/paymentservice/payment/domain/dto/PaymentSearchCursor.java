@@ -0,0 +1,43 @@
+package com.tickatch.paymentservice.payment.domain.dto;
+
+import com.tickatch.paymentservice.payment.domain.exception.PaymentErrorCode;
+import com.tickatch.paymentservice.payment.domain.exception.PaymentException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 결제 검색 keyset 커서.
+ *
+ * <p>이전 페이지 마지막 행의 (생성 시각, 결제 id)이며, 다음 페이지는 이보다 앞선 행부터 읽는다. 클라이언트에는 URL-safe Base64
+ * 문자열로 전달한다.
+ */
+public record PaymentSearchCursor(LocalDateTime createdAt, UUID paymentId) {
+
+  private static final char SEPARATOR = '|';
+
+  public static PaymentSearchCursor of(PaymentSummary last) {
+    return new PaymentSearchCursor(last.createdAt(), last.paymentId());
+  }
+
+  public String encode() {
+    String raw = createdAt.toString() + SEPARATOR + paymentId;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static PaymentSearchCursor decode(String encoded) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+      int separator = raw.indexOf(SEPARATOR);
+      return new PaymentSearchCursor(
+          LocalDateTime.parse(raw.substring(0, separator)),
+          UUID.fromString(raw.substring(separator + 1)));
+    } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+      throw new PaymentException(PaymentErrorCode.INVALID_SEARCH_CONDITION);
+    }
+  }
+}
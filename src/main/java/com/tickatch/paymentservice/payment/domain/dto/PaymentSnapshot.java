@@ -0,0 +1,8 @@
+package com.tickatch.paymentservice.payment.domain.dto;
+
+import com.tickatch.paymentservice.payment.domain.PaymentStatus;
+import java.util.UUID;
+
+// 결제 상태 조회용 스냅샷 (엔티티 로딩 없이 orderId로 조회)
+public record PaymentSnapshot(
+    UUID paymentId, UUID orderId, PaymentStatus status, long totalPrice) {}
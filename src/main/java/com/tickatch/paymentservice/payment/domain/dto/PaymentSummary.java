@@ -0,0 +1,18 @@
+package com.tickatch.paymentservice.payment.domain.dto;
+
+import com.tickatch.paymentservice.payment.domain.PaymentMethod;
+import com.tickatch.paymentservice.payment.domain.PaymentStatus;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 결제 검색 결과 행 (엔티티/연관관계 로딩 없이 p_payment 컬럼만 조회)
+public record PaymentSummary(
+    UUID paymentId,
+    UUID orderId,
+    PaymentStatus status,
+    PaymentMethod method,
+    long totalPrice,
+    String orderName,
+    String createdBy,
+    LocalDateTime createdAt,
+    LocalDateTime approvedAt) {}
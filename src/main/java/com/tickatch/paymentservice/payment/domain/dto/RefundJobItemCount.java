@@ -0,0 +1,5 @@
+package com.tickatch.paymentservice.payment.domain.dto;
+
+import com.tickatch.paymentservice.payment.domain.RefundJobItemStatus;
+
+public record RefundJobItemCount(RefundJobItemStatus status, long count) {}
@@ -0,0 +1,14 @@
+package com.tickatch.paymentservice.payment.domain.event;
+
+import com.tickatch.paymentservice.payment.domain.PaymentStatus;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 결제 상태 변경 도메인 이벤트 (PaymentRepository.save 시 발행). amount는 결제 총액
+public record PaymentStatusChangedEvent(
+    UUID paymentId,
+    UUID orderId,
+    PaymentStatus from,
+    PaymentStatus to,
+    long amount,
+    LocalDateTime occurredAt) {}
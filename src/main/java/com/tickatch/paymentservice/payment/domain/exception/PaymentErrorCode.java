@@ -15,6 +15,7 @@ public enum PaymentErrorCode implements ErrorCode {
   INVALID_STATUS_FOR_REFUND_FAIL(HttpStatus.BAD_REQUEST.value(), "INVALID_STATUS_FOR_REFUND_FAIL"),
   INVALID_STATUS_FOR_EXPIRED(HttpStatus.BAD_REQUEST.value(), "INVALID_STATUS_FOR_EXPIRED"),
   INVALID_STATUS_FOR_PROCESSING(HttpStatus.BAD_REQUEST.value(), "INVALID_STATUS_FOR_PROCESSING"),
+  INVALID_STATUS_FOR_CONFIRMING(HttpStatus.BAD_REQUEST.value(), "INVALID_STATUS_FOR_CONFIRMING"),
   INVALID_RESERVATION_FOR_PAYMENT(
       HttpStatus.BAD_REQUEST.value(), "INVALID_RESERVATION_FOR_PAYMENT"),
   PAYMENT_OWNER_MISMATCH(HttpStatus.BAD_REQUEST.value(), "PAYMENT_OWNER_MISMATCH"),
@@ -32,9 +33,19 @@ public enum PaymentErrorCode implements ErrorCode {
   PAYMENT_CONFIRM_FAILED(HttpStatus.BAD_REQUEST.value(), "PAYMENT_CONFIRM_FAILED"),
   MULTIPLE_PAYMENT_FOUND(HttpStatus.BAD_REQUEST.value(), "MULTIPLE_PAYMENT_FOUND"),
   PAYMENT_KEY_NOT_FOUND(HttpStatus.NOT_FOUND.value(), "PAYMENT_KEY_NOT_FOUND"),
+  PAYMENT_CALLBACK_IN_PROGRESS(HttpStatus.CONFLICT.value(), "PAYMENT_CALLBACK_IN_PROGRESS"),
+  PAYMENT_AMOUNT_MISMATCH(HttpStatus.BAD_REQUEST.value(), "PAYMENT_AMOUNT_MISMATCH"),
+  ACCESS_DENIED(HttpStatus.FORBIDDEN.value(), "ACCESS_DENIED"),
+  REFUND_JOB_NOT_FOUND(HttpStatus.NOT_FOUND.value(), "REFUND_JOB_NOT_FOUND"),
+  INVALID_RECONCILIATION_WINDOW(HttpStatus.BAD_REQUEST.value(), "INVALID_RECONCILIATION_WINDOW"),
+  INVALID_SEARCH_CONDITION(HttpStatus.BAD_REQUEST.value(), "INVALID_SEARCH_CONDITION"),
 
   PAYMENT_EVENT_PUBLISH_FAILED(
       HttpStatus.SERVICE_UNAVAILABLE.value(), "PAYMENT_EVENT_PUBLISH_FAILED"),
+  TOSS_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE.value(), "TOSS_UNAVAILABLE"),
+  TOSS_OUTCOME_UNKNOWN(HttpStatus.GATEWAY_TIMEOUT.value(), "TOSS_OUTCOME_UNKNOWN"),
+  RESERVATION_SERVICE_UNAVAILABLE(
+      HttpStatus.SERVICE_UNAVAILABLE.value(), "RESERVATION_SERVICE_UNAVAILABLE"),
 
   INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR.value(), "INTERNAL_SERVER_ERROR"),
   ;
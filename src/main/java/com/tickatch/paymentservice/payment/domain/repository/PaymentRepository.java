@@ -1,23 +1,236 @@
 package com.tickatch.paymentservice.payment.domain.repository;
 
+import com.tickatch.paymentservice.payment.domain.LinkStatus;
 import com.tickatch.paymentservice.payment.domain.Payment;
 import com.tickatch.paymentservice.payment.domain.PaymentId;
+import com.tickatch.paymentservice.payment.domain.PaymentStatus;
+import com.tickatch.paymentservice.payment.domain.dto.PaymentCreatedAtRange;
+import com.tickatch.paymentservice.payment.domain.dto.PaymentReconciliationRow;
+import com.tickatch.paymentservice.payment.domain.dto.PaymentSnapshot;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+/**
+ * 결제 리포지토리.
+ *
+ * <p>결제/예매 링크/세부 정보 테이블은 생성 월 단위로 파티션되어 있다(V9 마이그레이션). 주문 id/결제 id로 찾는 조회는 id(UUIDv7)로 추정한 생성
+ * 시각 구간({@link PaymentCreatedAtRange})을 조건에 함께 걸어 해당 월 파티션만 읽는다.
+ */
 public interface PaymentRepository extends JpaRepository<Payment, PaymentId> {
 
-  Optional<Payment> findByOrderId(UUID orderId);
+  default Optional<Payment> findByOrderId(UUID orderId) {
+    PaymentCreatedAtRange range = PaymentCreatedAtRange.around(orderId);
+    return findByOrderIdWithin(orderId, range.from(), range.to());
+  }
 
+  @Query(
+      """
+        select p from Payment p
+        where p.orderId = :orderId and p.createdAt >= :from and p.createdAt < :to
+      """)
+  Optional<Payment> findByOrderIdWithin(
+      @Param("orderId") UUID orderId,
+      @Param("from") LocalDateTime from,
+      @Param("to") LocalDateTime to);
+
+  // 상태 조회용 스냅샷 (엔티티/연관관계 로딩 없음)
+  default Optional<PaymentSnapshot> findSnapshotByOrderId(UUID orderId) {
+    PaymentCreatedAtRange range = PaymentCreatedAtRange.around(orderId);
+    return findSnapshotByOrderIdWithin(orderId, range.from(), range.to());
+  }
+
+  @Query(
+      """
+        select new com.tickatch.paymentservice.payment.domain.dto.PaymentSnapshot(
+          p.id.id, p.orderId, p.status, p.totalPrice)
+        from Payment p
+        where p.orderId = :orderId and p.createdAt >= :from and p.createdAt < :to
+      """)
+  Optional<PaymentSnapshot> findSnapshotByOrderIdWithin(
+      @Param("orderId") UUID orderId,
+      @Param("from") LocalDateTime from,
+      @Param("to") LocalDateTime to);
+
+  // 대사용 시간 구간 스트리밍 조회 (트랜잭션 안에서 소비해야 하며, fetch size 단위로 서버 측 커서에서 읽는다)
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query(
+      """
+        select new com.tickatch.paymentservice.payment.domain.dto.PaymentReconciliationRow(
+          p.id.id, p.orderId, p.status, p.createdAt)
+        from Payment p
+        where p.createdAt >= :from and p.createdAt < :to
+        order by p.createdAt
+      """)
+  Stream<PaymentReconciliationRow> streamReconciliationRows(
+      @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+  // 만료 대상 결제 id 잠금 조회 (SKIP LOCKED: 여러 인스턴스가 겹치지 않게 나눠서 처리)
+  @Query(
+      value =
+          """
+            select p.id from {h-schema}p_payment p
+            where p.status in (:statuses) and p.created_at < :createdBefore
+            order by p.created_at
+            limit :limit
+            for update skip locked
+          """,
+      nativeQuery = true)
+  List<UUID> lockExpirableIds(
+      @Param("statuses") Collection<String> statuses,
+      @Param("createdBefore") LocalDateTime createdBefore,
+      @Param("limit") int limit);
+
+  // 승인 중(CONFIRMING)으로 오래 남은 결제의 주문 id (상태 선두 인덱스로 CONFIRMING 행만 읽음)
+  @Query(
+      value =
+          """
+            select p.order_id from {h-schema}p_payment p
+            where p.status = 'CONFIRMING' and p.updated_at < :updatedBefore
+            order by p.created_at
+            limit :limit
+          """,
+      nativeQuery = true)
+  List<UUID> findStaleConfirmingOrderIds(
+      @Param("updatedBefore") LocalDateTime updatedBefore, @Param("limit") int limit);
+
+  // 오래 남은 승인 중 결제 선점: 변경 시각을 갱신해 다른 인스턴스가 같은 결제를 동시에 복구하지 않게 한다
+  default int claimStaleConfirming(UUID orderId, LocalDateTime updatedBefore, LocalDateTime now) {
+    PaymentCreatedAtRange range = PaymentCreatedAtRange.around(orderId);
+    return claimStaleConfirmingWithin(orderId, updatedBefore, now, range.from(), range.to());
+  }
+
+  @Modifying
+  @Query(
+      """
+        update Payment p
+        set p.updatedAt = :now
+        where p.orderId = :orderId
+          and p.status = com.tickatch.paymentservice.payment.domain.PaymentStatus.CONFIRMING
+          and p.updatedAt < :updatedBefore
+          and p.createdAt >= :createdFrom and p.createdAt < :createdTo
+      """)
+  int claimStaleConfirmingWithin(
+      @Param("orderId") UUID orderId,
+      @Param("updatedBefore") LocalDateTime updatedBefore,
+      @Param("now") LocalDateTime now,
+      @Param("createdFrom") LocalDateTime createdFrom,
+      @Param("createdTo") LocalDateTime createdTo);
+
+  // 여러 결제를 세부 정보 + 예매 링크와 함께 조회 (id들의 생성 시각 구간을 합친 범위만 읽음)
+  default List<Payment> findAllWithDetailAndLinksByIds(Collection<UUID> ids) {
+    PaymentCreatedAtRange range = PaymentCreatedAtRange.spanning(ids);
+    return findAllWithDetailAndLinksByIdsWithin(ids, range.from(), range.to());
+  }
+
+  @EntityGraph("Payment.withDetailAndLinks")
+  @Query(
+      """
+        select p from Payment p
+        where p.id.id in :ids and p.createdAt >= :from and p.createdAt < :to
+      """)
+  List<Payment> findAllWithDetailAndLinksByIdsWithin(
+      @Param("ids") Collection<UUID> ids,
+      @Param("from") LocalDateTime from,
+      @Param("to") LocalDateTime to);
+
+  // 조건부 상태 변경 (승인 선점). 현재 상태가 from일 때만 변경되며 변경된 행 수를 반환
+  default int updateStatus(
+      UUID orderId, PaymentStatus from, PaymentStatus to, LocalDateTime now) {
+    PaymentCreatedAtRange range = PaymentCreatedAtRange.around(orderId);
+    return updateStatusWithin(orderId, from, to, now, range.from(), range.to());
+  }
+
+  @Modifying
+  @Query(
+      """
+        update Payment p
+        set p.status = :to, p.updatedAt = :now
+        where p.orderId = :orderId and p.status = :from
+          and p.createdAt >= :createdFrom and p.createdAt < :createdTo
+      """)
+  int updateStatusWithin(
+      @Param("orderId") UUID orderId,
+      @Param("from") PaymentStatus from,
+      @Param("to") PaymentStatus to,
+      @Param("now") LocalDateTime now,
+      @Param("createdFrom") LocalDateTime createdFrom,
+      @Param("createdTo") LocalDateTime createdTo);
+
+  // 결제의 예매 링크 상태 일괄 변경 (링크 수와 관계없이 update 1회). 이미 로딩된 링크 엔티티의 상태는 바뀌지 않는다
+  // 링크의 생성 시각(파티션 키)은 결제 생성 시각과 같으므로 결제의 월 파티션 하나만 갱신한다
+  @Modifying
+  @Query(
+      """
+        update PaymentReservationLink l
+        set l.status = :status
+        where l.payment.id = :paymentId and l.createdAt = :createdAt
+      """)
+  int updateLinkStatus(
+      @Param("paymentId") PaymentId paymentId,
+      @Param("createdAt") LocalDateTime createdAt,
+      @Param("status") LinkStatus status);
+
+  // 일괄 환불, 조회 모델 투영용 (결제 + 세부 정보 + 예매 링크, 쿼리 1회)
+  // 결제 id로 찾을 때는 생성 시각 구간이 없는 findById 대신 이 메서드를 쓴다
+  default Optional<Payment> findWithDetailAndLinksById(UUID id) {
+    PaymentCreatedAtRange range = PaymentCreatedAtRange.around(id);
+    return findWithDetailAndLinksByIdWithin(id, range.from(), range.to());
+  }
+
+  @EntityGraph("Payment.withDetailAndLinks")
+  @Query(
+      """
+        select p from Payment p
+        where p.id.id = :id and p.createdAt >= :from and p.createdAt < :to
+      """)
+  Optional<Payment> findWithDetailAndLinksByIdWithin(
+      @Param("id") UUID id, @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+  // 승인 결과 반영/실패 처리용 (결제 + 세부 정보 + 예매 링크, 쿼리 1회)
+  default Optional<Payment> findWithDetailAndLinksByOrderId(UUID orderId) {
+    PaymentCreatedAtRange range = PaymentCreatedAtRange.around(orderId);
+    return findWithDetailAndLinksByOrderIdWithin(orderId, range.from(), range.to());
+  }
+
+  @EntityGraph("Payment.withDetailAndLinks")
+  @Query(
+      """
+        select p from Payment p
+        where p.orderId = :orderId and p.createdAt >= :from and p.createdAt < :to
+      """)
+  Optional<Payment> findWithDetailAndLinksByOrderIdWithin(
+      @Param("orderId") UUID orderId,
+      @Param("from") LocalDateTime from,
+      @Param("to") LocalDateTime to);
+
+  // 환불용 (결제 + 세부 정보 + 전체 예매 링크, 쿼리 1회)
+  // 링크 조건은 서브쿼리로 걸어 fetch join 된 links 컬렉션이 일부만 채워지지 않게 한다
+  // 예매 id에는 시각 정보가 없어 링크는 월 파티션마다 인덱스로 찾고, 결제는 링크의 생성 시각으로 실행 시점에 파티션을 좁힌다
   @Query(
       """
         select distinct p
-        from Payment p join p.links l
-        where l.reservationId in :reservationIds
+        from Payment p
+        left join fetch p.detail
+        join fetch p.links
+        where exists (
+          select 1 from PaymentReservationLink l
+          where l.payment = p and l.createdAt = p.createdAt and l.reservationId in :reservationIds
+        )
       """)
   List<Payment> findPaymentsByReservationIds(@Param("reservationIds") List<String> reservationIds);
 }
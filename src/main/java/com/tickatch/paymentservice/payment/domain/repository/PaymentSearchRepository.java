@@ -0,0 +1,13 @@
+package com.tickatch.paymentservice.payment.domain.repository;
+
+import com.tickatch.paymentservice.payment.domain.dto.PaymentSearchCondition;
+import com.tickatch.paymentservice.payment.domain.dto.PaymentSearchCursor;
+import com.tickatch.paymentservice.payment.domain.dto.PaymentSummary;
+import java.util.List;
+
+public interface PaymentSearchRepository {
+
+  // 최신순(생성 시각, 결제 id 내림차순)으로 after 다음 행부터 최대 limit건. after가 null이면 처음부터
+  List<PaymentSummary> search(
+      PaymentSearchCondition condition, PaymentSearchCursor after, int limit);
+}
@@ -0,0 +1,57 @@
+package com.tickatch.paymentservice.payment.domain.repository;
+
+import com.tickatch.paymentservice.payment.domain.PaymentView;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PaymentViewRepository extends JpaRepository<PaymentView, UUID> {
+
+  // 상태 전이 반영 (조회 없이 update 1회). 전이 대상 상태의 시각 컬럼도 함께 기록하며 변경된 행 수를 반환
+  @Modifying(flushAutomatically = true)
+  @Query(
+      value =
+          """
+            update {h-schema}p_payment_view
+            set status = :status,
+                updated_at = :at,
+                approved_at = case when :status = 'SUCCESS' then :at else approved_at end,
+                canceled_at = case when :status = 'CANCEL' then :at else canceled_at end,
+                refunded_at = case when :status = 'REFUND' then :at else refunded_at end
+            where payment_id = :paymentId
+          """,
+      nativeQuery = true)
+  int applyStatus(
+      @Param("paymentId") UUID paymentId,
+      @Param("status") String status,
+      @Param("at") LocalDateTime at);
+
+  // 사용자 결제 최신순 첫 페이지 (ix_payment_view_created_by_created_at)
+  @Query(
+      """
+        select v from PaymentView v
+        where v.createdBy = :createdBy
+        order by v.createdAt desc, v.paymentId desc
+      """)
+  List<PaymentView> findLatest(@Param("createdBy") String createdBy, Limit limit);
+
+  // 사용자 결제 최신순 다음 페이지 ((created_at, payment_id)가 커서보다 앞선 행)
+  @Query(
+      """
+        select v from PaymentView v
+        where v.createdBy = :createdBy
+          and v.createdAt <= :createdAt
+          and (v.createdAt < :createdAt or v.paymentId < :paymentId)
+        order by v.createdAt desc, v.paymentId desc
+      """)
+  List<PaymentView> findLatestBefore(
+      @Param("createdBy") String createdBy,
+      @Param("createdAt") LocalDateTime createdAt,
+      @Param("paymentId") UUID paymentId,
+      Limit limit);
+}
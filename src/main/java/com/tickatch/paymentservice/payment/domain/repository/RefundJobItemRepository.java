@@ -0,0 +1,60 @@
+package com.tickatch.paymentservice.payment.domain.repository;
+
+import com.tickatch.paymentservice.payment.domain.RefundJobItem;
+import com.tickatch.paymentservice.payment.domain.RefundJobItemStatus;
+import com.tickatch.paymentservice.payment.domain.dto.RefundJobItemCount;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface RefundJobItemRepository extends JpaRepository<RefundJobItem, Long> {
+
+  // 다음 처리 대상 (체크포인트: PENDING 상태로 남은 항목)
+  List<RefundJobItem> findByJobIdAndStatusOrderByIdAsc(
+      UUID jobId, RefundJobItemStatus status, Pageable pageable);
+
+  // 이미 등록된 예매 id (중복 추가 방지)
+  @Query(
+      """
+        select i.reservationId from RefundJobItem i
+        where i.jobId = :jobId and i.reservationId in :reservationIds
+      """)
+  List<String> findReservationIds(
+      @Param("jobId") UUID jobId, @Param("reservationIds") Collection<String> reservationIds);
+
+  // 결제 한 건의 처리 결과를 해당 예매 항목들에 기록
+  @Modifying
+  @Query(
+      """
+        update RefundJobItem i
+        set i.status = :status, i.paymentId = :paymentId, i.message = :message,
+            i.processedAt = :now
+        where i.jobId = :jobId and i.reservationId in :reservationIds
+      """)
+  int markProcessed(
+      @Param("jobId") UUID jobId,
+      @Param("reservationIds") Collection<String> reservationIds,
+      @Param("status") RefundJobItemStatus status,
+      @Param("paymentId") UUID paymentId,
+      @Param("message") String message,
+      @Param("now") LocalDateTime now);
+
+  @Query(
+      """
+        select new com.tickatch.paymentservice.payment.domain.dto.RefundJobItemCount(
+          i.status, count(i))
+        from RefundJobItem i
+        where i.jobId = :jobId
+        group by i.status
+      """)
+  List<RefundJobItemCount> countByJobIdGroupByStatus(@Param("jobId") UUID jobId);
+
+  // 작업 하나의 상태별 항목 수 (ix_refund_job_item_job_status_id)
+  long countByJobIdAndStatus(UUID jobId, RefundJobItemStatus status);
+}
@@ -0,0 +1,58 @@
+package com.tickatch.paymentservice.payment.domain.repository;
+
+import com.tickatch.paymentservice.payment.domain.RefundJob;
+import com.tickatch.paymentservice.payment.domain.RefundJobStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface RefundJobRepository extends JpaRepository<RefundJob, UUID> {
+
+  @Query("select j.id from RefundJob j where j.status = :status order by j.createdAt")
+  List<UUID> findIdsByStatus(@Param("status") RefundJobStatus status);
+
+  // 리스 획득/연장. 리스가 비었거나 만료됐거나 이미 내 것일 때만 성공 (변경된 행 수 반환)
+  @Modifying
+  @Query(
+      """
+        update RefundJob j
+        set j.leaseOwner = :owner, j.leaseUntil = :leaseUntil
+        where j.id = :id
+          and j.status = com.tickatch.paymentservice.payment.domain.RefundJobStatus.RUNNING
+          and (j.leaseOwner is null or j.leaseOwner = :owner or j.leaseUntil < :now)
+      """)
+  int acquireLease(
+      @Param("id") UUID id,
+      @Param("owner") String owner,
+      @Param("now") LocalDateTime now,
+      @Param("leaseUntil") LocalDateTime leaseUntil);
+
+  @Modifying
+  @Query(
+      """
+        update RefundJob j
+        set j.leaseOwner = null, j.leaseUntil = null
+        where j.id = :id and j.leaseOwner = :owner
+      """)
+  int releaseLease(@Param("id") UUID id, @Param("owner") String owner);
+
+  // 대기 항목이 남아 있지 않을 때만 완료 처리 (처리 중 추가된 항목이 있으면 계속 RUNNING)
+  @Modifying
+  @Query(
+      """
+        update RefundJob j
+        set j.status = com.tickatch.paymentservice.payment.domain.RefundJobStatus.COMPLETED,
+            j.completedAt = :now
+        where j.id = :id
+          and not exists (
+            select 1 from RefundJobItem i
+            where i.jobId = j.id
+              and i.status = com.tickatch.paymentservice.payment.domain.RefundJobItemStatus.PENDING
+          )
+      """)
+  int completeIfDrained(@Param("id") UUID id, @Param("now") LocalDateTime now);
+}
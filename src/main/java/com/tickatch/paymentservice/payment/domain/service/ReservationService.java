@@ -7,4 +7,16 @@ public interface ReservationService {
   void applyResult(String status, List<String> reservationIds);
 
   void changeStatus(List<String> reservationIds);
+
+  /**
+   * 결제 결과를 진행 중인 결제 트랜잭션에 함께 기록한다.
+   *
+   * <p>기록한 결과는 커밋 후 따로 전달되고 전달에 실패해도 다시 전달되므로, 호출자는 커밋 후 {@link #applyResult}를 부르지 않는다.
+   * 트랜잭션에 기록하지 않는 구현은 false를 반환하고, 호출자가 커밋 후 applyResult로 전달한다.
+   *
+   * @return 트랜잭션에 기록했으면 true
+   */
+  default boolean recordResult(String status, List<String> reservationIds) {
+    return false;
+  }
 }
@@ -0,0 +1,225 @@
+package com.tickatch.paymentservice.payment.infrastructure.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tickatch.paymentservice.payment.application.TossPaymentsGateway;
+import com.tickatch.paymentservice.payment.application.dto.TossResponse;
+import com.tickatch.paymentservice.payment.domain.exception.PaymentErrorCode;
+import com.tickatch.paymentservice.payment.infrastructure.config.TossProperties;
+import com.tickatch.paymentservice.payment.infrastructure.config.TossRetryProperties;
+import com.tickatch.paymentservice.payment.infrastructure.resilience.DependencyGuard;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link HttpClient} 기반 토스페이먼츠 게이트웨이.
+ *
+ * <p>공유 클라이언트와 미리 계산한 인증 헤더를 사용하며, 엔드포인트별로 다음 메트릭을 기록한다.
+ *
+ * <ul>
+ *   <li>toss.api.requests: 호출 지연 시간 (endpoint, outcome, status)
+ *   <li>toss.api.errors: 네트워크/파싱 오류 횟수 (endpoint, exception)
+ *   <li>toss.api.error.codes: 토스 오류 응답 코드별 횟수 (endpoint, code)
+ *   <li>toss.api.attempts/retries/hedges: 승인/취소 재시도 지표 ({@link IdempotentRetrier})
+ * </ul>
+ *
+ * <p>요청/응답 본문은 {@link TossJsonCodec}으로 스트리밍 생성/파싱한다.
+ *
+ * <p>toss.api.requests는 히스토그램으로 기록하며(management.metrics.distribution 설정), 오류 코드 태그는 토스 코드 형식만 허용하여
+ * 지표 차원 수를 제한한다.
+ *
+ * <p>모든 호출은 toss 서킷 브레이커와 동시 호출 한도를 거치며, 차단된 호출은 토스에 보내지 않고 TOSS_UNAVAILABLE로 바로 실패한다.
+ *
+ * <p>승인/취소는 주문 id/결제 키로 만든 고정 Idempotency-Key를 보내므로 타임아웃이나 5xx 후 같은 요청을 다시 보내도 한 번만 처리된다. 재시도(와
+ * 승인 hedge)는 서킷 브레이커 안에서 한 번의 호출로 집계된다.
+ */
+@Slf4j
+@Component
+public class HttpClientTossPaymentsGateway implements TossPaymentsGateway {
+
+  private static final String METRIC_REQUESTS = "toss.api.requests";
+  private static final String METRIC_ERRORS = "toss.api.errors";
+  private static final String METRIC_ERROR_CODES = "toss.api.error.codes";
+
+  // 토스 오류 코드 형식 (예: ALREADY_PROCESSED_PAYMENT). 그 외 값은 OTHER로 묶는다
+  private static final Pattern ERROR_CODE = Pattern.compile("[A-Z_]{1,64}");
+
+  private final HttpClient tossHttpClient;
+  private final TossJsonCodec codec;
+  private final MeterRegistry meterRegistry;
+  private final TossProperties properties;
+  private final String authorization;
+  private final String frontendUrl;
+  private final DependencyGuard guard;
+  private final IdempotentRetrier retrier;
+
+  public HttpClientTossPaymentsGateway(
+      HttpClient tossHttpClient,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry,
+      TossProperties properties,
+      TossRetryProperties retryProperties,
+      BulkheadRegistry bulkheadRegistry,
+      CircuitBreakerRegistry circuitBreakerRegistry,
+      @Value("${app.frontend-url}") String frontendUrl) {
+    this.tossHttpClient = tossHttpClient;
+    this.codec = new TossJsonCodec(objectMapper.getFactory());
+    this.meterRegistry = meterRegistry;
+    this.properties = properties;
+    this.frontendUrl = frontendUrl;
+    this.guard =
+        new DependencyGuard(
+            "toss", bulkheadRegistry, circuitBreakerRegistry, PaymentErrorCode.TOSS_UNAVAILABLE);
+    this.retrier = new IdempotentRetrier(retryProperties, meterRegistry);
+
+    String auth = properties.secretKey().trim() + ":";
+    this.authorization =
+        "Basic " + Base64.getEncoder().encodeToString(auth.getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Override
+  public TossResponse createPayment(String orderName, UUID orderId, long amount) {
+    String callbackUrl = frontendUrl + "/payment/callback";
+    byte[] body =
+        codec.encode(
+            new TossCreatePaymentRequest(
+                "CARD", amount, orderId.toString(), orderName, callbackUrl, callbackUrl));
+
+    return send("create", postRequest("/v1/payments", body).build());
+  }
+
+  @Override
+  public TossResponse confirm(String paymentKey, UUID orderId, long amount) {
+    byte[] body = codec.encode(new TossConfirmRequest(paymentKey, orderId.toString(), amount));
+
+    return sendIdempotent(
+        "confirm",
+        postRequest("/v1/payments/confirm", body)
+            .header("Idempotency-Key", "confirm-" + orderId)
+            .build(),
+        true);
+  }
+
+  @Override
+  public TossResponse cancel(String paymentKey, String cancelReason) {
+    byte[] body = codec.encode(new TossCancelRequest(cancelReason));
+
+    // 전체 취소만 하므로 결제 키당 취소 요청은 하나
+    return sendIdempotent(
+        "cancel",
+        postRequest("/v1/payments/" + paymentKey + "/cancel", body)
+            .header("Idempotency-Key", "cancel-" + paymentKey)
+            .build(),
+        false);
+  }
+
+  @Override
+  public TossResponse findByOrderId(UUID orderId) {
+    return send("lookup", request("/v1/payments/orders/" + orderId).GET().build());
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    retrier.shutdown();
+  }
+
+  private HttpRequest.Builder postRequest(String path, byte[] body) {
+    return request(path)
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofByteArray(body));
+  }
+
+  private HttpRequest.Builder request(String path) {
+    return HttpRequest.newBuilder()
+        .uri(URI.create(properties.baseUrl() + path))
+        .timeout(properties.readTimeout())
+        .header("Authorization", authorization);
+  }
+
+  private TossResponse send(String endpoint, HttpRequest request) {
+    return guard.call(() -> exchange(endpoint, request));
+  }
+
+  // 같은 요청(같은 Idempotency-Key)을 재시도/hedge 할 수 있는 호출
+  private TossResponse sendIdempotent(String endpoint, HttpRequest request, boolean hedge) {
+    return guard.call(() -> retrier.execute(endpoint, hedge, () -> exchange(endpoint, request)));
+  }
+
+  private TossResponse exchange(String endpoint, HttpRequest request) {
+    Timer.Sample sample = Timer.start(meterRegistry);
+    String outcome = "IO_ERROR";
+    String status = "NONE";
+
+    try {
+      HttpResponse<byte[]> response =
+          tossHttpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+
+      status = String.valueOf(response.statusCode());
+      outcome = outcomeOf(response.statusCode());
+
+      TossResponse decoded = codec.decode(response.statusCode(), response.body());
+      if (response.statusCode() >= 400) {
+        countErrorCode(endpoint, decoded.code());
+      }
+      return decoded;
+    } catch (IOException e) {
+      countError(endpoint, e);
+      throw new UncheckedIOException(e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      countError(endpoint, e);
+      throw new UncheckedIOException(new InterruptedIOException(e.getMessage()));
+    } finally {
+      sample.stop(
+          Timer.builder(METRIC_REQUESTS)
+              .tag("endpoint", endpoint)
+              .tag("outcome", outcome)
+              .tag("status", status)
+              .register(meterRegistry));
+    }
+  }
+
+  private void countError(String endpoint, Exception e) {
+    log.warn("[TOSS-API-ERROR] endpoint={}, error={}", endpoint, e.toString());
+    Counter.builder(METRIC_ERRORS)
+        .tag("endpoint", endpoint)
+        .tag("exception", e.getClass().getSimpleName())
+        .register(meterRegistry)
+        .increment();
+  }
+
+  private void countErrorCode(String endpoint, String code) {
+    Counter.builder(METRIC_ERROR_CODES)
+        .tag("endpoint", endpoint)
+        .tag("code", code != null && ERROR_CODE.matcher(code).matches() ? code : "OTHER")
+        .register(meterRegistry)
+        .increment();
+  }
+
+  private static String outcomeOf(int statusCode) {
+    if (statusCode >= 500) {
+      return "SERVER_ERROR";
+    }
+    if (statusCode >= 400) {
+      return "CLIENT_ERROR";
+    }
+    return "SUCCESS";
+  }
+}
@@ -0,0 +1,237 @@
+package com.tickatch.paymentservice.payment.infrastructure.api;
+
+import com.tickatch.paymentservice.payment.application.dto.TossResponse;
+import com.tickatch.paymentservice.payment.domain.exception.PaymentErrorCode;
+import com.tickatch.paymentservice.payment.domain.exception.PaymentException;
+import com.tickatch.paymentservice.payment.infrastructure.config.TossRetryProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Idempotency-Key를 보내는 토스 요청의 재시도/hedge 실행기.
+ *
+ * <p>IO 오류(타임아웃, 연결 끊김), 5xx, 같은 키의 요청이 아직 처리 중이라는 409(IDEMPOTENT_REQUEST_PROCESSING)는 지터를 준 지수
+ * 백오프로 다시 시도한다. hedge를 켜면 시도가 관측 p95(최소 hedgeMinDelay)를 넘길 때 같은 키로 두 번째 요청을 보내고 먼저 확정된 응답을 쓴다.
+ * 토스는 같은 키의 요청을 한 번만 처리하므로 재시도와 hedge로 이중 승인/취소가 생기지 않는다.
+ *
+ * <p>마지막 시도까지 재시도 대상 응답(5xx, 409 처리 중)이나 IO 오류만 받으면 토스에서 처리됐는지 알 수 없으므로 응답을 돌려주지 않고
+ * TOSS_OUTCOME_UNKNOWN 예외를 던진다. 호출자는 이를 실패로 확정하지 말고 결제 조회로 결과를 확인해야 한다.
+ *
+ * <ul>
+ *   <li>toss.api.attempts: 시도별 지연 (endpoint), p95를 hedge 기준으로 사용
+ *   <li>toss.api.retries: 재시도 수 (endpoint)
+ *   <li>toss.api.hedges: hedge 요청 수 (endpoint)
+ * </ul>
+ */
+@Slf4j
+class IdempotentRetrier {
+
+  static final String IDEMPOTENT_REQUEST_PROCESSING = "IDEMPOTENT_REQUEST_PROCESSING";
+
+  private static final double HEDGE_PERCENTILE = 0.95;
+
+  private final TossRetryProperties properties;
+  private final MeterRegistry meterRegistry;
+  private final Map<String, Timer> attemptTimers = new ConcurrentHashMap<>();
+
+  // hedge 시도는 호출 스레드와 별도로 실행 (대기 중 블로킹이므로 가상 스레드 사용)
+  private final ExecutorService hedgeExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+  IdempotentRetrier(TossRetryProperties properties, MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+  }
+
+  TossResponse execute(String endpoint, boolean hedge, Supplier<TossResponse> attempt) {
+    for (int n = 1; ; n++) {
+      boolean last = n >= properties.maxAttempts();
+      try {
+        TossResponse response =
+            hedge && properties.hedgeEnabled()
+                ? hedged(endpoint, attempt)
+                : timed(endpoint, attempt);
+        if (!isRetryable(response)) {
+          return response;
+        }
+        if (last) {
+          throw outcomeUnknown(endpoint, n, response);
+        }
+        log.warn(
+            "[TOSS-RETRY] endpoint={}, attempt={}, status={}", endpoint, n, response.statusCode());
+      } catch (UncheckedIOException e) {
+        if (last || Thread.currentThread().isInterrupted()) {
+          throw outcomeUnknown(endpoint, n, e);
+        }
+        log.warn("[TOSS-RETRY] endpoint={}, attempt={}, error={}", endpoint, n, e.toString());
+      }
+
+      meterRegistry.counter("toss.api.retries", "endpoint", endpoint).increment();
+      backoff(n);
+    }
+  }
+
+  void shutdown() {
+    hedgeExecutor.shutdownNow();
+  }
+
+  // 같은 키로 다시 보내면 처리될 수 있는 응답
+  static boolean isRetryable(TossResponse response) {
+    if (response.statusCode() >= 500) {
+      return true;
+    }
+    return response.statusCode() == 409
+        && IDEMPOTENT_REQUEST_PROCESSING.equals(response.code());
+  }
+
+  // 재시도 대상 응답으로 시도가 끝남: 토스 처리 여부를 알 수 없다
+  private static PaymentException outcomeUnknown(
+      String endpoint, int attempts, TossResponse response) {
+    log.warn(
+        "[TOSS-OUTCOME-UNKNOWN] endpoint={}, attempts={}, status={}, code={}",
+        endpoint,
+        attempts,
+        response.statusCode(),
+        response.code());
+    return new PaymentException(PaymentErrorCode.TOSS_OUTCOME_UNKNOWN);
+  }
+
+  // IO 오류(타임아웃, 연결 끊김, 중단)로 시도가 끝남: 요청이 토스에 닿았는지 알 수 없다
+  private static PaymentException outcomeUnknown(
+      String endpoint, int attempts, UncheckedIOException error) {
+    log.warn(
+        "[TOSS-OUTCOME-UNKNOWN] endpoint={}, attempts={}, error={}",
+        endpoint,
+        attempts,
+        error.toString());
+    return new PaymentException(PaymentErrorCode.TOSS_OUTCOME_UNKNOWN, error);
+  }
+
+  private TossResponse hedged(String endpoint, Supplier<TossResponse> attempt) {
+    Timer timer = attemptTimer(endpoint);
+    if (timer.count() < properties.hedgeMinSamples()) {
+      return timed(endpoint, attempt);
+    }
+
+    CompletableFuture<TossResponse> primary = submit(endpoint, attempt);
+    try {
+      return primary.get(hedgeDelay(timer).toNanos(), TimeUnit.NANOSECONDS);
+    } catch (TimeoutException e) {
+      meterRegistry.counter("toss.api.hedges", "endpoint", endpoint).increment();
+      return await(firstSettled(primary, submit(endpoint, attempt)));
+    } catch (ExecutionException e) {
+      throw unwrap(e);
+    } catch (InterruptedException e) {
+      throw interrupted(e);
+    }
+  }
+
+  // 확정 응답(재시도 대상이 아닌 응답)이 먼저 온 쪽을 쓰고, 둘 다 아니면 나중에 끝난 결과를 쓴다
+  // (처리 중인 첫 요청 때문에 hedge 요청이 409를 받는 경우 첫 요청 결과를 기다린다)
+  private static CompletableFuture<TossResponse> firstSettled(
+      CompletableFuture<TossResponse> primary, CompletableFuture<TossResponse> hedge) {
+    CompletableFuture<TossResponse> result = new CompletableFuture<>();
+    AtomicInteger pending = new AtomicInteger(2);
+    BiConsumer<TossResponse, Throwable> settle =
+        (response, error) -> {
+          if (error == null && !isRetryable(response)) {
+            result.complete(response);
+          } else if (pending.decrementAndGet() == 0) {
+            if (error == null) {
+              result.complete(response);
+            } else {
+              result.completeExceptionally(error);
+            }
+          }
+        };
+    primary.whenComplete(settle);
+    hedge.whenComplete(settle);
+    return result;
+  }
+
+  private CompletableFuture<TossResponse> submit(String endpoint, Supplier<TossResponse> attempt) {
+    return CompletableFuture.supplyAsync(() -> timed(endpoint, attempt), hedgeExecutor);
+  }
+
+  private TossResponse timed(String endpoint, Supplier<TossResponse> attempt) {
+    return attemptTimer(endpoint).record(attempt);
+  }
+
+  private Timer attemptTimer(String endpoint) {
+    return attemptTimers.computeIfAbsent(
+        endpoint,
+        key ->
+            Timer.builder("toss.api.attempts")
+                .tag("endpoint", key)
+                .publishPercentiles(HEDGE_PERCENTILE)
+                .distributionStatisticExpiry(Duration.ofMinutes(1))
+                .register(meterRegistry));
+  }
+
+  private Duration hedgeDelay(Timer timer) {
+    Duration delay = properties.hedgeMinDelay();
+    for (ValueAtPercentile value : timer.takeSnapshot().percentileValues()) {
+      if (value.percentile() == HEDGE_PERCENTILE) {
+        Duration p95 = Duration.ofNanos((long) value.value(TimeUnit.NANOSECONDS));
+        if (p95.compareTo(delay) > 0) {
+          delay = p95;
+        }
+      }
+    }
+    return delay;
+  }
+
+  // full jitter: 0 ~ min(maxBackoff, initialBackoff * 2^(n-1))
+  private void backoff(int attempt) {
+    long cap =
+        Math.min(
+            properties.maxBackoff().toNanos(),
+            properties.initialBackoff().toNanos() << Math.min(attempt - 1, 20));
+    try {
+      TimeUnit.NANOSECONDS.sleep(ThreadLocalRandom.current().nextLong(cap + 1));
+    } catch (InterruptedException e) {
+      throw interrupted(e);
+    }
+  }
+
+  private static TossResponse await(CompletableFuture<TossResponse> future) {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      throw unwrap(e);
+    } catch (InterruptedException e) {
+      throw interrupted(e);
+    }
+  }
+
+  private static RuntimeException unwrap(Throwable e) {
+    Throwable cause = e;
+    while ((cause instanceof ExecutionException || cause instanceof CompletionException)
+        && cause.getCause() != null) {
+      cause = cause.getCause();
+    }
+    return cause instanceof RuntimeException runtime ? runtime : new IllegalStateException(cause);
+  }
+
+  private static UncheckedIOException interrupted(InterruptedException e) {
+    Thread.currentThread().interrupt();
+    return new UncheckedIOException(new InterruptedIOException(e.getMessage()));
+  }
+}
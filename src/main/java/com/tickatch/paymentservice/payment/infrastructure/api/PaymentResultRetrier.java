@@ -0,0 +1,128 @@
+package com.tickatch.paymentservice.payment.infrastructure.api;
+
+import com.tickatch.paymentservice.payment.domain.service.ReservationService;
+import com.tickatch.paymentservice.payment.infrastructure.messaging.PaymentResultOutboxEvent;
+import com.tickatch.paymentservice.payment.infrastructure.messaging.PaymentResultOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 동기 전달 모드의 예매 결과 재전달.
+ *
+ * <p>커밋 직후 전달에 실패했거나 retry.delay가 지나도록 전달되지 않은 결과를 저장 순으로 읽어 Feign으로 다시 전달한다. 전달한 결과는 삭제하고,
+ * 실패하면 시도 횟수만 올린 뒤 그 주기를 멈추므로 뒤의 결과가 앞의 결과를 앞지르지 않는다. 예매 서비스는 같은 결과를 두 번 받을 수 있다.
+ *
+ * <ul>
+ *   <li>payment.reservation.result.retried: 재전달에 성공한 결과 수
+ *   <li>payment.reservation.result.lag: 결과 저장부터 재전달까지 걸린 시간
+ *   <li>payment.reservation.result.failures: 재전달 실패 수
+ * </ul>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(
+    name = "payment.reservation.result-delivery",
+    havingValue = "sync",
+    matchIfMissing = true)
+public class PaymentResultRetrier {
+
+  private final PaymentResultOutboxRepository outboxRepository;
+  private final ReservationService reservationService;
+  private final TransactionTemplate transactionTemplate;
+  private final int batchSize;
+  private final Duration retryDelay;
+
+  private final Counter retriedCounter;
+  private final Timer lagTimer;
+  private final Counter failureCounter;
+
+  public PaymentResultRetrier(
+      PaymentResultOutboxRepository outboxRepository,
+      ReservationService reservationService,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${payment.reservation.batch.max-size:100}") int batchSize,
+      @Value("${payment.reservation.retry.delay:30s}") Duration retryDelay) {
+    this.outboxRepository = outboxRepository;
+    this.reservationService = reservationService;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.batchSize = batchSize;
+    this.retryDelay = retryDelay;
+
+    this.retriedCounter =
+        Counter.builder("payment.reservation.result.retried").register(meterRegistry);
+    this.lagTimer = Timer.builder("payment.reservation.result.lag").register(meterRegistry);
+    this.failureCounter =
+        Counter.builder("payment.reservation.result.failures").register(meterRegistry);
+  }
+
+  // 대기 결과가 배치 크기보다 적게 남거나 전달이 실패할 때까지 연속으로 재전달
+  @Scheduled(fixedDelayString = "${payment.reservation.retry.interval-ms:5000}")
+  public void retry() {
+    int retried;
+    do {
+      retried = retryBatch();
+    } while (retried == batchSize);
+  }
+
+  /**
+   * 한 배치를 저장 순으로 재전달한다.
+   *
+   * @return 재전달에 성공한 결과 수
+   */
+  public int retryBatch() {
+    Integer retried =
+        transactionTemplate.execute(
+            status -> {
+              LocalDateTime now = LocalDateTime.now();
+              List<PaymentResultOutboxEvent> batch =
+                  outboxRepository.findBatchForRetry(
+                      now.minus(retryDelay), PageRequest.of(0, batchSize));
+
+              List<PaymentResultOutboxEvent> delivered = new ArrayList<>();
+              for (PaymentResultOutboxEvent event : batch) {
+                if (!deliver(event)) {
+                  event.recordFailedAttempt();
+                  break;
+                }
+                delivered.add(event);
+                lagTimer.record(Duration.between(event.getCreatedAt(), now));
+              }
+
+              outboxRepository.deleteAllInBatch(delivered);
+              retriedCounter.increment(delivered.size());
+              return delivered.size();
+            });
+
+    return Objects.requireNonNullElse(retried, 0);
+  }
+
+  private boolean deliver(PaymentResultOutboxEvent event) {
+    try {
+      reservationService.applyResult(event.getStatus(), event.getReservationIds());
+      return true;
+    } catch (RuntimeException e) {
+      failureCounter.increment();
+      log.warn(
+          "예매 결과 재전달 실패, 다음 주기에 재시도: resultId={}, attempts={}",
+          event.getResultId(),
+          event.getAttempts() + 1,
+          e);
+      return false;
+    }
+  }
+}
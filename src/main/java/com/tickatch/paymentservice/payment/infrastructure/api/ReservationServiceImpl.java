@@ -2,25 +2,121 @@ package com.tickatch.paymentservice.payment.infrastructure.api;
 
 import com.tickatch.paymentservice.payment.application.dto.ChangeStatusRequest;
 import com.tickatch.paymentservice.payment.application.dto.PaymentResultRequest;
+import com.tickatch.paymentservice.payment.domain.exception.PaymentErrorCode;
 import com.tickatch.paymentservice.payment.domain.service.ReservationService;
 import com.tickatch.paymentservice.payment.infrastructure.client.ReservationFeignClient;
+import com.tickatch.paymentservice.payment.infrastructure.messaging.PaymentResultOutboxEvent;
+import com.tickatch.paymentservice.payment.infrastructure.messaging.PaymentResultOutboxRepository;
+import com.tickatch.paymentservice.payment.infrastructure.resilience.DependencyGuard;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+// 동기 전달 모드 (기본): 예매 서비스에 Feign으로 바로 전달
+// reservation 서킷 브레이커/동시 호출 한도를 거치며, 차단 시 RESERVATION_SERVICE_UNAVAILABLE로 바로 실패한다
+// 결제 트랜잭션에서 나온 결과(recordResult)는 결과 아웃박스에 함께 저장한 뒤 커밋 직후 전달하고,
+// 전달하지 못한 결과는 PaymentResultRetrier가 다시 전달하므로 커밋된 결제 결과를 실패로 돌려보내지 않는다
+@Slf4j
 @Service
-@RequiredArgsConstructor
+@ConditionalOnProperty(
+    name = "payment.reservation.result-delivery",
+    havingValue = "sync",
+    matchIfMissing = true)
 public class ReservationServiceImpl implements ReservationService {
 
   private final ReservationFeignClient reservationFeignClient;
+  private final PaymentResultOutboxRepository outboxRepository;
+  private final TransactionTemplate requiresNew;
+  private final DependencyGuard guard;
+  private final Duration retryDelay;
+
+  public ReservationServiceImpl(
+      ReservationFeignClient reservationFeignClient,
+      PaymentResultOutboxRepository outboxRepository,
+      PlatformTransactionManager transactionManager,
+      BulkheadRegistry bulkheadRegistry,
+      CircuitBreakerRegistry circuitBreakerRegistry,
+      @Value("${payment.reservation.retry.delay:30s}") Duration retryDelay) {
+    this.reservationFeignClient = reservationFeignClient;
+    this.outboxRepository = outboxRepository;
+    this.requiresNew = new TransactionTemplate(transactionManager);
+    this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.guard =
+        new DependencyGuard(
+            "reservation",
+            bulkheadRegistry,
+            circuitBreakerRegistry,
+            PaymentErrorCode.RESERVATION_SERVICE_UNAVAILABLE);
+    this.retryDelay = retryDelay;
+  }
 
   @Override
   public void applyResult(String status, List<String> ids) {
-    reservationFeignClient.applyPaymentResult(new PaymentResultRequest(status, ids));
+    guard.run(
+        () -> reservationFeignClient.applyPaymentResult(new PaymentResultRequest(status, ids)));
+  }
+
+  @Override
+  @Transactional
+  public boolean recordResult(String status, List<String> ids) {
+    PaymentResultOutboxEvent event =
+        outboxRepository.save(new PaymentResultOutboxEvent(0, status, ids));
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            deliver(event);
+          }
+        });
+    return true;
   }
 
   @Override
   public void changeStatus(List<String> ids) {
-    reservationFeignClient.changeReservationStatus(new ChangeStatusRequest(ids));
+    guard.run(() -> reservationFeignClient.changeReservationStatus(new ChangeStatusRequest(ids)));
+  }
+
+  // 커밋 직후 요청 스레드에서 한 번 전달하고 별도 트랜잭션으로 삭제한다 (예외는 호출자로 올리지 않는다)
+  // 재시도 대기 중인 결과가 있으면 같은 예매의 결과 순서를 지키기 위해 바로 전달하지 않고 재시도에 맡긴다
+  void deliver(PaymentResultOutboxEvent event) {
+    try {
+      if (outboxRepository.existsRetryPending(LocalDateTime.now().minus(retryDelay))) {
+        return;
+      }
+      applyResult(event.getStatus(), event.getReservationIds());
+      requiresNew.executeWithoutResult(status -> outboxRepository.deleteById(event.getId()));
+    } catch (RuntimeException e) {
+      log.warn(
+          "예매 결과 전달 실패, 재시도 대기: status={}, size={}",
+          event.getStatus(),
+          event.getReservationIds().size(),
+          e);
+      markFailed(event);
+    }
+  }
+
+  // 실패한 결과는 바로 재시도 대상이 되도록 시도 횟수를 남긴다 (남기지 못해도 retry.delay가 지나면 재시도된다)
+  private void markFailed(PaymentResultOutboxEvent event) {
+    try {
+      requiresNew.executeWithoutResult(
+          status ->
+              outboxRepository
+                  .findById(event.getId())
+                  .ifPresent(PaymentResultOutboxEvent::recordFailedAttempt));
+    } catch (RuntimeException e) {
+      log.warn("예매 결과 전달 실패 기록 실패: resultId={}", event.getResultId(), e);
+    }
   }
 }
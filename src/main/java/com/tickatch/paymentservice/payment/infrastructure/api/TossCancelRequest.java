@@ -0,0 +1,4 @@
+package com.tickatch.paymentservice.payment.infrastructure.api;
+
+// 결제 취소 요청 (POST /v1/payments/{paymentKey}/cancel)
+public record TossCancelRequest(String cancelReason) {}
@@ -0,0 +1,4 @@
+package com.tickatch.paymentservice.payment.infrastructure.api;
+
+// 결제 승인 요청 (POST /v1/payments/confirm)
+public record TossConfirmRequest(String paymentKey, String orderId, long amount) {}
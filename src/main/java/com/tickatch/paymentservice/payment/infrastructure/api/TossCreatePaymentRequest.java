@@ -0,0 +1,10 @@
+package com.tickatch.paymentservice.payment.infrastructure.api;
+
+// 결제 키 발급 요청 (POST /v1/payments)
+public record TossCreatePaymentRequest(
+    String method,
+    long amount,
+    String orderId,
+    String orderName,
+    String successUrl,
+    String failUrl) {}
@@ -0,0 +1,134 @@
+package com.tickatch.paymentservice.payment.infrastructure.api;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.tickatch.paymentservice.payment.application.dto.TossResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 토스 요청/응답 본문 코덱.
+ *
+ * <p>요청은 레코드 필드를 스트리밍 생성기로 바로 바이트 배열에 쓰고(문자열 값은 JSON 이스케이프), 응답은 스트리밍 파서로 읽으며 사용하는 필드(status,
+ * paymentKey, checkout.url, code, message)만 꺼낸다. 나머지 값은 트리나 문자열로 만들지 않고 건너뛴다.
+ *
+ * <p>JSON이 아닌 응답 본문(프록시 오류 페이지 등)은 상태 코드만 담은 응답으로 돌려준다.
+ */
+@Slf4j
+public class TossJsonCodec {
+
+  private static final int INITIAL_BUFFER = 256;
+
+  private final JsonFactory jsonFactory;
+
+  public TossJsonCodec(JsonFactory jsonFactory) {
+    this.jsonFactory = jsonFactory;
+  }
+
+  public byte[] encode(TossCreatePaymentRequest request) {
+    return write(
+        generator -> {
+          generator.writeStringField("method", request.method());
+          generator.writeNumberField("amount", request.amount());
+          generator.writeStringField("orderId", request.orderId());
+          generator.writeStringField("orderName", request.orderName());
+          generator.writeStringField("successUrl", request.successUrl());
+          generator.writeStringField("failUrl", request.failUrl());
+        });
+  }
+
+  public byte[] encode(TossConfirmRequest request) {
+    return write(
+        generator -> {
+          generator.writeStringField("paymentKey", request.paymentKey());
+          generator.writeStringField("orderId", request.orderId());
+          generator.writeNumberField("amount", request.amount());
+        });
+  }
+
+  public byte[] encode(TossCancelRequest request) {
+    return write(generator -> generator.writeStringField("cancelReason", request.cancelReason()));
+  }
+
+  public TossResponse decode(int statusCode, byte[] body) throws IOException {
+    String status = null;
+    String paymentKey = null;
+    String checkoutUrl = null;
+    String code = null;
+    String message = null;
+
+    try (JsonParser parser = jsonFactory.createParser(body)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return new TossResponse(statusCode, null, null, null, null, null);
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.currentName();
+        parser.nextToken();
+        switch (field) {
+          case "status" -> status = text(parser);
+          case "paymentKey" -> paymentKey = text(parser);
+          case "code" -> code = text(parser);
+          case "message" -> message = text(parser);
+          case "checkout" -> checkoutUrl = nestedText(parser, "url");
+          default -> parser.skipChildren();
+        }
+      }
+    } catch (JsonProcessingException e) {
+      log.warn(
+          "[TOSS-API] non-JSON response. status={}, error={}", statusCode, e.getOriginalMessage());
+      return new TossResponse(statusCode, null, null, null, null, null);
+    }
+
+    return new TossResponse(statusCode, status, paymentKey, checkoutUrl, code, message);
+  }
+
+  // 문자열/숫자 값만 읽고, 객체/배열은 건너뛴다
+  private static String text(JsonParser parser) throws IOException {
+    if (parser.currentToken().isScalarValue()) {
+      return parser.currentToken() == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+    }
+    parser.skipChildren();
+    return null;
+  }
+
+  private static String nestedText(JsonParser parser, String name) throws IOException {
+    if (parser.currentToken() != JsonToken.START_OBJECT) {
+      parser.skipChildren();
+      return null;
+    }
+    String value = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      parser.nextToken();
+      if (name.equals(field)) {
+        value = text(parser);
+      } else {
+        parser.skipChildren();
+      }
+    }
+    return value;
+  }
+
+  private byte[] write(FieldWriter fields) {
+    try (ByteArrayBuilder buffer = new ByteArrayBuilder(INITIAL_BUFFER)) {
+      try (JsonGenerator generator = jsonFactory.createGenerator(buffer)) {
+        generator.writeStartObject();
+        fields.write(generator);
+        generator.writeEndObject();
+      }
+      return buffer.toByteArray();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @FunctionalInterface
+  private interface FieldWriter {
+    void write(JsonGenerator generator) throws IOException;
+  }
+}
@@ -0,0 +1,170 @@
+package com.tickatch.paymentservice.payment.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tickatch.paymentservice.payment.application.InFlightPaymentCache;
+import com.tickatch.paymentservice.payment.domain.PaymentStatus;
+import com.tickatch.paymentservice.payment.domain.dto.PaymentSnapshot;
+import com.tickatch.paymentservice.payment.domain.event.PaymentStatusChangedEvent;
+import com.tickatch.paymentservice.payment.infrastructure.config.RabbitMQConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Caffeine 기반 진행 중 결제 캐시.
+ *
+ * <ul>
+ *   <li>최대 크기와 TTL(expireAfterWrite)로 제한되며, PROCESSING 상태 스냅샷만 저장한다
+ *   <li>결제 상태가 바뀌면(도메인 이벤트, 커밋 후) 로컬에서 제거하고 fanout exchange로 다른 노드에 무효화를 전파한다. 전파는 요청 스레드를
+ *       막지 않도록 전용 스레드 하나가 크기 제한 큐({@code broadcast-queue-size})에서 꺼내 보내며, 큐가 가득 차면 버린다
+ *   <li>무효화 메시지가 유실되어도 TTL이 지나면 제거되며, 승인 선점은 DB 조건부 update로 검증하므로 오래된 항목이 잘못된 상태 변경을 만들지 않는다
+ * </ul>
+ *
+ * <p>지표: cache.gets/cache.evictions/cache.size (cache=payment.inflight),
+ * payment.inflight.cache.hit.ratio, payment.inflight.cache.invalidations (source=local/remote),
+ * payment.inflight.cache.broadcast.dropped (큐가 가득 차 버린 전파 수).
+ */
+@Slf4j
+@Component
+public class CaffeineInFlightPaymentCache implements InFlightPaymentCache {
+
+  static final String CACHE_NAME = "payment.inflight";
+
+  private final Cache<UUID, PaymentSnapshot> cache;
+  private final RabbitTemplate rabbitTemplate;
+  private final ExecutorService broadcaster;
+  private final String nodeId = UUID.randomUUID().toString();
+
+  private final Counter localInvalidations;
+  private final Counter remoteInvalidations;
+  private final Counter droppedBroadcasts;
+
+  public CaffeineInFlightPaymentCache(
+      RabbitTemplate rabbitTemplate,
+      MeterRegistry meterRegistry,
+      @Value("${payment.cache.in-flight.max-size:100000}") long maxSize,
+      @Value("${payment.cache.in-flight.ttl:30m}") Duration ttl,
+      @Value("${payment.cache.in-flight.broadcast-queue-size:10000}") int broadcastQueueSize) {
+    this.rabbitTemplate = rabbitTemplate;
+    this.cache =
+        Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().build();
+
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    Gauge.builder("payment.inflight.cache.hit.ratio", cache, c -> c.stats().hitRate())
+        .register(meterRegistry);
+    this.localInvalidations = invalidationCounter(meterRegistry, "local");
+    this.remoteInvalidations = invalidationCounter(meterRegistry, "remote");
+    this.droppedBroadcasts =
+        Counter.builder("payment.inflight.cache.broadcast.dropped").register(meterRegistry);
+
+    // 브로커가 느리거나 끊겨도 요청 스레드는 기다리지 않는다. 버려진 전파는 다른 노드에서 TTL로 만료된다
+    this.broadcaster =
+        new ThreadPoolExecutor(
+            1,
+            1,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(broadcastQueueSize),
+            Thread.ofPlatform().name("inflight-cache-broadcast").daemon().factory(),
+            (task, executor) -> droppedBroadcasts.increment());
+  }
+
+  @Override
+  public Optional<PaymentSnapshot> get(UUID orderId) {
+    return Optional.ofNullable(cache.getIfPresent(orderId));
+  }
+
+  @Override
+  public void put(PaymentSnapshot snapshot) {
+    if (snapshot.status() != PaymentStatus.PROCESSING) {
+      return;
+    }
+    afterCommit(() -> cache.put(snapshot.orderId(), snapshot));
+  }
+
+  @Override
+  public void evict(UUID orderId) {
+    afterCommit(() -> invalidate(orderId));
+  }
+
+  // 결제 상태 전이 시 무효화 (PROCESSING으로의 전이는 생성 시점 put으로 처리)
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void onStatusChanged(PaymentStatusChangedEvent event) {
+    if (event.to() != PaymentStatus.PROCESSING) {
+      invalidate(event.orderId());
+    }
+  }
+
+  // 다른 노드에서 전파된 무효화
+  @RabbitListener(queues = "#{inFlightCacheInvalidationQueue.name}")
+  public void onInvalidation(InFlightCacheInvalidation message) {
+    if (nodeId.equals(message.origin())) {
+      return;
+    }
+    cache.invalidate(message.orderId());
+    remoteInvalidations.increment();
+  }
+
+  private void invalidate(UUID orderId) {
+    cache.invalidate(orderId);
+    localInvalidations.increment();
+    broadcaster.execute(() -> broadcast(orderId));
+  }
+
+  private void broadcast(UUID orderId) {
+    try {
+      rabbitTemplate.convertAndSend(
+          RabbitMQConfig.INFLIGHT_CACHE_EXCHANGE,
+          "",
+          new InFlightCacheInvalidation(orderId, nodeId));
+    } catch (AmqpException e) {
+      // 다른 노드의 항목은 TTL로 만료된다
+      log.warn("[INFLIGHT-CACHE] invalidation broadcast failed. orderId={}", orderId, e);
+    }
+  }
+
+  private static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            action.run();
+          }
+        });
+  }
+
+  @PreDestroy
+  void shutdown() {
+    broadcaster.shutdown();
+  }
+
+  private static Counter invalidationCounter(MeterRegistry meterRegistry, String source) {
+    return Counter.builder("payment.inflight.cache.invalidations")
+        .tag("source", source)
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,6 @@
+package com.tickatch.paymentservice.payment.infrastructure.cache;
+
+import java.util.UUID;
+
+// 진행 중 결제 캐시 무효화 메시지 (origin: 발행 노드 id)
+public record InFlightCacheInvalidation(UUID orderId, String origin) {}
@@ -1,7 +1,12 @@
 package com.tickatch.paymentservice.payment.infrastructure.config;
 
 import io.github.tickatch.common.util.JsonUtils;
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.ExchangeBuilder;
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.TopicExchange;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
@@ -16,11 +21,30 @@ public class RabbitMQConfig {
   public static final String LOG_EXCHANGE = "tickatch.log";
   public static final String ROUTING_KEY = "payment.log";
 
+  // 진행 중 결제 캐시 무효화 (노드마다 익명 큐로 구독)
+  public static final String INFLIGHT_CACHE_EXCHANGE = "tickatch.payment.inflight-cache";
+
   @Bean
   public TopicExchange logExchange() {
     return ExchangeBuilder.topicExchange(LOG_EXCHANGE).durable(true).build();
   }
 
+  @Bean
+  public FanoutExchange inFlightCacheExchange() {
+    return ExchangeBuilder.fanoutExchange(INFLIGHT_CACHE_EXCHANGE).durable(true).build();
+  }
+
+  @Bean
+  public Queue inFlightCacheInvalidationQueue() {
+    return new AnonymousQueue();
+  }
+
+  @Bean
+  public Binding inFlightCacheInvalidationBinding(
+      Queue inFlightCacheInvalidationQueue, FanoutExchange inFlightCacheExchange) {
+    return BindingBuilder.bind(inFlightCacheInvalidationQueue).to(inFlightCacheExchange);
+  }
+
   @Bean
   public MessageConverter jsonMessageConverter() {
     return new Jackson2JsonMessageConverter(JsonUtils.getObjectMapper());
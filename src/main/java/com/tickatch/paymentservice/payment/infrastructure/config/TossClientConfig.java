@@ -0,0 +1,35 @@
+package com.tickatch.paymentservice.payment.infrastructure.config;
+
+import java.net.http.HttpClient;
+import java.util.concurrent.Executors;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * 토스페이먼츠 HTTP 클라이언트 설정.
+ *
+ * <p>결제마다 클라이언트를 새로 만들면 셀렉터 스레드, 커넥션 풀, TLS 핸드셰이크가 매번 새로 생기므로 애플리케이션 전체에서 하나의 클라이언트를 공유한다. JDK
+ * HttpClient는 HTTP/2 연결을 다중화하고 HTTP/1.1 연결은 keep-alive 풀에 보관한다.
+ */
+@Configuration
+@EnableConfigurationProperties({TossProperties.class, TossRetryProperties.class})
+public class TossClientConfig {
+
+  @Bean
+  public HttpClient tossHttpClient(TossProperties properties, Environment environment) {
+    HttpClient.Builder builder =
+        HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(properties.connectTimeout())
+            .followRedirects(HttpClient.Redirect.NEVER);
+
+    if (Threading.VIRTUAL.isActive(environment)) {
+      builder.executor(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    return builder.build();
+  }
+}
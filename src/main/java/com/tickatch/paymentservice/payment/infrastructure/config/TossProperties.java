@@ -0,0 +1,20 @@
+package com.tickatch.paymentservice.payment.infrastructure.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 토스페이먼츠 API 연동 설정.
+ *
+ * @param secretKey 시크릿 키 (Basic 인증)
+ * @param baseUrl API 기본 URL (로컬 스텁 연동 시 변경)
+ * @param connectTimeout 연결 타임아웃
+ * @param readTimeout 요청별 응답 타임아웃
+ */
+@ConfigurationProperties(prefix = "toss")
+public record TossProperties(
+    String secretKey,
+    @DefaultValue("https://api.tosspayments.com") String baseUrl,
+    @DefaultValue("3s") Duration connectTimeout,
+    @DefaultValue("10s") Duration readTimeout) {}
@@ -0,0 +1,26 @@
+package com.tickatch.paymentservice.payment.infrastructure.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 토스 승인/취소 재시도 설정.
+ *
+ * <p>승인/취소는 Idempotency-Key를 보내므로 같은 요청을 다시 보내도 한 번만 처리된다.
+ *
+ * @param maxAttempts 최대 시도 횟수 (첫 시도 포함)
+ * @param initialBackoff 첫 재시도 대기 상한 (시도마다 두 배, 0~상한 사이 무작위)
+ * @param maxBackoff 재시도 대기 상한
+ * @param hedgeEnabled 승인 요청이 관측 p95보다 늦으면 같은 키로 두 번째 요청을 보낼지 여부
+ * @param hedgeMinDelay 두 번째 요청을 보내기 전 최소 대기
+ * @param hedgeMinSamples p95를 신뢰하기 위한 최소 관측 수 (부족하면 hedge 하지 않음)
+ */
+@ConfigurationProperties(prefix = "toss.retry")
+public record TossRetryProperties(
+    @DefaultValue("3") int maxAttempts,
+    @DefaultValue("100ms") Duration initialBackoff,
+    @DefaultValue("1s") Duration maxBackoff,
+    @DefaultValue("false") boolean hedgeEnabled,
+    @DefaultValue("300ms") Duration hedgeMinDelay,
+    @DefaultValue("100") int hedgeMinSamples) {}
@@ -0,0 +1,17 @@
+package com.tickatch.paymentservice.payment.infrastructure.messaging;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 예매 서비스로 보내는 결제 결과 배치 메시지.
+ *
+ * <p>한 메시지에는 같은 파티션에 속한 예매들의 결과만 담기며, results는 결제 결과가 저장된 순서를 유지한다. 발행 확인 전 장애로 같은 결과가 다시
+ * 발행될 수 있으므로 소비 측은 resultId 기준으로 중복을 걸러야 한다. batchId는 담긴 resultId로 정해지므로 같은 배치를 다시 보내면 같은 값이다.
+ */
+public record PaymentResultBatchMessage(
+    UUID batchId, int partition, List<Result> results, LocalDateTime sentAt) {
+
+  public record Result(UUID resultId, String status, List<String> reservationIds) {}
+}
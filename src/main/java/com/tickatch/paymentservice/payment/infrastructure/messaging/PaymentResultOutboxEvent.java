@@ -0,0 +1,78 @@
+package com.tickatch.paymentservice.payment.infrastructure.messaging;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * 예매 서비스로 보낼 결제 결과 아웃박스 레코드 (결과 하나의 한 파티션 몫).
+ *
+ * <p>결제 변경과 같은 트랜잭션에서 저장되고, {@link PaymentResultOutboxRelay}가 파티션 메시지로 발행한 뒤 삭제한다. resultId는
+ * 저장 시 정해지므로 재발행해도 같은 값이 전달된다.
+ *
+ * <p>동기 전달 모드에서도 같은 테이블에 파티션 0으로 저장해 두고, 커밋 직후 Feign으로 전달한 뒤 삭제한다. 전달하지 못한 레코드는
+ * PaymentResultRetrier가 다시 전달한다.
+ */
+@Entity
+@Getter
+@Table(name = "p_payment_result_outbox")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PaymentResultOutboxEvent {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payment_result_outbox_seq")
+  @SequenceGenerator(
+      name = "payment_result_outbox_seq",
+      sequenceName = "p_payment_result_outbox_seq",
+      allocationSize = 50)
+  private Long id;
+
+  // 결과 id (소비 측 중복 처리 기준)
+  @Column(nullable = false, updatable = false)
+  private UUID resultId;
+
+  // 예매 id 기준 파티션
+  @Column(name = "partition_no", nullable = false, updatable = false)
+  private int partition;
+
+  // SUCCESS, FAIL, CANCEL
+  @Column(nullable = false, updatable = false)
+  private String status;
+
+  // 이 파티션에 속한 예매 id
+  @JdbcTypeCode(SqlTypes.ARRAY)
+  @Column(nullable = false, updatable = false)
+  private List<String> reservationIds;
+
+  @Column(nullable = false, updatable = false)
+  private LocalDateTime createdAt;
+
+  // 발행 시도 횟수
+  @Column(nullable = false)
+  private int attempts = 0;
+
+  public PaymentResultOutboxEvent(int partition, String status, List<String> reservationIds) {
+    this.resultId = UUID.randomUUID();
+    this.partition = partition;
+    this.status = status;
+    this.reservationIds = List.copyOf(reservationIds);
+    this.createdAt = LocalDateTime.now();
+  }
+
+  // 발행 실패 기록
+  public void recordFailedAttempt() {
+    this.attempts += 1;
+  }
+}
@@ -0,0 +1,170 @@
+package com.tickatch.paymentservice.payment.infrastructure.messaging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 결제 결과 아웃박스 릴레이.
+ *
+ * <p>결과 아웃박스를 저장 순으로 읽어 파티션별로 한 메시지씩 예매 서비스 익스체인지에 발행한다. 발행에 성공한 파티션의 레코드만 삭제하고, 실패한 파티션은
+ * 시도 횟수만 올려 남겨 두므로 다음 주기에는 그 파티션만 다시 발행된다. 같은 예매의 결과는 항상 같은 파티션으로, 저장 순서대로 전달된다.
+ *
+ * <ul>
+ *   <li>payment.reservation.result.batch.size: 메시지당 결과 수
+ *   <li>payment.reservation.result.lag: 결과 저장부터 발행까지 걸린 시간
+ *   <li>payment.reservation.result.failures: 발행 실패 메시지 수
+ * </ul>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "payment.reservation.result-delivery", havingValue = "async")
+public class PaymentResultOutboxRelay {
+
+  public static final String BINDING = "paymentResult-out-0";
+  public static final String PARTITION_KEY_HEADER = "partitionKey";
+
+  private final PaymentResultOutboxRepository outboxRepository;
+  private final StreamBridge streamBridge;
+  private final TransactionTemplate transactionTemplate;
+  private final int batchSize;
+
+  private final DistributionSummary batchSizeSummary;
+  private final Timer lagTimer;
+  private final Counter failureCounter;
+
+  public PaymentResultOutboxRelay(
+      PaymentResultOutboxRepository outboxRepository,
+      StreamBridge streamBridge,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${payment.reservation.batch.max-size:100}") int batchSize) {
+    this.outboxRepository = outboxRepository;
+    this.streamBridge = streamBridge;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.batchSize = batchSize;
+
+    this.batchSizeSummary =
+        DistributionSummary.builder("payment.reservation.result.batch.size")
+            .register(meterRegistry);
+    this.lagTimer = Timer.builder("payment.reservation.result.lag").register(meterRegistry);
+    this.failureCounter =
+        Counter.builder("payment.reservation.result.failures").register(meterRegistry);
+  }
+
+  // 대기 결과가 배치 크기보다 적게 남거나 발행이 실패할 때까지 연속으로 발행
+  @Scheduled(fixedDelayString = "${payment.reservation.batch.relay-interval-ms:100}")
+  public void relay() {
+    int relayed;
+    do {
+      relayed = relayBatch();
+    } while (relayed == batchSize);
+  }
+
+  /**
+   * 한 배치를 파티션별로 발행한다.
+   *
+   * @return 발행에 성공한 레코드 수
+   */
+  public int relayBatch() {
+    Integer relayed =
+        transactionTemplate.execute(
+            status -> {
+              List<PaymentResultOutboxEvent> batch =
+                  outboxRepository.findBatchForRelay(PageRequest.of(0, batchSize));
+              if (batch.isEmpty()) {
+                return 0;
+              }
+
+              Map<Integer, List<PaymentResultOutboxEvent>> byPartition =
+                  batch.stream()
+                      .collect(
+                          Collectors.groupingBy(
+                              PaymentResultOutboxEvent::getPartition,
+                              LinkedHashMap::new,
+                              Collectors.toList()));
+
+              List<PaymentResultOutboxEvent> sent = new ArrayList<>();
+              byPartition.forEach(
+                  (partition, events) -> {
+                    if (send(partition, events)) {
+                      sent.addAll(events);
+                    } else {
+                      events.forEach(PaymentResultOutboxEvent::recordFailedAttempt);
+                    }
+                  });
+
+              LocalDateTime now = LocalDateTime.now();
+              sent.forEach(event -> lagTimer.record(Duration.between(event.getCreatedAt(), now)));
+              outboxRepository.deleteAllInBatch(sent);
+              return sent.size();
+            });
+
+    return Objects.requireNonNullElse(relayed, 0);
+  }
+
+  private boolean send(int partition, List<PaymentResultOutboxEvent> events) {
+    try {
+      boolean sent =
+          streamBridge.send(
+              BINDING,
+              MessageBuilder.withPayload(toMessage(partition, events))
+                  .setHeader(PARTITION_KEY_HEADER, partition)
+                  .build());
+      if (!sent) {
+        throw new IllegalStateException("binding rejected message");
+      }
+    } catch (RuntimeException e) {
+      failureCounter.increment();
+      log.warn(
+          "결제 결과 발행 실패, 다음 주기에 재시도: partition={}, size={}", partition, events.size(), e);
+      return false;
+    }
+
+    batchSizeSummary.record(events.size());
+    return true;
+  }
+
+  private PaymentResultBatchMessage toMessage(
+      int partition, List<PaymentResultOutboxEvent> events) {
+    List<PaymentResultBatchMessage.Result> results =
+        events.stream()
+            .map(
+                event ->
+                    new PaymentResultBatchMessage.Result(
+                        event.getResultId(), event.getStatus(), event.getReservationIds()))
+            .toList();
+    return new PaymentResultBatchMessage(
+        batchIdOf(results), partition, results, LocalDateTime.now());
+  }
+
+  // 같은 결과 묶음은 같은 batchId
+  private static UUID batchIdOf(List<PaymentResultBatchMessage.Result> results) {
+    String resultIds =
+        results.stream()
+            .map(result -> result.resultId().toString())
+            .collect(Collectors.joining(","));
+    return UUID.nameUUIDFromBytes(resultIds.getBytes(StandardCharsets.UTF_8));
+  }
+}
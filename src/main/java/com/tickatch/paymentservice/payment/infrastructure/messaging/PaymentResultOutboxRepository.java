@@ -0,0 +1,37 @@
+package com.tickatch.paymentservice.payment.infrastructure.messaging;
+
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PaymentResultOutboxRepository
+    extends JpaRepository<PaymentResultOutboxEvent, Long> {
+
+  // 발행 대기 결과를 저장 순으로 잠금 조회
+  // 같은 예매의 결과 순서를 지키기 위해 SKIP LOCKED를 쓰지 않는다 (다른 인스턴스는 앞 배치가 끝날 때까지 기다린다)
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select e from PaymentResultOutboxEvent e order by e.id")
+  List<PaymentResultOutboxEvent> findBatchForRelay(Pageable pageable);
+
+  // 동기 전달 모드: 커밋 직후 전달에 실패했거나(attempts > 0) 전달되지 않은 채 오래된 결과를 저장 순으로 잠금 조회
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query(
+      "select e from PaymentResultOutboxEvent e where e.attempts > 0 or e.createdAt < :cutoff"
+          + " order by e.id")
+  List<PaymentResultOutboxEvent> findBatchForRetry(
+      @Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+  @Query(
+      "select count(e) > 0 from PaymentResultOutboxEvent e"
+          + " where e.attempts > 0 or e.createdAt < :cutoff")
+  boolean existsRetryPending(@Param("cutoff") LocalDateTime cutoff);
+
+  @Query("select min(e.createdAt) from PaymentResultOutboxEvent e")
+  Optional<LocalDateTime> findOldestCreatedAt();
+}
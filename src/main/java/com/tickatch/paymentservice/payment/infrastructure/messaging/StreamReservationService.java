@@ -0,0 +1,90 @@
+package com.tickatch.paymentservice.payment.infrastructure.messaging;
+
+import com.tickatch.paymentservice.payment.application.dto.ChangeStatusRequest;
+import com.tickatch.paymentservice.payment.domain.exception.PaymentErrorCode;
+import com.tickatch.paymentservice.payment.domain.service.ReservationService;
+import com.tickatch.paymentservice.payment.infrastructure.client.ReservationFeignClient;
+import com.tickatch.paymentservice.payment.infrastructure.resilience.DependencyGuard;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 비동기 전달 모드의 예매 서비스 연동.
+ *
+ * <p>결제 결과(SUCCESS/FAIL/CANCEL 등)는 결제 변경과 같은 트랜잭션에서 예매 id 파티션별로 결과 아웃박스에 저장하고, {@link
+ * PaymentResultOutboxRelay}가 배치 메시지로 발행한다. 결제가 롤백되면 결과도 함께 롤백되고, 커밋된 결과는 재시작해도 유실되지 않는다.
+ *
+ * <p>결제 생성 시 예매 상태 변경은 결제 진행의 전제 조건이므로 Feign으로 동기 호출하며, 동기 전달 모드와 같은 reservation 서킷 브레이커/동시
+ * 호출 한도를 거친다.
+ */
+@Service
+@ConditionalOnProperty(name = "payment.reservation.result-delivery", havingValue = "async")
+public class StreamReservationService implements ReservationService {
+
+  private final PaymentResultOutboxRepository outboxRepository;
+  private final ReservationFeignClient reservationFeignClient;
+  private final DependencyGuard guard;
+  private final int partitionCount;
+
+  public StreamReservationService(
+      PaymentResultOutboxRepository outboxRepository,
+      ReservationFeignClient reservationFeignClient,
+      BulkheadRegistry bulkheadRegistry,
+      CircuitBreakerRegistry circuitBreakerRegistry,
+      @Value("${spring.cloud.stream.bindings.paymentResult-out-0.producer.partition-count:1}")
+          int partitionCount) {
+    this.outboxRepository = outboxRepository;
+    this.reservationFeignClient = reservationFeignClient;
+    this.guard =
+        new DependencyGuard(
+            "reservation",
+            bulkheadRegistry,
+            circuitBreakerRegistry,
+            PaymentErrorCode.RESERVATION_SERVICE_UNAVAILABLE);
+    this.partitionCount = partitionCount;
+  }
+
+  @Override
+  @Transactional
+  public void applyResult(String status, List<String> ids) {
+    recordResult(status, ids);
+  }
+
+  @Override
+  @Transactional
+  public boolean recordResult(String status, List<String> ids) {
+    List<PaymentResultOutboxEvent> events = new ArrayList<>();
+    splitByPartition(ids)
+        .forEach(
+            (partition, partitionIds) ->
+                events.add(new PaymentResultOutboxEvent(partition, status, partitionIds)));
+    outboxRepository.saveAll(events);
+    return true;
+  }
+
+  @Override
+  public void changeStatus(List<String> ids) {
+    guard.run(() -> reservationFeignClient.changeReservationStatus(new ChangeStatusRequest(ids)));
+  }
+
+  // 같은 예매 id는 항상 같은 파티션
+  int partitionOf(String reservationId) {
+    return Math.floorMod(reservationId.hashCode(), partitionCount);
+  }
+
+  private Map<Integer, List<String>> splitByPartition(List<String> ids) {
+    Map<Integer, List<String>> byPartition = new LinkedHashMap<>();
+    for (String id : ids) {
+      byPartition.computeIfAbsent(partitionOf(id), p -> new ArrayList<>()).add(id);
+    }
+    return byPartition;
+  }
+}
@@ -0,0 +1,58 @@
+package com.tickatch.paymentservice.payment.infrastructure.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.tickatch.paymentservice.global.config.ActorExtractor;
+import com.tickatch.paymentservice.global.config.ActorExtractor.ActorInfo;
+import com.tickatch.paymentservice.payment.application.PaymentLogEventPublisher;
+import com.tickatch.paymentservice.payment.domain.PaymentMethod;
+import com.tickatch.paymentservice.payment.domain.exception.PaymentErrorCode;
+import com.tickatch.paymentservice.payment.domain.exception.PaymentException;
+import com.tickatch.paymentservice.payment.infrastructure.PaymentLogEvent;
+import io.github.tickatch.common.util.JsonUtils;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 아웃박스 기반 결제 로그 이벤트 발행기.
+ *
+ * <p>이벤트를 브로커로 바로 보내지 않고 결제 변경과 같은 트랜잭션에서 아웃박스 테이블에 저장한다. 실제 발행은 {@link PaymentLogOutboxRelay}가
+ * 담당하므로 브로커 지연이나 장애가 결제 요청에 영향을 주지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxPaymentLogEventPublisher implements PaymentLogEventPublisher {
+
+  private final PaymentOutboxRepository outboxRepository;
+
+  @Override
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void publish(UUID paymentId, PaymentMethod method, int retryCount, String actionType) {
+    ActorInfo actor = ActorExtractor.extract();
+
+    PaymentLogEvent logEvent =
+        new PaymentLogEvent(
+            UUID.randomUUID(),
+            paymentId,
+            method.name(),
+            retryCount,
+            actionType,
+            actor.actorType(),
+            actor.actorUserId(),
+            LocalDateTime.now());
+
+    try {
+      String payload = JsonUtils.getObjectMapper().writeValueAsString(logEvent);
+      outboxRepository.save(new PaymentOutboxEvent(logEvent.eventId(), paymentId, payload));
+      log.debug("{} 로그 이벤트 아웃박스 저장: paymentId={}", actionType, paymentId);
+    } catch (JsonProcessingException e) {
+      log.error("{} 로그 이벤트 직렬화 실패: event={}", actionType, logEvent, e);
+      throw new PaymentException(PaymentErrorCode.PAYMENT_EVENT_PUBLISH_FAILED, e);
+    }
+  }
+}
@@ -0,0 +1,192 @@
+package com.tickatch.paymentservice.payment.infrastructure.outbox;
+
+import static com.tickatch.paymentservice.payment.infrastructure.config.RabbitMQConfig.LOG_EXCHANGE;
+import static com.tickatch.paymentservice.payment.infrastructure.config.RabbitMQConfig.ROUTING_KEY;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.tickatch.paymentservice.payment.infrastructure.PaymentLogEvent;
+import io.github.tickatch.common.util.JsonUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 결제 로그 아웃박스 릴레이.
+ *
+ * <p>아웃박스 테이블의 이벤트를 배치 단위로 {@code tickatch.log} 익스체인지에 발행한다. 배치 전체에 대해 publisher confirm을 받은 뒤에만
+ * 레코드를 삭제하므로 브로커 장애 시에도 이벤트가 유실되지 않는다(at-least-once).
+ *
+ * <p>역직렬화나 메시지 변환에 실패한 레코드는 배치에서 빼고 나머지만 발행한다. 이런 실패가 {@code payment.outbox.max-attempts}번
+ * 쌓이면 발행을 포기(dead_at 기록)하여 이후 릴레이 대상에서 제외한다. 브로커 장애로 배치 전체가 실패한 경우는 레코드 탓이 아니므로 시도 횟수에
+ * 포함하지 않는다.
+ *
+ * <ul>
+ *   <li>payment.outbox.backlog: 발행 대기 이벤트 수
+ *   <li>payment.outbox.oldest.age: 가장 오래된 대기 이벤트의 경과 시간(초)
+ *   <li>payment.outbox.lag: 이벤트 저장부터 발행 확인까지 걸린 시간
+ *   <li>payment.outbox.published / payment.outbox.failures: 발행 성공 이벤트 수 / 실패 배치 수
+ *   <li>payment.outbox.dead: 발행을 포기한 이벤트 수
+ * </ul>
+ */
+@Slf4j
+@Component
+public class PaymentLogOutboxRelay {
+
+  private final PaymentOutboxRepository outboxRepository;
+  private final RabbitTemplate rabbitTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final int batchSize;
+  private final long confirmTimeoutMillis;
+  private final int maxAttempts;
+
+  private final Timer lagTimer;
+  private final Counter publishedCounter;
+  private final Counter failureCounter;
+  private final Counter deadCounter;
+
+  public PaymentLogOutboxRelay(
+      PaymentOutboxRepository outboxRepository,
+      RabbitTemplate rabbitTemplate,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${payment.outbox.batch-size:100}") int batchSize,
+      @Value("${payment.outbox.confirm-timeout-ms:5000}") long confirmTimeoutMillis,
+      @Value("${payment.outbox.max-attempts:5}") int maxAttempts) {
+    this.outboxRepository = outboxRepository;
+    this.rabbitTemplate = rabbitTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.batchSize = batchSize;
+    this.confirmTimeoutMillis = confirmTimeoutMillis;
+    this.maxAttempts = maxAttempts;
+
+    this.lagTimer = Timer.builder("payment.outbox.lag").register(meterRegistry);
+    this.publishedCounter = Counter.builder("payment.outbox.published").register(meterRegistry);
+    this.failureCounter = Counter.builder("payment.outbox.failures").register(meterRegistry);
+    this.deadCounter = Counter.builder("payment.outbox.dead").register(meterRegistry);
+
+    Gauge.builder(
+            "payment.outbox.backlog",
+            outboxRepository,
+            PaymentOutboxRepository::countByDeadAtIsNull)
+        .register(meterRegistry);
+    Gauge.builder("payment.outbox.oldest.age", this, PaymentLogOutboxRelay::oldestAgeSeconds)
+        .baseUnit("seconds")
+        .register(meterRegistry);
+  }
+
+  // 대기 이벤트가 배치 크기보다 적게 남을 때까지 연속으로 발행
+  @Scheduled(fixedDelayString = "${payment.outbox.relay-interval-ms:500}")
+  public void relay() {
+    int relayed;
+    do {
+      relayed = relayBatch();
+    } while (relayed == batchSize);
+  }
+
+  /**
+   * 한 배치를 발행한다.
+   *
+   * @return 발행 확인을 받은 이벤트 수 (실패 시 0)
+   */
+  public int relayBatch() {
+    Integer relayed =
+        transactionTemplate.execute(
+            status -> {
+              List<PaymentOutboxEvent> batch =
+                  outboxRepository.findBatchForRelay(PageRequest.of(0, batchSize));
+              if (batch.isEmpty()) {
+                return 0;
+              }
+
+              List<PaymentOutboxEvent> sent = new ArrayList<>();
+              List<PaymentOutboxEvent> poison = new ArrayList<>();
+              boolean published = publish(batch, sent, poison);
+              poison.forEach(this::recordPoisonAttempt);
+              if (!published || sent.isEmpty()) {
+                return 0;
+              }
+
+              LocalDateTime now = LocalDateTime.now();
+              sent.forEach(event -> lagTimer.record(Duration.between(event.getCreatedAt(), now)));
+              outboxRepository.deleteAllInBatch(sent);
+              publishedCounter.increment(sent.size());
+              return sent.size();
+            });
+
+    return Objects.requireNonNullElse(relayed, 0);
+  }
+
+  // 배치를 한 채널로 발행하고 confirm을 기다린다. 레코드 자체 문제로 보내지 못한 이벤트는 poison에 모은다
+  private boolean publish(
+      List<PaymentOutboxEvent> batch,
+      List<PaymentOutboxEvent> sent,
+      List<PaymentOutboxEvent> poison) {
+    try {
+      rabbitTemplate.invoke(
+          operations -> {
+            for (PaymentOutboxEvent event : batch) {
+              try {
+                operations.convertAndSend(LOG_EXCHANGE, ROUTING_KEY, toLogEvent(event));
+                sent.add(event);
+              } catch (JsonProcessingException | MessageConversionException e) {
+                log.warn("결제 로그 아웃박스 이벤트 변환 실패: id={}", event.getId(), e);
+                poison.add(event);
+              }
+            }
+            if (!sent.isEmpty()) {
+              operations.waitForConfirmsOrDie(confirmTimeoutMillis);
+            }
+            return null;
+          });
+      return true;
+    } catch (AmqpException e) {
+      failureCounter.increment();
+      log.warn(
+          "결제 로그 이벤트 발행 실패, 다음 주기에 재시도: exchange={}, size={}",
+          LOG_EXCHANGE,
+          batch.size(),
+          e);
+      return false;
+    }
+  }
+
+  private void recordPoisonAttempt(PaymentOutboxEvent event) {
+    event.recordFailedAttempt();
+    if (event.getAttempts() >= maxAttempts) {
+      event.markDead();
+      deadCounter.increment();
+      log.error(
+          "결제 로그 아웃박스 이벤트 발행 포기: id={}, eventId={}, attempts={}",
+          event.getId(),
+          event.getEventId(),
+          event.getAttempts());
+    }
+  }
+
+  private PaymentLogEvent toLogEvent(PaymentOutboxEvent event) throws JsonProcessingException {
+    return JsonUtils.getObjectMapper().readValue(event.getPayload(), PaymentLogEvent.class);
+  }
+
+  private double oldestAgeSeconds() {
+    return outboxRepository
+        .findOldestCreatedAt()
+        .map(createdAt -> (double) Duration.between(createdAt, LocalDateTime.now()).toSeconds())
+        .orElse(0.0);
+  }
+}
@@ -0,0 +1,73 @@
+package com.tickatch.paymentservice.payment.infrastructure.outbox;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 결제 로그 이벤트 아웃박스 레코드.
+ *
+ * <p>결제 변경과 같은 트랜잭션에서 저장되고, {@link PaymentLogOutboxRelay}가 브로커 발행 확인(publisher confirm)을 받은 뒤 삭제한다.
+ */
+@Entity
+@Getter
+@Table(name = "p_payment_outbox")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PaymentOutboxEvent {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payment_outbox_seq")
+  @SequenceGenerator(
+      name = "payment_outbox_seq",
+      sequenceName = "p_payment_outbox_seq",
+      allocationSize = 50)
+  private Long id;
+
+  // 이벤트 id (PaymentLogEvent.eventId)
+  @Column(nullable = false, updatable = false)
+  private UUID eventId;
+
+  // 결제 id
+  @Column(nullable = false, updatable = false)
+  private UUID aggregateId;
+
+  // 직렬화된 PaymentLogEvent
+  @Column(nullable = false, updatable = false, columnDefinition = "text")
+  private String payload;
+
+  @Column(nullable = false, updatable = false)
+  private LocalDateTime createdAt;
+
+  // 레코드 자체 문제(역직렬화/메시지 변환)로 발행하지 못한 횟수. 브로커 장애는 포함하지 않는다
+  @Column(nullable = false)
+  private int attempts = 0;
+
+  // 발행 포기 시각 (null이 아니면 릴레이 대상에서 제외)
+  @Column private LocalDateTime deadAt;
+
+  public PaymentOutboxEvent(UUID eventId, UUID aggregateId, String payload) {
+    this.eventId = eventId;
+    this.aggregateId = aggregateId;
+    this.payload = payload;
+    this.createdAt = LocalDateTime.now();
+  }
+
+  // 발행 실패 기록
+  public void recordFailedAttempt() {
+    this.attempts += 1;
+  }
+
+  // 발행 포기
+  public void markDead() {
+    this.deadAt = LocalDateTime.now();
+  }
+}
@@ -0,0 +1,27 @@
+package com.tickatch.paymentservice.payment.infrastructure.outbox;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+public interface PaymentOutboxRepository extends JpaRepository<PaymentOutboxEvent, Long> {
+
+  // 발행 대기 이벤트를 오래된 순으로 잠금 조회 (lock timeout -2 = SKIP LOCKED, 여러 인스턴스가 나눠서 처리)
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+  @Query("select e from PaymentOutboxEvent e where e.deadAt is null order by e.id")
+  List<PaymentOutboxEvent> findBatchForRelay(Pageable pageable);
+
+  @Query("select min(e.createdAt) from PaymentOutboxEvent e where e.deadAt is null")
+  Optional<LocalDateTime> findOldestCreatedAt();
+
+  // 발행 대기 이벤트 수 (발행 포기 이벤트 제외)
+  long countByDeadAtIsNull();
+}
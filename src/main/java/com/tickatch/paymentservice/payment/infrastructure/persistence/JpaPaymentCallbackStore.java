@@ -0,0 +1,96 @@
+package com.tickatch.paymentservice.payment.infrastructure.persistence;
+
+import com.tickatch.paymentservice.payment.application.PaymentCallbackStore;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * DB 기반 콜백 처리 기록 저장소.
+ *
+ * <p>각 연산은 결제 처리 트랜잭션과 분리된 짧은 트랜잭션으로 수행되어 선점 결과가 즉시 다른 노드에 보인다.
+ *
+ * <p>선점은 {@code payment.callback.lease} 동안 유효하다. 처리 중 노드가 죽어 완료도 해제도 되지 않은 기록은 만료 후 같은 키의 다음
+ * 요청이 조건부 update로 넘겨받아, 보관 기간이 끝날 때까지 처리 중으로 막히지 않는다.
+ */
+@Slf4j
+@Component
+public class JpaPaymentCallbackStore implements PaymentCallbackStore {
+
+  private final PaymentCallbackRecordRepository repository;
+  private final TransactionTemplate transactionTemplate;
+  private final Duration retention;
+  private final Duration lease;
+
+  public JpaPaymentCallbackStore(
+      PaymentCallbackRecordRepository repository,
+      PlatformTransactionManager transactionManager,
+      @Value("${payment.callback.retention:7d}") Duration retention,
+      @Value("${payment.callback.lease:2m}") Duration lease) {
+    this.repository = repository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    this.retention = retention;
+    this.lease = lease;
+  }
+
+  @Override
+  public Optional<String> findOutcome(String idempotencyKey) {
+    return repository.findById(idempotencyKey).map(PaymentCallbackRecord::getOutcome);
+  }
+
+  @Override
+  public boolean tryClaim(String idempotencyKey, UUID orderId) {
+    try {
+      transactionTemplate.executeWithoutResult(
+          status ->
+              repository.saveAndFlush(new PaymentCallbackRecord(idempotencyKey, orderId, lease)));
+      return true;
+    } catch (DataIntegrityViolationException e) {
+      return takeOverExpiredClaim(idempotencyKey);
+    }
+  }
+
+  // 선점이 만료된 미완료 기록은 넘겨받는다 (동시에 여러 요청이 시도해도 조건부 update라 하나만 성공)
+  private boolean takeOverExpiredClaim(String idempotencyKey) {
+    LocalDateTime now = LocalDateTime.now();
+    Integer updated =
+        transactionTemplate.execute(
+            status -> repository.takeOverExpiredClaim(idempotencyKey, now, now.plus(lease)));
+    if (updated == null || updated == 0) {
+      return false;
+    }
+    log.warn("[PAYMENT-CALLBACK] took over expired claim. key={}", idempotencyKey);
+    return true;
+  }
+
+  @Override
+  public void complete(String idempotencyKey, String outcome) {
+    transactionTemplate.executeWithoutResult(
+        status ->
+            repository.findById(idempotencyKey).ifPresent(record -> record.complete(outcome)));
+  }
+
+  @Override
+  public void release(String idempotencyKey) {
+    transactionTemplate.executeWithoutResult(status -> repository.deleteById(idempotencyKey));
+  }
+
+  // 보관 기간이 지난 기록 정리
+  @Scheduled(cron = "${payment.callback.purge-cron:0 30 4 * * *}")
+  public void purgeExpired() {
+    Integer deleted =
+        transactionTemplate.execute(
+            status -> repository.deleteCreatedBefore(LocalDateTime.now().minus(retention)));
+    log.info("[PAYMENT-CALLBACK] purged {} callback records", deleted);
+  }
+}
@@ -0,0 +1,72 @@
+package com.tickatch.paymentservice.payment.infrastructure.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 결제 결과 콜백 처리 기록.
+ *
+ * <p>멱등 키를 PK로 사용하여 먼저 insert에 성공한 요청만 처리를 선점한다. outcome이 null이면 처리 중이다. 선점은
+ * claimedUntil까지만 유효하며, 처리 중 노드가 죽어 완료도 해제도 되지 않은 기록은 그 이후 다른 요청이 넘겨받는다.
+ */
+@Entity
+@Getter
+@Table(name = "p_payment_callback")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PaymentCallbackRecord implements Persistable<String> {
+
+  @Id
+  @Column(name = "idempotency_key", length = 512)
+  private String idempotencyKey;
+
+  @Column(nullable = false, updatable = false)
+  private UUID orderId;
+
+  // 처리 결과 (PaymentStatus)
+  @Column private String outcome;
+
+  @Column(nullable = false, updatable = false)
+  private LocalDateTime createdAt;
+
+  @Column private LocalDateTime completedAt;
+
+  // 선점 만료 시각 (이후에는 완료되지 않은 선점을 다른 요청이 넘겨받을 수 있음)
+  @Column(nullable = false)
+  private LocalDateTime claimedUntil;
+
+  // 선점은 항상 insert로 수행 (merge 시 select 후 update가 되어 선점 충돌을 감지할 수 없음)
+  @Transient private boolean isNew = false;
+
+  public PaymentCallbackRecord(String idempotencyKey, UUID orderId, Duration lease) {
+    this.idempotencyKey = idempotencyKey;
+    this.orderId = orderId;
+    this.createdAt = LocalDateTime.now();
+    this.claimedUntil = createdAt.plus(lease);
+    this.isNew = true;
+  }
+
+  public void complete(String outcome) {
+    this.outcome = outcome;
+    this.completedAt = LocalDateTime.now();
+  }
+
+  @Override
+  public String getId() {
+    return idempotencyKey;
+  }
+
+  @Override
+  public boolean isNew() {
+    return isNew;
+  }
+}
@@ -0,0 +1,27 @@
+package com.tickatch.paymentservice.payment.infrastructure.persistence;
+
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PaymentCallbackRecordRepository
+    extends JpaRepository<PaymentCallbackRecord, String> {
+
+  // 만료된 선점 넘겨받기. 완료되지 않았고 선점 만료 시각이 지난 경우에만 갱신된다
+  @Modifying
+  @Query(
+      """
+      update PaymentCallbackRecord r set r.claimedUntil = :claimedUntil
+      where r.idempotencyKey = :key and r.outcome is null and r.claimedUntil < :now
+      """)
+  int takeOverExpiredClaim(
+      @Param("key") String idempotencyKey,
+      @Param("now") LocalDateTime now,
+      @Param("claimedUntil") LocalDateTime claimedUntil);
+
+  @Modifying
+  @Query("delete from PaymentCallbackRecord r where r.createdAt < :before")
+  int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
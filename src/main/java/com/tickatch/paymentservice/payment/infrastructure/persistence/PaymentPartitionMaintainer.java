@@ -0,0 +1,65 @@
+package com.tickatch.paymentservice.payment.infrastructure.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결제 테이블 월 파티션 관리.
+ *
+ * <p>p_payment, p_payment_reservation, p_payment_detail은 생성 시각 월 단위로 파티션되어 있다(V9). 기동 시와 매일 한 번
+ * ensure_payment_partitions를 호출해 이번 달부터 months-ahead개월 뒤까지 파티션을 미리 만든다. 해당 월 파티션이 없으면 행이 DEFAULT
+ * 파티션에 들어가고, DEFAULT 파티션에 그 달 행이 남아 있으면 나중에 그 달 파티션을 만들 수 없으므로 DEFAULT 파티션에 행이 있으면 경고를 남긴다.
+ *
+ * <p>여러 인스턴스가 동시에 호출해도 DB 함수가 advisory 잠금으로 한 번씩만 만든다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "payment.partition.enabled", havingValue = "true")
+public class PaymentPartitionMaintainer {
+
+  private final JdbcTemplate jdbcTemplate;
+  private final String schema;
+  private final int monthsAhead;
+
+  public PaymentPartitionMaintainer(
+      JdbcTemplate jdbcTemplate,
+      @Value("${spring.flyway.default-schema:payment_service}") String schema,
+      @Value("${payment.partition.months-ahead:3}") int monthsAhead) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.schema = schema;
+    this.monthsAhead = monthsAhead;
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void onReady() {
+    ensurePartitions();
+  }
+
+  // 앞으로 쓸 월 파티션 생성
+  @Scheduled(cron = "${payment.partition.cron:0 10 3 * * *}")
+  public void ensurePartitions() {
+    try {
+      Integer created =
+          jdbcTemplate.queryForObject(
+              "select " + schema + ".ensure_payment_partitions(?)", Integer.class, monthsAhead);
+      log.info("[PAYMENT-PARTITION] created {} partitions", created);
+
+      Boolean defaultUsed =
+          jdbcTemplate.queryForObject(
+              "select exists (select 1 from " + schema + ".p_payment_default)", Boolean.class);
+      if (Boolean.TRUE.equals(defaultUsed)) {
+        log.warn(
+            "[PAYMENT-PARTITION] rows found in p_payment_default, move them to monthly partitions");
+      }
+    } catch (DataAccessException e) {
+      log.error("[PAYMENT-PARTITION] failed to ensure partitions", e);
+    }
+  }
+}
@@ -0,0 +1,98 @@
+package com.tickatch.paymentservice.payment.infrastructure.persistence;
+
+import static com.tickatch.paymentservice.payment.domain.QPayment.payment;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.tickatch.paymentservice.payment.domain.PaymentMethod;
+import com.tickatch.paymentservice.payment.domain.PaymentStatus;
+import com.tickatch.paymentservice.payment.domain.dto.PaymentSearchCondition;
+import com.tickatch.paymentservice.payment.domain.dto.PaymentSearchCursor;
+import com.tickatch.paymentservice.payment.domain.dto.PaymentSummary;
+import com.tickatch.paymentservice.payment.domain.repository.PaymentSearchRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+/**
+ * QueryDSL 결제 검색.
+ *
+ * <p>조건이 있는 항목만 where 절에 넣고, (created_at, id) 내림차순 keyset으로 페이지를 나눈다. OFFSET 없이 커서보다 앞선 행부터 limit건만
+ * 읽으므로 오래된 페이지도 비용이 페이지 크기에 비례한다. 사용하는 인덱스는 조건에 따라 다르다.
+ *
+ * <ul>
+ *   <li>사용자: ix_payment_created_by_created_at (created_by, created_at DESC)
+ *   <li>상태: ix_payment_status_created_at_id (status, created_at DESC, id DESC)
+ *   <li>조건 없음(관리자): ix_payment_created_at (created_at)
+ * </ul>
+ *
+ * <p>같은 생성 시각 안의 id 정렬은 PostgreSQL incremental sort로 처리된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class QuerydslPaymentSearchRepository implements PaymentSearchRepository {
+
+  private final JPAQueryFactory queryFactory;
+
+  @Override
+  public List<PaymentSummary> search(
+      PaymentSearchCondition condition, PaymentSearchCursor after, int limit) {
+    return queryFactory
+        .select(
+            Projections.constructor(
+                PaymentSummary.class,
+                payment.id.id,
+                payment.orderId,
+                payment.status,
+                payment.method,
+                payment.totalPrice,
+                payment.orderName,
+                payment.createdBy,
+                payment.createdAt,
+                payment.approvedAt))
+        .from(payment)
+        .where(
+            payment.deletedAt.isNull(),
+            createdByEq(condition.createdBy()),
+            statusEq(condition.status()),
+            methodEq(condition.method()),
+            createdFrom(condition.from()),
+            createdBefore(condition.to()),
+            after(after))
+        .orderBy(payment.createdAt.desc(), payment.id.id.desc())
+        .limit(limit)
+        .fetch();
+  }
+
+  private static BooleanExpression createdByEq(String createdBy) {
+    return createdBy == null ? null : payment.createdBy.eq(createdBy);
+  }
+
+  private static BooleanExpression statusEq(PaymentStatus status) {
+    return status == null ? null : payment.status.eq(status);
+  }
+
+  private static BooleanExpression methodEq(PaymentMethod method) {
+    return method == null ? null : payment.method.eq(method);
+  }
+
+  private static BooleanExpression createdFrom(LocalDateTime from) {
+    return from == null ? null : payment.createdAt.goe(from);
+  }
+
+  private static BooleanExpression createdBefore(LocalDateTime to) {
+    return to == null ? null : payment.createdAt.lt(to);
+  }
+
+  // (created_at, id) < (커서). created_at <= 조건은 인덱스 범위 시작점을 잡기 위한 중복 조건
+  private static BooleanExpression after(PaymentSearchCursor cursor) {
+    if (cursor == null) {
+      return null;
+    }
+    BooleanExpression before = payment.createdAt.lt(cursor.createdAt());
+    BooleanExpression sameTimeSmallerId = payment.id.id.lt(cursor.paymentId());
+    return payment.createdAt.loe(cursor.createdAt()).and(before.or(sameTimeSmallerId));
+  }
+}
@@ -0,0 +1,58 @@
+package com.tickatch.paymentservice.payment.infrastructure.resilience;
+
+import com.tickatch.paymentservice.payment.domain.exception.PaymentException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.tickatch.common.error.ErrorCode;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 외부 의존성 호출 보호.
+ *
+ * <p>의존성마다 동시 호출 한도(bulkhead)와 서킷 브레이커를 두어, 한 의존성이 느려져도 요청 스레드가 그 호출에 모두 묶이지 않게 한다. 한도를 넘거나
+ * 서킷이 열려 있으면 호출하지 않고 바로 {@code unavailable} 오류로 실패하므로, 이 오류는 외부에 요청이 전달되지 않았음을 뜻한다.
+ *
+ * <p>설정은 resilience4j.bulkhead/circuitbreaker.instances.{name}을 따르며, 상태는 resilience4j.* 지표와 actuator
+ * circuitbreakers/bulkheads 엔드포인트로 확인한다. 한도 초과 호출은 서킷 브레이커 실패로 세지 않도록 bulkhead를 바깥에 둔다.
+ */
+@Slf4j
+public class DependencyGuard {
+
+  private final Bulkhead bulkhead;
+  private final CircuitBreaker circuitBreaker;
+  private final ErrorCode unavailable;
+
+  public DependencyGuard(
+      String name,
+      BulkheadRegistry bulkheadRegistry,
+      CircuitBreakerRegistry circuitBreakerRegistry,
+      ErrorCode unavailable) {
+    this.bulkhead = bulkheadRegistry.bulkhead(name);
+    this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(name);
+    this.unavailable = unavailable;
+  }
+
+  public <T> T call(Supplier<T> call) {
+    try {
+      return Bulkhead.decorateSupplier(
+              bulkhead, CircuitBreaker.decorateSupplier(circuitBreaker, call))
+          .get();
+    } catch (CallNotPermittedException | BulkheadFullException e) {
+      log.warn("[DEPENDENCY-REJECTED] {}", e.getMessage());
+      throw new PaymentException(unavailable, e);
+    }
+  }
+
+  public void run(Runnable call) {
+    call(
+        () -> {
+          call.run();
+          return null;
+        });
+  }
+}
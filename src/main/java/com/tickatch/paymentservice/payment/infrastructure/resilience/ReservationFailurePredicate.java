@@ -0,0 +1,22 @@
+package com.tickatch.paymentservice.payment.infrastructure.resilience;
+
+import feign.RetryableException;
+import io.github.tickatch.common.error.BusinessException;
+import java.util.function.Predicate;
+
+/**
+ * 예매 서비스 서킷 브레이커 예외 판정
+ * (resilience4j.circuitbreaker.instances.reservation.record-failure-predicate).
+ *
+ * <p>연결/읽기 타임아웃과 5xx로 변환된 응답만 장애로 기록한다. 4xx(잘못된 예매 상태 등)는 요청 문제이므로 서킷 상태에 반영하지 않는다.
+ */
+public class ReservationFailurePredicate implements Predicate<Throwable> {
+
+  @Override
+  public boolean test(Throwable throwable) {
+    if (throwable instanceof RetryableException) {
+      return true;
+    }
+    return throwable instanceof BusinessException e && e.getErrorCode().getStatus() >= 500;
+  }
+}
@@ -0,0 +1,17 @@
+package com.tickatch.paymentservice.payment.infrastructure.resilience;
+
+import com.tickatch.paymentservice.payment.application.dto.TossResponse;
+import java.util.function.Predicate;
+
+/**
+ * 토스 서킷 브레이커 결과 판정 (resilience4j.circuitbreaker.instances.toss.record-result-predicate).
+ *
+ * <p>4xx는 결제 결과(거절, 중복 등)이므로 실패로 세지 않고, 5xx 응답만 장애로 기록한다.
+ */
+public class TossServerErrorPredicate implements Predicate<Object> {
+
+  @Override
+  public boolean test(Object result) {
+    return result instanceof TossResponse response && response.statusCode() >= 500;
+  }
+}
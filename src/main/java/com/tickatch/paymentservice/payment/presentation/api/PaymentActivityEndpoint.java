@@ -0,0 +1,23 @@
+package com.tickatch.paymentservice.payment.presentation.api;
+
+import com.tickatch.paymentservice.payment.application.PaymentActivityWindows;
+import com.tickatch.paymentservice.payment.application.dto.PaymentActivitySnapshot;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+// 최근 1초/1분/1시간 결제 집계 (/actuator/paymentactivity, 메모리 값만 읽음)
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "paymentactivity")
+public class PaymentActivityEndpoint {
+
+  private final PaymentActivityWindows windows;
+
+  @ReadOperation
+  public Map<String, PaymentActivitySnapshot> activity() {
+    return windows.snapshot();
+  }
+}
@@ -2,17 +2,34 @@ package com.tickatch.paymentservice.payment.presentation.api;
 
 import com.tickatch.paymentservice.global.config.AuthExtractor;
 import com.tickatch.paymentservice.global.config.AuthExtractor.AuthInfo;
+import com.tickatch.paymentservice.payment.application.dto.PaymentSearchPage;
+import com.tickatch.paymentservice.payment.application.dto.PaymentViewPage;
+import com.tickatch.paymentservice.payment.application.dto.PaymentViewResult;
+import com.tickatch.paymentservice.payment.application.dto.ReconciliationReport;
+import com.tickatch.paymentservice.payment.application.dto.RefundJobProgress;
+import com.tickatch.paymentservice.payment.application.service.BulkRefundService;
+import com.tickatch.paymentservice.payment.application.service.PaymentCallbackService;
+import com.tickatch.paymentservice.payment.application.service.PaymentQueryService;
+import com.tickatch.paymentservice.payment.application.service.PaymentReconciliationService;
 import com.tickatch.paymentservice.payment.application.service.PaymentService;
+import com.tickatch.paymentservice.payment.application.service.PaymentViewQueryService;
+import com.tickatch.paymentservice.payment.presentation.dto.BulkRefundJobRequest;
 import com.tickatch.paymentservice.payment.presentation.dto.CreatePaymentRequest;
+import com.tickatch.paymentservice.payment.presentation.dto.PaymentSearchRequest;
+import com.tickatch.paymentservice.payment.presentation.dto.RefundJobReservationsRequest;
 import com.tickatch.paymentservice.payment.presentation.dto.RefundPaymentRequest;
 import io.github.tickatch.common.api.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
+import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -26,6 +43,11 @@ import org.springframework.web.bind.annotation.RestController;
 public class PaymentApi {
 
   private final PaymentService paymentService;
+  private final PaymentCallbackService paymentCallbackService;
+  private final BulkRefundService bulkRefundService;
+  private final PaymentReconciliationService reconciliationService;
+  private final PaymentQueryService paymentQueryService;
+  private final PaymentViewQueryService paymentViewQueryService;
 
   // 1. 결제 생성
   @PostMapping
@@ -40,7 +62,7 @@ public class PaymentApi {
   @GetMapping("/resp/success")
   public ApiResponse<?> paymentSuccess(
       @RequestParam String paymentKey, @RequestParam String orderId, @RequestParam long amount) {
-    paymentService.confirmPayment(paymentKey, UUID.fromString(orderId), amount);
+    paymentCallbackService.confirm(paymentKey, UUID.fromString(orderId), amount);
     return ApiResponse.success();
   }
 
@@ -49,7 +71,7 @@ public class PaymentApi {
   public ApiResponse<?> paymentFail(
       String code, @RequestParam(required = false) String message, @RequestParam String orderId) {
     log.warn("[PAYMENT-FAIL] orderId={}, code={}, message={}", orderId, code, message);
-    paymentService.failPayment(UUID.fromString(orderId), code);
+    paymentCallbackService.fail(UUID.fromString(orderId), code);
     return ApiResponse.success();
   }
 
@@ -61,4 +83,78 @@ public class PaymentApi {
     paymentService.refundPayment(request.toRefundRequest(), authInfo);
     return ApiResponse.success();
   }
+
+  // 5. 일괄 환불 작업 생성 (관리자)
+  @PostMapping("/refund-jobs")
+  @Operation(summary = "일괄 환불 작업 생성", description = "예매 id 목록의 결제를 일괄 환불합니다. (관리자)")
+  public ApiResponse<Map<String, UUID>> createRefundJob(
+      @Valid @RequestBody BulkRefundJobRequest request) {
+    UUID jobId =
+        bulkRefundService.createJob(
+            request.toRefundReason(), request.reservationIds(), AuthExtractor.extract());
+    return ApiResponse.success(Map.of("jobId", jobId));
+  }
+
+  // 6. 일괄 환불 작업에 예매 id 추가 (대량 목록은 나눠서 전달)
+  @PostMapping("/refund-jobs/{jobId}/reservations")
+  @Operation(summary = "일괄 환불 대상 추가", description = "진행 중인 일괄 환불 작업에 예매 id를 추가합니다. (관리자)")
+  public ApiResponse<Map<String, Integer>> appendRefundJobReservations(
+      @PathVariable UUID jobId, @Valid @RequestBody RefundJobReservationsRequest request) {
+    int added =
+        bulkRefundService.appendReservations(
+            jobId, request.reservationIds(), AuthExtractor.extract());
+    return ApiResponse.success(Map.of("added", added));
+  }
+
+  // 7. 일괄 환불 진행 상황
+  @GetMapping("/refund-jobs/{jobId}")
+  @Operation(summary = "일괄 환불 진행 상황", description = "일괄 환불 작업의 항목별 처리 현황을 조회합니다. (관리자)")
+  public ApiResponse<RefundJobProgress> getRefundJob(@PathVariable UUID jobId) {
+    return ApiResponse.success(bulkRefundService.getProgress(jobId, AuthExtractor.extract()));
+  }
+
+  // 8. 토스 대사 (관리자)
+  @PostMapping("/reconciliations")
+  @Operation(
+      summary = "토스 대사",
+      description = "구간 [from, to)의 결제를 토스 결제 상태와 비교하고, repair=true면 복구 가능한 불일치를 바로잡습니다. (관리자)")
+  public ApiResponse<ReconciliationReport> reconcile(
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+      @RequestParam(defaultValue = "false") boolean repair) {
+    return ApiResponse.success(
+        reconciliationService.reconcile(from, to, repair, AuthExtractor.extract()));
+  }
+
+  // 9. 결제 검색 (최신순, 커서 페이지)
+  @GetMapping
+  @Operation(
+      summary = "결제 검색",
+      description = "사용자/상태/수단/생성 시각 구간으로 결제를 최신순 검색합니다. 다음 페이지는 응답의 nextCursor로 조회합니다. (관리자 외에는 본인 결제만)")
+  public ApiResponse<PaymentSearchPage> searchPayments(
+      @ModelAttribute PaymentSearchRequest request,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "20") int size) {
+    return ApiResponse.success(
+        paymentQueryService.search(request.toCondition(), cursor, size, AuthExtractor.extract()));
+  }
+
+  // 10. 내 결제 목록 (조회 모델, 최신순 커서 페이지)
+  @GetMapping("/me")
+  @Operation(
+      summary = "내 결제 목록",
+      description = "본인 결제를 최신순으로 조회합니다. 다음 페이지는 응답의 nextCursor로 조회합니다.")
+  public ApiResponse<PaymentViewPage> getMyPayments(
+      @RequestParam(required = false) String cursor, @RequestParam(defaultValue = "20") int size) {
+    return ApiResponse.success(
+        paymentViewQueryService.getMyPayments(cursor, size, AuthExtractor.extract()));
+  }
+
+  // 11. 결제 단건 (조회 모델)
+  @GetMapping("/{paymentId}")
+  @Operation(summary = "결제 조회", description = "결제 상태와 예매 id를 조회합니다. (관리자 외에는 본인 결제만)")
+  public ApiResponse<PaymentViewResult> getPayment(@PathVariable UUID paymentId) {
+    return ApiResponse.success(
+        paymentViewQueryService.getPayment(paymentId, AuthExtractor.extract()));
+  }
 }
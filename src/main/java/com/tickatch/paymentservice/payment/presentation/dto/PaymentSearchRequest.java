@@ -0,0 +1,19 @@
+package com.tickatch.paymentservice.payment.presentation.dto;
+
+import com.tickatch.paymentservice.payment.domain.PaymentMethod;
+import com.tickatch.paymentservice.payment.domain.PaymentStatus;
+import com.tickatch.paymentservice.payment.domain.dto.PaymentSearchCondition;
+import java.time.LocalDateTime;
+import org.springframework.format.annotation.DateTimeFormat;
+
+public record PaymentSearchRequest(
+    String createdBy,
+    PaymentStatus status,
+    PaymentMethod method,
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+  public PaymentSearchCondition toCondition() {
+    return new PaymentSearchCondition(createdBy, status, method, from, to);
+  }
+}
@@ -0,0 +1,6 @@
+package com.tickatch.paymentservice.payment.presentation.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+
+public record RefundJobReservationsRequest(@NotEmpty List<String> reservationIds) {}
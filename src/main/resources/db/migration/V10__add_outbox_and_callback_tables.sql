@@ -0,0 +1,30 @@
+-- ========================================
+-- 결제 로그 아웃박스 / 콜백 처리 기록
+-- ========================================
+-- auto-DDL 시절 스키마에는 없던 테이블이라 V1에 두면 baseline(V1)으로 등록된 기존 DB에 만들어지지 않는다.
+-- V1에 이 테이블이 있던 개발 DB(flyway repair 후)에서도 실패하지 않도록 IF NOT EXISTS로 만든다.
+
+-- 결제 로그 이벤트 아웃박스 (PaymentLogOutboxRelay가 발행 확인 후 삭제)
+CREATE SEQUENCE IF NOT EXISTS p_payment_outbox_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS p_payment_outbox
+(
+    id           BIGINT       NOT NULL,
+    event_id     UUID         NOT NULL,
+    aggregate_id UUID         NOT NULL,
+    payload      TEXT         NOT NULL,
+    created_at   TIMESTAMP(6) NOT NULL,
+    attempts     INTEGER      NOT NULL DEFAULT 0,
+    CONSTRAINT pk_payment_outbox PRIMARY KEY (id)
+);
+
+-- 결제 콜백 멱등 처리 기록 (JpaPaymentCallbackStore)
+CREATE TABLE IF NOT EXISTS p_payment_callback
+(
+    idempotency_key VARCHAR(512) NOT NULL,
+    order_id        UUID         NOT NULL,
+    outcome         VARCHAR(255),
+    created_at      TIMESTAMP(6) NOT NULL,
+    completed_at    TIMESTAMP(6),
+    CONSTRAINT pk_payment_callback PRIMARY KEY (idempotency_key)
+);
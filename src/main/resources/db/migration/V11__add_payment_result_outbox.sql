@@ -0,0 +1,19 @@
+-- ========================================
+-- 결제 결과 아웃박스 (payment.reservation.result-delivery=async)
+-- ========================================
+-- 결제 변경과 같은 트랜잭션에서 결과를 저장하고 PaymentResultOutboxRelay가 파티션별로 발행한 뒤 삭제한다.
+-- 한 행은 결과 하나 중 한 파티션에 속한 예매 id 묶음이며, result_id는 재발행 시에도 그대로 전달된다.
+
+CREATE SEQUENCE p_payment_result_outbox_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE p_payment_result_outbox
+(
+    id              BIGINT       NOT NULL,
+    result_id       UUID         NOT NULL,
+    partition_no    INTEGER      NOT NULL,
+    status          VARCHAR(255) NOT NULL,
+    reservation_ids TEXT[]       NOT NULL,
+    created_at      TIMESTAMP(6) NOT NULL,
+    attempts        INTEGER      NOT NULL DEFAULT 0,
+    CONSTRAINT pk_payment_result_outbox PRIMARY KEY (id)
+);
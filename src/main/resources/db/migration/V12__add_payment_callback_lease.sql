@@ -0,0 +1,11 @@
+-- ========================================
+-- 콜백 처리 선점 만료 시각
+-- ========================================
+-- 처리 중 노드가 죽어 완료도 해제도 되지 않은 선점이 보관 기간 내내 409를 내지 않도록, 만료 시각이 지난 미완료 선점은
+-- 같은 키의 다음 요청이 넘겨받는다 (JpaPaymentCallbackStore). 기존 기록은 생성 시각을 만료 시각으로 두어 바로 넘겨받을 수 있게 한다.
+
+ALTER TABLE p_payment_callback ADD COLUMN claimed_until TIMESTAMP(6);
+
+UPDATE p_payment_callback SET claimed_until = created_at;
+
+ALTER TABLE p_payment_callback ALTER COLUMN claimed_until SET NOT NULL;
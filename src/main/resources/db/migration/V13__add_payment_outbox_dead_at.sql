@@ -0,0 +1,7 @@
+-- ========================================
+-- 결제 로그 아웃박스 발행 포기 시각
+-- ========================================
+-- 역직렬화/변환에 계속 실패하는 이벤트가 배치를 막지 않도록 payment.outbox.max-attempts번 실패하면 dead_at을 기록하고
+-- 릴레이 대상에서 제외한다 (PaymentLogOutboxRelay). 원인을 고친 뒤 dead_at, attempts를 비우면 다시 발행된다.
+
+ALTER TABLE p_payment_outbox ADD COLUMN dead_at TIMESTAMP(6);
@@ -0,0 +1,9 @@
+-- ========================================
+-- 콜백 처리 기록 만료 정리 인덱스
+-- ========================================
+-- p_payment_callback은 V10에서 만들어지므로 인덱스도 그 뒤에 만든다 (V2에 두면 테이블이 없어 실패).
+-- 이미 인덱스가 있는 개발 DB에서도 실패하지 않도록 IF NOT EXISTS, 쓰기를 막지 않도록 CONCURRENTLY로 생성한다.
+
+-- JpaPaymentCallbackStore.purgeExpired (created_at < 보관 기간)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_payment_callback_created_at
+    ON p_payment_callback (created_at);
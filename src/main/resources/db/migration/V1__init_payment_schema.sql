@@ -0,0 +1,48 @@
+-- ========================================
+-- 결제 서비스 초기 스키마
+-- ========================================
+-- 기존 Hibernate auto-DDL로 생성되던 테이블과 동일한 구조.
+-- 이미 테이블이 있는 DB는 baseline(V1)으로 등록되어 이 스크립트를 건너뛴다.
+
+CREATE TABLE p_payment
+(
+    id            UUID         NOT NULL,
+    status        VARCHAR(255) NOT NULL,
+    total_price   BIGINT       NOT NULL,
+    method        VARCHAR(255) NOT NULL,
+    order_name    VARCHAR(255) NOT NULL,
+    order_id      UUID         NOT NULL,
+    retry_count   INTEGER      NOT NULL DEFAULT 0,
+    refund_reason VARCHAR(255),
+    approved_at   TIMESTAMP(6),
+    canceled_at   TIMESTAMP(6),
+    refunded_at   TIMESTAMP(6),
+    created_at    TIMESTAMP(6) NOT NULL,
+    updated_at    TIMESTAMP(6) NOT NULL,
+    created_by    VARCHAR(255) NOT NULL,
+    updated_by    VARCHAR(255) NOT NULL,
+    deleted_by    VARCHAR(255),
+    deleted_at    TIMESTAMP(6),
+    CONSTRAINT pk_payment PRIMARY KEY (id)
+);
+
+CREATE TABLE p_payment_detail
+(
+    id           UUID         NOT NULL,
+    payment_type VARCHAR(31)  NOT NULL,
+    payment_id   UUID         NOT NULL,
+    payment_key  VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_payment_detail PRIMARY KEY (id),
+    CONSTRAINT fk_payment_detail_payment FOREIGN KEY (payment_id) REFERENCES p_payment (id)
+);
+
+CREATE TABLE p_payment_reservation
+(
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    reservation_id VARCHAR(255) NOT NULL,
+    payment_id     UUID         NOT NULL,
+    price          BIGINT,
+    status         VARCHAR(255),
+    CONSTRAINT pk_payment_reservation PRIMARY KEY (id),
+    CONSTRAINT fk_payment_reservation_payment FOREIGN KEY (payment_id) REFERENCES p_payment (id)
+);
@@ -0,0 +1,24 @@
+-- ========================================
+-- 조회 경로 인덱스
+-- ========================================
+-- 운영 테이블 쓰기를 막지 않도록 CONCURRENTLY로 생성한다 (트랜잭션 밖에서 실행, .sql.conf 참고).
+
+-- 결제 콜백(성공/실패)마다 orderId로 결제 조회
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS ux_payment_order_id
+    ON p_payment (order_id);
+
+-- 환불 시 예매 id로 결제 조회 (payment_id까지 포함하여 index-only scan으로 조인)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_payment_reservation_reservation_payment
+    ON p_payment_reservation (reservation_id, payment_id);
+
+-- 결제 -> 예매 목록 로딩 (links)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_payment_reservation_payment
+    ON p_payment_reservation (payment_id);
+
+-- 결제 -> 결제 세부 정보 (1:1)
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS ux_payment_detail_payment_id
+    ON p_payment_detail (payment_id);
+
+-- 사용자별 결제 내역 조회
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_payment_created_by_created_at
+    ON p_payment (created_by, created_at DESC);
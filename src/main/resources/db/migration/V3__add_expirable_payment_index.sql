@@ -0,0 +1,8 @@
+-- ========================================
+-- 결제 만료 대상 조회 인덱스
+-- ========================================
+-- 만료 엔진이 주기적으로 조회하는 미완료 결제만 담는 부분 인덱스 (완료된 결제가 쌓여도 크기가 작게 유지됨)
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_payment_expirable_created_at
+    ON p_payment (created_at)
+    WHERE status IN ('REQUESTED', 'PROCESSING');
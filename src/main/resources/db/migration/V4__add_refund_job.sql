@@ -0,0 +1,44 @@
+-- ========================================
+-- 일괄 환불 작업
+-- ========================================
+-- 환불 대상 예매 id는 항목(p_refund_job_item)으로 저장되고, 항목 상태가 재시작 시 이어서 처리할 체크포인트가 된다.
+
+CREATE TABLE p_refund_job
+(
+    id           UUID         NOT NULL,
+    reason       VARCHAR(255) NOT NULL,
+    status       VARCHAR(255) NOT NULL,
+    lease_owner  VARCHAR(255),
+    lease_until  TIMESTAMP(6),
+    completed_at TIMESTAMP(6),
+    created_at   TIMESTAMP(6) NOT NULL,
+    updated_at   TIMESTAMP(6) NOT NULL,
+    created_by   VARCHAR(255) NOT NULL,
+    updated_by   VARCHAR(255) NOT NULL,
+    deleted_by   VARCHAR(255),
+    deleted_at   TIMESTAMP(6),
+    CONSTRAINT pk_refund_job PRIMARY KEY (id)
+);
+
+CREATE SEQUENCE p_refund_job_item_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE p_refund_job_item
+(
+    id             BIGINT       NOT NULL,
+    job_id         UUID         NOT NULL,
+    reservation_id VARCHAR(255) NOT NULL,
+    status         VARCHAR(255) NOT NULL,
+    payment_id     UUID,
+    message        VARCHAR(255),
+    processed_at   TIMESTAMP(6),
+    CONSTRAINT pk_refund_job_item PRIMARY KEY (id),
+    CONSTRAINT fk_refund_job_item_job FOREIGN KEY (job_id) REFERENCES p_refund_job (id)
+);
+
+-- 작업 내 예매 id 중복 방지 + 결과 기록(update ... reservation_id in) 조회
+CREATE UNIQUE INDEX ux_refund_job_item_job_reservation ON p_refund_job_item (job_id, reservation_id);
+
+-- 대기 항목 순차 조회 (체크포인트)
+CREATE INDEX ix_refund_job_item_job_status_id ON p_refund_job_item (job_id, status, id);
+
+CREATE INDEX ix_refund_job_status ON p_refund_job (status);
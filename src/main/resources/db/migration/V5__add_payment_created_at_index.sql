@@ -0,0 +1,7 @@
+-- ========================================
+-- 결제 생성 시각 인덱스
+-- ========================================
+-- 대사(reconciliation) 작업이 시간 구간의 결제를 생성 시각 순서로 스트리밍 조회할 때 사용 (정렬 없이 커서로 읽음)
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_payment_created_at
+    ON p_payment (created_at);
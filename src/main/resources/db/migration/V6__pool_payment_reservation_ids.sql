@@ -0,0 +1,8 @@
+-- ========================================
+-- 예매 링크 id 구간 발급
+-- ========================================
+-- identity 컬럼이 쓰는 시퀀스의 증가 폭을 50으로 바꾼다. Hibernate는 nextval 한 번으로 50개 id 구간(pooled)을 받아
+-- 예매 링크 insert를 JDBC 배치로 묶는다 (IDENTITY 생성 전략은 insert마다 생성된 키를 받아야 해서 배치가 꺼짐).
+-- identity 기본값은 그대로 두므로 배포 중 이전 버전 인스턴스가 넣는 id도 같은 시퀀스에서 나와 겹치지 않는다.
+
+ALTER TABLE p_payment_reservation ALTER COLUMN id SET INCREMENT BY 50;
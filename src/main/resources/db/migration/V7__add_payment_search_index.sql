@@ -0,0 +1,8 @@
+-- ========================================
+-- 결제 검색 인덱스
+-- ========================================
+-- 상태별 결제 검색을 (created_at, id) 내림차순 keyset으로 페이지 조회할 때 사용 (정렬 없이 인덱스 순서대로 limit건만 읽음).
+-- 사용자별 검색은 ix_payment_created_by_created_at, 조건 없는 검색은 ix_payment_created_at을 사용한다.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_payment_status_created_at_id
+    ON p_payment (status, created_at DESC, id DESC);
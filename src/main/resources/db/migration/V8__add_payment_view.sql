@@ -0,0 +1,49 @@
+-- ========================================
+-- 결제 조회 모델 (p_payment_view)
+-- ========================================
+-- "내 결제" 목록/단건 조회용 비정규화 테이블. 결제당 한 행이며 예매 id를 배열로 함께 저장해 링크/세부 정보 조인 없이 읽는다.
+-- 결제 상태 전이 이벤트로 같은 트랜잭션 안에서 갱신된다 (PaymentViewProjector).
+
+CREATE TABLE p_payment_view
+(
+    payment_id      UUID         NOT NULL,
+    order_id        UUID         NOT NULL,
+    created_by      VARCHAR(255) NOT NULL,
+    status          VARCHAR(255) NOT NULL,
+    method          VARCHAR(255) NOT NULL,
+    order_name      VARCHAR(255) NOT NULL,
+    total_price     BIGINT       NOT NULL,
+    reservation_ids TEXT[]       NOT NULL,
+    created_at      TIMESTAMP(6) NOT NULL,
+    updated_at      TIMESTAMP(6) NOT NULL,
+    approved_at     TIMESTAMP(6),
+    canceled_at     TIMESTAMP(6),
+    refunded_at     TIMESTAMP(6),
+    CONSTRAINT pk_payment_view PRIMARY KEY (payment_id)
+);
+
+-- 사용자별 최신순 keyset 페이지 조회 (정렬 없이 인덱스 순서대로 limit건만 읽음)
+CREATE INDEX ix_payment_view_created_by_created_at
+    ON p_payment_view (created_by, created_at DESC, payment_id DESC);
+
+-- 기존 결제 채우기 (배포 중 이미 투영된 행은 유지)
+INSERT INTO p_payment_view (payment_id, order_id, created_by, status, method, order_name, total_price,
+                            reservation_ids, created_at, updated_at, approved_at, canceled_at, refunded_at)
+SELECT p.id,
+       p.order_id,
+       p.created_by,
+       p.status,
+       p.method,
+       p.order_name,
+       p.total_price,
+       COALESCE(ARRAY_AGG(r.reservation_id ORDER BY r.id) FILTER (WHERE r.id IS NOT NULL), ARRAY []::TEXT[]),
+       p.created_at,
+       p.updated_at,
+       p.approved_at,
+       p.canceled_at,
+       p.refunded_at
+FROM p_payment p
+         LEFT JOIN p_payment_reservation r ON r.payment_id = p.id
+WHERE p.deleted_at IS NULL
+GROUP BY p.id
+ON CONFLICT (payment_id) DO NOTHING;
@@ -0,0 +1,205 @@
+-- ========================================
+-- 결제 테이블 생성 월 파티션
+-- ========================================
+-- p_payment, p_payment_reservation, p_payment_detail을 생성 시각(created_at) 월 단위 range 파티션 테이블로 바꾼다.
+-- 완료된 결제가 쌓여도 인덱스/vacuum 대상이 월 파티션 단위로 나뉘고, 오래된 달은 DETACH PARTITION으로 떼어 보관/삭제할 수 있다.
+-- 예매 링크/세부 정보는 결제의 생성 시각을 created_at으로 복사해 같은 월 파티션에 둔다 (FK도 (payment_id, created_at)).
+--
+-- 기존 테이블을 복사한 뒤 교체하므로 실행 중에는 세 테이블이 잠긴다. 이전 버전 인스턴스는 링크/세부 정보의 created_at을 채우지 않으므로
+-- 모두 내린 뒤 배포한다.
+-- 파티션 키가 기본 키/유니크 인덱스에 포함되어야 하므로 주문 id 유니크는 (order_id, created_at)이 된다. 주문 id는 결제 생성 시 새로 만드는
+-- UUIDv7이라 중복되지 않는다.
+
+-- 1. 기존 테이블/시퀀스 이름 변경 (인덱스/제약 이름은 기존 테이블을 지울 때 함께 지워진 뒤 새 테이블에 다시 만든다)
+ALTER TABLE p_payment_detail RENAME TO p_payment_detail_old;
+ALTER TABLE p_payment_reservation RENAME TO p_payment_reservation_old;
+ALTER TABLE p_payment RENAME TO p_payment_old;
+ALTER SEQUENCE p_payment_reservation_id_seq RENAME TO p_payment_reservation_old_id_seq;
+
+-- 2. 파티션 테이블
+CREATE TABLE p_payment
+(
+    id            UUID         NOT NULL,
+    status        VARCHAR(255) NOT NULL,
+    total_price   BIGINT       NOT NULL,
+    method        VARCHAR(255) NOT NULL,
+    order_name    VARCHAR(255) NOT NULL,
+    order_id      UUID         NOT NULL,
+    retry_count   INTEGER      NOT NULL DEFAULT 0,
+    refund_reason VARCHAR(255),
+    approved_at   TIMESTAMP(6),
+    canceled_at   TIMESTAMP(6),
+    refunded_at   TIMESTAMP(6),
+    created_at    TIMESTAMP(6) NOT NULL,
+    updated_at    TIMESTAMP(6) NOT NULL,
+    created_by    VARCHAR(255) NOT NULL,
+    updated_by    VARCHAR(255) NOT NULL,
+    deleted_by    VARCHAR(255),
+    deleted_at    TIMESTAMP(6)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE p_payment_reservation
+(
+    id             BIGINT       NOT NULL,
+    reservation_id VARCHAR(255) NOT NULL,
+    payment_id     UUID         NOT NULL,
+    price          BIGINT,
+    status         VARCHAR(255),
+    created_at     TIMESTAMP(6) NOT NULL
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE p_payment_detail
+(
+    id           UUID         NOT NULL,
+    payment_type VARCHAR(31)  NOT NULL,
+    payment_id   UUID         NOT NULL,
+    payment_key  VARCHAR(255) NOT NULL,
+    created_at   TIMESTAMP(6) NOT NULL
+) PARTITION BY RANGE (created_at);
+
+-- 월 파티션이 없는 시각의 행을 받는 파티션 (비어 있어야 그 달 파티션을 만들 수 있으므로 PaymentPartitionMaintainer가 미리 만든다)
+CREATE TABLE p_payment_default PARTITION OF p_payment DEFAULT;
+CREATE TABLE p_payment_reservation_default PARTITION OF p_payment_reservation DEFAULT;
+CREATE TABLE p_payment_detail_default PARTITION OF p_payment_detail DEFAULT;
+
+-- 3. 월 파티션 생성 함수
+-- 해당 월의 세 테이블 파티션을 만든다 (이미 있으면 건너뜀). 만든 파티션 수를 반환
+CREATE OR REPLACE FUNCTION create_payment_partitions(target_month DATE) RETURNS INTEGER
+    LANGUAGE plpgsql
+    SET search_path FROM CURRENT
+AS
+$$
+DECLARE
+    month_start    TIMESTAMP := date_trunc('month', target_month::TIMESTAMP);
+    month_end      TIMESTAMP := month_start + INTERVAL '1 month';
+    parent         TEXT;
+    partition_name TEXT;
+    created        INTEGER   := 0;
+BEGIN
+    FOREACH parent IN ARRAY ARRAY ['p_payment', 'p_payment_reservation', 'p_payment_detail']
+        LOOP
+            partition_name := parent || to_char(month_start, '"_y"YYYY"m"MM');
+            IF to_regclass(partition_name) IS NULL THEN
+                EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                               partition_name, parent, month_start, month_end);
+                created := created + 1;
+            END IF;
+        END LOOP;
+    RETURN created;
+END;
+$$;
+
+-- 이번 달부터 months_ahead개월 뒤까지 파티션을 만든다. 여러 인스턴스가 동시에 호출해도 한 번씩만 만들도록 잠금을 건다
+CREATE OR REPLACE FUNCTION ensure_payment_partitions(months_ahead INTEGER) RETURNS INTEGER
+    LANGUAGE plpgsql
+    SET search_path FROM CURRENT
+AS
+$$
+DECLARE
+    created INTEGER := 0;
+    offset_month INTEGER;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('ensure_payment_partitions'));
+    FOR offset_month IN 0..months_ahead
+        LOOP
+            created := created + create_payment_partitions(
+                    (date_trunc('month', localtimestamp) + offset_month * INTERVAL '1 month')::DATE);
+        END LOOP;
+    RETURN created;
+END;
+$$;
+
+-- 기존 데이터가 있는 달부터 3개월 뒤까지
+SELECT create_payment_partitions(month::DATE)
+FROM generate_series(
+             date_trunc('month', COALESCE((SELECT min(created_at) FROM p_payment_old), localtimestamp)),
+             date_trunc('month', localtimestamp) + INTERVAL '3 months',
+             INTERVAL '1 month') AS month;
+
+-- 4. 데이터 복사 (링크/세부 정보는 결제의 생성 시각을 파티션 키로 받는다)
+INSERT INTO p_payment (id, status, total_price, method, order_name, order_id, retry_count, refund_reason,
+                       approved_at, canceled_at, refunded_at, created_at, updated_at, created_by, updated_by,
+                       deleted_by, deleted_at)
+SELECT id,
+       status,
+       total_price,
+       method,
+       order_name,
+       order_id,
+       retry_count,
+       refund_reason,
+       approved_at,
+       canceled_at,
+       refunded_at,
+       created_at,
+       updated_at,
+       created_by,
+       updated_by,
+       deleted_by,
+       deleted_at
+FROM p_payment_old;
+
+INSERT INTO p_payment_reservation (id, reservation_id, payment_id, price, status, created_at)
+SELECT r.id, r.reservation_id, r.payment_id, r.price, r.status, p.created_at
+FROM p_payment_reservation_old r
+         JOIN p_payment_old p ON p.id = r.payment_id;
+
+INSERT INTO p_payment_detail (id, payment_type, payment_id, payment_key, created_at)
+SELECT d.id, d.payment_type, d.payment_id, d.payment_key, p.created_at
+FROM p_payment_detail_old d
+         JOIN p_payment_old p ON p.id = d.payment_id;
+
+-- 5. 예매 링크 id 시퀀스 (파티션 테이블은 identity 컬럼을 쓸 수 없어 일반 시퀀스 기본값으로 바꾼다)
+-- Hibernate가 이미 받아 간 구간(최대 last_value)과 겹치지 않게 이어서 발급한다
+CREATE SEQUENCE p_payment_reservation_id_seq INCREMENT BY 50;
+SELECT setval('p_payment_reservation_id_seq',
+              GREATEST((SELECT last_value FROM p_payment_reservation_old_id_seq),
+                       COALESCE((SELECT max(id) FROM p_payment_reservation), 0), 1));
+ALTER TABLE p_payment_reservation ALTER COLUMN id SET DEFAULT nextval('p_payment_reservation_id_seq');
+ALTER SEQUENCE p_payment_reservation_id_seq OWNED BY p_payment_reservation.id;
+
+-- 6. 기존 테이블 삭제 (identity 시퀀스도 함께 삭제됨)
+DROP TABLE p_payment_detail_old;
+DROP TABLE p_payment_reservation_old;
+DROP TABLE p_payment_old;
+
+-- 7. 제약/인덱스 (부모에 만들면 모든 파티션에 같은 인덱스가 생기고, 이후 만드는 파티션에도 자동으로 생긴다)
+ALTER TABLE p_payment
+    ADD CONSTRAINT pk_payment PRIMARY KEY (id, created_at);
+ALTER TABLE p_payment_reservation
+    ADD CONSTRAINT pk_payment_reservation PRIMARY KEY (id, created_at);
+ALTER TABLE p_payment_detail
+    ADD CONSTRAINT pk_payment_detail PRIMARY KEY (id, created_at);
+
+ALTER TABLE p_payment_reservation
+    ADD CONSTRAINT fk_payment_reservation_payment
+        FOREIGN KEY (payment_id, created_at) REFERENCES p_payment (id, created_at);
+ALTER TABLE p_payment_detail
+    ADD CONSTRAINT fk_payment_detail_payment
+        FOREIGN KEY (payment_id, created_at) REFERENCES p_payment (id, created_at);
+
+-- 결제 콜백(성공/실패)마다 orderId로 결제 조회 (생성 시각 구간을 함께 걸어 한 달 파티션만 읽음)
+CREATE UNIQUE INDEX ux_payment_order_id ON p_payment (order_id, created_at);
+
+-- 환불 시 예매 id로 결제 조회 (결제 파티션을 좁히기 위해 생성 시각까지 index-only scan으로 읽음)
+CREATE INDEX ix_payment_reservation_reservation_payment
+    ON p_payment_reservation (reservation_id, payment_id, created_at);
+
+-- 결제 -> 예매 목록 로딩 (links)
+CREATE INDEX ix_payment_reservation_payment ON p_payment_reservation (payment_id);
+
+-- 결제 -> 결제 세부 정보 (1:1)
+CREATE UNIQUE INDEX ux_payment_detail_payment_id ON p_payment_detail (payment_id, created_at);
+
+-- 사용자별 결제 내역 조회
+CREATE INDEX ix_payment_created_by_created_at ON p_payment (created_by, created_at DESC);
+
+-- 만료 대상 (미완료 결제만)
+CREATE INDEX ix_payment_expirable_created_at ON p_payment (created_at)
+    WHERE status IN ('REQUESTED', 'PROCESSING');
+
+-- 대사 구간 스트리밍 조회
+CREATE INDEX ix_payment_created_at ON p_payment (created_at);
+
+-- 상태별 결제 검색 keyset
+CREATE INDEX ix_payment_status_created_at_id ON p_payment (status, created_at DESC, id DESC);
@@ -0,0 +1,56 @@
+package com.tickatch.paymentservice.global.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+class ContextPropagationTaskDecoratorTest {
+
+  private final ContextPropagationTaskDecorator decorator = new ContextPropagationTaskDecorator();
+
+  @AfterEach
+  void tearDown() {
+    MDC.clear();
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void propagatesMdcAndSecurityContextToVirtualThread() throws Exception {
+    Authentication authentication =
+        new UsernamePasswordAuthenticationToken("user-1", null, List.of());
+    SecurityContextHolder.getContext().setAuthentication(authentication);
+    MDC.put("traceId", "trace-1");
+
+    AtomicReference<String> traceId = new AtomicReference<>();
+    AtomicReference<Authentication> propagated = new AtomicReference<>();
+    Runnable task =
+        decorator.decorate(
+            () -> {
+              traceId.set(MDC.get("traceId"));
+              propagated.set(SecurityContextHolder.getContext().getAuthentication());
+            });
+
+    Thread.ofVirtual().start(task).join();
+
+    assertThat(traceId.get()).isEqualTo("trace-1");
+    assertThat(propagated.get()).isSameAs(authentication);
+  }
+
+  @Test
+  void restoresPreviousContextOfWorkerThread() {
+    MDC.put("traceId", "submitter");
+    Runnable task = decorator.decorate(() -> assertThat(MDC.get("traceId")).isEqualTo("submitter"));
+
+    MDC.put("traceId", "worker");
+    task.run();
+
+    assertThat(MDC.get("traceId")).isEqualTo("worker");
+  }
+}
@@ -0,0 +1,53 @@
+package com.tickatch.paymentservice.global.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.joran.JoranConfigurator;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class LogbackConfigurationTest {
+
+  @Test
+  void consoleAndLogstashBothReceiveEvents() throws Exception {
+    PrintStream originalOut = System.out;
+    ByteArrayOutputStream console = new ByteArrayOutputStream();
+    LoggerContext context = new LoggerContext();
+
+    try (ServerSocket logstash = new ServerSocket(0, 1, InetAddress.getByName("127.0.0.1"))) {
+      logstash.setSoTimeout(10_000);
+      // springProperty 값은 Spring 없이 읽으므로 컨텍스트 속성으로 넣는다
+      context.putProperty("APP_NAME", "payment-service");
+      context.putProperty("LOG_QUEUE_SIZE", "256");
+      context.putProperty("LOGSTASH_DESTINATION", "127.0.0.1:" + logstash.getLocalPort());
+      System.setOut(new PrintStream(console, true, StandardCharsets.UTF_8));
+
+      JoranConfigurator configurator = new JoranConfigurator();
+      configurator.setContext(context);
+      configurator.doConfigure(getClass().getResource("/logback-spring.xml"));
+
+      context.getLogger("sink-check").info("delivered to every sink");
+
+      try (Socket socket = logstash.accept();
+          BufferedReader reader =
+              new BufferedReader(
+                  new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+        assertThat(reader.readLine()).contains("delivered to every sink");
+      }
+      // 비동기 큐를 비우고 종료
+      context.stop();
+      assertThat(console.toString(StandardCharsets.UTF_8)).contains("delivered to every sink");
+    } finally {
+      context.stop();
+      System.setOut(originalOut);
+    }
+  }
+}
@@ -0,0 +1,69 @@
+package com.tickatch.paymentservice.global.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LoggerRateLimitFilterTest {
+
+  private final LoggerContext context = new LoggerContext();
+  private final LoggerRateLimitFilter filter = new LoggerRateLimitFilter();
+  private Logger limited;
+  private Logger other;
+
+  @BeforeEach
+  void setUp() {
+    context.getLogger(Logger.ROOT_LOGGER_NAME).setLevel(Level.INFO);
+    limited = context.getLogger("com.tickatch.paymentservice.global.config.FeignRequestInterceptor");
+    other = context.getLogger("com.tickatch.paymentservice.payment.domain.Payment");
+
+    filter.setContext(context);
+    filter.setLoggerPrefix("com.tickatch.paymentservice.global.config");
+    filter.setPermitsPerSecond(2);
+    filter.start();
+  }
+
+  @Test
+  void infoBeyondPermitsIsSuppressedAndCounted() {
+    int denied = 0;
+    for (int i = 0; i < 100; i++) {
+      if (decide(limited, Level.INFO) == FilterReply.DENY) {
+        denied++;
+      }
+    }
+
+    // 초 경계를 한 번 넘더라도 윈도우당 2건만 통과
+    assertThat(denied).isGreaterThanOrEqualTo(96);
+    assertThat(filter.getSuppressedCount()).isEqualTo(denied);
+  }
+
+  @Test
+  void warnAndOtherLoggersAreNotLimited() {
+    filter.setPermitsPerSecond(0);
+
+    assertThat(decide(limited, Level.WARN)).isEqualTo(FilterReply.NEUTRAL);
+    assertThat(decide(limited, Level.ERROR)).isEqualTo(FilterReply.NEUTRAL);
+    assertThat(decide(other, Level.INFO)).isEqualTo(FilterReply.NEUTRAL);
+    assertThat(decide(limited, Level.INFO)).isEqualTo(FilterReply.DENY);
+    assertThat(filter.getSuppressedCount()).isEqualTo(1);
+  }
+
+  @Test
+  void disabledLevelsAndLevelChecksDoNotConsumePermits() {
+    filter.setPermitsPerSecond(0);
+
+    assertThat(decide(limited, Level.DEBUG)).isEqualTo(FilterReply.NEUTRAL);
+    assertThat(filter.decide(null, limited, Level.INFO, null, null, null))
+        .isEqualTo(FilterReply.NEUTRAL);
+    assertThat(filter.getSuppressedCount()).isZero();
+  }
+
+  private FilterReply decide(Logger logger, Level level) {
+    return filter.decide(null, logger, level, "message {}", new Object[] {1}, null);
+  }
+}
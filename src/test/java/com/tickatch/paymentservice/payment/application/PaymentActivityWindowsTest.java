@@ -0,0 +1,117 @@
+package com.tickatch.paymentservice.payment.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.tickatch.paymentservice.payment.application.PaymentActivityWindows.Outcome;
+import com.tickatch.paymentservice.payment.application.PaymentActivityWindows.Window;
+import com.tickatch.paymentservice.payment.domain.PaymentStatus;
+import com.tickatch.paymentservice.payment.domain.event.PaymentStatusChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class PaymentActivityWindowsTest {
+
+  // 분 경계에서 시작 (2025-03-01T12:00:00Z)
+  private final AtomicLong now = new AtomicLong(1_740_830_400_000L);
+  private final PaymentActivityWindows windows = new PaymentActivityWindows(now::get);
+
+  @Test
+  void countsOnlyCompletedBuckets() {
+    windows.onStatusChanged(event(PaymentStatus.REQUESTED, PaymentStatus.PROCESSING, 1000L));
+    windows.onStatusChanged(event(PaymentStatus.CONFIRMING, PaymentStatus.SUCCESS, 1000L));
+
+    // 진행 중인 초는 아직 집계하지 않음
+    assertThat(windows.count(Window.SECOND, Outcome.CREATED)).isZero();
+
+    now.addAndGet(1_000L);
+    assertThat(windows.count(Window.SECOND, Outcome.CREATED)).isEqualTo(1);
+    assertThat(windows.amount(Window.SECOND, Outcome.CONFIRMED)).isEqualTo(1000L);
+    assertThat(windows.conversion(Window.MINUTE)).isEqualTo(1.0);
+
+    now.addAndGet(1_000L);
+    assertThat(windows.count(Window.SECOND, Outcome.CREATED)).isZero();
+    assertThat(windows.count(Window.MINUTE, Outcome.CREATED)).isEqualTo(1);
+  }
+
+  @Test
+  void oldBucketsRollOutOfWindow() {
+    windows.onStatusChanged(event(PaymentStatus.PROCESSING, PaymentStatus.FAIL, 500L));
+
+    now.addAndGet(61_000L);
+    assertThat(windows.count(Window.MINUTE, Outcome.FAILED)).isZero();
+    assertThat(windows.count(Window.HOUR, Outcome.FAILED)).isEqualTo(1);
+
+    // 같은 칸을 재사용하면 이전 값은 지워짐
+    windows.onStatusChanged(event(PaymentStatus.PROCESSING, PaymentStatus.FAIL, 700L));
+    now.addAndGet(1_000L);
+    assertThat(windows.amount(Window.MINUTE, Outcome.FAILED)).isEqualTo(700L);
+
+    now.addAndGet(3_600_000L);
+    assertThat(windows.count(Window.HOUR, Outcome.FAILED)).isZero();
+  }
+
+  @Test
+  void ignoresTransitionsWithoutOutcome() {
+    windows.onStatusChanged(event(PaymentStatus.CONFIRMING, PaymentStatus.PROCESSING, 1000L));
+    now.addAndGet(1_000L);
+
+    assertThat(windows.snapshot().get("1s").counts())
+        .allSatisfy((outcome, n) -> assertThat(n).isZero());
+  }
+
+  @Test
+  void concurrentRecordsAreNotLost() throws Exception {
+    int threads = 8;
+    int perThread = 10_000;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    CountDownLatch start = new CountDownLatch(1);
+    for (int t = 0; t < threads; t++) {
+      executor.submit(
+          () -> {
+            start.await();
+            for (int i = 0; i < perThread; i++) {
+              windows.record(Outcome.CONFIRMED, 10L);
+            }
+            return null;
+          });
+    }
+    start.countDown();
+    executor.shutdown();
+    assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+    now.addAndGet(1_000L);
+    assertThat(windows.count(Window.SECOND, Outcome.CONFIRMED)).isEqualTo(threads * perThread);
+    assertThat(windows.amount(Window.MINUTE, Outcome.CONFIRMED))
+        .isEqualTo(threads * perThread * 10L);
+  }
+
+  @Test
+  void exposesGaugesPerWindowAndOutcome() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    windows.bindTo(registry);
+    windows.onStatusChanged(event(PaymentStatus.SUCCESS, PaymentStatus.REFUND, 2000L));
+    now.addAndGet(60_000L);
+
+    assertThat(
+            registry
+                .get("payment.window.amount")
+                .tag("window", "1h")
+                .tag("outcome", "refunded")
+                .gauge()
+                .value())
+        .isEqualTo(2000.0);
+  }
+
+  private static PaymentStatusChangedEvent event(
+      PaymentStatus from, PaymentStatus to, long amount) {
+    return new PaymentStatusChangedEvent(
+        UUID.randomUUID(), UUID.randomUUID(), from, to, amount, LocalDateTime.now());
+  }
+}
@@ -0,0 +1,197 @@
+package com.tickatch.paymentservice.payment.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.tickatch.paymentservice.global.config.AuditorAwareImpl;
+import com.tickatch.paymentservice.global.config.AuthExtractor.AuthInfo;
+import com.tickatch.paymentservice.payment.application.dto.PaymentViewPage;
+import com.tickatch.paymentservice.payment.application.dto.PaymentViewResult;
+import com.tickatch.paymentservice.payment.application.service.PaymentViewQueryService;
+import com.tickatch.paymentservice.payment.domain.Payment;
+import com.tickatch.paymentservice.payment.domain.PaymentMethod;
+import com.tickatch.paymentservice.payment.domain.PaymentStatus;
+import com.tickatch.paymentservice.payment.domain.PaymentView;
+import com.tickatch.paymentservice.payment.domain.RefundReason;
+import com.tickatch.paymentservice.payment.domain.dto.PaymentReservationInfo;
+import com.tickatch.paymentservice.payment.domain.exception.PaymentException;
+import com.tickatch.paymentservice.payment.domain.repository.PaymentRepository;
+import com.tickatch.paymentservice.payment.domain.repository.PaymentViewRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 상태 전이가 같은 트랜잭션에서 조회 모델에 반영되는지 (커밋 시점 리스너라 테스트 트랜잭션 없이 실행)
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PaymentViewProjectorTest {
+
+  private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+  @Autowired private PaymentRepository paymentRepository;
+  @Autowired private PaymentViewRepository paymentViewRepository;
+  @Autowired private PlatformTransactionManager transactionManager;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private TransactionTemplate transactionTemplate;
+  private PaymentViewQueryService queryService;
+
+  @BeforeEach
+  void setUp() {
+    transactionTemplate = new TransactionTemplate(transactionManager);
+    queryService = new PaymentViewQueryService(paymentViewRepository);
+  }
+
+  @AfterEach
+  void tearDown() {
+    jdbcTemplate.update("delete from p_payment_view");
+    jdbcTemplate.update("delete from p_payment_reservation");
+    jdbcTemplate.update("delete from p_payment");
+  }
+
+  @Test
+  void createdPaymentIsProjectedWithReservationIds() {
+    UUID paymentId = create("r-1", "r-2");
+
+    PaymentView view = paymentViewRepository.findById(paymentId).orElseThrow();
+    assertThat(view.getStatus()).isEqualTo(PaymentStatus.PROCESSING);
+    assertThat(view.getReservationIds()).containsExactly("r-1", "r-2");
+    assertThat(view.getTotalPrice()).isEqualTo(2000L);
+    assertThat(view.getCreatedBy()).isEqualTo("SYSTEM");
+  }
+
+  @Test
+  void statusChangeUpdatesViewAndTimestamp() {
+    UUID paymentId = create("r-1");
+
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          Payment payment = paymentRepository.findWithDetailAndLinksById(paymentId).orElseThrow();
+          payment.cancel(RefundReason.CUSTOMER_CANCEL);
+          paymentRepository.save(payment);
+        });
+
+    PaymentView view = paymentViewRepository.findById(paymentId).orElseThrow();
+    assertThat(view.getStatus()).isEqualTo(PaymentStatus.CANCEL);
+    assertThat(view.getCanceledAt()).isNotNull();
+    assertThat(view.getApprovedAt()).isNull();
+  }
+
+  @Test
+  void missingViewRowIsRebuiltFromPayment() {
+    UUID paymentId = create("r-1", "r-2");
+    // 백필 이전 결제처럼 조회 모델 행이 없는 경우
+    jdbcTemplate.update("delete from p_payment_view where payment_id = ?", paymentId);
+
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          Payment payment = paymentRepository.findWithDetailAndLinksById(paymentId).orElseThrow();
+          payment.cancel(RefundReason.CUSTOMER_CANCEL);
+          paymentRepository.save(payment);
+        });
+
+    PaymentView view = paymentViewRepository.findById(paymentId).orElseThrow();
+    assertThat(view.getStatus()).isEqualTo(PaymentStatus.CANCEL);
+    assertThat(view.getReservationIds()).containsExactly("r-1", "r-2");
+  }
+
+  @Test
+  void rolledBackChangeIsNotProjected() {
+    UUID paymentId = create("r-1");
+
+    assertThatThrownBy(
+            () ->
+                transactionTemplate.executeWithoutResult(
+                    status -> {
+                      Payment payment =
+                          paymentRepository.findWithDetailAndLinksById(paymentId).orElseThrow();
+                      payment.markFail();
+                      paymentRepository.save(payment);
+                      throw new IllegalStateException("rollback");
+                    }))
+        .isInstanceOf(IllegalStateException.class);
+
+    assertThat(paymentViewRepository.findById(paymentId).orElseThrow().getStatus())
+        .isEqualTo(PaymentStatus.PROCESSING);
+  }
+
+  @Test
+  void myPaymentsArePagedNewestFirst() {
+    List<UUID> mine = new ArrayList<>();
+    for (int i = 0; i < 12; i++) {
+      UUID id = create("r-" + i);
+      // 생성자/생성 시각은 감사 필드라 투영 후 직접 바꾼다 (3건씩 같은 시각)
+      jdbcTemplate.update(
+          "update p_payment_view set created_by = ?, created_at = ? where payment_id = ?",
+          "user-1",
+          BASE.plusMinutes(i / 3),
+          id);
+      mine.add(id);
+    }
+    create("other");
+
+    AuthInfo user = new AuthInfo("USER", "user-1");
+    List<PaymentViewResult> seen = new ArrayList<>();
+    String cursor = null;
+    int pages = 0;
+    do {
+      PaymentViewPage page = queryService.getMyPayments(cursor, 5, user);
+      seen.addAll(page.items());
+      cursor = page.nextCursor();
+      pages++;
+    } while (cursor != null);
+
+    assertThat(pages).isEqualTo(3);
+    assertThat(seen)
+        .extracting(PaymentViewResult::paymentId)
+        .doesNotHaveDuplicates()
+        .containsExactlyInAnyOrderElementsOf(mine);
+    assertThat(seen)
+        .isSortedAccordingTo(Comparator.comparing(PaymentViewResult::createdAt).reversed());
+  }
+
+  @Test
+  void otherUsersPaymentIsDenied() {
+    UUID paymentId = create("r-1");
+
+    assertThatThrownBy(() -> queryService.getPayment(paymentId, new AuthInfo("USER", "user-2")))
+        .isInstanceOf(PaymentException.class);
+    assertThat(queryService.getPayment(paymentId, new AuthInfo("ADMIN", "admin")).status())
+        .isEqualTo(PaymentStatus.PROCESSING);
+  }
+
+  private UUID create(String... reservationIds) {
+    List<PaymentReservationInfo> infos =
+        List.of(reservationIds).stream().map(id -> new PaymentReservationInfo(id, 1000L)).toList();
+    return transactionTemplate.execute(
+        status -> {
+          Payment payment = Payment.create("view", infos, PaymentMethod.TOSS_CARD);
+          payment.markProcessing();
+          return paymentRepository.save(payment).getId().toUuid();
+        });
+  }
+
+  @SpringBootConfiguration
+  @EnableJpaAuditing
+  @Import({AuditorAwareImpl.class, PaymentViewProjector.class})
+  @EntityScan(basePackageClasses = Payment.class)
+  @EnableJpaRepositories(basePackageClasses = PaymentRepository.class)
+  static class ProjectorConfiguration {}
+}
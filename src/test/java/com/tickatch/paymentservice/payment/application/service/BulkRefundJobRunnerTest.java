@@ -0,0 +1,390 @@
+package com.tickatch.paymentservice.payment.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.Mockito.mock;
+
+import com.tickatch.paymentservice.global.config.AuditorAwareImpl;
+import com.tickatch.paymentservice.global.config.AuthExtractor.AuthInfo;
+import com.tickatch.paymentservice.payment.application.InFlightPaymentCache;
+import com.tickatch.paymentservice.payment.application.PaymentLogEventPublisher;
+import com.tickatch.paymentservice.payment.application.PaymentMetrics;
+import com.tickatch.paymentservice.payment.application.TossPaymentsGateway;
+import com.tickatch.paymentservice.payment.application.dto.RefundJobProgress;
+import com.tickatch.paymentservice.payment.application.dto.TossResponse;
+import com.tickatch.paymentservice.payment.domain.Payment;
+import com.tickatch.paymentservice.payment.domain.PaymentMethod;
+import com.tickatch.paymentservice.payment.domain.PaymentStatus;
+import com.tickatch.paymentservice.payment.domain.RefundJobItemStatus;
+import com.tickatch.paymentservice.payment.domain.RefundJobStatus;
+import com.tickatch.paymentservice.payment.domain.RefundReason;
+import com.tickatch.paymentservice.payment.domain.TossCardDetail;
+import com.tickatch.paymentservice.payment.domain.dto.PaymentReservationInfo;
+import com.tickatch.paymentservice.payment.domain.exception.PaymentErrorCode;
+import com.tickatch.paymentservice.payment.domain.exception.PaymentException;
+import com.tickatch.paymentservice.payment.domain.repository.PaymentRepository;
+import com.tickatch.paymentservice.payment.domain.repository.RefundJobItemRepository;
+import com.tickatch.paymentservice.payment.domain.repository.RefundJobRepository;
+import com.tickatch.paymentservice.payment.domain.service.ReservationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 일괄 환불 작업 테스트.
+ *
+ * <p>실제 리포지토리(H2)와 지연/동시 호출 수를 기록하는 토스 스텁으로 병렬도 제한, 초당 호출 제한, 체크포인트 재개를 확인한다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BulkRefundJobRunnerTest {
+
+  private static final int PARALLELISM = 4;
+  private static final int RATE_PER_SECOND = 10;
+  private static final AuthInfo ADMIN = new AuthInfo("ADMIN", "admin");
+
+  @Autowired private PaymentRepository paymentRepository;
+  @Autowired private RefundJobRepository refundJobRepository;
+  @Autowired private RefundJobItemRepository refundJobItemRepository;
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  private final StubTossGateway gateway = new StubTossGateway();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private TransactionTemplate transactionTemplate;
+  private BulkRefundService bulkRefundService;
+  private BulkRefundJobRunner runner;
+
+  @BeforeEach
+  void setUp() {
+    transactionTemplate = new TransactionTemplate(transactionManager);
+    PaymentService paymentService =
+        new PaymentService(
+            paymentRepository,
+            mock(ReservationService.class),
+            mock(PaymentLogEventPublisher.class),
+            gateway,
+            transactionTemplate,
+            mock(InFlightPaymentCache.class),
+            new PaymentMetrics(new SimpleMeterRegistry()));
+
+    bulkRefundService = new BulkRefundService(refundJobRepository, refundJobItemRepository);
+    runner =
+        new BulkRefundJobRunner(
+            paymentService,
+            paymentRepository,
+            refundJobRepository,
+            refundJobItemRepository,
+            transactionManager,
+            meterRegistry,
+            PARALLELISM,
+            RATE_PER_SECOND,
+            10,
+            Duration.ofSeconds(60));
+  }
+
+  @AfterEach
+  void tearDown() {
+    runner.shutdown();
+  }
+
+  @Test
+  void refundsEveryPaymentWithBoundedParallelismAndRate() {
+    List<Payment> payments = successPayments(25);
+    gateway.reject(paymentKey(payments.get(0)));
+    List<String> reservationIds = new ArrayList<>(reservationIdsOf(payments));
+    reservationIds.add("unknown-reservation");
+
+    UUID jobId = createJob(reservationIds);
+
+    long started = System.nanoTime();
+    runner.runPendingJobs();
+    Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+    RefundJobProgress progress = bulkRefundService.getProgress(jobId, ADMIN);
+    assertThat(progress.status()).isEqualTo(RefundJobStatus.COMPLETED);
+    assertThat(progress.total()).isEqualTo(51);
+    assertThat(progress.refunded()).isEqualTo(48);
+    assertThat(progress.failed()).isEqualTo(2);
+    assertThat(progress.skipped()).isEqualTo(1);
+    assertThat(progress.pending()).isZero();
+
+    // 결제당 토스 취소 1회, 결과는 Payment.refund/refundFail로 반영
+    assertThat(gateway.calls.get()).isEqualTo(25);
+    assertThat(statusOf(payments.get(0))).isEqualTo(PaymentStatus.REFUND_FAIL);
+    assertThat(statusOf(payments.get(1))).isEqualTo(PaymentStatus.REFUND);
+
+    assertThat(gateway.peakConcurrency.get()).isBetween(2, PARALLELISM);
+    // 초당 10회 제한: 25회 호출은 최소 두 번의 허용량 갱신을 기다린다
+    assertThat(elapsed).isGreaterThan(Duration.ofSeconds(1));
+  }
+
+  @Test
+  void resumesFromCheckpointAfterLeaseExpires() {
+    List<Payment> payments = successPayments(6);
+    UUID jobId = createJob(reservationIdsOf(payments));
+
+    // 이전 인스턴스: 결제 2건은 환불과 체크포인트까지 끝냈고,
+    // 1건은 토스 취소 후 결과를 반영하기 전에 중단됐다
+    for (Payment payment : payments.subList(0, 2)) {
+      refundInDatabase(payment);
+      transactionTemplate.executeWithoutResult(
+          status ->
+              refundJobItemRepository.markProcessed(
+                  jobId,
+                  payment.getReservationIds(),
+                  RefundJobItemStatus.REFUNDED,
+                  payment.getId().toUuid(),
+                  null,
+                  LocalDateTime.now()));
+    }
+    gateway.alreadyCanceled(paymentKey(payments.get(2)));
+    acquireLease(jobId, "crashed-node", LocalDateTime.now().plusHours(1));
+
+    // 리스가 살아 있는 동안은 다른 인스턴스가 손대지 않는다
+    runner.runPendingJobs();
+    assertThat(gateway.calls.get()).isZero();
+
+    // 리스 만료 후 남은 항목만 이어서 처리
+    acquireLease(jobId, "crashed-node", LocalDateTime.now().minusSeconds(1));
+    runner.runPendingJobs();
+
+    assertThat(gateway.calls.get()).isEqualTo(4);
+    assertThat(payments).extracting(this::statusOf).containsOnly(PaymentStatus.REFUND);
+    RefundJobProgress progress = bulkRefundService.getProgress(jobId, ADMIN);
+    assertThat(progress.status()).isEqualTo(RefundJobStatus.COMPLETED);
+    assertThat(progress.refunded()).isEqualTo(12);
+  }
+
+  @Test
+  void appendingReservationsReopensCompletedJobAndIgnoresDuplicates() {
+    List<Payment> first = successPayments(1);
+    UUID jobId = createJob(reservationIdsOf(first));
+    runner.runPendingJobs();
+    assertThat(bulkRefundService.getProgress(jobId, ADMIN).status())
+        .isEqualTo(RefundJobStatus.COMPLETED);
+
+    List<Payment> second = successPayments(1);
+    List<String> appended = new ArrayList<>(reservationIdsOf(second));
+    appended.addAll(reservationIdsOf(first));
+    Integer added =
+        transactionTemplate.execute(
+            status -> bulkRefundService.appendReservations(jobId, appended, ADMIN));
+
+    assertThat(added).isEqualTo(2);
+    assertThat(bulkRefundService.getProgress(jobId, ADMIN).status())
+        .isEqualTo(RefundJobStatus.RUNNING);
+
+    runner.runPendingJobs();
+    assertThat(bulkRefundService.getProgress(jobId, ADMIN).refunded()).isEqualTo(4);
+    assertThat(gateway.calls.get()).isEqualTo(2);
+  }
+
+  @Test
+  void unavailableTossEndsRunWithItemsPending() {
+    List<Payment> payments = successPayments(2);
+    UUID jobId = createJob(reservationIdsOf(payments));
+    gateway.unavailable = true;
+
+    // 항목이 모두 대기 상태로 남아도 같은 청크를 계속 다시 읽지 않고 실행을 끝낸다
+    assertTimeoutPreemptively(Duration.ofSeconds(10), runner::runPendingJobs);
+
+    assertThat(gateway.calls.get()).isEqualTo(2);
+    RefundJobProgress progress = bulkRefundService.getProgress(jobId, ADMIN);
+    assertThat(progress.status()).isEqualTo(RefundJobStatus.RUNNING);
+    assertThat(progress.pending()).isEqualTo(4);
+    assertThat(pendingGauge()).isEqualTo(4);
+
+    // 토스가 회복되면 다음 실행에서 이어서 처리
+    gateway.unavailable = false;
+    runner.runPendingJobs();
+
+    assertThat(bulkRefundService.getProgress(jobId, ADMIN).status())
+        .isEqualTo(RefundJobStatus.COMPLETED);
+    assertThat(payments).extracting(this::statusOf).containsOnly(PaymentStatus.REFUND);
+    assertThat(pendingGauge()).isZero();
+  }
+
+  @Test
+  void unknownTossOutcomeLeavesItemsPendingUntilSettled() {
+    List<Payment> payments = successPayments(2);
+    UUID jobId = createJob(reservationIdsOf(payments));
+    gateway.outcomeUnknown = true;
+
+    // 토스는 취소했지만 응답을 받지 못한 경우: 실패로 확정하지 않는다
+    runner.runPendingJobs();
+
+    RefundJobProgress progress = bulkRefundService.getProgress(jobId, ADMIN);
+    assertThat(progress.pending()).isEqualTo(4);
+    assertThat(progress.failed()).isZero();
+    assertThat(payments).extracting(this::statusOf).containsOnly(PaymentStatus.SUCCESS);
+
+    // 다음 실행에서 ALREADY_CANCELED_PAYMENT로 환불이 확정된다
+    gateway.outcomeUnknown = false;
+    runner.runPendingJobs();
+
+    assertThat(bulkRefundService.getProgress(jobId, ADMIN).refunded()).isEqualTo(4);
+    assertThat(payments).extracting(this::statusOf).containsOnly(PaymentStatus.REFUND);
+  }
+
+  @Test
+  void onlyAdminCanManageJobs() {
+    AuthInfo user = new AuthInfo("CUSTOMER", "user-1");
+
+    assertThatThrownBy(
+            () -> bulkRefundService.createJob(RefundReason.PRODUCT_CANCEL, List.of("r-1"), user))
+        .isInstanceOfSatisfying(
+            PaymentException.class,
+            e -> assertThat(e.getErrorCode()).isEqualTo(PaymentErrorCode.ACCESS_DENIED));
+  }
+
+  private double pendingGauge() {
+    return meterRegistry.get("payment.refund.job.pending").gauge().value();
+  }
+
+  private UUID createJob(List<String> reservationIds) {
+    return transactionTemplate.execute(
+        status -> bulkRefundService.createJob(RefundReason.PRODUCT_CANCEL, reservationIds, ADMIN));
+  }
+
+  private void acquireLease(UUID jobId, String owner, LocalDateTime leaseUntil) {
+    transactionTemplate.executeWithoutResult(
+        status ->
+            refundJobRepository.acquireLease(
+                jobId, owner, LocalDateTime.now().plusHours(2), leaseUntil));
+  }
+
+  private List<Payment> successPayments(int count) {
+    return IntStream.range(0, count)
+        .mapToObj(
+            i -> {
+              String prefix = UUID.randomUUID().toString();
+              Payment payment =
+                  Payment.create(
+                      "bulk-refund",
+                      List.of(
+                          new PaymentReservationInfo(prefix + "-1", 1000L),
+                          new PaymentReservationInfo(prefix + "-2", 1000L)),
+                      PaymentMethod.TOSS_CARD);
+              payment.markProcessing();
+              ReflectionTestUtils.setField(payment, "status", PaymentStatus.CONFIRMING);
+              TossCardDetail.create(payment, "pk-" + prefix);
+              payment.markSuccess();
+              return transactionTemplate.execute(status -> paymentRepository.save(payment));
+            })
+        .toList();
+  }
+
+  private void refundInDatabase(Payment payment) {
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          Payment loaded =
+              paymentRepository.findWithDetailAndLinksById(payment.getId().toUuid()).orElseThrow();
+          loaded.refund(RefundReason.PRODUCT_CANCEL);
+          paymentRepository.save(loaded);
+        });
+  }
+
+  private PaymentStatus statusOf(Payment payment) {
+    return paymentRepository.findByOrderId(payment.getOrderId()).orElseThrow().getStatus();
+  }
+
+  private static List<String> reservationIdsOf(List<Payment> payments) {
+    return payments.stream().flatMap(payment -> payment.getReservationIds().stream()).toList();
+  }
+
+  private static String paymentKey(Payment payment) {
+    return payment.getDetail().getPaymentKey();
+  }
+
+  private static class StubTossGateway implements TossPaymentsGateway {
+
+    private final Set<String> rejected = ConcurrentHashMap.newKeySet();
+    private final Set<String> canceledBefore = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakConcurrency = new AtomicInteger();
+    private volatile boolean unavailable;
+    private volatile boolean outcomeUnknown;
+
+    void reject(String paymentKey) {
+      rejected.add(paymentKey);
+    }
+
+    void alreadyCanceled(String paymentKey) {
+      canceledBefore.add(paymentKey);
+    }
+
+    @Override
+    public TossResponse cancel(String paymentKey, String cancelReason) {
+      calls.incrementAndGet();
+      if (unavailable) {
+        throw new PaymentException(PaymentErrorCode.TOSS_UNAVAILABLE);
+      }
+      peakConcurrency.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+      try {
+        Thread.sleep(50);
+        if (rejected.contains(paymentKey)) {
+          return new TossResponse(400, null, null, null, "REJECT_CARD_PAYMENT", "rejected");
+        }
+        if (canceledBefore.contains(paymentKey)) {
+          return new TossResponse(400, null, null, null, "ALREADY_CANCELED_PAYMENT", "done");
+        }
+        if (outcomeUnknown) {
+          canceledBefore.add(paymentKey);
+          throw new PaymentException(PaymentErrorCode.TOSS_OUTCOME_UNKNOWN);
+        }
+        return new TossResponse(200, "CANCELED", paymentKey, null, null, null);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException(e);
+      } finally {
+        inFlight.decrementAndGet();
+      }
+    }
+
+    @Override
+    public TossResponse createPayment(String orderName, UUID orderId, long amount) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public TossResponse confirm(String paymentKey, UUID orderId, long amount) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public TossResponse findByOrderId(UUID orderId) {
+      throw new UnsupportedOperationException();
+    }
+  }
+
+  @SpringBootConfiguration
+  @EnableJpaAuditing
+  @Import(AuditorAwareImpl.class)
+  @EntityScan(basePackageClasses = Payment.class)
+  @EnableJpaRepositories(basePackageClasses = PaymentRepository.class)
+  static class RepositoryOnlyConfiguration {}
+}
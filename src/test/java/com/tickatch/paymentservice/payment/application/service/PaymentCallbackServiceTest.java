@@ -0,0 +1,141 @@
+package com.tickatch.paymentservice.payment.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.tickatch.paymentservice.payment.application.PaymentCallbackStore;
+import com.tickatch.paymentservice.payment.domain.PaymentStatus;
+import com.tickatch.paymentservice.payment.domain.exception.PaymentException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class PaymentCallbackServiceTest {
+
+  private final PaymentService paymentService = mock(PaymentService.class);
+  private final InMemoryCallbackStore store = new InMemoryCallbackStore();
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final PaymentCallbackService callbackService =
+      new PaymentCallbackService(paymentService, store, meterRegistry);
+
+  @Test
+  void concurrentDuplicateCallbacksConfirmOnce() throws Exception {
+    UUID orderId = UUID.randomUUID();
+    CountDownLatch tossCalled = new CountDownLatch(1);
+    CountDownLatch releaseToss = new CountDownLatch(1);
+    when(paymentService.confirmPayment(anyString(), any(UUID.class), anyLong()))
+        .thenAnswer(
+            invocation -> {
+              tossCalled.countDown();
+              releaseToss.await(5, TimeUnit.SECONDS);
+              return PaymentStatus.SUCCESS;
+            });
+
+    int duplicates = 20;
+    ExecutorService executor = Executors.newFixedThreadPool(duplicates);
+    try {
+      List<Future<PaymentStatus>> results = new ArrayList<>();
+      for (int i = 0; i < duplicates; i++) {
+        results.add(executor.submit(() -> callbackService.confirm("pk", orderId, 1000L)));
+      }
+      assertThat(tossCalled.await(5, TimeUnit.SECONDS)).isTrue();
+      Thread.sleep(100);
+      releaseToss.countDown();
+
+      for (Future<PaymentStatus> result : results) {
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(PaymentStatus.SUCCESS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    verify(paymentService, times(1)).confirmPayment("pk", orderId, 1000L);
+    assertThat(count("miss")).isEqualTo(1);
+    assertThat(count("collapsed") + count("hit")).isEqualTo(duplicates - 1);
+  }
+
+  @Test
+  void replayedCallbackReturnsStoredOutcomeWithoutCallingToss() {
+    UUID orderId = UUID.randomUUID();
+    when(paymentService.confirmPayment("pk", orderId, 1000L)).thenReturn(PaymentStatus.SUCCESS);
+
+    callbackService.confirm("pk", orderId, 1000L);
+    PaymentStatus replayed = callbackService.confirm("pk", orderId, 1000L);
+
+    assertThat(replayed).isEqualTo(PaymentStatus.SUCCESS);
+    verify(paymentService, times(1)).confirmPayment("pk", orderId, 1000L);
+    assertThat(count("hit")).isEqualTo(1);
+  }
+
+  @Test
+  void claimHeldByAnotherNodeIsRejected() {
+    UUID orderId = UUID.randomUUID();
+    store.tryClaim("SUCCESS:" + orderId + ":pk", orderId);
+
+    assertThatThrownBy(() -> callbackService.confirm("pk", orderId, 1000L))
+        .isInstanceOf(PaymentException.class);
+    assertThat(count("conflict")).isEqualTo(1);
+  }
+
+  @Test
+  void failedProcessingReleasesClaimForRetry() {
+    UUID orderId = UUID.randomUUID();
+    when(paymentService.failPayment(orderId, "USER_CANCEL"))
+        .thenThrow(new IllegalStateException("db down"))
+        .thenReturn(PaymentStatus.CANCEL);
+
+    assertThatThrownBy(() -> callbackService.fail(orderId, "USER_CANCEL"))
+        .isInstanceOf(IllegalStateException.class);
+    assertThat(callbackService.fail(orderId, "USER_CANCEL")).isEqualTo(PaymentStatus.CANCEL);
+  }
+
+  private double count(String result) {
+    return meterRegistry
+        .get("payment.callback.idempotency")
+        .tag("result", result)
+        .counter()
+        .count();
+  }
+
+  private static class InMemoryCallbackStore implements PaymentCallbackStore {
+
+    private final Map<String, Optional<String>> records = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<String> findOutcome(String idempotencyKey) {
+      return records.getOrDefault(idempotencyKey, Optional.empty());
+    }
+
+    @Override
+    public boolean tryClaim(String idempotencyKey, UUID orderId) {
+      return records.putIfAbsent(idempotencyKey, Optional.empty()) == null;
+    }
+
+    @Override
+    public void complete(String idempotencyKey, String outcome) {
+      records.put(idempotencyKey, Optional.of(outcome));
+    }
+
+    @Override
+    public void release(String idempotencyKey) {
+      records.remove(idempotencyKey);
+    }
+  }
+}
@@ -0,0 +1,133 @@
+package com.tickatch.paymentservice.payment.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.tickatch.paymentservice.payment.application.TossPaymentsGateway;
+import com.tickatch.paymentservice.payment.application.dto.TossResponse;
+import com.tickatch.paymentservice.payment.domain.repository.PaymentRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.UncheckedIOException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+class PaymentConfirmRecoveryServiceTest {
+
+  private static final Duration STALE_AFTER = Duration.ofMinutes(5);
+
+  private final PaymentRepository paymentRepository = mock(PaymentRepository.class);
+  private final PaymentService paymentService = mock(PaymentService.class);
+  private final TossPaymentsGateway gateway = mock(TossPaymentsGateway.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final UUID orderId = UUID.randomUUID();
+
+  private PaymentConfirmRecoveryService recoveryService;
+
+  @BeforeEach
+  void setUp() {
+    PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+    when(paymentRepository.findStaleConfirmingOrderIds(any(LocalDateTime.class), anyInt()))
+        .thenReturn(List.of(orderId));
+    when(paymentRepository.claimStaleConfirming(eq(orderId), any(), any())).thenReturn(1);
+
+    recoveryService =
+        new PaymentConfirmRecoveryService(
+            paymentRepository,
+            paymentService,
+            gateway,
+            transactionManager,
+            meterRegistry,
+            STALE_AFTER,
+            50);
+  }
+
+  @Test
+  void capturedAtTossIsRecoveredAsSuccess() {
+    when(gateway.findByOrderId(orderId))
+        .thenReturn(new TossResponse(200, "DONE", "pk_1", null, null, null));
+
+    assertThat(recoveryService.recover()).isEqualTo(1);
+
+    verify(paymentService).recoverConfirmedPayment(orderId, "pk_1");
+    verify(paymentService, never()).failUnconfirmedPayment(any());
+    assertThat(outcome("success")).isEqualTo(1);
+  }
+
+  @Test
+  void notFoundOrAbortedAtTossIsFailed() {
+    when(gateway.findByOrderId(orderId))
+        .thenReturn(new TossResponse(404, null, null, null, "NOT_FOUND_PAYMENT", null))
+        .thenReturn(new TossResponse(200, "ABORTED", "pk_1", null, null, null));
+
+    assertThat(recoveryService.recover()).isEqualTo(1);
+    assertThat(recoveryService.recover()).isEqualTo(1);
+
+    verify(paymentService, times(2)).failUnconfirmedPayment(orderId);
+    verify(paymentService, never()).recoverConfirmedPayment(any(), any());
+    assertThat(outcome("fail")).isEqualTo(2);
+  }
+
+  @Test
+  void unsettledOrFailedLookupIsLeftForNextRun() {
+    when(gateway.findByOrderId(orderId))
+        .thenReturn(new TossResponse(200, "IN_PROGRESS", "pk_1", null, null, null))
+        .thenReturn(new TossResponse(500, null, null, null, "PROVIDER_ERROR", null))
+        .thenThrow(new UncheckedIOException(new SocketTimeoutException("read timed out")));
+
+    assertThat(recoveryService.recover()).isZero();
+    assertThat(recoveryService.recover()).isZero();
+    assertThat(recoveryService.recover()).isZero();
+
+    verify(paymentService, never()).recoverConfirmedPayment(any(), any());
+    verify(paymentService, never()).failUnconfirmedPayment(any());
+    assertThat(outcome("pending")).isEqualTo(2);
+    assertThat(outcome("error")).isEqualTo(1);
+  }
+
+  @Test
+  void paymentClaimedByAnotherInstanceIsSkipped() {
+    when(paymentRepository.claimStaleConfirming(eq(orderId), any(), any())).thenReturn(0);
+
+    assertThat(recoveryService.recover()).isZero();
+
+    verifyNoInteractions(gateway, paymentService);
+  }
+
+  @Test
+  void onlyPaymentsConfirmingLongerThanStaleAfterAreClaimed() {
+    when(gateway.findByOrderId(orderId))
+        .thenReturn(new TossResponse(200, "DONE", "pk_1", null, null, null));
+    LocalDateTime before = LocalDateTime.now();
+
+    recoveryService.recover();
+
+    ArgumentCaptor<LocalDateTime> staleBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+    verify(paymentRepository).findStaleConfirmingOrderIds(staleBefore.capture(), eq(50));
+    assertThat(staleBefore.getValue())
+        .isBeforeOrEqualTo(LocalDateTime.now().minus(STALE_AFTER))
+        .isAfterOrEqualTo(before.minus(STALE_AFTER));
+    verify(paymentRepository).claimStaleConfirming(eq(orderId), eq(staleBefore.getValue()), any());
+  }
+
+  private double outcome(String outcome) {
+    return meterRegistry.get("payment.confirm.recovery").tag("outcome", outcome).counter().count();
+  }
+}
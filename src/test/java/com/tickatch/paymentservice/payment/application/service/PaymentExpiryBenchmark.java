@@ -0,0 +1,245 @@
+package com.tickatch.paymentservice.payment.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.tickatch.paymentservice.payment.application.PaymentLogEventPublisher;
+import com.tickatch.paymentservice.payment.domain.Payment;
+import com.tickatch.paymentservice.payment.domain.PaymentStatus;
+import com.tickatch.paymentservice.payment.domain.repository.PaymentRepository;
+import com.tickatch.paymentservice.payment.domain.service.ReservationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 결제 만료 엔진 벤치마크.
+ *
+ * <p>PostgreSQL 컨테이너에 만료 대상 결제 {@code benchmark.expiry.stale}건(기본 2만)과 진행 중 결제를 적재하고, 만료 엔진 두
+ * 개(인스턴스 두 대 역할)를 동시에 돌린다. SKIP LOCKED로 두 인스턴스가 작업을 나눠 각 결제를 정확히 한 번 만료시키는지와, 만료가 도는 동안 승인 경로(스냅샷
+ * 조회 + 승인 선점 update) 지연이 유지되는지 확인한다. Docker가 필요하며 {@code ./gradlew benchmark}로 실행한다.
+ */
+@Tag("benchmark")
+@Testcontainers
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(
+    properties = {
+      "spring.flyway.enabled=true",
+      "spring.flyway.schemas=payment_service",
+      "spring.flyway.default-schema=payment_service",
+      "spring.flyway.postgresql.transactional-lock=false",
+      "spring.jpa.hibernate.ddl-auto=validate",
+      "spring.jpa.properties.hibernate.default_schema=payment_service",
+      "spring.jpa.properties.hibernate.hbm2ddl.extra_physical_table_types=PARTITIONED TABLE",
+      "spring.datasource.hikari.connection-init-sql=set search_path to payment_service",
+      "logging.level.org.hibernate.SQL=warn"
+    })
+class PaymentExpiryBenchmark {
+
+  private static final int STALE = Integer.getInteger("benchmark.expiry.stale", 20_000);
+  private static final int PROBES = 500;
+  private static final long CHECKOUT_P99_BUDGET_MS =
+      Long.getLong("benchmark.expiry.checkout-p99-ms", 100);
+  private static final Duration TTL = Duration.ofMinutes(30);
+
+  @Container @ServiceConnection
+  static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+  @Autowired private PaymentRepository paymentRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  private final List<String> notified = new CopyOnWriteArrayList<>();
+
+  @BeforeEach
+  void seed() {
+    jdbcTemplate.execute("truncate p_payment, p_payment_reservation, p_payment_detail");
+
+    // 만료 대상: ttl보다 오래된 PROCESSING 결제 (예매 링크 2개씩)
+    jdbcTemplate.update(
+        """
+        insert into p_payment (id, status, total_price, method, order_name, order_id, retry_count,
+                               created_at, updated_at, created_by, updated_by)
+        select md5('stale-' || g)::uuid, 'PROCESSING', 10000, 'TOSS_CARD', 'stale-' || g,
+               md5('stale-order-' || g)::uuid, 0, now() - interval '1 hour' - g * interval '1 ms',
+               now(), 'user', 'user'
+        from generate_series(1, ?) g
+        """,
+        STALE);
+    jdbcTemplate.update(
+        """
+        insert into p_payment_reservation (reservation_id, payment_id, price, status, created_at)
+        select 'stale-rsv-' || g || '-' || k, p.id, 5000, 'PENDING', p.created_at
+        from generate_series(1, ?) g
+        join p_payment p on p.id = md5('stale-' || g)::uuid, generate_series(1, 2) k
+        """,
+        STALE);
+
+    // 승인 경로 측정용 진행 중 결제 (만료 대상 아님)
+    jdbcTemplate.update(
+        """
+        insert into p_payment (id, status, total_price, method, order_name, order_id, retry_count,
+                               created_at, updated_at, created_by, updated_by)
+        select md5('fresh-' || g)::uuid, 'PROCESSING', 10000, 'TOSS_CARD', 'fresh-' || g,
+               md5('fresh-order-' || g)::uuid, 0, now(), now(), 'user', 'user'
+        from generate_series(1, ?) g
+        """,
+        PROBES * 2);
+    jdbcTemplate.execute("vacuum analyze p_payment");
+    jdbcTemplate.execute("vacuum analyze p_payment_reservation");
+  }
+
+  @Test
+  void replicasShareTheWorkWithoutSlowingCheckout() throws Exception {
+    List<UUID> freshOrders =
+        jdbcTemplate.queryForList(
+            "select order_id from p_payment where order_name like 'fresh-%' order by order_name",
+            UUID.class);
+
+    long[] idle = probeCheckout(freshOrders.subList(0, PROBES));
+
+    SimpleMeterRegistry replicaA = new SimpleMeterRegistry();
+    SimpleMeterRegistry replicaB = new SimpleMeterRegistry();
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    long started = System.nanoTime();
+    long[] duringExpiry;
+    try {
+      Future<?> a = executor.submit(() -> drain(expiryService(replicaA)));
+      Future<?> b = executor.submit(() -> drain(expiryService(replicaB)));
+      duringExpiry = probeCheckout(freshOrders.subList(PROBES, PROBES * 2));
+      a.get(5, TimeUnit.MINUTES);
+      b.get(5, TimeUnit.MINUTES);
+    } finally {
+      executor.shutdownNow();
+    }
+    double elapsedSeconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+    double expiredA = replicaA.get("payment.expiry.expired").counter().count();
+    double expiredB = replicaB.get("payment.expiry.expired").counter().count();
+    System.out.printf(
+        "[expiry x%,d] %.0f payments/s (replica A=%.0f, B=%.0f, lag max=%.1fs) | checkout idle"
+            + " p50=%.2fms p99=%.2fms, during expiry p50=%.2fms p99=%.2fms%n",
+        STALE,
+        STALE / elapsedSeconds,
+        expiredA,
+        expiredB,
+        Math.max(
+            replicaA.get("payment.expiry.lag").timer().max(TimeUnit.SECONDS),
+            replicaB.get("payment.expiry.lag").timer().max(TimeUnit.SECONDS)),
+        percentile(idle, 0.50),
+        percentile(idle, 0.99),
+        percentile(duringExpiry, 0.50),
+        percentile(duringExpiry, 0.99));
+
+    // 각 결제는 한 인스턴스에서 한 번만 만료되고 예매 id도 한 번씩만 통지된다
+    assertThat(expiredA + expiredB).isEqualTo(STALE);
+    assertThat(expiredA).isPositive();
+    assertThat(expiredB).isPositive();
+    assertThat(notified).hasSize(STALE * 2);
+    assertThat(new HashSet<>(notified)).hasSize(STALE * 2);
+    assertThat(countByStatus(PaymentStatus.EXPIRED)).isEqualTo(STALE);
+    assertThat(countByStatus(PaymentStatus.CONFIRMING)).isEqualTo(PROBES * 2);
+
+    assertThat(percentile(duringExpiry, 0.99)).isLessThan(CHECKOUT_P99_BUDGET_MS);
+  }
+
+  private PaymentExpiryService expiryService(SimpleMeterRegistry meterRegistry) {
+    ReservationService reservationService =
+        new ReservationService() {
+          @Override
+          public void applyResult(String status, List<String> reservationIds) {
+            notified.addAll(reservationIds);
+          }
+
+          @Override
+          public void changeStatus(List<String> reservationIds) {}
+        };
+    return new PaymentExpiryService(
+        paymentRepository,
+        reservationService,
+        mock(PaymentLogEventPublisher.class),
+        transactionManager,
+        meterRegistry,
+        TTL,
+        200,
+        Integer.MAX_VALUE,
+        20);
+  }
+
+  private static void drain(PaymentExpiryService expiryService) {
+    while (expiryService.expireBatch() > 0) {
+      // 다른 인스턴스가 잡은 행은 건너뛰므로 남은 대상이 없을 때까지 반복
+    }
+  }
+
+  // 승인 경로: 스냅샷 조회 후 승인 선점 update
+  private long[] probeCheckout(List<UUID> orderIds) {
+    TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+    List<Long> latencies = new ArrayList<>();
+    for (UUID orderId : orderIds) {
+      long start = System.nanoTime();
+      assertThat(paymentRepository.findSnapshotByOrderId(orderId)).isPresent();
+      Integer claimed =
+          transactionTemplate.execute(
+              status ->
+                  paymentRepository.updateStatus(
+                      orderId,
+                      PaymentStatus.PROCESSING,
+                      PaymentStatus.CONFIRMING,
+                      LocalDateTime.now()));
+      latencies.add(System.nanoTime() - start);
+      assertThat(claimed).isEqualTo(1);
+    }
+    return latencies.stream().mapToLong(Long::longValue).toArray();
+  }
+
+  private int countByStatus(PaymentStatus status) {
+    Integer count =
+        jdbcTemplate.queryForObject(
+            "select count(*) from p_payment where status = ?", Integer.class, status.name());
+    return count == null ? 0 : count;
+  }
+
+  private static double percentile(long[] latencies, double percentile) {
+    long[] sorted = latencies.clone();
+    Arrays.sort(sorted);
+    int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+    return sorted[Math.max(index, 0)] / 1_000_000.0;
+  }
+
+  @SpringBootConfiguration
+  @EntityScan(basePackageClasses = Payment.class)
+  @EnableJpaRepositories(basePackageClasses = PaymentRepository.class)
+  static class RepositoryOnlyConfiguration {}
+}
@@ -0,0 +1,184 @@
+package com.tickatch.paymentservice.payment.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.tickatch.paymentservice.payment.application.PaymentLogEventPublisher;
+import com.tickatch.paymentservice.payment.domain.Payment;
+import com.tickatch.paymentservice.payment.domain.PaymentMethod;
+import com.tickatch.paymentservice.payment.domain.PaymentStatus;
+import com.tickatch.paymentservice.payment.domain.dto.PaymentReservationInfo;
+import com.tickatch.paymentservice.payment.domain.repository.PaymentRepository;
+import com.tickatch.paymentservice.payment.domain.service.ReservationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+class PaymentExpiryServiceTest {
+
+  private static final int BATCH_SIZE = 3;
+  private static final Duration TTL = Duration.ofMinutes(30);
+
+  private final PaymentRepository paymentRepository = mock(PaymentRepository.class);
+  private final ReservationService reservationService = mock(ReservationService.class);
+  private final PaymentLogEventPublisher logEventPublisher = mock(PaymentLogEventPublisher.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  // 잠금 조회 결과를 배치 순서대로 돌려준다
+  private final Deque<List<Payment>> batches = new ArrayDeque<>();
+  private final Map<UUID, Payment> payments = new HashMap<>();
+
+  private PaymentExpiryService expiryService;
+
+  @BeforeEach
+  void setUp() {
+    PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+    when(paymentRepository.lockExpirableIds(anyList(), any(LocalDateTime.class), anyInt()))
+        .thenAnswer(
+            invocation -> {
+              List<Payment> batch = batches.isEmpty() ? List.of() : batches.poll();
+              return batch.stream().map(payment -> payment.getId().toUuid()).toList();
+            });
+    when(paymentRepository.findAllWithDetailAndLinksByIds(anyList()))
+        .thenAnswer(
+            invocation -> {
+              Collection<UUID> ids = invocation.getArgument(0);
+              return ids.stream().map(payments::get).toList();
+            });
+
+    expiryService =
+        new PaymentExpiryService(
+            paymentRepository,
+            reservationService,
+            logEventPublisher,
+            transactionManager,
+            meterRegistry,
+            TTL,
+            BATCH_SIZE,
+            2,
+            0);
+  }
+
+  @Test
+  void expiresBatchAndNotifiesReservationsOnce() {
+    List<Payment> batch = stalePayments(2);
+    batches.add(batch);
+
+    int expired = expiryService.expireBatch();
+
+    assertThat(expired).isEqualTo(2);
+    assertThat(batch).extracting(Payment::getStatus).containsOnly(PaymentStatus.EXPIRED);
+
+    // 배치의 예매 id 전체를 한 번에 통지
+    ArgumentCaptor<List<String>> reservationIds = ArgumentCaptor.forClass(List.class);
+    verify(reservationService, times(1)).applyResult(eq("FAIL"), reservationIds.capture());
+    assertThat(reservationIds.getValue())
+        .containsExactlyInAnyOrderElementsOf(
+            batch.stream().flatMap(payment -> payment.getReservationIds().stream()).toList());
+    verify(paymentRepository).saveAll(batch);
+    verify(logEventPublisher, times(2)).publish(any(), any(), anyInt(), eq("EXPIRE"));
+
+    assertThat(meterRegistry.get("payment.expiry.expired").counter().count()).isEqualTo(2);
+    assertThat(meterRegistry.get("payment.expiry.batch.size").summary().totalAmount()).isEqualTo(2);
+    assertThat(meterRegistry.get("payment.expiry.lag").timer().count()).isEqualTo(2);
+  }
+
+  @Test
+  void queriesOnlyRequestedAndProcessingPaymentsOlderThanTtl() {
+    LocalDateTime before = LocalDateTime.now();
+
+    expiryService.expireBatch();
+
+    ArgumentCaptor<List<String>> statuses = ArgumentCaptor.forClass(List.class);
+    ArgumentCaptor<LocalDateTime> createdBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+    verify(paymentRepository)
+        .lockExpirableIds(statuses.capture(), createdBefore.capture(), eq(BATCH_SIZE));
+    assertThat(statuses.getValue()).containsExactlyInAnyOrder("REQUESTED", "PROCESSING");
+    assertThat(createdBefore.getValue()).isBetween(before.minus(TTL), LocalDateTime.now());
+    verify(reservationService, never()).applyResult(anyString(), anyList());
+  }
+
+  @Test
+  void runStopsAtPartialBatchOrBatchLimit() {
+    batches.add(stalePayments(BATCH_SIZE));
+    batches.add(stalePayments(1));
+    batches.add(stalePayments(BATCH_SIZE));
+
+    expiryService.expire();
+
+    // 두 번째 배치가 배치 크기보다 작으므로 남은 배치는 다음 주기에 처리
+    assertThat(batches).hasSize(1);
+    assertThat(meterRegistry.get("payment.expiry.expired").counter().count()).isEqualTo(4);
+    assertThat(meterRegistry.get("payment.expiry.run").timer().count()).isEqualTo(1);
+
+    batches.clear();
+    IntStream.range(0, 3).forEach(i -> batches.add(stalePayments(BATCH_SIZE)));
+
+    expiryService.expire();
+
+    // 주기당 최대 2배치
+    assertThat(batches).hasSize(1);
+  }
+
+  @Test
+  void notifyFailureKeepsExpiryAndIsCounted() {
+    List<Payment> batch = stalePayments(1);
+    batches.add(batch);
+    doThrow(new IllegalStateException("reservation-service down"))
+        .when(reservationService)
+        .applyResult(anyString(), anyList());
+
+    int expired = expiryService.expireBatch();
+
+    assertThat(expired).isEqualTo(1);
+    assertThat(batch.get(0).getStatus()).isEqualTo(PaymentStatus.EXPIRED);
+    assertThat(meterRegistry.get("payment.expiry.notify.failures").counter().count()).isEqualTo(1);
+  }
+
+  private List<Payment> stalePayments(int count) {
+    return IntStream.range(0, count)
+        .mapToObj(
+            i -> {
+              String prefix = UUID.randomUUID().toString();
+              Payment payment =
+                  Payment.create(
+                      "expiry",
+                      List.of(
+                          new PaymentReservationInfo(prefix + "-1", 1000L),
+                          new PaymentReservationInfo(prefix + "-2", 1000L)),
+                      PaymentMethod.TOSS_CARD);
+              payment.markProcessing();
+              ReflectionTestUtils.setField(
+                  payment, "createdAt", LocalDateTime.now().minus(TTL).minusMinutes(5));
+              payments.put(payment.getId().toUuid(), payment);
+              return payment;
+            })
+        .toList();
+  }
+}
@@ -0,0 +1,325 @@
+package com.tickatch.paymentservice.payment.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.tickatch.paymentservice.global.config.AuditorAwareImpl;
+import com.tickatch.paymentservice.global.config.AuthExtractor.AuthInfo;
+import com.tickatch.paymentservice.payment.application.InFlightPaymentCache;
+import com.tickatch.paymentservice.payment.application.PaymentLogEventPublisher;
+import com.tickatch.paymentservice.payment.application.PaymentMetrics;
+import com.tickatch.paymentservice.payment.application.dto.PaymentDiscrepancy;
+import com.tickatch.paymentservice.payment.application.dto.ReconciliationReport;
+import com.tickatch.paymentservice.payment.domain.Payment;
+import com.tickatch.paymentservice.payment.domain.PaymentMethod;
+import com.tickatch.paymentservice.payment.domain.PaymentStatus;
+import com.tickatch.paymentservice.payment.domain.RefundReason;
+import com.tickatch.paymentservice.payment.domain.TossCardDetail;
+import com.tickatch.paymentservice.payment.domain.dto.PaymentReservationInfo;
+import com.tickatch.paymentservice.payment.domain.exception.PaymentErrorCode;
+import com.tickatch.paymentservice.payment.domain.exception.PaymentException;
+import com.tickatch.paymentservice.payment.domain.repository.PaymentRepository;
+import com.tickatch.paymentservice.payment.domain.service.ReservationService;
+import com.tickatch.paymentservice.payment.infrastructure.api.HttpClientTossPaymentsGateway;
+import com.tickatch.paymentservice.payment.infrastructure.config.TossClientConfig;
+import com.tickatch.paymentservice.payment.infrastructure.config.TossProperties;
+import com.tickatch.paymentservice.payment.infrastructure.config.TossRetryProperties;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 결제 대사 테스트.
+ *
+ * <p>실제 리포지토리(H2)의 스트리밍 조회와, 로컬 HTTP 토스 스텁을 호출하는 실제 게이트웨이로 불일치 분류, 자동 복구, 조회 병렬도 제한을 확인한다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PaymentReconciliationServiceTest {
+
+  private static final int PARALLELISM = 4;
+  private static final AuthInfo ADMIN = new AuthInfo("ADMIN", "admin");
+
+  @Autowired private PaymentRepository paymentRepository;
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  private final TossStub toss = new TossStub();
+  private final ReservationService reservationService = mock(ReservationService.class);
+  private TransactionTemplate transactionTemplate;
+  private HttpServer server;
+  private PaymentReconciliationService reconciliationService;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext("/v1/payments/orders/", toss::handle);
+    server.setExecutor(Executors.newCachedThreadPool());
+    server.start();
+
+    TossProperties properties =
+        new TossProperties(
+            "test_sk",
+            "http://localhost:" + server.getAddress().getPort(),
+            Duration.ofSeconds(1),
+            Duration.ofSeconds(2));
+    HttpClientTossPaymentsGateway gateway =
+        new HttpClientTossPaymentsGateway(
+            new TossClientConfig().tossHttpClient(properties, new MockEnvironment()),
+            new ObjectMapper(),
+            new SimpleMeterRegistry(),
+            properties,
+            new TossRetryProperties(
+                1, Duration.ZERO, Duration.ZERO, false, Duration.ZERO, Integer.MAX_VALUE),
+            BulkheadRegistry.ofDefaults(),
+            CircuitBreakerRegistry.ofDefaults(),
+            "http://localhost:3000");
+
+    transactionTemplate = new TransactionTemplate(transactionManager);
+    PaymentService paymentService =
+        new PaymentService(
+            paymentRepository,
+            reservationService,
+            mock(PaymentLogEventPublisher.class),
+            gateway,
+            transactionTemplate,
+            mock(InFlightPaymentCache.class),
+            new PaymentMetrics(new SimpleMeterRegistry()));
+
+    reconciliationService =
+        new PaymentReconciliationService(
+            paymentRepository,
+            paymentService,
+            gateway,
+            transactionManager,
+            new SimpleMeterRegistry(),
+            PARALLELISM,
+            Duration.ofDays(1),
+            100,
+            Duration.ofDays(1),
+            Duration.ofHours(1),
+            false);
+  }
+
+  @AfterEach
+  void tearDown() {
+    reconciliationService.shutdown();
+    server.stop(0);
+  }
+
+  @Test
+  void reportsDiscrepanciesAndRepairsThroughPaymentStateMethods() {
+    Payment captured = payment(PaymentStatus.PROCESSING);
+    toss.respond(captured, 200, "{\"status\":\"DONE\",\"paymentKey\":\"pk-captured\"}");
+    Payment canceled = payment(PaymentStatus.REFUND_FAIL);
+    toss.respond(canceled, 200, "{\"status\":\"CANCELED\"}");
+    Payment missing = payment(PaymentStatus.SUCCESS);
+    toss.respond(missing, 404, "{\"code\":\"NOT_FOUND_PAYMENT\"}");
+    Payment broken = payment(PaymentStatus.SUCCESS);
+    toss.respond(broken, 500, "{\"code\":\"FAILED_INTERNAL_SYSTEM_PROCESSING\"}");
+    Payment requested = payment(PaymentStatus.REQUESTED);
+    List<Payment> matching =
+        IntStream.range(0, 20)
+            .mapToObj(
+                i -> {
+                  Payment payment = payment(PaymentStatus.SUCCESS);
+                  toss.respond(payment, 200, "{\"status\":\"DONE\"}");
+                  return payment;
+                })
+            .toList();
+
+    ReconciliationReport report = reconcileAroundNow(true);
+
+    assertThat(report.scanned()).isEqualTo(25);
+    assertThat(report.matched()).isEqualTo(matching.size());
+    assertThat(report.skipped()).isEqualTo(1);
+    assertThat(report.errors()).isEqualTo(1);
+    assertThat(report.repaired()).isEqualTo(2);
+    assertThat(report.discrepancyCounts())
+        .containsExactlyInAnyOrderEntriesOf(
+            Map.of(
+                PaymentDiscrepancy.Type.CAPTURED_IN_FLIGHT, 1L,
+                PaymentDiscrepancy.Type.CANCELED_REFUND_FAIL, 1L,
+                PaymentDiscrepancy.Type.NOT_CAPTURED_AT_TOSS, 1L));
+    assertThat(report.discrepancies())
+        .filteredOn(discrepancy -> discrepancy.orderId().equals(missing.getOrderId()))
+        .singleElement()
+        .satisfies(discrepancy -> assertThat(discrepancy.repaired()).isFalse());
+    assertThat(report.truncated()).isFalse();
+    assertThat(report.rowsPerSecond()).isPositive();
+
+    // 토스 기준으로 복구되고, 승인 복구는 예매 쪽에도 통지된다
+    assertThat(statusOf(captured)).isEqualTo(PaymentStatus.SUCCESS);
+    assertThat(
+            paymentRepository
+                .findWithDetailAndLinksById(captured.getId().toUuid())
+                .orElseThrow()
+                .getDetail()
+                .getPaymentKey())
+        .isEqualTo("pk-captured");
+    verify(reservationService).applyResult("SUCCESS", captured.getReservationIds());
+    assertThat(statusOf(canceled)).isEqualTo(PaymentStatus.REFUND);
+    assertThat(statusOf(missing)).isEqualTo(PaymentStatus.SUCCESS);
+    assertThat(statusOf(requested)).isEqualTo(PaymentStatus.REQUESTED);
+
+    // 요청 전(REQUESTED) 결제는 조회하지 않고, 동시 조회 수는 병렬도를 넘지 않는다
+    assertThat(toss.calls.get()).isEqualTo(24);
+    assertThat(toss.peakConcurrency.get()).isBetween(2, PARALLELISM);
+  }
+
+  @Test
+  void reportOnlyRunLeavesPaymentsUntouched() {
+    Payment captured = payment(PaymentStatus.PROCESSING);
+    toss.respond(captured, 200, "{\"status\":\"DONE\",\"paymentKey\":\"pk-captured\"}");
+
+    ReconciliationReport report = reconcileAroundNow(false);
+
+    assertThat(report.discrepancies())
+        .singleElement()
+        .satisfies(
+            discrepancy -> {
+              assertThat(discrepancy.type())
+                  .isEqualTo(PaymentDiscrepancy.Type.CAPTURED_IN_FLIGHT);
+              assertThat(discrepancy.tossStatus()).isEqualTo("DONE");
+              assertThat(discrepancy.repaired()).isFalse();
+            });
+    assertThat(statusOf(captured)).isEqualTo(PaymentStatus.PROCESSING);
+    verify(reservationService, never()).applyResult(eq("SUCCESS"), anyList());
+  }
+
+  @Test
+  void rejectsInvalidWindowAndNonAdmin() {
+    LocalDateTime now = LocalDateTime.now();
+
+    assertThatThrownBy(() -> reconciliationService.reconcile(now, now.minusHours(1), false, ADMIN))
+        .isInstanceOfSatisfying(
+            PaymentException.class,
+            e ->
+                assertThat(e.getErrorCode())
+                    .isEqualTo(PaymentErrorCode.INVALID_RECONCILIATION_WINDOW));
+    assertThatThrownBy(() -> reconciliationService.reconcile(now.minusDays(2), now, false, ADMIN))
+        .isInstanceOfSatisfying(
+            PaymentException.class,
+            e ->
+                assertThat(e.getErrorCode())
+                    .isEqualTo(PaymentErrorCode.INVALID_RECONCILIATION_WINDOW));
+    assertThatThrownBy(
+            () ->
+                reconciliationService.reconcile(
+                    now.minusHours(1), now, false, new AuthInfo("CUSTOMER", "user-1")))
+        .isInstanceOfSatisfying(
+            PaymentException.class,
+            e -> assertThat(e.getErrorCode()).isEqualTo(PaymentErrorCode.ACCESS_DENIED));
+  }
+
+  private ReconciliationReport reconcileAroundNow(boolean repair) {
+    LocalDateTime now = LocalDateTime.now();
+    return reconciliationService.reconcile(now.minusHours(1), now.plusHours(1), repair, ADMIN);
+  }
+
+  private Payment payment(PaymentStatus status) {
+    String prefix = UUID.randomUUID().toString();
+    Payment payment =
+        Payment.create(
+            "reconciliation",
+            List.of(new PaymentReservationInfo(prefix + "-1", 1000L)),
+            PaymentMethod.TOSS_CARD);
+
+    if (status != PaymentStatus.REQUESTED) {
+      payment.markProcessing();
+    }
+    if (status == PaymentStatus.SUCCESS || status == PaymentStatus.REFUND_FAIL) {
+      ReflectionTestUtils.setField(payment, "status", PaymentStatus.CONFIRMING);
+      TossCardDetail.create(payment, "pk-" + prefix);
+      payment.markSuccess();
+    }
+    if (status == PaymentStatus.REFUND_FAIL) {
+      payment.refundFail(RefundReason.CUSTOMER_CANCEL);
+    }
+
+    return transactionTemplate.execute(tx -> paymentRepository.save(payment));
+  }
+
+  private PaymentStatus statusOf(Payment payment) {
+    return paymentRepository.findByOrderId(payment.getOrderId()).orElseThrow().getStatus();
+  }
+
+  // 주문 id별 응답을 돌려주는 토스 결제 조회 스텁 (지연 + 동시 요청 수 기록)
+  private static class TossStub {
+
+    private final Map<String, Response> responses = new ConcurrentHashMap<>();
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakConcurrency = new AtomicInteger();
+
+    void respond(Payment payment, int status, String body) {
+      responses.put(payment.getOrderId().toString(), new Response(status, body));
+    }
+
+    void handle(HttpExchange exchange) throws IOException {
+      calls.incrementAndGet();
+      peakConcurrency.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+      try {
+        Thread.sleep(30);
+        String path = exchange.getRequestURI().getPath();
+        Response response =
+            responses.getOrDefault(
+                path.substring(path.lastIndexOf('/') + 1),
+                new Response(404, "{\"code\":\"NOT_FOUND_PAYMENT\"}"));
+
+        byte[] body = response.body().getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(response.status(), body.length);
+        exchange.getResponseBody().write(body);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } finally {
+        inFlight.decrementAndGet();
+        exchange.close();
+      }
+    }
+
+    private record Response(int status, String body) {}
+  }
+
+  @SpringBootConfiguration
+  @EnableJpaAuditing
+  @Import(AuditorAwareImpl.class)
+  @EntityScan(basePackageClasses = Payment.class)
+  @EnableJpaRepositories(basePackageClasses = PaymentRepository.class)
+  static class RepositoryOnlyConfiguration {}
+}
@@ -0,0 +1,213 @@
+package com.tickatch.paymentservice.payment.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.tickatch.paymentservice.payment.application.InFlightPaymentCache;
+import com.tickatch.paymentservice.payment.application.PaymentLogEventPublisher;
+import com.tickatch.paymentservice.payment.application.PaymentMetrics;
+import com.tickatch.paymentservice.payment.application.TossPaymentsGateway;
+import com.tickatch.paymentservice.payment.application.dto.TossResponse;
+import com.tickatch.paymentservice.payment.domain.Payment;
+import com.tickatch.paymentservice.payment.domain.PaymentMethod;
+import com.tickatch.paymentservice.payment.domain.PaymentStatus;
+import com.tickatch.paymentservice.payment.domain.dto.PaymentReservationInfo;
+import com.tickatch.paymentservice.payment.domain.dto.PaymentSnapshot;
+import com.tickatch.paymentservice.payment.domain.repository.PaymentRepository;
+import com.tickatch.paymentservice.payment.domain.service.ReservationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 토스 승인 지연이 DB 커넥션(트랜잭션) 점유 시간에 영향을 주지 않는지 확인하는 부하 테스트.
+ *
+ * <p>트랜잭션 매니저가 트랜잭션 점유 시간을 기록하고, 토스 스텁은 지정한 지연 후 승인 응답을 돌려준다.
+ */
+class PaymentServiceConfirmLoadTest {
+
+  private static final int CONCURRENT_CHECKOUTS = 40;
+  private static final double HOLD_TOLERANCE_MILLIS = 20;
+
+  @Test
+  void connectionHoldTimeDoesNotScaleWithTossLatency() throws Exception {
+    LoadResult fast = runConfirmLoad(Duration.ofMillis(50));
+    LoadResult slow = runConfirmLoad(Duration.ofMillis(400));
+
+    // 토스 호출 중에는 어떤 요청도 트랜잭션을 잡고 있지 않다
+    assertThat(fast.transactionOpenDuringToss()).isFalse();
+    assertThat(slow.transactionOpenDuringToss()).isFalse();
+
+    // 토스 지연이 8배(+350ms)가 되어도 요청당 커넥션 점유 시간은 거의 같고, 토스 지연보다 훨씬 짧다
+    // (토스 호출 중 트랜잭션을 잡고 있으면 점유 시간이 지연만큼 늘어난다)
+    assertThat(slow.avgHoldMillis()).isLessThan(fast.avgHoldMillis() + HOLD_TOLERANCE_MILLIS);
+    assertThat(slow.avgHoldMillis()).isLessThan(50);
+    assertThat(fast.confirmed()).isEqualTo(CONCURRENT_CHECKOUTS);
+    assertThat(slow.confirmed()).isEqualTo(CONCURRENT_CHECKOUTS);
+  }
+
+  private LoadResult runConfirmLoad(Duration tossLatency) throws Exception {
+    TrackingTransactionManager transactionManager = new TrackingTransactionManager();
+    Map<UUID, Payment> payments = new ConcurrentHashMap<>();
+
+    PaymentRepository paymentRepository = mock(PaymentRepository.class);
+    when(paymentRepository.findSnapshotByOrderId(any()))
+        .thenAnswer(
+            invocation ->
+                Optional.ofNullable(payments.get(invocation.getArgument(0)))
+                    .map(PaymentServiceConfirmLoadTest::snapshot));
+    when(paymentRepository.updateStatus(any(), any(), any(), any()))
+        .thenAnswer(
+            invocation ->
+                compareAndSetStatus(
+                    payments.get(invocation.getArgument(0)),
+                    invocation.getArgument(1),
+                    invocation.getArgument(2)));
+    when(paymentRepository.findWithDetailAndLinksByOrderId(any()))
+        .thenAnswer(invocation -> Optional.ofNullable(payments.get(invocation.getArgument(0))));
+
+    AtomicBoolean transactionOpenDuringToss = new AtomicBoolean(false);
+    TossResponse done = new TossResponse(200, "DONE", null, null, null, null);
+    TossPaymentsGateway gateway = mock(TossPaymentsGateway.class);
+    when(gateway.confirm(anyString(), any(), anyLong()))
+        .thenAnswer(
+            invocation -> {
+              if (transactionManager.isOpenOnCurrentThread()) {
+                transactionOpenDuringToss.set(true);
+              }
+              Thread.sleep(tossLatency.toMillis());
+              return done;
+            });
+
+    PaymentService paymentService =
+        new PaymentService(
+            paymentRepository,
+            mock(ReservationService.class),
+            mock(PaymentLogEventPublisher.class),
+            gateway,
+            new TransactionTemplate(transactionManager),
+            mock(InFlightPaymentCache.class),
+            new PaymentMetrics(new SimpleMeterRegistry()));
+
+    List<Payment> checkouts =
+        IntStream.range(0, CONCURRENT_CHECKOUTS).mapToObj(i -> processingPayment()).toList();
+    checkouts.forEach(payment -> payments.put(payment.getOrderId(), payment));
+
+    ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_CHECKOUTS);
+    CountDownLatch start = new CountDownLatch(1);
+    try {
+      checkouts.forEach(
+          payment ->
+              executor.submit(
+                  () -> {
+                    start.await();
+                    paymentService.confirmPayment(
+                        "pk_" + payment.getOrderId(),
+                        payment.getOrderId(),
+                        payment.getTotalPrice());
+                    return null;
+                  }));
+      start.countDown();
+    } finally {
+      executor.shutdown();
+      assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+    }
+
+    long confirmed = checkouts.stream().filter(p -> p.getStatus() == PaymentStatus.SUCCESS).count();
+    return new LoadResult(
+        transactionOpenDuringToss.get(), transactionManager.avgHoldMillis(), confirmed);
+  }
+
+  static PaymentSnapshot snapshot(Payment payment) {
+    return new PaymentSnapshot(
+        payment.getId().toUuid(),
+        payment.getOrderId(),
+        payment.getStatus(),
+        payment.getTotalPrice());
+  }
+
+  // PaymentRepository.updateStatus 조건부 update 흉내
+  static int compareAndSetStatus(Payment payment, PaymentStatus from, PaymentStatus to) {
+    synchronized (payment) {
+      if (payment.getStatus() != from) {
+        return 0;
+      }
+      ReflectionTestUtils.setField(payment, "status", to);
+      return 1;
+    }
+  }
+
+  private static Payment processingPayment() {
+    Payment payment =
+        Payment.create(
+            "concert",
+            List.of(new PaymentReservationInfo(UUID.randomUUID().toString(), 10_000L)),
+            PaymentMethod.TOSS_CARD);
+    payment.markProcessing();
+    return payment;
+  }
+
+  private record LoadResult(
+      boolean transactionOpenDuringToss, double avgHoldMillis, long confirmed) {}
+
+  /** 트랜잭션(= 커넥션 점유) 점유 시간을 기록하는 트랜잭션 매니저. */
+  private static class TrackingTransactionManager implements PlatformTransactionManager {
+
+    private final AtomicLong totalHoldNanos = new AtomicLong();
+    private final AtomicInteger transactions = new AtomicInteger();
+    private final ThreadLocal<Long> startedAt = new ThreadLocal<>();
+
+    @Override
+    public TransactionStatus getTransaction(TransactionDefinition definition) {
+      startedAt.set(System.nanoTime());
+      return new SimpleTransactionStatus(true);
+    }
+
+    @Override
+    public void commit(TransactionStatus status) {
+      release();
+    }
+
+    @Override
+    public void rollback(TransactionStatus status) {
+      release();
+    }
+
+    boolean isOpenOnCurrentThread() {
+      return startedAt.get() != null;
+    }
+
+    double avgHoldMillis() {
+      return totalHoldNanos.get() / 1_000_000.0 / Math.max(1, transactions.get());
+    }
+
+    private void release() {
+      totalHoldNanos.addAndGet(System.nanoTime() - startedAt.get());
+      transactions.incrementAndGet();
+      startedAt.remove();
+    }
+  }
+}
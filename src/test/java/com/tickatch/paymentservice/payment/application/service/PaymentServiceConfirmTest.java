@@ -0,0 +1,159 @@
+package com.tickatch.paymentservice.payment.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.tickatch.paymentservice.payment.application.InFlightPaymentCache;
+import com.tickatch.paymentservice.payment.application.PaymentLogEventPublisher;
+import com.tickatch.paymentservice.payment.application.PaymentMetrics;
+import com.tickatch.paymentservice.payment.application.TossPaymentsGateway;
+import com.tickatch.paymentservice.payment.application.dto.TossResponse;
+import com.tickatch.paymentservice.payment.domain.Payment;
+import com.tickatch.paymentservice.payment.domain.PaymentMethod;
+import com.tickatch.paymentservice.payment.domain.PaymentStatus;
+import com.tickatch.paymentservice.payment.domain.dto.PaymentSnapshot;
+import com.tickatch.paymentservice.payment.domain.dto.PaymentReservationInfo;
+import com.tickatch.paymentservice.payment.domain.exception.PaymentErrorCode;
+import com.tickatch.paymentservice.payment.domain.exception.PaymentException;
+import com.tickatch.paymentservice.payment.domain.repository.PaymentRepository;
+import com.tickatch.paymentservice.payment.domain.service.ReservationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class PaymentServiceConfirmTest {
+
+  private final PaymentRepository paymentRepository = mock(PaymentRepository.class);
+  private final ReservationService reservationService = mock(ReservationService.class);
+  private final TossPaymentsGateway gateway = mock(TossPaymentsGateway.class);
+
+  private Payment payment;
+  private PaymentService paymentService;
+
+  @BeforeEach
+  void setUp() {
+    payment =
+        Payment.create(
+            "concert",
+            List.of(new PaymentReservationInfo(UUID.randomUUID().toString(), 10_000L)),
+            PaymentMethod.TOSS_CARD);
+    payment.markProcessing();
+
+    when(paymentRepository.findSnapshotByOrderId(payment.getOrderId()))
+        .thenAnswer(invocation -> Optional.of(PaymentServiceConfirmLoadTest.snapshot(payment)));
+    when(paymentRepository.updateStatus(any(), any(), any(), any()))
+        .thenAnswer(
+            invocation ->
+                PaymentServiceConfirmLoadTest.compareAndSetStatus(
+                    payment, invocation.getArgument(1), invocation.getArgument(2)));
+    when(paymentRepository.findWithDetailAndLinksByOrderId(payment.getOrderId()))
+        .thenReturn(Optional.of(payment));
+
+    paymentService =
+        new PaymentService(
+            paymentRepository,
+            reservationService,
+            mock(PaymentLogEventPublisher.class),
+            gateway,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)),
+            mock(InFlightPaymentCache.class),
+            new PaymentMetrics(new SimpleMeterRegistry()));
+  }
+
+  @Test
+  void unknownTossOutcomeLeavesPaymentConfirming() {
+    when(gateway.confirm(anyString(), any(), anyLong()))
+        .thenThrow(new PaymentException(PaymentErrorCode.TOSS_OUTCOME_UNKNOWN));
+
+    assertThatThrownBy(
+            () ->
+                paymentService.confirmPayment(
+                    "pk_1", payment.getOrderId(), payment.getTotalPrice()))
+        .isInstanceOfSatisfying(
+            PaymentException.class,
+            e -> assertThat(e.getErrorCode()).isEqualTo(PaymentErrorCode.TOSS_OUTCOME_UNKNOWN));
+
+    // 실패로 확정하지 않고 예매 쪽에도 알리지 않는다
+    assertThat(payment.getStatus()).isEqualTo(PaymentStatus.CONFIRMING);
+    verify(reservationService, never()).applyResult(anyString(), anyList());
+  }
+
+  @Test
+  void reservationFailureAfterCommitStillReportsSuccess() {
+    when(gateway.confirm(anyString(), any(), anyLong()))
+        .thenReturn(new TossResponse(200, "DONE", "pk_1", null, null, null));
+    doThrow(new PaymentException(PaymentErrorCode.RESERVATION_SERVICE_UNAVAILABLE))
+        .when(reservationService)
+        .applyResult(anyString(), anyList());
+
+    // 결과 반영은 이미 커밋됐으므로 통지 실패를 승인 실패로 돌려보내지 않는다
+    assertThat(
+            paymentService.confirmPayment("pk_1", payment.getOrderId(), payment.getTotalPrice()))
+        .isEqualTo(PaymentStatus.SUCCESS);
+    assertThat(payment.getStatus()).isEqualTo(PaymentStatus.SUCCESS);
+    verify(reservationService).applyResult("SUCCESS", payment.getReservationIds());
+  }
+
+  @Test
+  void unconfirmedPaymentIsFailedAndReservationsNotified() {
+    PaymentServiceConfirmLoadTest.compareAndSetStatus(
+        payment, PaymentStatus.PROCESSING, PaymentStatus.CONFIRMING);
+
+    assertThat(paymentService.failUnconfirmedPayment(payment.getOrderId()))
+        .isEqualTo(PaymentStatus.FAIL);
+
+    assertThat(payment.getStatus()).isEqualTo(PaymentStatus.FAIL);
+    verify(reservationService).applyResult("FAIL", payment.getReservationIds());
+  }
+
+  @Test
+  void failCallbackDoesNotOverwriteConcurrentConfirmClaim() {
+    // 실패 콜백이 결제를 읽은 뒤 승인 선점이 먼저 커밋된 경우: 읽은 엔티티는 PROCESSING, DB는 CONFIRMING
+    doReturn(0).when(paymentRepository).updateStatus(any(), any(), any(), any());
+    when(paymentRepository.findSnapshotByOrderId(payment.getOrderId()))
+        .thenReturn(
+            Optional.of(
+                new PaymentSnapshot(
+                    payment.getId().toUuid(),
+                    payment.getOrderId(),
+                    PaymentStatus.CONFIRMING,
+                    payment.getTotalPrice())));
+
+    assertThat(paymentService.failPayment(payment.getOrderId(), "REJECT_CARD"))
+        .isEqualTo(PaymentStatus.CONFIRMING);
+
+    // 엔티티를 바꾸지 않으므로 커밋 시 승인 선점을 덮어쓰지 않는다
+    assertThat(payment.getStatus()).isEqualTo(PaymentStatus.PROCESSING);
+    verify(paymentRepository, never()).save(any());
+    verify(reservationService, never()).applyResult(anyString(), anyList());
+  }
+
+  @Test
+  void unavailableTossReleasesClaim() {
+    when(gateway.confirm(anyString(), any(), anyLong()))
+        .thenThrow(new PaymentException(PaymentErrorCode.TOSS_UNAVAILABLE));
+
+    assertThatThrownBy(
+            () ->
+                paymentService.confirmPayment(
+                    "pk_1", payment.getOrderId(), payment.getTotalPrice()))
+        .isInstanceOf(PaymentException.class);
+
+    assertThat(payment.getStatus()).isEqualTo(PaymentStatus.PROCESSING);
+  }
+}
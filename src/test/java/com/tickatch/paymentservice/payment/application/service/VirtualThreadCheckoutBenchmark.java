@@ -0,0 +1,224 @@
+package com.tickatch.paymentservice.payment.application.service;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.tickatch.paymentservice.payment.application.InFlightPaymentCache;
+import com.tickatch.paymentservice.payment.application.PaymentMetrics;
+import com.tickatch.paymentservice.payment.application.TossPaymentsGateway;
+import com.tickatch.paymentservice.payment.application.dto.TossResponse;
+import com.tickatch.paymentservice.payment.domain.Payment;
+import com.tickatch.paymentservice.payment.domain.PaymentMethod;
+import com.tickatch.paymentservice.payment.domain.PaymentStatus;
+import com.tickatch.paymentservice.payment.domain.dto.PaymentReservationInfo;
+import com.tickatch.paymentservice.payment.domain.dto.PaymentSnapshot;
+import com.tickatch.paymentservice.payment.domain.repository.PaymentRepository;
+import com.tickatch.paymentservice.payment.domain.service.ReservationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 플랫폼 스레드(Tomcat 기본 최대 200개) vs 가상 스레드 결제 승인 처리량 비교.
+ *
+ * <p>각 결제 승인은 토스 승인(블로킹 I/O 80ms)과 예매 서비스 통지(블로킹 I/O 30ms)를 거친다. {@code ./gradlew benchmark}로 실행한다.
+ */
+@Tag("benchmark")
+class VirtualThreadCheckoutBenchmark {
+
+  private static final int TOMCAT_MAX_THREADS = 200;
+  private static final long TOSS_LATENCY_MS = 80;
+  private static final long RESERVATION_LATENCY_MS = 30;
+
+  @BeforeAll
+  static void silenceLogging() {
+    ((Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+  }
+
+  @ParameterizedTest(name = "{0} concurrent checkouts")
+  @ValueSource(ints = {1_000, 5_000, 10_000})
+  void compareThroughput(int concurrentCheckouts) throws Exception {
+    Result platform =
+        run(concurrentCheckouts, () -> Executors.newFixedThreadPool(TOMCAT_MAX_THREADS));
+    Result virtual = run(concurrentCheckouts, Executors::newVirtualThreadPerTaskExecutor);
+
+    System.out.printf(
+        "[checkout x%,d] platform: %,.0f req/s p99=%dms | virtual: %,.0f req/s p99=%dms%n",
+        concurrentCheckouts,
+        platform.throughput(),
+        platform.p99Millis(),
+        virtual.throughput(),
+        virtual.p99Millis());
+  }
+
+  private Result run(int checkouts, Supplier<ExecutorService> executorFactory) throws Exception {
+    Map<UUID, Payment> payments = new ConcurrentHashMap<>();
+    PaymentService paymentService = paymentService(payments);
+
+    List<Payment> targets =
+        IntStream.range(0, checkouts).mapToObj(i -> processingPayment()).toList();
+    targets.forEach(payment -> payments.put(payment.getOrderId(), payment));
+
+    // 지연 시간은 스레드 풀 대기 시간을 포함하도록 동시 시작 시점부터 측정한다
+    long[] latencies = new long[checkouts];
+    CountDownLatch start = new CountDownLatch(1);
+    AtomicLong begin = new AtomicLong();
+    try (ExecutorService executor = executorFactory.get()) {
+      for (int i = 0; i < checkouts; i++) {
+        int index = i;
+        Payment payment = targets.get(i);
+        executor.submit(
+            () -> {
+              start.await();
+              paymentService.confirmPayment("pk", payment.getOrderId(), payment.getTotalPrice());
+              latencies[index] = System.nanoTime() - begin.get();
+              return null;
+            });
+      }
+      begin.set(System.nanoTime());
+      start.countDown();
+      executor.shutdown();
+      executor.awaitTermination(5, TimeUnit.MINUTES);
+    }
+    double elapsedSeconds = (System.nanoTime() - begin.get()) / 1_000_000_000.0;
+
+    Arrays.sort(latencies);
+    long p99 = TimeUnit.NANOSECONDS.toMillis(latencies[(int) (checkouts * 0.99) - 1]);
+    return new Result(checkouts / elapsedSeconds, p99);
+  }
+
+  // Mockito 목은 호출 기록을 동기화하므로 벤치마크에서는 직접 구현한 스텁을 사용한다
+  private PaymentService paymentService(Map<UUID, Payment> payments) throws Exception {
+    PaymentRepository paymentRepository =
+        (PaymentRepository)
+            Proxy.newProxyInstance(
+                PaymentRepository.class.getClassLoader(),
+                new Class<?>[] {PaymentRepository.class},
+                (proxy, method, args) ->
+                    switch (method.getName()) {
+                      case "findWithDetailAndLinksByOrderId" ->
+                          Optional.ofNullable(payments.get(args[0]));
+                      case "findSnapshotByOrderId" ->
+                          Optional.ofNullable(payments.get(args[0]))
+                              .map(PaymentServiceConfirmLoadTest::snapshot);
+                      case "updateStatus" ->
+                          PaymentServiceConfirmLoadTest.compareAndSetStatus(
+                              payments.get(args[0]),
+                              (PaymentStatus) args[1],
+                              (PaymentStatus) args[2]);
+                      case "save" -> args[0];
+                      default -> throw new UnsupportedOperationException(method.getName());
+                    });
+
+    TossResponse done = new TossResponse(200, "DONE", null, null, null, null);
+    TossPaymentsGateway gateway =
+        new TossPaymentsGateway() {
+          @Override
+          public TossResponse createPayment(String orderName, UUID orderId, long amount) {
+            throw new UnsupportedOperationException();
+          }
+
+          @Override
+          public TossResponse confirm(String paymentKey, UUID orderId, long amount) {
+            sleep(TOSS_LATENCY_MS);
+            return done;
+          }
+
+          @Override
+          public TossResponse cancel(String paymentKey, String cancelReason) {
+            throw new UnsupportedOperationException();
+          }
+
+          @Override
+          public TossResponse findByOrderId(UUID orderId) {
+            throw new UnsupportedOperationException();
+          }
+        };
+
+    ReservationService reservationService =
+        new ReservationService() {
+          @Override
+          public void applyResult(String status, List<String> reservationIds) {
+            sleep(RESERVATION_LATENCY_MS);
+          }
+
+          @Override
+          public void changeStatus(List<String> reservationIds) {}
+        };
+
+    PlatformTransactionManager transactionManager =
+        new PlatformTransactionManager() {
+          @Override
+          public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus(true);
+          }
+
+          @Override
+          public void commit(TransactionStatus status) {}
+
+          @Override
+          public void rollback(TransactionStatus status) {}
+        };
+
+    return new PaymentService(
+        paymentRepository,
+        reservationService,
+        (paymentId, method, retryCount, actionType) -> {},
+        gateway,
+        new TransactionTemplate(transactionManager),
+        new InFlightPaymentCache() {
+          @Override
+          public Optional<PaymentSnapshot> get(UUID orderId) {
+            return Optional.empty();
+          }
+
+          @Override
+          public void put(PaymentSnapshot snapshot) {}
+
+          @Override
+          public void evict(UUID orderId) {}
+        },
+        new PaymentMetrics(new SimpleMeterRegistry()));
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static Payment processingPayment() {
+    Payment payment =
+        Payment.create(
+            "concert",
+            List.of(new PaymentReservationInfo(UUID.randomUUID().toString(), 10_000L)),
+            PaymentMethod.TOSS_CARD);
+    payment.markProcessing();
+    return payment;
+  }
+
+  private record Result(double throughput, long p99Millis) {}
+}
@@ -0,0 +1,64 @@
+package com.tickatch.paymentservice.payment.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.tickatch.paymentservice.payment.domain.dto.PaymentReservationInfo;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class TimeOrderedUuidTest {
+
+  @Test
+  void generatesVersion7WithCreationTime() {
+    long before = System.currentTimeMillis();
+    UUID uuid = TimeOrderedUuid.generate();
+    long after = System.currentTimeMillis();
+
+    assertThat(uuid.version()).isEqualTo(7);
+    assertThat(uuid.variant()).isEqualTo(2);
+    assertThat(TimeOrderedUuid.epochMillis(uuid)).isBetween(before, after);
+  }
+
+  @Test
+  void laterMillisecondSortsAfterInDatabaseByteOrder() {
+    long now = System.currentTimeMillis();
+    List<String> generated = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      generated.add(TimeOrderedUuid.generate(now + i).toString());
+    }
+
+    // PostgreSQL uuid 비교(바이트 순)는 소문자 16진 문자열 비교와 같다
+    assertThat(generated).isSorted();
+  }
+
+  @Test
+  void sameMillisecondKeysAreUnique() {
+    long now = System.currentTimeMillis();
+    Set<UUID> generated = new HashSet<>();
+    for (int i = 0; i < 10_000; i++) {
+      generated.add(TimeOrderedUuid.generate(now));
+    }
+
+    assertThat(generated).hasSize(10_000);
+  }
+
+  @Test
+  void randomUuidIsNotTimeOrdered() {
+    assertThat(TimeOrderedUuid.isTimeOrdered(TimeOrderedUuid.generate())).isTrue();
+    assertThat(TimeOrderedUuid.isTimeOrdered(UUID.randomUUID())).isFalse();
+  }
+
+  @Test
+  void paymentIdAndOrderIdAreTimeOrdered() {
+    Payment payment =
+        Payment.create(
+            "order", List.of(new PaymentReservationInfo("rsv-1", 1000L)), PaymentMethod.TOSS_CARD);
+
+    assertThat(payment.getId().toUuid().version()).isEqualTo(7);
+    assertThat(payment.getOrderId().version()).isEqualTo(7);
+  }
+}
@@ -0,0 +1,56 @@
+package com.tickatch.paymentservice.payment.domain.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.tickatch.paymentservice.payment.domain.TimeOrderedUuid;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class PaymentCreatedAtRangeTest {
+
+  @Test
+  void timeOrderedIdCoversOneDayAroundItsTimestamp() {
+    LocalDateTime now = LocalDateTime.now();
+
+    PaymentCreatedAtRange range = PaymentCreatedAtRange.around(TimeOrderedUuid.generate());
+
+    assertThat(range.from()).isBefore(now).isAfter(now.minusDays(1).minusMinutes(1));
+    assertThat(range.to()).isAfter(now).isBefore(now.plusDays(1).plusMinutes(1));
+    assertThat(ChronoUnit.HOURS.between(range.from(), range.to())).isEqualTo(48);
+  }
+
+  @Test
+  void randomIdCoversEverything() {
+    PaymentCreatedAtRange range = PaymentCreatedAtRange.around(UUID.randomUUID());
+
+    assertThat(range.from()).isBefore(LocalDateTime.of(2000, 1, 1, 0, 0));
+    assertThat(range.to()).isAfter(LocalDateTime.of(3000, 1, 1, 0, 0));
+  }
+
+  @Test
+  void spanningCoversEveryIdRange() {
+    UUID first = TimeOrderedUuid.generate();
+    UUID second = TimeOrderedUuid.generate();
+
+    PaymentCreatedAtRange range = PaymentCreatedAtRange.spanning(List.of(second, first));
+
+    assertThat(range.from()).isEqualTo(PaymentCreatedAtRange.around(first).from());
+    assertThat(range.to()).isEqualTo(PaymentCreatedAtRange.around(second).to());
+    assertThat(PaymentCreatedAtRange.spanning(List.of(first, UUID.randomUUID())).to())
+        .isAfter(LocalDateTime.of(3000, 1, 1, 0, 0));
+  }
+
+  @Test
+  void futureTimestampIsNotTrusted() {
+    // 버전 7, variant 2 형식에 30일 뒤 시각을 담은 id
+    long future = System.currentTimeMillis() + Duration.ofDays(30).toMillis();
+    UUID id = new UUID((future << 16) | 0x7000L, 0x8000000000000000L);
+
+    assertThat(TimeOrderedUuid.isTimeOrdered(id)).isTrue();
+    assertThat(PaymentCreatedAtRange.around(id).to()).isAfter(LocalDateTime.of(3000, 1, 1, 0, 0));
+  }
+}
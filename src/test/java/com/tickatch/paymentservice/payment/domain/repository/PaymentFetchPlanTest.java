@@ -0,0 +1,287 @@
+package com.tickatch.paymentservice.payment.domain.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.tickatch.paymentservice.global.config.AuditorAwareImpl;
+import com.tickatch.paymentservice.global.config.AuthExtractor.AuthInfo;
+import com.tickatch.paymentservice.payment.application.InFlightPaymentCache;
+import com.tickatch.paymentservice.payment.application.PaymentLogEventPublisher;
+import com.tickatch.paymentservice.payment.application.PaymentMetrics;
+import com.tickatch.paymentservice.payment.application.TossPaymentsGateway;
+import com.tickatch.paymentservice.payment.application.dto.RefundRequest;
+import com.tickatch.paymentservice.payment.application.dto.TossResponse;
+import com.tickatch.paymentservice.payment.application.service.PaymentService;
+import com.tickatch.paymentservice.payment.domain.LinkStatus;
+import com.tickatch.paymentservice.payment.domain.Payment;
+import com.tickatch.paymentservice.payment.domain.PaymentMethod;
+import com.tickatch.paymentservice.payment.domain.PaymentReservationLink;
+import com.tickatch.paymentservice.payment.domain.PaymentStatus;
+import com.tickatch.paymentservice.payment.domain.RefundReason;
+import com.tickatch.paymentservice.payment.domain.dto.PaymentReservationInfo;
+import com.tickatch.paymentservice.payment.domain.dto.PaymentSnapshot;
+import com.tickatch.paymentservice.payment.domain.service.ReservationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 결제 흐름별 쿼리 수 고정 테스트.
+ *
+ * <p>예매 링크 수와 관계없이 각 트랜잭션은 결제/세부 정보/링크를 select 한 번으로 불러와야 한다 (N+1, mappedBy 1:1 추가 조회 방지). 예매
+ * 링크 insert는 JDBC 배치 하나로, 승인 시 링크 상태 변경은 update 한 번으로 나가야 한다 (배치 설정은 application.yml과 같게 둠).
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(
+    properties = {
+      "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+          + "com.tickatch.paymentservice.payment.domain.repository."
+          + "PaymentFetchPlanTest$SqlRecorder",
+      "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+      "spring.jpa.properties.hibernate.order_inserts=true",
+      "spring.jpa.properties.hibernate.order_updates=true"
+    })
+class PaymentFetchPlanTest {
+
+  private static final int LINKS = 3;
+  private static final int SEATS = 8;
+
+  @Autowired private PaymentRepository paymentRepository;
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  private final MapInFlightPaymentCache inFlightPayments = new MapInFlightPaymentCache();
+  private TransactionTemplate transactionTemplate;
+  private PaymentService paymentService;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    transactionTemplate = new TransactionTemplate(transactionManager);
+
+    TossPaymentsGateway gateway = mock(TossPaymentsGateway.class);
+    when(gateway.confirm(anyString(), any(), anyLong()))
+        .thenReturn(new TossResponse(200, "DONE", null, null, null, null));
+    when(gateway.cancel(anyString(), anyString()))
+        .thenReturn(new TossResponse(200, "CANCELED", null, null, null, null));
+
+    paymentService =
+        new PaymentService(
+            paymentRepository,
+            mock(ReservationService.class),
+            mock(PaymentLogEventPublisher.class),
+            gateway,
+            transactionTemplate,
+            inFlightPayments,
+            new PaymentMetrics(new SimpleMeterRegistry()));
+  }
+
+  @Test
+  void confirmOnCacheMissReadsSnapshotAndPaymentOnce() {
+    Payment payment = savedProcessingPayment();
+
+    List<String> selects =
+        recordSelects(() -> paymentService.confirmPayment("pk", payment.getOrderId(), 3000L));
+
+    // 스냅샷 조회 1회 (승인 선점은 조건부 update) + 결과 반영 1회
+    assertThat(selects).hasSize(2);
+  }
+
+  @Test
+  void confirmOnCacheHitReadsPaymentOnlyToApplyResult() {
+    Payment payment = savedProcessingPayment();
+    inFlightPayments.put(
+        new PaymentSnapshot(
+            payment.getId().toUuid(), payment.getOrderId(), PaymentStatus.PROCESSING, 3000L));
+
+    List<String> selects =
+        recordSelects(() -> paymentService.confirmPayment("pk", payment.getOrderId(), 3000L));
+
+    assertThat(selects).hasSize(1);
+    assertThat(inFlightPayments.get(payment.getOrderId())).isEmpty();
+  }
+
+  @Test
+  void failLoadsPaymentDetailAndLinksInOneSelect() {
+    Payment payment = savedProcessingPayment();
+
+    List<String> selects =
+        recordSelects(
+            () ->
+                transactionTemplate.execute(
+                    status -> paymentService.failPayment(payment.getOrderId(), "REJECT_CARD")));
+
+    assertThat(selects).hasSize(1);
+  }
+
+  @Test
+  void refundLoadsPaymentDetailAndAllLinksInOneSelect() {
+    Payment payment = savedProcessingPayment();
+    paymentService.confirmPayment("pk", payment.getOrderId(), 3000L);
+
+    // 링크 일부만 요청해도 전체 링크가 함께 로딩되어야 소유 검증이 맞다
+    RefundRequest request =
+        new RefundRequest(RefundReason.CUSTOMER_CANCEL, List.of(reservationId(payment, 0)));
+
+    List<String> selects =
+        recordSelects(
+            () -> {
+              transactionTemplate.executeWithoutResult(
+                  status -> paymentService.refundPayment(request, new AuthInfo("ADMIN", "admin")));
+              return null;
+            });
+
+    assertThat(selects).hasSize(1);
+    assertThat(paymentRepository.findByOrderId(payment.getOrderId()))
+        .get()
+        .extracting(Payment::getStatus)
+        .isEqualTo(PaymentStatus.REFUND);
+  }
+
+  @Test
+  void refundQueryReturnsEveryLinkOfThePayment() {
+    Payment payment = savedProcessingPayment();
+
+    List<Payment> payments =
+        transactionTemplate.execute(
+            status ->
+                paymentRepository.findPaymentsByReservationIds(List.of(reservationId(payment, 1))));
+
+    assertThat(payments).hasSize(1);
+    assertThat(payments.get(0).getReservationIds()).hasSize(LINKS);
+  }
+
+  @Test
+  void createInsertsWithoutSelectingFirst() {
+    // 새 결제는 persist로 저장되어 merge의 사전 select가 없다 (예매 링크 id 시퀀스 조회만 나감)
+    assertThat(recordSelects(this::savedProcessingPayment)).allMatch(sql -> sql.contains("_seq"));
+  }
+
+  @Test
+  void createInsertsAllLinksInOneBatch() {
+    List<String> inserts = recordStatements("insert", () -> savedProcessingPayment(SEATS));
+
+    // 배치는 statement를 한 번만 준비하므로 링크 수와 관계없이 1건으로 기록된다
+    assertThat(inserts).filteredOn(sql -> sql.contains("p_payment_reservation")).hasSize(1);
+  }
+
+  @Test
+  void confirmUpdatesAllLinksInOneStatement() {
+    Payment payment = savedProcessingPayment(SEATS);
+
+    List<String> updates =
+        recordStatements(
+            "update",
+            () -> paymentService.confirmPayment("pk", payment.getOrderId(), SEATS * 1000L));
+
+    assertThat(updates).filteredOn(sql -> sql.contains("p_payment_reservation")).hasSize(1);
+    assertThat(
+            transactionTemplate.execute(
+                status ->
+                    paymentRepository
+                        .findWithDetailAndLinksByOrderId(payment.getOrderId())
+                        .orElseThrow()
+                        .getLinks()
+                        .stream()
+                        .map(PaymentReservationLink::getStatus)
+                        .toList()))
+        .hasSize(SEATS)
+        .containsOnly(LinkStatus.CONFIRMED);
+  }
+
+  private Payment savedProcessingPayment() {
+    return savedProcessingPayment(LINKS);
+  }
+
+  private Payment savedProcessingPayment(int links) {
+    String prefix = UUID.randomUUID().toString();
+    List<PaymentReservationInfo> infos =
+        IntStream.range(0, links)
+            .mapToObj(i -> new PaymentReservationInfo(prefix + "-" + i, 1000L))
+            .toList();
+
+    Payment payment = Payment.create("fetch-plan", infos, PaymentMethod.TOSS_CARD);
+    payment.markProcessing();
+    return transactionTemplate.execute(status -> paymentRepository.save(payment));
+  }
+
+  private static String reservationId(Payment payment, int index) {
+    return payment.getReservationIds().get(index);
+  }
+
+  private static List<String> recordSelects(Supplier<?> flow) {
+    return recordStatements("select", flow);
+  }
+
+  private static List<String> recordStatements(String keyword, Supplier<?> flow) {
+    SqlRecorder.STATEMENTS.clear();
+    flow.get();
+    return SqlRecorder.STATEMENTS.stream()
+        .filter(sql -> sql.stripLeading().toLowerCase().startsWith(keyword))
+        .toList();
+  }
+
+  private static class MapInFlightPaymentCache implements InFlightPaymentCache {
+
+    private final Map<UUID, PaymentSnapshot> snapshots = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<PaymentSnapshot> get(UUID orderId) {
+      return Optional.ofNullable(snapshots.get(orderId));
+    }
+
+    @Override
+    public void put(PaymentSnapshot snapshot) {
+      snapshots.put(snapshot.orderId(), snapshot);
+    }
+
+    @Override
+    public void evict(UUID orderId) {
+      snapshots.remove(orderId);
+    }
+  }
+
+  public static class SqlRecorder implements StatementInspector {
+
+    static final List<String> STATEMENTS = new ArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+      synchronized (STATEMENTS) {
+        STATEMENTS.add(sql);
+      }
+      return sql;
+    }
+  }
+
+  @SpringBootConfiguration
+  @EnableJpaAuditing
+  @Import(AuditorAwareImpl.class)
+  @EntityScan(basePackageClasses = Payment.class)
+  @EnableJpaRepositories(basePackageClasses = PaymentRepository.class)
+  static class RepositoryOnlyConfiguration {}
+}
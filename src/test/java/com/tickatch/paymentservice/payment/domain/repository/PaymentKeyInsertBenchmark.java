@@ -0,0 +1,129 @@
+package com.tickatch.paymentservice.payment.domain.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.tickatch.paymentservice.payment.domain.TimeOrderedUuid;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 결제 id/주문 id 키 종류별 p_payment insert 처리량 벤치마크.
+ *
+ * <p>{@link UUID#randomUUID()}와 {@link TimeOrderedUuid} 키로 각각 {@code benchmark.inserts}건(기본 50만)을
+ * {@code benchmark.threads}개 스레드(기본 4)에서 50건씩 나눠 넣고, 처리량과 기본 키/주문 id 인덱스 크기를 비교한다. 무작위 키는 인덱스 전체에
+ * 흩어져 페이지 분할이 일어나므로 같은 행 수에서도 인덱스가 더 크다. Docker가 필요하며 {@code ./gradlew benchmark}로 실행한다.
+ */
+@Tag("benchmark")
+@Testcontainers
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(
+    properties = {
+      "spring.flyway.enabled=true",
+      "spring.flyway.schemas=payment_service",
+      "spring.flyway.default-schema=payment_service",
+      "spring.flyway.postgresql.transactional-lock=false",
+      "spring.datasource.hikari.connection-init-sql=set search_path to payment_service"
+    })
+class PaymentKeyInsertBenchmark {
+
+  private static final int INSERTS = Integer.getInteger("benchmark.inserts", 500_000);
+  private static final int THREADS = Integer.getInteger("benchmark.threads", 4);
+  private static final int BATCH = 50;
+
+  private static final String INSERT =
+      """
+      insert into p_payment (id, status, total_price, method, order_name, order_id, retry_count,
+                             created_at, updated_at, created_by, updated_by)
+      values (?, 'REQUESTED', 10000, 'TOSS_CARD', 'order', ?, 0, ?, ?, 'user', 'user')
+      """;
+
+  @Container @ServiceConnection
+  static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void compareRandomAndTimeOrderedKeys() throws Exception {
+    run("random", UUID::randomUUID); // 워밍업
+    long randomIndexBytes = run("random", UUID::randomUUID);
+    long timeOrderedIndexBytes = run("time-ordered", TimeOrderedUuid::generate);
+
+    assertThat(timeOrderedIndexBytes).isLessThan(randomIndexBytes);
+  }
+
+  // 인덱스 크기 합을 돌려준다
+  private long run(String name, Supplier<UUID> keys) throws Exception {
+    jdbcTemplate.execute("truncate p_payment cascade");
+
+    long start = System.nanoTime();
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      List<Future<?>> workers = new ArrayList<>();
+      for (int t = 0; t < THREADS; t++) {
+        workers.add(executor.submit(() -> insert(INSERTS / THREADS, keys)));
+      }
+      for (Future<?> worker : workers) {
+        worker.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+    long elapsed = System.nanoTime() - start;
+
+    long pkBytes = relationSize("pk_payment");
+    long orderIdBytes = relationSize("ux_payment_order_id");
+    double rowsPerSecond = INSERTS / (elapsed / 1_000_000_000.0);
+    System.out.printf(
+        "[%s x%,d rows, %d threads] %,.0f rows/s | pk_payment=%,dKB ux_payment_order_id=%,dKB%n",
+        name, INSERTS, THREADS, rowsPerSecond, pkBytes / 1024, orderIdBytes / 1024);
+    return pkBytes + orderIdBytes;
+  }
+
+  // 결제 생성처럼 행마다 새 결제 id/주문 id를 만들어 BATCH건씩 JDBC 배치로 보낸다
+  private void insert(int rows, Supplier<UUID> keys) {
+    for (int done = 0; done < rows; done += BATCH) {
+      List<Object[]> batch = new ArrayList<>(BATCH);
+      Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+      for (int i = 0; i < Math.min(BATCH, rows - done); i++) {
+        batch.add(new Object[] {keys.get(), keys.get(), now, now});
+      }
+      jdbcTemplate.batchUpdate(INSERT, batch);
+    }
+  }
+
+  // 파티션 인덱스(V9)는 부모 크기가 0이므로 월 파티션 인덱스 크기를 합한다
+  private long relationSize(String relation) {
+    Long size =
+        jdbcTemplate.queryForObject(
+            "select sum(pg_relation_size(relid)) from pg_partition_tree(?::regclass)",
+            Long.class,
+            relation);
+    return size == null ? 0 : size;
+  }
+
+  @SpringBootConfiguration
+  static class JdbcOnlyConfiguration {}
+}
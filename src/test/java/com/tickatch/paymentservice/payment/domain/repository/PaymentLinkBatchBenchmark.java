@@ -0,0 +1,141 @@
+package com.tickatch.paymentservice.payment.domain.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.tickatch.paymentservice.global.config.AuditorAwareImpl;
+import com.tickatch.paymentservice.payment.domain.Payment;
+import com.tickatch.paymentservice.payment.domain.PaymentMethod;
+import com.tickatch.paymentservice.payment.domain.dto.PaymentReservationInfo;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 다좌석 결제 생성(결제 + 예매 링크 insert) 처리량 벤치마크.
+ *
+ * <p>PostgreSQL 컨테이너(Flyway 스키마, reWriteBatchedInserts)에서 좌석 수별로 결제 {@code benchmark.checkouts}건(기본
+ * 2000)을 {@code benchmark.threads}개 스레드(기본 8)에서 하나씩 커밋하며, 세션 JDBC 배치 크기 1(링크마다 insert 왕복, IDENTITY
+ * 전략과 같음)과 50(링크 insert 한 번)의 처리량을 비교한다. Docker가 필요하며 {@code ./gradlew benchmark}로 실행한다.
+ */
+@Tag("benchmark")
+@Testcontainers
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(
+    properties = {
+      "spring.flyway.enabled=true",
+      "spring.flyway.schemas=payment_service",
+      "spring.flyway.default-schema=payment_service",
+      "spring.flyway.postgresql.transactional-lock=false",
+      "spring.jpa.hibernate.ddl-auto=validate",
+      "spring.jpa.properties.hibernate.default_schema=payment_service",
+      "spring.jpa.properties.hibernate.hbm2ddl.extra_physical_table_types=PARTITIONED TABLE",
+      "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+      "spring.jpa.properties.hibernate.order_inserts=true",
+      "spring.jpa.properties.hibernate.order_updates=true",
+      "spring.datasource.hikari.connection-init-sql=set search_path to payment_service",
+      "spring.datasource.hikari.data-source-properties.reWriteBatchedInserts=true",
+      "logging.level.org.hibernate.SQL=warn"
+    })
+class PaymentLinkBatchBenchmark {
+
+  private static final int CHECKOUTS = Integer.getInteger("benchmark.checkouts", 2_000);
+  private static final int THREADS = Integer.getInteger("benchmark.threads", 8);
+
+  @Container @ServiceConnection
+  static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+  @Autowired private PaymentRepository paymentRepository;
+  @Autowired private EntityManager entityManager;
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  @ParameterizedTest(name = "{0} seats")
+  @ValueSource(ints = {1, 4, 8})
+  void compareBatchedAndUnbatchedCheckouts(int seats) throws Exception {
+    run(seats, 50); // 워밍업
+    double unbatched = run(seats, 1);
+    double batched = run(seats, 50);
+
+    System.out.printf(
+        "[checkout x%,d, %d seats, %d threads] batch=1: %,.0f checkouts/s | batch=50: %,.0f"
+            + " checkouts/s%n",
+        CHECKOUTS, seats, THREADS, unbatched, batched);
+
+    if (seats > 1) {
+      assertThat(batched).isGreaterThan(unbatched);
+    }
+  }
+
+  // 초당 결제 생성 수
+  private double run(int seats, int batchSize) throws Exception {
+    TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+    long start = System.nanoTime();
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      List<Future<?>> workers = new ArrayList<>();
+      for (int t = 0; t < THREADS; t++) {
+        workers.add(
+            executor.submit(
+                () -> {
+                  for (int i = 0; i < CHECKOUTS / THREADS; i++) {
+                    transactionTemplate.executeWithoutResult(
+                        status -> {
+                          entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+                          paymentRepository.save(checkout(seats));
+                        });
+                  }
+                }));
+      }
+      for (Future<?> worker : workers) {
+        worker.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+    return CHECKOUTS / ((System.nanoTime() - start) / 1_000_000_000.0);
+  }
+
+  private static Payment checkout(int seats) {
+    String prefix = UUID.randomUUID().toString();
+    List<PaymentReservationInfo> infos =
+        IntStream.range(0, seats)
+            .mapToObj(i -> new PaymentReservationInfo(prefix + "-" + i, 10_000L))
+            .toList();
+    return Payment.create("benchmark", infos, PaymentMethod.TOSS_CARD);
+  }
+
+  @SpringBootConfiguration
+  @EnableJpaAuditing
+  @Import(AuditorAwareImpl.class)
+  @EntityScan(basePackageClasses = Payment.class)
+  @EnableJpaRepositories(basePackageClasses = PaymentRepository.class)
+  static class RepositoryOnlyConfiguration {}
+}
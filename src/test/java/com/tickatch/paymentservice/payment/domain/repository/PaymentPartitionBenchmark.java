@@ -0,0 +1,264 @@
+package com.tickatch.paymentservice.payment.domain.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.tickatch.paymentservice.payment.domain.Payment;
+import com.tickatch.paymentservice.payment.domain.dto.PaymentCreatedAtRange;
+import com.tickatch.paymentservice.payment.infrastructure.persistence.PaymentPartitionMaintainer;
+import com.tickatch.paymentservice.payment.presentation.config.JPAConfig;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.function.IntConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 결제 테이블 월 파티션(V9) 벤치마크.
+ *
+ * <p>PostgreSQL 컨테이너에 {@code benchmark.partition.months}개월(기본 24)에 걸쳐 결제 {@code
+ * benchmark.partition.payments}건(기본 120만)과 예매 링크를 적재한다. id/주문 id는 생성 시각을 담은 UUIDv7 형식이다. 주문 id 조회가
+ * 생성 시각 구간으로 한 달 파티션만 읽는지 실행 계획으로 확인하고, 구간 없이 모든 파티션을 찾는 조회와 지연을 비교한다. Docker가 필요하며 {@code
+ * ./gradlew benchmark}로 실행한다.
+ */
+@Tag("benchmark")
+@Testcontainers
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(
+    properties = {
+      "spring.flyway.enabled=true",
+      "spring.flyway.schemas=payment_service",
+      "spring.flyway.default-schema=payment_service",
+      "spring.flyway.postgresql.transactional-lock=false",
+      "spring.jpa.hibernate.ddl-auto=validate",
+      "spring.jpa.properties.hibernate.default_schema=payment_service",
+      "spring.jpa.properties.hibernate.hbm2ddl.extra_physical_table_types=PARTITIONED TABLE",
+      "spring.datasource.hikari.connection-init-sql=set search_path to payment_service",
+      "logging.level.org.hibernate.SQL=warn"
+    })
+class PaymentPartitionBenchmark {
+
+  private static final int PAYMENTS =
+      Integer.getInteger("benchmark.partition.payments", 1_200_000);
+  private static final int MONTHS = Integer.getInteger("benchmark.partition.months", 24);
+  private static final int LOOKUPS = 200;
+
+  private static final LocalDateTime UNBOUNDED_FROM = LocalDateTime.of(1970, 1, 1, 0, 0);
+  private static final LocalDateTime UNBOUNDED_TO = LocalDateTime.of(9999, 1, 1, 0, 0);
+
+  // 실행 계획에서 읽는 파티션 이름 (예: Index Scan using ... on p_payment_y2026m10 p_payment_1)
+  private static final Pattern PAYMENT_PARTITION =
+      Pattern.compile(" on (p_payment_(?:y\\d{4}m\\d{2}|default))\\b");
+
+  @Container @ServiceConnection
+  static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+  @Autowired private PaymentRepository paymentRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private EntityManager entityManager;
+  @Autowired private PlatformTransactionManager transactionManager;
+
+  private List<UUID> orderIds;
+
+  @BeforeEach
+  void seed() {
+    Integer existing = jdbcTemplate.queryForObject("select count(*) from p_payment", Integer.class);
+    if (existing == null || existing < PAYMENTS) {
+      // 적재 구간의 월 파티션을 먼저 만든다 (없으면 DEFAULT 파티션에 쌓임)
+      jdbcTemplate.queryForList(
+          """
+          select create_payment_partitions(month::date)
+          from generate_series(date_trunc('month', localtimestamp) - ? * interval '1 month',
+                               date_trunc('month', localtimestamp), interval '1 month') month
+          """,
+          Integer.class,
+          MONTHS);
+
+      // 생성 시각을 구간에 고르게 흩뿌리고, id/주문 id는 그 시각을 담은 UUIDv7 형식으로 만든다
+      jdbcTemplate.update(
+          """
+          insert into p_payment (id, status, total_price, method, order_name, order_id,
+                                 retry_count, created_at, updated_at, created_by, updated_by)
+          select %s, 'SUCCESS', 10000, 'TOSS_CARD', 'order-' || s.g, %s, 0, s.created_at,
+                 s.created_at, 'user-' || mod(s.g, 50000), 'user-' || mod(s.g, 50000)
+          from (select g, localtimestamp - (g::float8 / ?) * (? * interval '1 month') as created_at
+                from generate_series(1, ?) g) s
+          """
+              .formatted(
+                  v7("s.created_at", "md5('payment-' || s.g)"),
+                  v7("s.created_at", "md5('order-' || s.g)")),
+          PAYMENTS,
+          MONTHS,
+          PAYMENTS);
+      jdbcTemplate.update(
+          """
+          insert into p_payment_reservation (reservation_id, payment_id, price, status, created_at)
+          select 'rsv-' || substr(order_name, 7), id, 10000, 'CONFIRMED', created_at
+          from p_payment
+          """);
+      jdbcTemplate.execute("vacuum analyze p_payment");
+      jdbcTemplate.execute("vacuum analyze p_payment_reservation");
+    }
+
+    orderIds =
+        jdbcTemplate.queryForList(
+            "select order_id from p_payment order by md5(order_name) limit ?",
+            UUID.class,
+            LOOKUPS);
+  }
+
+  @Test
+  void orderIdLookupReadsOnlyItsMonth() {
+    UUID orderId = orderIds.get(0);
+    PaymentCreatedAtRange range = PaymentCreatedAtRange.around(orderId);
+
+    Set<String> pruned =
+        partitionsIn(
+            explain(
+                "select * from p_payment where order_id = ? and created_at >= ? and created_at < ?",
+                orderId,
+                range.from(),
+                range.to()));
+    Set<String> unbounded =
+        partitionsIn(explain("select * from p_payment where order_id = ?", orderId));
+    System.out.printf(
+        "[partition x%,d rows, %d months] order id lookup reads %s (unbounded: %d partitions)%n",
+        PAYMENTS, MONTHS, pruned, unbounded.size());
+
+    // 앞뒤 하루 여유가 월 경계를 넘으면 두 달을 읽는다
+    assertThat(pruned).isNotEmpty().hasSizeLessThanOrEqualTo(2);
+    assertThat(unbounded).hasSizeGreaterThan(MONTHS);
+    assertThat(paymentRepository.findByOrderId(orderId)).isPresent();
+  }
+
+  @Test
+  void prunedLookupIsFasterThanScanningEveryPartition() {
+    IntConsumer pruned =
+        i -> assertThat(paymentRepository.findByOrderId(orderIds.get(i))).isPresent();
+    IntConsumer unbounded =
+        i ->
+            assertThat(
+                    paymentRepository.findByOrderIdWithin(
+                        orderIds.get(i), UNBOUNDED_FROM, UNBOUNDED_TO))
+                .isPresent();
+
+    measure(pruned); // 워밍업
+    measure(unbounded);
+    long[] prunedLatencies = measure(pruned);
+    long[] unboundedLatencies = measure(unbounded);
+    System.out.printf(
+        "[findByOrderId x%,d rows, %d months] pruned p50=%.2fms p99=%.2fms | all partitions"
+            + " p50=%.2fms p99=%.2fms%n",
+        PAYMENTS,
+        MONTHS,
+        percentile(prunedLatencies, 0.50),
+        percentile(prunedLatencies, 0.99),
+        percentile(unboundedLatencies, 0.50),
+        percentile(unboundedLatencies, 0.99));
+
+    assertThat(percentile(prunedLatencies, 0.50))
+        .isLessThan(percentile(unboundedLatencies, 0.50));
+  }
+
+  @Test
+  void maintainerCreatesUpcomingMonths() {
+    int monthsAhead = 6;
+    new PaymentPartitionMaintainer(jdbcTemplate, "payment_service", monthsAhead)
+        .ensurePartitions();
+
+    String suffix =
+        LocalDate.now()
+            .plusMonths(monthsAhead)
+            .format(DateTimeFormatter.ofPattern("'_y'yyyy'm'MM"));
+    for (String parent : List.of("p_payment", "p_payment_reservation", "p_payment_detail")) {
+      assertThat(
+              jdbcTemplate.queryForObject(
+                  "select to_regclass(?) is not null", Boolean.class, parent + suffix))
+          .as(parent + suffix)
+          .isTrue();
+    }
+    // 이미 있는 달은 다시 만들지 않는다
+    assertThat(
+            jdbcTemplate.queryForObject(
+                "select ensure_payment_partitions(?)", Integer.class, monthsAhead))
+        .isZero();
+    assertThat(jdbcTemplate.queryForObject("select count(*) from p_payment_default", Long.class))
+        .isZero();
+  }
+
+  private long[] measure(IntConsumer lookup) {
+    long[] latencies = new long[LOOKUPS];
+    new TransactionTemplate(transactionManager)
+        .executeWithoutResult(
+            status -> {
+              for (int i = 0; i < LOOKUPS; i++) {
+                long start = System.nanoTime();
+                lookup.accept(i);
+                latencies[i] = System.nanoTime() - start;
+                entityManager.clear();
+              }
+            });
+    return latencies;
+  }
+
+  // 앞 48비트는 생성 시각(ms), 버전 7, variant 2, 나머지는 무작위(md5) 16진수
+  private static String v7(String createdAt, String randomHex) {
+    return ("(lpad(to_hex((extract(epoch from %1$s) * 1000)::bigint), 12, '0')"
+            + " || '7' || substr(%2$s, 1, 3) || '8' || substr(%2$s, 4, 15))::uuid")
+        .formatted(createdAt, randomHex);
+  }
+
+  private String explain(String sql, Object... args) {
+    return String.join("\n", jdbcTemplate.queryForList("explain " + sql, String.class, args));
+  }
+
+  private static Set<String> partitionsIn(String plan) {
+    Set<String> partitions = new TreeSet<>();
+    Matcher matcher = PAYMENT_PARTITION.matcher(plan);
+    while (matcher.find()) {
+      partitions.add(matcher.group(1));
+    }
+    return partitions;
+  }
+
+  private static double percentile(long[] latencies, double percentile) {
+    long[] sorted = latencies.clone();
+    Arrays.sort(sorted);
+    int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+    return sorted[Math.max(index, 0)] / 1_000_000.0;
+  }
+
+  @SpringBootConfiguration
+  @Import(JPAConfig.class)
+  @EntityScan(basePackageClasses = Payment.class)
+  @EnableJpaRepositories(basePackageClasses = PaymentRepository.class)
+  static class RepositoryOnlyConfiguration {}
+}
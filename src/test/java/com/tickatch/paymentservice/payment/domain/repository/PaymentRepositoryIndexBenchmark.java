@@ -0,0 +1,284 @@
+package com.tickatch.paymentservice.payment.domain.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.tickatch.paymentservice.payment.domain.Payment;
+import com.tickatch.paymentservice.payment.domain.dto.PaymentSearchCondition;
+import com.tickatch.paymentservice.payment.domain.dto.PaymentSearchCursor;
+import com.tickatch.paymentservice.payment.infrastructure.persistence.QuerydslPaymentSearchRepository;
+import com.tickatch.paymentservice.payment.presentation.config.JPAConfig;
+import jakarta.persistence.EntityManager;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.IntConsumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Flyway 마이그레이션(V2, V9) 인덱스가 대량 데이터에서 실제로 사용되는지 확인하는 벤치마크.
+ *
+ * <p>PostgreSQL 컨테이너에 결제 {@code benchmark.payments}건(기본 100만)과 예매 링크 2배수를 적재한 뒤, 각 조회의 실행 계획이 인덱스를
+ * 타는지 검사하고 인덱스 사용/미사용(enable_*scan=off) 시의 리포지토리 호출 지연을 비교한다. Docker가 필요하며 {@code ./gradlew
+ * benchmark}로 실행한다.
+ *
+ * <p>결제 검색은 90% 깊이의 keyset 페이지 지연을 첫 페이지, 같은 깊이의 OFFSET 조회와 비교한다.
+ */
+@Tag("benchmark")
+@Testcontainers
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(
+    properties = {
+      "spring.flyway.enabled=true",
+      "spring.flyway.schemas=payment_service",
+      "spring.flyway.default-schema=payment_service",
+      "spring.flyway.postgresql.transactional-lock=false",
+      "spring.jpa.hibernate.ddl-auto=validate",
+      "spring.jpa.properties.hibernate.default_schema=payment_service",
+      "spring.jpa.properties.hibernate.hbm2ddl.extra_physical_table_types=PARTITIONED TABLE",
+      "spring.datasource.hikari.connection-init-sql=set search_path to payment_service",
+      "logging.level.org.hibernate.SQL=warn"
+    })
+class PaymentRepositoryIndexBenchmark {
+
+  private static final int PAYMENTS = Integer.getInteger("benchmark.payments", 1_000_000);
+  private static final int LOOKUPS = 200;
+
+  @Container @ServiceConnection
+  static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+  @Autowired private PaymentRepository paymentRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+  @Autowired private EntityManager entityManager;
+  @Autowired private PlatformTransactionManager transactionManager;
+  @Autowired private QuerydslPaymentSearchRepository searchRepository;
+
+  @BeforeEach
+  void seed() {
+    Integer existing = jdbcTemplate.queryForObject("select count(*) from p_payment", Integer.class);
+    if (existing != null && existing >= PAYMENTS) {
+      return;
+    }
+
+    // id/orderId는 순번으로부터 결정적으로 만들어 조회 대상 키를 다시 계산할 수 있게 한다
+    jdbcTemplate.update(
+        """
+        insert into p_payment (id, status, total_price, method, order_name, order_id, retry_count,
+                               created_at, updated_at, created_by, updated_by)
+        select md5('payment-' || g)::uuid, 'SUCCESS', 10000, 'TOSS_CARD', 'order-' || g,
+               md5('order-' || g)::uuid, 0, now() - g * interval '1 second', now(),
+               'user-' || (g % 50000), 'user-' || (g % 50000)
+        from generate_series(1, ?) g
+        """,
+        PAYMENTS);
+    jdbcTemplate.update(
+        """
+        insert into p_payment_reservation (reservation_id, payment_id, price, status, created_at)
+        select 'rsv-' || g || '-' || k, p.id, 5000, 'CONFIRMED', p.created_at
+        from generate_series(1, ?) g
+        join p_payment p on p.id = md5('payment-' || g)::uuid, generate_series(1, 2) k
+        """,
+        PAYMENTS);
+    jdbcTemplate.update(
+        """
+        insert into p_payment_detail (id, payment_type, payment_id, payment_key, created_at)
+        select md5('detail-' || g)::uuid, 'TOSS_CARD', p.id, 'pk-' || g, p.created_at
+        from generate_series(1, ?) g
+        join p_payment p on p.id = md5('payment-' || g)::uuid
+        """,
+        PAYMENTS);
+    jdbcTemplate.execute("vacuum analyze p_payment");
+    jdbcTemplate.execute("vacuum analyze p_payment_reservation");
+    jdbcTemplate.execute("vacuum analyze p_payment_detail");
+  }
+
+  @Test
+  void lookupsUseIndexes() {
+    int target = PAYMENTS / 2;
+    assertThat(explain("select * from p_payment where order_id = ?", md5Uuid("order-" + target)))
+        .containsAnyOf(partitionIndexes("ux_payment_order_id"));
+    assertThat(
+            explain(
+                """
+                select distinct p.id from p_payment p
+                join p_payment_reservation l on l.payment_id = p.id
+                where l.reservation_id in (?, ?)
+                """,
+                "rsv-" + target + "-1",
+                "rsv-" + target + "-2"))
+        .containsAnyOf(partitionIndexes("ix_payment_reservation_reservation_payment"));
+    assertThat(
+            explain(
+                "select * from p_payment_detail where payment_id = md5(?)::uuid",
+                "payment-" + target))
+        .containsAnyOf(partitionIndexes("ux_payment_detail_payment_id"));
+    assertThat(
+            explain(
+                "select * from p_payment where created_by = ? order by created_at desc limit 20",
+                "user-" + (target % 50000)))
+        .containsAnyOf(partitionIndexes("ix_payment_created_by_created_at"));
+  }
+
+  @Test
+  void compareRepositoryLatencyWithAndWithoutIndexes() {
+    report(
+        "findByOrderId",
+        "ux_payment_order_id",
+        i -> assertThat(paymentRepository.findByOrderId(md5Uuid("order-" + key(i)))).isPresent());
+    report(
+        "findPaymentsByReservationIds",
+        "ix_payment_reservation_reservation_payment",
+        i ->
+            assertThat(
+                    paymentRepository.findPaymentsByReservationIds(
+                        List.of("rsv-" + key(i) + "-1", "rsv-" + key(i) + "-2")))
+                .hasSize(1));
+  }
+
+  @Test
+  void keysetSearchCostDoesNotGrowWithDepth() {
+    PaymentSearchCondition all = new PaymentSearchCondition(null, null, null, null, null);
+    int depth = PAYMENTS * 9 / 10;
+    PaymentSearchCursor deep =
+        jdbcTemplate.queryForObject(
+            "select created_at, id from p_payment order by created_at desc, id desc"
+                + " offset ? limit 1",
+            (rs, rowNum) ->
+                new PaymentSearchCursor(
+                    rs.getTimestamp(1).toLocalDateTime(), rs.getObject(2, UUID.class)),
+            depth);
+
+    measure(i -> searchRepository.search(all, null, 20), null); // 워밍업
+    long[] firstPage =
+        measure(i -> assertThat(searchRepository.search(all, null, 20)).hasSize(20), null);
+    long[] deepPage =
+        measure(i -> assertThat(searchRepository.search(all, deep, 20)).hasSize(20), null);
+
+    long[] deepOffset = new long[10];
+    for (int i = 0; i < deepOffset.length; i++) {
+      long start = System.nanoTime();
+      jdbcTemplate.queryForList(
+          "select id from p_payment order by created_at desc, id desc offset ? limit 20",
+          UUID.class,
+          depth);
+      deepOffset[i] = System.nanoTime() - start;
+    }
+
+    System.out.printf(
+        "[search x%,d rows] first page p50=%.2fms | keyset at %,d p50=%.2fms | offset at %,d"
+            + " p50=%.2fms%n",
+        PAYMENTS,
+        percentile(firstPage, 0.50),
+        depth,
+        percentile(deepPage, 0.50),
+        depth,
+        percentile(deepOffset, 0.50));
+
+    assertThat(percentile(deepPage, 0.50)).isLessThan(percentile(deepOffset, 0.50));
+  }
+
+  private void report(String name, String index, IntConsumer lookup) {
+    measure(lookup, null); // 워밍업
+    long[] indexed = measure(lookup, null);
+    long[] withoutIndex = measure(lookup, index);
+    System.out.printf(
+        "[%s x%,d rows] indexed p50=%.2fms p99=%.2fms | without %s p50=%.2fms p99=%.2fms%n",
+        name,
+        PAYMENTS,
+        percentile(indexed, 0.50),
+        percentile(indexed, 0.99),
+        index,
+        percentile(withoutIndex, 0.50),
+        percentile(withoutIndex, 0.99));
+
+    assertThat(percentile(indexed, 0.50)).isLessThan(percentile(withoutIndex, 0.50));
+  }
+
+  // droppedIndex가 있으면 트랜잭션 안에서 인덱스를 지운 상태로 측정하고 롤백한다 (PostgreSQL DDL은 트랜잭션 대상이며 캐시된 실행 계획도 무효화됨)
+  private long[] measure(IntConsumer lookup, String droppedIndex) {
+    int iterations = droppedIndex == null ? LOOKUPS : LOOKUPS / 20;
+    long[] latencies = new long[iterations];
+    new TransactionTemplate(transactionManager)
+        .executeWithoutResult(
+            status -> {
+              if (droppedIndex != null) {
+                jdbcTemplate.execute("drop index " + droppedIndex);
+              }
+              for (int i = 0; i < iterations; i++) {
+                long start = System.nanoTime();
+                lookup.accept(i);
+                latencies[i] = System.nanoTime() - start;
+                entityManager.clear();
+              }
+              status.setRollbackOnly();
+            });
+    return latencies;
+  }
+
+  private String explain(String sql, Object... args) {
+    return String.join("\n", jdbcTemplate.queryForList("explain " + sql, String.class, args));
+  }
+
+  // 파티션 테이블의 인덱스는 실행 계획에 월 파티션별 인덱스 이름으로 나온다
+  private String[] partitionIndexes(String index) {
+    return jdbcTemplate
+        .queryForList(
+            "select relid::regclass::text from pg_partition_tree(?::regclass) where isleaf",
+            String.class,
+            index)
+        .toArray(String[]::new);
+  }
+
+  // PostgreSQL md5(text)::uuid 와 같은 값
+  private static UUID md5Uuid(String value) {
+    try {
+      ByteBuffer digest =
+          ByteBuffer.wrap(
+              MessageDigest.getInstance("MD5").digest(value.getBytes(StandardCharsets.UTF_8)));
+      return new UUID(digest.getLong(), digest.getLong());
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static int key(int i) {
+    return (int) ((i * 7919L) % PAYMENTS) + 1;
+  }
+
+  private static double percentile(long[] latencies, double percentile) {
+    long[] sorted = latencies.clone();
+    Arrays.sort(sorted);
+    int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+    return sorted[Math.max(index, 0)] / 1_000_000.0;
+  }
+
+  @SpringBootConfiguration
+  @Import({JPAConfig.class, QuerydslPaymentSearchRepository.class})
+  @EntityScan(basePackageClasses = Payment.class)
+  @EnableJpaRepositories(basePackageClasses = PaymentRepository.class)
+  static class RepositoryOnlyConfiguration {}
+}
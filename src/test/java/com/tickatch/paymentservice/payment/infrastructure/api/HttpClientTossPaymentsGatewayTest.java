@@ -0,0 +1,288 @@
+package com.tickatch.paymentservice.payment.infrastructure.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.tickatch.paymentservice.payment.application.dto.TossResponse;
+import com.tickatch.paymentservice.payment.domain.exception.PaymentErrorCode;
+import com.tickatch.paymentservice.payment.domain.exception.PaymentException;
+import com.tickatch.paymentservice.payment.infrastructure.config.TossClientConfig;
+import com.tickatch.paymentservice.payment.infrastructure.config.TossProperties;
+import com.tickatch.paymentservice.payment.infrastructure.config.TossRetryProperties;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+class HttpClientTossPaymentsGatewayTest {
+
+  // 재시도 없이 한 번만 호출
+  private static final TossRetryProperties NO_RETRY =
+      new TossRetryProperties(
+          1, Duration.ZERO, Duration.ZERO, false, Duration.ZERO, Integer.MAX_VALUE);
+
+  private HttpServer server;
+  private ExecutorService serverExecutor;
+  private TossProperties properties;
+  private SimpleMeterRegistry meterRegistry;
+  private CircuitBreakerRegistry circuitBreakerRegistry;
+  private HttpClientTossPaymentsGateway gateway;
+  private final List<String> authorizations = new CopyOnWriteArrayList<>();
+  private final List<String> idempotencyKeys = new CopyOnWriteArrayList<>();
+
+  // 승인 스텁 동작 순서: drop(응답 없음), processing(같은 키 처리 중 409), delay(지연 후 승인), 비어 있으면 바로 승인
+  private final Queue<String> confirmScript = new ConcurrentLinkedQueue<>();
+
+  @BeforeEach
+  void setUp() throws Exception {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    serverExecutor = Executors.newCachedThreadPool();
+    server.setExecutor(serverExecutor);
+    server.createContext(
+        "/v1/payments/confirm",
+        exchange -> {
+          authorizations.add(exchange.getRequestHeaders().getFirst("Authorization"));
+          idempotencyKeys.add(exchange.getRequestHeaders().getFirst("Idempotency-Key"));
+          String step = confirmScript.poll();
+          if ("drop".equals(step)) {
+            sleep(400);
+            exchange.close();
+            return;
+          }
+          if ("processing".equals(step)) {
+            respond(exchange, 409, "{\"code\":\"IDEMPOTENT_REQUEST_PROCESSING\"}");
+            return;
+          }
+          if ("delay".equals(step)) {
+            sleep(150);
+          }
+          respond(exchange, 200, "{\"status\":\"DONE\"}");
+        });
+    server.createContext(
+        "/v1/payments/slow/cancel",
+        exchange -> {
+          try {
+            Thread.sleep(500);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          exchange.close();
+        });
+    server.createContext(
+        "/v1/payments/rejected/cancel",
+        exchange ->
+            respond(
+                exchange,
+                400,
+                "{\"code\":\"ALREADY_CANCELED_PAYMENT\",\"message\":\"이미 취소된 결제\"}"));
+    server.createContext(
+        "/v1/payments/odd/cancel",
+        exchange -> respond(exchange, 500, "{\"code\":\"order-123\"}"));
+    server.start();
+
+    properties =
+        new TossProperties(
+            "test_sk",
+            "http://localhost:" + server.getAddress().getPort(),
+            Duration.ofSeconds(1),
+            Duration.ofMillis(200));
+    meterRegistry = new SimpleMeterRegistry();
+    circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+    gateway = gateway(NO_RETRY);
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+    serverExecutor.shutdownNow();
+  }
+
+  @Test
+  void confirmReusesPrecomputedAuthorizationAndRecordsLatency() {
+    TossResponse first = gateway.confirm("pk_1", UUID.randomUUID(), 1000L);
+    TossResponse second = gateway.confirm("pk_2", UUID.randomUUID(), 2000L);
+
+    assertThat(first.isOk()).isTrue();
+    assertThat(second.status()).isEqualTo("DONE");
+    assertThat(authorizations).hasSize(2).containsOnly("Basic dGVzdF9zazo=");
+    assertThat(
+            meterRegistry
+                .get("toss.api.requests")
+                .tag("endpoint", "confirm")
+                .tag("outcome", "SUCCESS")
+                .timer()
+                .count())
+        .isEqualTo(2);
+  }
+
+  @Test
+  void readTimeoutIsCountedAsErrorWithUnknownOutcome() {
+    assertThatThrownBy(() -> gateway.cancel("slow", "CUSTOMER_CANCEL"))
+        .isInstanceOfSatisfying(
+            PaymentException.class,
+            e -> {
+              assertThat(e.getErrorCode()).isEqualTo(PaymentErrorCode.TOSS_OUTCOME_UNKNOWN);
+              assertThat(e).hasCauseInstanceOf(UncheckedIOException.class);
+            });
+
+    assertThat(meterRegistry.get("toss.api.errors").tag("endpoint", "cancel").counter().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void errorResponseCodesAreCountedWithBoundedTags() {
+    gateway.cancel("rejected", "CUSTOMER_CANCEL");
+    assertThatThrownBy(() -> gateway.cancel("odd", "CUSTOMER_CANCEL"))
+        .isInstanceOf(PaymentException.class);
+
+    assertThat(
+            meterRegistry
+                .get("toss.api.error.codes")
+                .tag("code", "ALREADY_CANCELED_PAYMENT")
+                .counter()
+                .count())
+        .isEqualTo(1);
+    assertThat(meterRegistry.get("toss.api.error.codes").tag("code", "OTHER").counter().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void openCircuitFailsFastWithoutCallingToss() {
+    circuitBreakerRegistry.circuitBreaker("toss").transitionToOpenState();
+
+    assertThatThrownBy(() -> gateway.confirm("pk_1", UUID.randomUUID(), 1000L))
+        .isInstanceOfSatisfying(
+            PaymentException.class,
+            e -> assertThat(e.getErrorCode()).isEqualTo(PaymentErrorCode.TOSS_UNAVAILABLE));
+    assertThat(authorizations).isEmpty();
+  }
+
+  @Test
+  void droppedConfirmIsRetriedWithSameIdempotencyKey() {
+    HttpClientTossPaymentsGateway retrying = gateway(retry(false));
+    UUID orderId = UUID.randomUUID();
+    confirmScript.add("drop");
+
+    TossResponse response = retrying.confirm("pk_1", orderId, 1000L);
+
+    assertThat(response.status()).isEqualTo("DONE");
+    assertThat(idempotencyKeys).hasSize(2).containsOnly("confirm-" + orderId);
+    assertThat(meterRegistry.get("toss.api.retries").tag("endpoint", "confirm").counter().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void confirmWaitsWhileSameKeyIsProcessing() {
+    HttpClientTossPaymentsGateway retrying = gateway(retry(false));
+    confirmScript.addAll(List.of("processing", "processing"));
+
+    TossResponse response = retrying.confirm("pk_1", UUID.randomUUID(), 1000L);
+
+    assertThat(response.status()).isEqualTo("DONE");
+    assertThat(idempotencyKeys).hasSize(3);
+  }
+
+  @Test
+  void retriesStopAtMaxAttemptsWithUnknownOutcome() {
+    HttpClientTossPaymentsGateway retrying = gateway(retry(false));
+
+    assertThatThrownBy(() -> retrying.cancel("odd", "CUSTOMER_CANCEL"))
+        .isInstanceOfSatisfying(
+            PaymentException.class,
+            e -> assertThat(e.getErrorCode()).isEqualTo(PaymentErrorCode.TOSS_OUTCOME_UNKNOWN));
+    assertThat(meterRegistry.get("toss.api.error.codes").tag("code", "OTHER").counter().count())
+        .isEqualTo(3);
+  }
+
+  @Test
+  void droppedConfirmOnEveryAttemptIsUnknownOutcome() {
+    HttpClientTossPaymentsGateway retrying = gateway(retry(false));
+    confirmScript.addAll(List.of("drop", "drop", "drop"));
+
+    // 응답 없이 재시도가 소진되면 승인 실패가 아니라 결과 미확인으로 돌려준다
+    assertThatThrownBy(() -> retrying.confirm("pk_1", UUID.randomUUID(), 1000L))
+        .isInstanceOfSatisfying(
+            PaymentException.class,
+            e -> assertThat(e.getErrorCode()).isEqualTo(PaymentErrorCode.TOSS_OUTCOME_UNKNOWN));
+    assertThat(idempotencyKeys).hasSize(3);
+    assertThat(meterRegistry.get("toss.api.retries").tag("endpoint", "confirm").counter().count())
+        .isEqualTo(2);
+  }
+
+  @Test
+  void confirmStillProcessingAfterLastAttemptIsUnknownOutcome() {
+    HttpClientTossPaymentsGateway retrying = gateway(retry(false));
+    confirmScript.addAll(List.of("processing", "processing", "processing"));
+
+    assertThatThrownBy(() -> retrying.confirm("pk_1", UUID.randomUUID(), 1000L))
+        .isInstanceOfSatisfying(
+            PaymentException.class,
+            e -> assertThat(e.getErrorCode()).isEqualTo(PaymentErrorCode.TOSS_OUTCOME_UNKNOWN));
+    assertThat(idempotencyKeys).hasSize(3);
+  }
+
+  @Test
+  void slowConfirmIsHedgedWithSameIdempotencyKey() {
+    HttpClientTossPaymentsGateway hedging = gateway(retry(true));
+    UUID orderId = UUID.randomUUID();
+    confirmScript.add("delay");
+
+    TossResponse response = hedging.confirm("pk_1", orderId, 1000L);
+
+    assertThat(response.status()).isEqualTo("DONE");
+    assertThat(idempotencyKeys).hasSize(2).containsOnly("confirm-" + orderId);
+    assertThat(meterRegistry.get("toss.api.hedges").tag("endpoint", "confirm").counter().count())
+        .isEqualTo(1);
+  }
+
+  private HttpClientTossPaymentsGateway gateway(TossRetryProperties retry) {
+    return new HttpClientTossPaymentsGateway(
+        new TossClientConfig().tossHttpClient(properties, new MockEnvironment()),
+        new ObjectMapper(),
+        meterRegistry,
+        properties,
+        retry,
+        BulkheadRegistry.ofDefaults(),
+        circuitBreakerRegistry,
+        "http://localhost:3000");
+  }
+
+  // 3회 시도, 짧은 백오프. hedge는 관측값 없이 30ms 후 바로 보냄
+  private static TossRetryProperties retry(boolean hedge) {
+    return new TossRetryProperties(
+        3, Duration.ofMillis(10), Duration.ofMillis(20), hedge, Duration.ofMillis(30), 0);
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+    byte[] body = json.getBytes(StandardCharsets.UTF_8);
+    exchange.sendResponseHeaders(status, body.length);
+    exchange.getResponseBody().write(body);
+    exchange.close();
+  }
+}
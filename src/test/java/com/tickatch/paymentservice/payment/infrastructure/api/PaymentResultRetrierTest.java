@@ -0,0 +1,142 @@
+package com.tickatch.paymentservice.payment.infrastructure.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.tickatch.paymentservice.payment.application.dto.PaymentResultRequest;
+import com.tickatch.paymentservice.payment.infrastructure.client.ReservationFeignClient;
+import com.tickatch.paymentservice.payment.infrastructure.messaging.PaymentResultOutboxEvent;
+import com.tickatch.paymentservice.payment.infrastructure.messaging.PaymentResultOutboxRepository;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class PaymentResultRetrierTest {
+
+  private final List<PaymentResultOutboxEvent> outbox = new ArrayList<>();
+  private final List<PaymentResultRequest> delivered = new ArrayList<>();
+
+  private PaymentResultOutboxRepository outboxRepository;
+  private ReservationFeignClient reservationFeignClient;
+  private ReservationServiceImpl reservationService;
+  private PaymentResultRetrier retrier;
+
+  @BeforeEach
+  void setUp() {
+    outboxRepository = mock(PaymentResultOutboxRepository.class);
+    // 테스트에서는 저장된 결과를 모두 재시도 대상으로 본다
+    when(outboxRepository.findBatchForRetry(any(), any(Pageable.class)))
+        .thenAnswer(invocation -> List.copyOf(outbox));
+    when(outboxRepository.existsRetryPending(any()))
+        .thenAnswer(invocation -> outbox.stream().anyMatch(e -> e.getAttempts() > 0));
+    when(outboxRepository.findById(any()))
+        .thenAnswer(invocation -> outbox.stream().findFirst());
+    doAnswer(
+            invocation -> {
+              Iterable<PaymentResultOutboxEvent> events = invocation.getArgument(0);
+              events.forEach(outbox::remove);
+              return null;
+            })
+        .when(outboxRepository)
+        .deleteAllInBatch(anyIterable());
+
+    reservationFeignClient = mock(ReservationFeignClient.class);
+    when(reservationFeignClient.applyPaymentResult(any())).thenAnswer(this::deliver);
+
+    PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    reservationService =
+        new ReservationServiceImpl(
+            reservationFeignClient,
+            outboxRepository,
+            transactionManager,
+            BulkheadRegistry.ofDefaults(),
+            CircuitBreakerRegistry.ofDefaults(),
+            Duration.ofSeconds(30));
+    retrier =
+        new PaymentResultRetrier(
+            outboxRepository,
+            reservationService,
+            transactionManager,
+            new SimpleMeterRegistry(),
+            100,
+            Duration.ofSeconds(30));
+  }
+
+  @Test
+  void failedDeliveryAfterCommitIsKeptForRetry() {
+    PaymentResultOutboxEvent event = record("SUCCESS", "r-1");
+    doThrow(new IllegalStateException("reservation down"))
+        .when(reservationFeignClient)
+        .applyPaymentResult(any());
+
+    // 호출자에게 예외를 올리지 않고 바로 재시도 대상으로 남긴다
+    reservationService.deliver(event);
+
+    assertThat(outbox).containsExactly(event);
+    assertThat(event.getAttempts()).isEqualTo(1);
+  }
+
+  @Test
+  void pendingRetryDefersImmediateDeliveryToKeepOrder() {
+    PaymentResultOutboxEvent failed = record("FAIL", "r-1");
+    failed.recordFailedAttempt();
+    PaymentResultOutboxEvent next = record("SUCCESS", "r-1");
+
+    reservationService.deliver(next);
+
+    verify(reservationFeignClient, never()).applyPaymentResult(any());
+    assertThat(outbox).containsExactly(failed, next);
+
+    // 재시도는 저장 순으로 전달한다
+    assertThat(retrier.retryBatch()).isEqualTo(2);
+    assertThat(delivered)
+        .extracting(PaymentResultRequest::status)
+        .containsExactly("FAIL", "SUCCESS");
+    assertThat(outbox).isEmpty();
+  }
+
+  @Test
+  void retryStopsAtFirstFailureSoLaterResultsWait() {
+    PaymentResultOutboxEvent first = record("FAIL", "r-1");
+    PaymentResultOutboxEvent second = record("SUCCESS", "r-2");
+    doThrow(new IllegalStateException("reservation down"))
+        .doAnswer(this::deliver)
+        .when(reservationFeignClient)
+        .applyPaymentResult(any());
+
+    assertThat(retrier.retryBatch()).isZero();
+    assertThat(outbox).containsExactly(first, second);
+    assertThat(first.getAttempts()).isEqualTo(1);
+    assertThat(second.getAttempts()).isZero();
+
+    assertThat(retrier.retryBatch()).isEqualTo(2);
+    assertThat(outbox).isEmpty();
+  }
+
+  private Object deliver(InvocationOnMock invocation) {
+    delivered.add(invocation.getArgument(0));
+    return null;
+  }
+
+  private PaymentResultOutboxEvent record(String status, String reservationId) {
+    PaymentResultOutboxEvent event =
+        new PaymentResultOutboxEvent(0, status, List.of(reservationId));
+    outbox.add(event);
+    return event;
+  }
+}
@@ -0,0 +1,81 @@
+package com.tickatch.paymentservice.payment.infrastructure.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tickatch.paymentservice.payment.application.dto.TossResponse;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class TossJsonCodecTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final TossJsonCodec codec = new TossJsonCodec(objectMapper.getFactory());
+
+  @Test
+  void createRequestEscapesOrderName() throws Exception {
+    byte[] body =
+        codec.encode(
+            new TossCreatePaymentRequest(
+                "CARD", 30000L, "order-1", "콘서트 \"VIP\" \\ 2매", "http://a/cb", "http://a/cb"));
+
+    JsonNode json = objectMapper.readTree(body);
+    assertThat(json.path("orderName").asText()).isEqualTo("콘서트 \"VIP\" \\ 2매");
+    assertThat(json.path("amount").asLong()).isEqualTo(30000L);
+    assertThat(json.path("method").asText()).isEqualTo("CARD");
+  }
+
+  @Test
+  void confirmAndCancelRequestsHaveTossFieldNames() throws Exception {
+    JsonNode confirm = objectMapper.readTree(codec.encode(new TossConfirmRequest("pk", "o", 10L)));
+    JsonNode cancel = objectMapper.readTree(codec.encode(new TossCancelRequest("CUSTOMER_CANCEL")));
+
+    assertThat(confirm.path("paymentKey").asText()).isEqualTo("pk");
+    assertThat(confirm.path("orderId").asText()).isEqualTo("o");
+    assertThat(confirm.path("amount").asLong()).isEqualTo(10L);
+    assertThat(cancel.path("cancelReason").asText()).isEqualTo("CUSTOMER_CANCEL");
+  }
+
+  @Test
+  void decodeReadsOnlyUsedFieldsAndSkipsNestedValues() throws Exception {
+    String body =
+        """
+        {"mId":"m","card":{"status":"NOT_THIS","amount":1},"cancels":[{"status":"NOT_THIS"}],
+         "paymentKey":"pk_1","status":"DONE","receipt":{"url":"https://receipt"},
+         "checkout":{"type":"x","url":"https://checkout"},"totalAmount":30000,"failure":null}
+        """;
+
+    TossResponse response = decode(200, body);
+
+    assertThat(response.isOk()).isTrue();
+    assertThat(response.status()).isEqualTo("DONE");
+    assertThat(response.paymentKey()).isEqualTo("pk_1");
+    assertThat(response.checkoutUrl()).isEqualTo("https://checkout");
+    assertThat(response.code()).isNull();
+  }
+
+  @Test
+  void decodeReadsErrorBody() throws Exception {
+    TossResponse response =
+        decode(400, "{\"code\":\"ALREADY_CANCELED_PAYMENT\",\"message\":\"이미 취소된 결제\"}");
+
+    assertThat(response.code()).isEqualTo("ALREADY_CANCELED_PAYMENT");
+    assertThat(response.messageOrElse("refund failed")).isEqualTo("이미 취소된 결제");
+  }
+
+  @Test
+  void nonJsonBodyKeepsOnlyStatusCode() throws Exception {
+    TossResponse empty = decode(502, "");
+    TossResponse html = decode(502, "<html>bad gateway</html>");
+
+    assertThat(empty.statusCode()).isEqualTo(502);
+    assertThat(html.statusCode()).isEqualTo(502);
+    assertThat(html.code()).isNull();
+    assertThat(html.messageOrElse("fallback")).isEqualTo("fallback");
+  }
+
+  private TossResponse decode(int status, String body) throws Exception {
+    return codec.decode(status, body.getBytes(StandardCharsets.UTF_8));
+  }
+}
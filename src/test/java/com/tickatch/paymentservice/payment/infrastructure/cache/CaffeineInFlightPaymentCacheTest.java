@@ -0,0 +1,199 @@
+package com.tickatch.paymentservice.payment.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import com.tickatch.paymentservice.payment.domain.PaymentStatus;
+import com.tickatch.paymentservice.payment.domain.dto.PaymentSnapshot;
+import com.tickatch.paymentservice.payment.domain.event.PaymentStatusChangedEvent;
+import com.tickatch.paymentservice.payment.infrastructure.config.RabbitMQConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class CaffeineInFlightPaymentCacheTest {
+
+  private final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final CaffeineInFlightPaymentCache cache =
+      new CaffeineInFlightPaymentCache(
+          rabbitTemplate, meterRegistry, 100, Duration.ofMinutes(30), 100);
+
+  @AfterEach
+  void clearSynchronization() {
+    cache.shutdown();
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void cachesOnlyProcessingPayments() {
+    PaymentSnapshot processing = snapshot(PaymentStatus.PROCESSING);
+    PaymentSnapshot confirming = snapshot(PaymentStatus.CONFIRMING);
+
+    cache.put(processing);
+    cache.put(confirming);
+
+    assertThat(cache.get(processing.orderId())).contains(processing);
+    assertThat(cache.get(confirming.orderId())).isEmpty();
+  }
+
+  @Test
+  void putIsDeferredUntilCommit() {
+    PaymentSnapshot processing = snapshot(PaymentStatus.PROCESSING);
+    TransactionSynchronizationManager.initSynchronization();
+
+    cache.put(processing);
+    assertThat(cache.get(processing.orderId())).isEmpty();
+
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+    assertThat(cache.get(processing.orderId())).contains(processing);
+  }
+
+  @Test
+  void statusTransitionEvictsAndBroadcasts() {
+    PaymentSnapshot processing = snapshot(PaymentStatus.PROCESSING);
+    cache.put(processing);
+
+    cache.onStatusChanged(
+        new PaymentStatusChangedEvent(
+            processing.paymentId(),
+            processing.orderId(),
+            PaymentStatus.PROCESSING,
+            PaymentStatus.FAIL,
+            1000L,
+            LocalDateTime.now()));
+
+    assertThat(cache.get(processing.orderId())).isEmpty();
+    ArgumentCaptor<InFlightCacheInvalidation> message =
+        ArgumentCaptor.forClass(InFlightCacheInvalidation.class);
+    verify(rabbitTemplate, timeout(1000))
+        .convertAndSend(eq(RabbitMQConfig.INFLIGHT_CACHE_EXCHANGE), eq(""), message.capture());
+    assertThat(message.getValue().orderId()).isEqualTo(processing.orderId());
+  }
+
+  @Test
+  void transitionIntoProcessingDoesNotBroadcast() {
+    cache.onStatusChanged(
+        new PaymentStatusChangedEvent(
+            UUID.randomUUID(),
+            UUID.randomUUID(),
+            PaymentStatus.REQUESTED,
+            PaymentStatus.PROCESSING,
+            1000L,
+            LocalDateTime.now()));
+
+    verify(rabbitTemplate, never())
+        .convertAndSend(any(String.class), any(String.class), any(Object.class));
+  }
+
+  @Test
+  void remoteInvalidationEvictsButOwnMessageIsIgnored() {
+    PaymentSnapshot processing = snapshot(PaymentStatus.PROCESSING);
+    cache.put(processing);
+
+    // 자기 노드가 보낸 메시지는 이미 로컬에서 처리됨
+    cache.evict(processing.orderId());
+    ArgumentCaptor<InFlightCacheInvalidation> own =
+        ArgumentCaptor.forClass(InFlightCacheInvalidation.class);
+    verify(rabbitTemplate, timeout(1000))
+        .convertAndSend(any(String.class), any(String.class), own.capture());
+    cache.put(processing);
+    cache.onInvalidation(own.getValue());
+    assertThat(cache.get(processing.orderId())).isPresent();
+
+    cache.onInvalidation(new InFlightCacheInvalidation(processing.orderId(), "other-node"));
+    assertThat(cache.get(processing.orderId())).isEmpty();
+    assertThat(
+            meterRegistry
+                .get("payment.inflight.cache.invalidations")
+                .tag("source", "remote")
+                .counter()
+                .count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void slowBrokerDoesNotBlockInvalidation() throws Exception {
+    CountDownLatch brokerStalled = new CountDownLatch(1);
+    CountDownLatch releaseBroker = new CountDownLatch(1);
+    RabbitTemplate slowRabbitTemplate = mock(RabbitTemplate.class);
+    doAnswer(
+            invocation -> {
+              brokerStalled.countDown();
+              releaseBroker.await(5, TimeUnit.SECONDS);
+              return null;
+            })
+        .when(slowRabbitTemplate)
+        .convertAndSend(any(String.class), any(String.class), any(Object.class));
+    SimpleMeterRegistry boundedRegistry = new SimpleMeterRegistry();
+    CaffeineInFlightPaymentCache boundedCache =
+        new CaffeineInFlightPaymentCache(
+            slowRabbitTemplate, boundedRegistry, 100, Duration.ofMinutes(30), 1);
+
+    try {
+      PaymentSnapshot processing = snapshot(PaymentStatus.PROCESSING);
+      boundedCache.put(processing);
+
+      // 첫 전파가 브로커에서 멈춘 동안에도 무효화는 바로 반영되고, 큐를 넘친 전파는 버린다
+      boundedCache.evict(processing.orderId());
+      assertThat(brokerStalled.await(5, TimeUnit.SECONDS)).isTrue();
+      long started = System.nanoTime();
+      boundedCache.evict(UUID.randomUUID());
+      boundedCache.evict(UUID.randomUUID());
+      Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+      assertThat(elapsed).isLessThan(Duration.ofMillis(500));
+      assertThat(boundedCache.get(processing.orderId())).isEmpty();
+      assertThat(
+              boundedRegistry.get("payment.inflight.cache.broadcast.dropped").counter().count())
+          .isEqualTo(1);
+    } finally {
+      releaseBroker.countDown();
+      boundedCache.shutdown();
+    }
+  }
+
+  @Test
+  void exposesHitRatioAndCacheMetrics() {
+    PaymentSnapshot processing = snapshot(PaymentStatus.PROCESSING);
+    cache.put(processing);
+
+    cache.get(processing.orderId());
+    cache.get(UUID.randomUUID());
+
+    assertThat(meterRegistry.get("payment.inflight.cache.hit.ratio").gauge().value())
+        .isEqualTo(0.5);
+    assertThat(
+            meterRegistry
+                .get("cache.gets")
+                .tag("cache", "payment.inflight")
+                .tag("result", "hit")
+                .functionCounter()
+                .count())
+        .isEqualTo(1);
+    assertThat(meterRegistry.find("cache.evictions").tag("cache", "payment.inflight").meters())
+        .isNotEmpty();
+  }
+
+  private static PaymentSnapshot snapshot(PaymentStatus status) {
+    return new PaymentSnapshot(UUID.randomUUID(), UUID.randomUUID(), status, 10_000L);
+  }
+}
@@ -0,0 +1,203 @@
+package com.tickatch.paymentservice.payment.infrastructure.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.tickatch.paymentservice.payment.infrastructure.client.ReservationFeignClient;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.data.domain.Pageable;
+import org.springframework.messaging.Message;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class PaymentResultOutboxRelayTest {
+
+  private final List<PaymentResultOutboxEvent> outbox = new ArrayList<>();
+  private final List<Message<?>> sent = new ArrayList<>();
+
+  private StreamBridge streamBridge;
+  private StreamReservationService reservationService;
+  private PaymentResultOutboxRelay relay;
+
+  @BeforeEach
+  void setUp() {
+    PaymentResultOutboxRepository outboxRepository = mock(PaymentResultOutboxRepository.class);
+    when(outboxRepository.saveAll(anyIterable()))
+        .thenAnswer(
+            invocation -> {
+              Iterable<PaymentResultOutboxEvent> events = invocation.getArgument(0);
+              events.forEach(outbox::add);
+              return events;
+            });
+    when(outboxRepository.findBatchForRelay(any(Pageable.class)))
+        .thenAnswer(invocation -> List.copyOf(outbox));
+    doAnswer(
+            invocation -> {
+              Iterable<PaymentResultOutboxEvent> events = invocation.getArgument(0);
+              events.forEach(outbox::remove);
+              return null;
+            })
+        .when(outboxRepository)
+        .deleteAllInBatch(anyIterable());
+
+    streamBridge = mock(StreamBridge.class);
+    when(streamBridge.send(eq(PaymentResultOutboxRelay.BINDING), any(Message.class)))
+        .thenAnswer(invocation -> capture(invocation.getArgument(1)));
+
+    reservationService =
+        new StreamReservationService(
+            outboxRepository,
+            mock(ReservationFeignClient.class),
+            BulkheadRegistry.ofDefaults(),
+            CircuitBreakerRegistry.ofDefaults(),
+            4);
+    relay =
+        new PaymentResultOutboxRelay(
+            outboxRepository,
+            streamBridge,
+            mock(PlatformTransactionManager.class),
+            new SimpleMeterRegistry(),
+            100);
+  }
+
+  @Test
+  void batchesManyReservationsIntoOneMessagePerPartition() {
+    for (int i = 0; i < 50; i++) {
+      reservationService.recordResult("SUCCESS", List.of("r-" + i, "r-" + (i + 1000)));
+    }
+
+    int relayed = relay.relayBatch();
+
+    assertThat(outbox).isEmpty();
+    assertThat(relayed).isEqualTo(sentResults());
+    assertThat(sent).hasSizeLessThanOrEqualTo(4);
+
+    for (Message<?> message : sent) {
+      PaymentResultBatchMessage batch = (PaymentResultBatchMessage) message.getPayload();
+      assertThat(message.getHeaders().get(PaymentResultOutboxRelay.PARTITION_KEY_HEADER))
+          .isEqualTo(batch.partition());
+      batch.results().stream()
+          .flatMap(result -> result.reservationIds().stream())
+          .forEach(
+              id -> assertThat(reservationService.partitionOf(id)).isEqualTo(batch.partition()));
+    }
+  }
+
+  @Test
+  void failedPartitionIsResentAloneWithSameIds() {
+    for (int i = 0; i < 20; i++) {
+      reservationService.recordResult("SUCCESS", List.of("r-" + i));
+    }
+    int failedPartition = reservationService.partitionOf("r-0");
+
+    when(streamBridge.send(eq(PaymentResultOutboxRelay.BINDING), any(Message.class)))
+        .thenAnswer(
+            invocation -> {
+              Message<?> message = invocation.getArgument(1);
+              if (((PaymentResultBatchMessage) message.getPayload()).partition()
+                  == failedPartition) {
+                throw new IllegalStateException("broker down");
+              }
+              return capture(invocation.getArgument(1));
+            });
+    relay.relayBatch();
+
+    // 실패한 파티션만 남고 이미 보낸 파티션은 다시 보내지 않는다
+    assertThat(outbox)
+        .isNotEmpty()
+        .allSatisfy(
+            event -> {
+              assertThat(event.getPartition()).isEqualTo(failedPartition);
+              assertThat(event.getAttempts()).isEqualTo(1);
+            });
+    List<UUID> pendingIds = outbox.stream().map(PaymentResultOutboxEvent::getResultId).toList();
+    int sentBeforeRetry = sent.size();
+
+    when(streamBridge.send(eq(PaymentResultOutboxRelay.BINDING), any(Message.class)))
+        .thenAnswer(invocation -> capture(invocation.getArgument(1)));
+    relay.relayBatch();
+
+    assertThat(outbox).isEmpty();
+    assertThat(sent).hasSize(sentBeforeRetry + 1);
+    PaymentResultBatchMessage retried =
+        (PaymentResultBatchMessage) sent.get(sent.size() - 1).getPayload();
+    assertThat(retried.partition()).isEqualTo(failedPartition);
+    assertThat(retried.results())
+        .extracting(PaymentResultBatchMessage.Result::resultId)
+        .containsExactlyElementsOf(pendingIds);
+  }
+
+  @Test
+  void sameResultsGetSameBatchId() {
+    reservationService.recordResult("SUCCESS", List.of("r-1"));
+    List<PaymentResultOutboxEvent> pending = List.copyOf(outbox);
+
+    relay.relayBatch();
+    // 발행 후 커밋 전에 중단된 경우처럼 같은 레코드를 다시 발행
+    outbox.addAll(pending);
+    relay.relayBatch();
+
+    assertThat(sent).hasSize(2);
+    PaymentResultBatchMessage first = (PaymentResultBatchMessage) sent.get(0).getPayload();
+    PaymentResultBatchMessage second = (PaymentResultBatchMessage) sent.get(1).getPayload();
+    assertThat(second.batchId()).isEqualTo(first.batchId());
+    assertThat(second.results()).isEqualTo(first.results());
+  }
+
+  @Test
+  void keepsPerReservationOrderAcrossFailures() {
+    reservationService.recordResult("FAIL", List.of("r-1"));
+    reservationService.recordResult("CANCEL", List.of("r-2"));
+
+    when(streamBridge.send(eq(PaymentResultOutboxRelay.BINDING), any(Message.class)))
+        .thenThrow(new IllegalStateException("broker down"))
+        .thenReturn(false)
+        .thenAnswer(invocation -> capture(invocation.getArgument(1)));
+    relay.relayBatch();
+
+    reservationService.recordResult("SUCCESS", List.of("r-1"));
+    relay.relayBatch();
+    relay.relayBatch();
+
+    Map<String, List<String>> statusesByReservation =
+        sent.stream()
+            .map(message -> (PaymentResultBatchMessage) message.getPayload())
+            .flatMap(batch -> batch.results().stream())
+            .flatMap(
+                result ->
+                    result.reservationIds().stream().map(id -> Map.entry(id, result.status())))
+            .collect(
+                Collectors.groupingBy(
+                    Map.Entry::getKey,
+                    Collectors.mapping(Map.Entry::getValue, Collectors.toList())));
+
+    assertThat(outbox).isEmpty();
+    assertThat(statusesByReservation.get("r-1")).containsExactly("FAIL", "SUCCESS");
+    assertThat(statusesByReservation.get("r-2")).containsExactly("CANCEL");
+  }
+
+  private boolean capture(Message<?> message) {
+    sent.add(message);
+    return true;
+  }
+
+  private int sentResults() {
+    return sent.stream()
+        .mapToInt(message -> ((PaymentResultBatchMessage) message.getPayload()).results().size())
+        .sum();
+  }
+}
@@ -0,0 +1,64 @@
+package com.tickatch.paymentservice.payment.infrastructure.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.tickatch.paymentservice.payment.application.dto.ChangeStatusRequest;
+import com.tickatch.paymentservice.payment.domain.exception.PaymentErrorCode;
+import com.tickatch.paymentservice.payment.domain.exception.PaymentException;
+import com.tickatch.paymentservice.payment.infrastructure.client.ReservationFeignClient;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class StreamReservationServiceTest {
+
+  private ReservationFeignClient reservationFeignClient;
+  private CircuitBreakerRegistry circuitBreakerRegistry;
+  private StreamReservationService reservationService;
+
+  @BeforeEach
+  void setUp() {
+    reservationFeignClient = mock(ReservationFeignClient.class);
+    circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+    reservationService =
+        new StreamReservationService(
+            mock(PaymentResultOutboxRepository.class),
+            reservationFeignClient,
+            BulkheadRegistry.ofDefaults(),
+            circuitBreakerRegistry,
+            4);
+  }
+
+  @Test
+  void changeStatusGoesThroughReservationGuard() {
+    reservationService.changeStatus(List.of("r-1"));
+
+    verify(reservationFeignClient).changeReservationStatus(any(ChangeStatusRequest.class));
+    assertThat(
+            circuitBreakerRegistry
+                .circuitBreaker("reservation")
+                .getMetrics()
+                .getNumberOfSuccessfulCalls())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void openCircuitFailsFastWithoutCallingReservation() {
+    circuitBreakerRegistry.circuitBreaker("reservation").transitionToOpenState();
+
+    assertThatThrownBy(() -> reservationService.changeStatus(List.of("r-1")))
+        .isInstanceOfSatisfying(
+            PaymentException.class,
+            e ->
+                assertThat(e.getErrorCode())
+                    .isEqualTo(PaymentErrorCode.RESERVATION_SERVICE_UNAVAILABLE));
+    verifyNoInteractions(reservationFeignClient);
+  }
+}
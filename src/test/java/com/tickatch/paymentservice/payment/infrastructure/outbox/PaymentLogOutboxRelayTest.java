@@ -0,0 +1,193 @@
+package com.tickatch.paymentservice.payment.infrastructure.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.tickatch.paymentservice.payment.domain.PaymentMethod;
+import com.tickatch.paymentservice.payment.infrastructure.PaymentLogEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.springframework.amqp.AmqpIOException;
+import org.springframework.amqp.AmqpTimeoutException;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class PaymentLogOutboxRelayTest {
+
+  private static final Duration BROKER_LATENCY = Duration.ofMillis(300);
+  private static final int MAX_ATTEMPTS = 3;
+
+  private final List<PaymentOutboxEvent> outbox = new ArrayList<>();
+
+  private PaymentOutboxRepository outboxRepository;
+  private RabbitTemplate rabbitTemplate;
+  private RabbitOperations operations;
+  private SimpleMeterRegistry meterRegistry;
+  private OutboxPaymentLogEventPublisher publisher;
+  private PaymentLogOutboxRelay relay;
+
+  @BeforeEach
+  void setUp() {
+    outboxRepository = mock(PaymentOutboxRepository.class);
+    when(outboxRepository.save(any()))
+        .thenAnswer(
+            invocation -> {
+              outbox.add(invocation.getArgument(0));
+              return invocation.getArgument(0);
+            });
+    when(outboxRepository.findBatchForRelay(any(Pageable.class)))
+        .thenAnswer(
+            invocation -> outbox.stream().filter(event -> event.getDeadAt() == null).toList());
+    doAnswer(
+            invocation -> {
+              outbox.removeAll(invocation.<Collection<PaymentOutboxEvent>>getArgument(0));
+              return null;
+            })
+        .when(outboxRepository)
+        .deleteAllInBatch(any());
+
+    rabbitTemplate = mock(RabbitTemplate.class);
+    operations = mock(RabbitOperations.class);
+    meterRegistry = new SimpleMeterRegistry();
+
+    publisher = new OutboxPaymentLogEventPublisher(outboxRepository);
+    relay =
+        new PaymentLogOutboxRelay(
+            outboxRepository,
+            rabbitTemplate,
+            mock(PlatformTransactionManager.class),
+            meterRegistry,
+            100,
+            1000,
+            MAX_ATTEMPTS);
+  }
+
+  @Test
+  void slowBrokerConfirmTimeoutKeepsBatchForNextRun() {
+    when(rabbitTemplate.invoke(any()))
+        .thenAnswer(
+            invocation -> {
+              Thread.sleep(BROKER_LATENCY.toMillis());
+              throw new AmqpTimeoutException("confirm timed out");
+            })
+        .thenAnswer(this::runOnBroker);
+    for (int i = 0; i < 20; i++) {
+      publisher.publish(UUID.randomUUID(), PaymentMethod.TOSS_CARD, 0, "CONFIRM");
+    }
+
+    // confirm을 받지 못한 배치는 지우지 않으며, 브로커 탓이므로 시도 횟수에도 넣지 않는다
+    assertThat(relay.relayBatch()).isZero();
+    assertThat(outbox).hasSize(20).allSatisfy(event -> assertThat(event.getAttempts()).isZero());
+    assertThat(meterRegistry.get("payment.outbox.failures").counter().count()).isEqualTo(1);
+
+    // 브로커가 회복되면 같은 배치를 한 번의 confirm 대기로 발행한다
+    assertThat(relay.relayBatch()).isEqualTo(20);
+    assertThat(outbox).isEmpty();
+    verify(operations).waitForConfirmsOrDie(1000);
+    assertThat(meterRegistry.get("payment.outbox.published").counter().count()).isEqualTo(20);
+    assertThat(meterRegistry.get("payment.outbox.lag").timer().count()).isEqualTo(20);
+  }
+
+  @Test
+  void brokerOutageKeepsEventsForNextRun() {
+    when(rabbitTemplate.invoke(any()))
+        .thenThrow(new AmqpIOException(new IOException("connection refused")));
+
+    publisher.publish(UUID.randomUUID(), PaymentMethod.TOSS_CARD, 0, "REFUND");
+
+    assertThat(relay.relayBatch()).isZero();
+    verify(outboxRepository, never()).deleteAllInBatch(any());
+    assertThat(outbox).singleElement().extracting(PaymentOutboxEvent::getAttempts).isEqualTo(0);
+    assertThat(meterRegistry.get("payment.outbox.failures").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void poisonPayloadIsSkippedAndDeadAfterMaxAttempts() {
+    when(rabbitTemplate.invoke(any())).thenAnswer(this::runOnBroker);
+    publisher.publish(UUID.randomUUID(), PaymentMethod.TOSS_CARD, 0, "CONFIRM");
+    PaymentOutboxEvent poison =
+        new PaymentOutboxEvent(UUID.randomUUID(), UUID.randomUUID(), "{not-json");
+    outbox.add(poison);
+    publisher.publish(UUID.randomUUID(), PaymentMethod.TOSS_CARD, 0, "REFUND");
+
+    // 읽을 수 없는 레코드만 남기고 나머지는 발행한다
+    assertThat(relay.relayBatch()).isEqualTo(2);
+    assertThat(outbox).containsExactly(poison);
+    assertThat(poison.getAttempts()).isEqualTo(1);
+    assertThat(poison.getDeadAt()).isNull();
+
+    for (int i = 1; i < MAX_ATTEMPTS; i++) {
+      assertThat(relay.relayBatch()).isZero();
+    }
+
+    // 최대 시도 횟수에 이르면 발행을 포기하고 더 이상 배치에 포함하지 않는다
+    assertThat(poison.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+    assertThat(poison.getDeadAt()).isNotNull();
+    assertThat(relay.relayBatch()).isZero();
+    assertThat(poison.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+    assertThat(meterRegistry.get("payment.outbox.dead").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void unconvertibleEventDoesNotBlockBatch() {
+    when(rabbitTemplate.invoke(any())).thenAnswer(this::runOnBroker);
+    doThrow(new MessageConversionException("too large"))
+        .doNothing()
+        .when(operations)
+        .convertAndSend(any(String.class), any(String.class), any(PaymentLogEvent.class));
+    publisher.publish(UUID.randomUUID(), PaymentMethod.TOSS_CARD, 0, "CONFIRM");
+    PaymentOutboxEvent unconvertible = outbox.get(0);
+    publisher.publish(UUID.randomUUID(), PaymentMethod.TOSS_CARD, 1, "CONFIRM_FAIL");
+
+    assertThat(relay.relayBatch()).isEqualTo(1);
+
+    assertThat(outbox).containsExactly(unconvertible);
+    assertThat(unconvertible.getAttempts()).isEqualTo(1);
+    verify(operations).waitForConfirmsOrDie(1000);
+  }
+
+  @Test
+  void batchOfOnlyPoisonEventsDoesNotWaitForConfirms() {
+    when(rabbitTemplate.invoke(any())).thenAnswer(this::runOnBroker);
+    outbox.add(new PaymentOutboxEvent(UUID.randomUUID(), UUID.randomUUID(), "{not-json"));
+
+    assertThat(relay.relayBatch()).isZero();
+
+    verify(operations, never()).waitForConfirmsOrDie(anyLong());
+    verify(outboxRepository, never()).deleteAllInBatch(any());
+  }
+
+  @Test
+  void relayedEventsAreConvertedBackToLogEvents() {
+    when(rabbitTemplate.invoke(any())).thenAnswer(this::runOnBroker);
+
+    publisher.publish(UUID.randomUUID(), PaymentMethod.TOSS_CARD, 1, "CONFIRM_FAIL");
+    relay.relayBatch();
+
+    verify(operations)
+        .convertAndSend(any(String.class), any(String.class), any(PaymentLogEvent.class));
+    verify(operations).waitForConfirmsOrDie(1000);
+  }
+
+  private Object runOnBroker(InvocationOnMock invocation) {
+    return invocation.<RabbitOperations.OperationsCallback<?>>getArgument(0).doInRabbit(operations);
+  }
+}
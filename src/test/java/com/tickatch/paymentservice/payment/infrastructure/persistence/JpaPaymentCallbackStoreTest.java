@@ -0,0 +1,75 @@
+package com.tickatch.paymentservice.payment.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+class JpaPaymentCallbackStoreTest {
+
+  private static final Duration LEASE = Duration.ofMinutes(2);
+  private static final String KEY = "SUCCESS:order:pk";
+
+  private final PaymentCallbackRecordRepository repository =
+      mock(PaymentCallbackRecordRepository.class);
+  private final UUID orderId = UUID.randomUUID();
+
+  private JpaPaymentCallbackStore store;
+
+  @BeforeEach
+  void setUp() {
+    PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    store = new JpaPaymentCallbackStore(repository, transactionManager, Duration.ofDays(7), LEASE);
+  }
+
+  @Test
+  void newClaimIsHeldForLease() {
+    LocalDateTime before = LocalDateTime.now();
+
+    assertThat(store.tryClaim(KEY, orderId)).isTrue();
+
+    ArgumentCaptor<PaymentCallbackRecord> saved =
+        ArgumentCaptor.forClass(PaymentCallbackRecord.class);
+    verify(repository).saveAndFlush(saved.capture());
+    assertThat(saved.getValue().getClaimedUntil())
+        .isAfterOrEqualTo(before.plus(LEASE))
+        .isEqualTo(saved.getValue().getCreatedAt().plus(LEASE));
+    verify(repository, never()).takeOverExpiredClaim(any(), any(), any());
+  }
+
+  @Test
+  void expiredUnfinishedClaimIsTakenOver() {
+    when(repository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("dup"));
+    when(repository.takeOverExpiredClaim(eq(KEY), any(), any())).thenReturn(1);
+
+    assertThat(store.tryClaim(KEY, orderId)).isTrue();
+
+    // 넘겨받은 선점도 지금부터 lease 동안 유효하다
+    ArgumentCaptor<LocalDateTime> now = ArgumentCaptor.forClass(LocalDateTime.class);
+    ArgumentCaptor<LocalDateTime> claimedUntil = ArgumentCaptor.forClass(LocalDateTime.class);
+    verify(repository).takeOverExpiredClaim(eq(KEY), now.capture(), claimedUntil.capture());
+    assertThat(claimedUntil.getValue()).isEqualTo(now.getValue().plus(LEASE));
+  }
+
+  @Test
+  void liveOrCompletedClaimIsNotTakenOver() {
+    when(repository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("dup"));
+    when(repository.takeOverExpiredClaim(eq(KEY), any(), any())).thenReturn(0);
+
+    assertThat(store.tryClaim(KEY, orderId)).isFalse();
+  }
+}
@@ -0,0 +1,148 @@
+package com.tickatch.paymentservice.payment.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.tickatch.paymentservice.global.config.AuditorAwareImpl;
+import com.tickatch.paymentservice.global.config.AuthExtractor.AuthInfo;
+import com.tickatch.paymentservice.payment.application.dto.PaymentSearchPage;
+import com.tickatch.paymentservice.payment.application.service.PaymentQueryService;
+import com.tickatch.paymentservice.payment.domain.Payment;
+import com.tickatch.paymentservice.payment.domain.PaymentMethod;
+import com.tickatch.paymentservice.payment.domain.PaymentStatus;
+import com.tickatch.paymentservice.payment.domain.dto.PaymentReservationInfo;
+import com.tickatch.paymentservice.payment.domain.dto.PaymentSearchCondition;
+import com.tickatch.paymentservice.payment.domain.dto.PaymentSummary;
+import com.tickatch.paymentservice.payment.domain.exception.PaymentException;
+import com.tickatch.paymentservice.payment.domain.repository.PaymentRepository;
+import com.tickatch.paymentservice.payment.presentation.config.JPAConfig;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest
+class QuerydslPaymentSearchRepositoryTest {
+
+  private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 1, 12, 0);
+  private static final AuthInfo ADMIN = new AuthInfo("ADMIN", "admin");
+
+  @Autowired private PaymentRepository paymentRepository;
+  @Autowired private QuerydslPaymentSearchRepository searchRepository;
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  private PaymentQueryService queryService;
+  private final List<UUID> userOnePayments = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    queryService = new PaymentQueryService(searchRepository);
+
+    // user-1 결제 25건 (5건씩 같은 생성 시각), user-2 결제 5건
+    for (int i = 0; i < 25; i++) {
+      userOnePayments.add(save("user-1", BASE.plusMinutes(i / 5), i % 2 == 0));
+    }
+    for (int i = 0; i < 5; i++) {
+      save("user-2", BASE.plusMinutes(i), false);
+    }
+  }
+
+  @Test
+  void pagesThroughAllRowsNewestFirstWithoutDuplicates() {
+    PaymentSearchCondition condition = new PaymentSearchCondition("user-1", null, null, null, null);
+
+    List<PaymentSummary> seen = new ArrayList<>();
+    String cursor = null;
+    int pages = 0;
+    do {
+      PaymentSearchPage page = queryService.search(condition, cursor, 10, ADMIN);
+      seen.addAll(page.items());
+      cursor = page.nextCursor();
+      pages++;
+    } while (cursor != null);
+
+    assertThat(pages).isEqualTo(3);
+    assertThat(seen)
+        .extracting(PaymentSummary::paymentId)
+        .doesNotHaveDuplicates()
+        .containsExactlyInAnyOrderElementsOf(userOnePayments);
+    assertThat(seen)
+        .isSortedAccordingTo(Comparator.comparing(PaymentSummary::createdAt).reversed());
+  }
+
+  @Test
+  void appliesOptionalFilters() {
+    PaymentSearchCondition condition =
+        new PaymentSearchCondition(
+            "user-1",
+            PaymentStatus.PROCESSING,
+            PaymentMethod.TOSS_CARD,
+            BASE,
+            BASE.plusMinutes(2));
+
+    PaymentSearchPage page = queryService.search(condition, null, 100, ADMIN);
+
+    // 0~1분 구간 10건 중 짝수 번째(PROCESSING) 5건
+    assertThat(page.items())
+        .hasSize(5)
+        .allSatisfy(
+            row -> {
+              assertThat(row.status()).isEqualTo(PaymentStatus.PROCESSING);
+              assertThat(row.createdBy()).isEqualTo("user-1");
+            });
+    assertThat(page.nextCursor()).isNull();
+  }
+
+  @Test
+  void nonAdminSeesOnlyOwnPayments() {
+    PaymentSearchCondition condition = new PaymentSearchCondition("user-1", null, null, null, null);
+
+    PaymentSearchPage page =
+        queryService.search(condition, null, 100, new AuthInfo("USER", "user-2"));
+
+    assertThat(page.items()).hasSize(5).allMatch(row -> row.createdBy().equals("user-2"));
+  }
+
+  @Test
+  void rejectsMalformedCursor() {
+    PaymentSearchCondition condition = new PaymentSearchCondition(null, null, null, null, null);
+
+    assertThatThrownBy(() -> queryService.search(condition, "not-a-cursor", 10, ADMIN))
+        .isInstanceOf(PaymentException.class);
+  }
+
+  private UUID save(String userId, LocalDateTime createdAt, boolean processing) {
+    Payment payment =
+        Payment.create(
+            "search",
+            List.of(new PaymentReservationInfo(UUID.randomUUID().toString(), 1000L)),
+            PaymentMethod.TOSS_CARD);
+    if (processing) {
+      payment.markProcessing();
+    }
+    UUID id = paymentRepository.saveAndFlush(payment).getId().toUuid();
+
+    // 생성자/생성 시각은 감사 필드라 저장 후 직접 바꾼다
+    jdbcTemplate.update(
+        "update p_payment set created_by = ?, created_at = ? where id = ?", userId, createdAt, id);
+    return id;
+  }
+
+  @SpringBootConfiguration
+  @EnableJpaAuditing
+  @Import({AuditorAwareImpl.class, JPAConfig.class, QuerydslPaymentSearchRepository.class})
+  @EntityScan(basePackageClasses = Payment.class)
+  @EnableJpaRepositories(basePackageClasses = PaymentRepository.class)
+  static class SearchConfiguration {}
+}
@@ -0,0 +1,477 @@
+package com.tickatch.paymentservice.payment.presentation.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.Filter;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.RabbitMQContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 결제 API 종단 간 부하 테스트.
+ *
+ * <p>애플리케이션 전체(PostgreSQL, RabbitMQ 컨테이너)를 띄우고 토스({@code api.tosspayments.com})와 예매 서비스(Feign 클라이언트)
+ * 자리에 내장 HTTP 스텁을 둔다. 가상 사용자 {@code benchmark.load.users}명이 각각 결제 생성 → 성공 콜백 → 환불을 {@code
+ * benchmark.load.iterations}번 반복하고, 엔드포인트별 p50/p99/p999 지연과 처리량을 출력한다.
+ *
+ * <p>스텁 지연은 {@code fixed:50}, {@code uniform:20:80}, {@code lognormal:<중앙값>:<p99>}(ms) 형식으로, 오류 비율은 0~1
+ * 사이 값으로 지정한다 ({@code benchmark.load.toss.latency}, {@code benchmark.load.toss.error-rate}, {@code
+ * benchmark.load.reservation.latency}, {@code benchmark.load.reservation.error-rate}). Docker가 필요하며 {@code
+ * ./gradlew benchmark --tests '*PaymentApiLoadBenchmark*' -Dbenchmark.load.users=200}처럼 실행한다.
+ */
+@Tag("benchmark")
+@Testcontainers
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+      "spring.flyway.enabled=true",
+      "spring.flyway.schemas=payment_service",
+      "spring.flyway.default-schema=payment_service",
+      "spring.flyway.postgresql.transactional-lock=false",
+      "spring.jpa.hibernate.ddl-auto=validate",
+      "spring.jpa.properties.hibernate.default_schema=payment_service",
+      "spring.jpa.properties.hibernate.hbm2ddl.extra_physical_table_types=PARTITIONED TABLE",
+      "spring.datasource.hikari.connection-init-sql=set search_path to payment_service",
+      "eureka.client.enabled=false",
+      "payment.expiry.enabled=false",
+      "toss.secret-key=load_test_sk",
+      "toss.read-timeout=5s",
+      "logging.level.root=warn"
+    })
+class PaymentApiLoadBenchmark {
+
+  private static final int USERS = Integer.getInteger("benchmark.load.users", 50);
+  private static final int ITERATIONS = Integer.getInteger("benchmark.load.iterations", 40);
+  private static final int WARMUP_ITERATIONS =
+      Integer.getInteger("benchmark.load.warmup-iterations", 5);
+
+  private static final StubServer TOSS =
+      new StubServer(
+          LatencyProfile.parse(
+              System.getProperty("benchmark.load.toss.latency", "lognormal:40:150")),
+          Double.parseDouble(System.getProperty("benchmark.load.toss.error-rate", "0")));
+  private static final StubServer RESERVATION =
+      new StubServer(
+          LatencyProfile.parse(
+              System.getProperty("benchmark.load.reservation.latency", "lognormal:10:50")),
+          Double.parseDouble(System.getProperty("benchmark.load.reservation.error-rate", "0")));
+
+  private static final String CREATE = "POST /api/v1/payments";
+  private static final String SUCCESS = "GET /api/v1/payments/resp/success";
+  private static final String REFUND = "POST /api/v1/payments/refund";
+
+  @Container @ServiceConnection
+  static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+  @Container @ServiceConnection
+  static RabbitMQContainer rabbit = new RabbitMQContainer("rabbitmq:3.13-alpine");
+
+  @LocalServerPort private int port;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final HttpClient client =
+      HttpClient.newBuilder()
+          .executor(Executors.newVirtualThreadPerTaskExecutor())
+          .connectTimeout(Duration.ofSeconds(5))
+          .build();
+
+  @BeforeAll
+  static void startStubs() throws IOException {
+    ((Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+
+    TOSS.start(
+        server -> server.createContext("/v1/payments", PaymentApiLoadBenchmark::handleToss));
+    RESERVATION.start(
+        server ->
+            server.createContext(
+                "/api/v1/reservations",
+                exchange -> StubServer.respond(exchange, 200, "{\"success\":true}")));
+  }
+
+  @AfterAll
+  static void stopStubs() {
+    TOSS.stop();
+    RESERVATION.stop();
+  }
+
+  @DynamicPropertySource
+  static void stubProperties(DynamicPropertyRegistry registry) {
+    registry.add("toss.base-url", TOSS::baseUrl);
+    registry.add(
+        "spring.cloud.discovery.client.simple.instances.reservation-service[0].uri",
+        RESERVATION::baseUrl);
+  }
+
+  @Test
+  void createConfirmRefund() throws Exception {
+    run(WARMUP_ITERATIONS, new Report());
+
+    Report report = new Report();
+    long started = System.nanoTime();
+    run(ITERATIONS, report);
+    double elapsedSeconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+    System.out.printf(
+        "[payment api load] users=%d iterations=%d toss=%s (error %.1f%%) reservation=%s (error"
+            + " %.1f%%) elapsed=%.1fs flows=%.0f/s%n",
+        USERS,
+        ITERATIONS,
+        TOSS.latency,
+        TOSS.errorRate * 100,
+        RESERVATION.latency,
+        RESERVATION.errorRate * 100,
+        elapsedSeconds,
+        report.completedFlows.get() / elapsedSeconds);
+    System.out.printf(
+        "%-36s %8s %7s %10s %9s %9s %9s%n",
+        "endpoint", "requests", "errors", "req/s", "p50(ms)", "p99(ms)", "p999(ms)");
+    report.endpoints.forEach(
+        (endpoint, recorder) ->
+            System.out.printf(
+                "%-36s %8d %7d %10.1f %9.2f %9.2f %9.2f%n",
+                endpoint,
+                recorder.count(),
+                recorder.errors.get(),
+                recorder.count() / elapsedSeconds,
+                recorder.percentile(0.50),
+                recorder.percentile(0.99),
+                recorder.percentile(0.999)));
+
+    // 스텁 오류를 주입하지 않았다면 모든 흐름이 끝까지 성공해야 한다
+    if (TOSS.errorRate == 0 && RESERVATION.errorRate == 0) {
+      assertThat(report.completedFlows.get()).isEqualTo((long) USERS * ITERATIONS);
+    }
+  }
+
+  // 가상 사용자마다 가상 스레드 하나: 생성 → 성공 콜백 → 환불을 반복
+  private void run(int iterations, Report report) throws InterruptedException {
+    try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int user = 0; user < USERS; user++) {
+        String userId = UUID.randomUUID().toString();
+        users.submit(
+            () -> {
+              for (int i = 0; i < iterations; i++) {
+                flow(userId, report);
+              }
+            });
+      }
+      users.shutdown();
+      assertThat(users.awaitTermination(30, TimeUnit.MINUTES)).isTrue();
+    }
+  }
+
+  private void flow(String userId, Report report) {
+    String reservationId = UUID.randomUUID().toString();
+    long price = 10_000L;
+
+    JsonNode created =
+        report.call(
+            CREATE,
+            request("/api/v1/payments", userId)
+                .header("Content-Type", "application/json")
+                .POST(
+                    HttpRequest.BodyPublishers.ofString(
+                        """
+                        {"orderName":"load-test","payments":[{"reservationId":"%s","price":%d}]}
+                        """
+                            .formatted(reservationId, price))));
+    if (created == null) {
+      return;
+    }
+
+    // 토스 스텁이 결제창 URL에 주문 id와 결제 키를 실어 돌려준다
+    URI checkout = URI.create(created.findValue("checkoutUrl").asText());
+    Map<String, String> query = queryOf(checkout);
+
+    JsonNode confirmed =
+        report.call(
+            SUCCESS,
+            request(
+                    "/api/v1/payments/resp/success?paymentKey=%s&orderId=%s&amount=%d"
+                        .formatted(query.get("paymentKey"), query.get("orderId"), price),
+                    userId)
+                .GET());
+    if (confirmed == null) {
+      return;
+    }
+
+    JsonNode refunded =
+        report.call(
+            REFUND,
+            request("/api/v1/payments/refund", userId)
+                .header("Content-Type", "application/json")
+                .POST(
+                    HttpRequest.BodyPublishers.ofString(
+                        """
+                        {"reason":"CUSTOMER_CANCEL","reservationIds":["%s"]}
+                        """
+                            .formatted(reservationId))));
+    if (refunded != null) {
+      report.completedFlows.incrementAndGet();
+    }
+  }
+
+  private HttpRequest.Builder request(String path, String userId) {
+    return HttpRequest.newBuilder()
+        .uri(URI.create("http://localhost:" + port + path))
+        .timeout(Duration.ofSeconds(30))
+        .header("X-User-Id", userId)
+        .header("X-User-Type", "CUSTOMER");
+  }
+
+  private static Map<String, String> queryOf(URI uri) {
+    Map<String, String> query = new LinkedHashMap<>();
+    for (String pair : uri.getRawQuery().split("&")) {
+      String[] keyValue = pair.split("=", 2);
+      query.put(keyValue[0], keyValue[1]);
+    }
+    return query;
+  }
+
+  // 토스 결제 생성/승인/취소 스텁
+  private static void handleToss(HttpExchange exchange) throws IOException {
+    String path = exchange.getRequestURI().getPath();
+    if (path.equals("/v1/payments")) {
+      JsonNode body = new ObjectMapper().readTree(exchange.getRequestBody());
+      String orderId = body.path("orderId").asText();
+      String checkoutUrl =
+          "%s/checkout?orderId=%s&paymentKey=pk-%s&amount=%d"
+              .formatted(TOSS.baseUrl(), orderId, orderId, body.path("amount").asLong());
+      StubServer.respond(
+          exchange,
+          200,
+          "{\"paymentKey\":\"pk-%s\",\"status\":\"READY\",\"checkout\":{\"url\":\"%s\"}}"
+              .formatted(orderId, checkoutUrl));
+    } else if (path.equals("/v1/payments/confirm")) {
+      StubServer.respond(exchange, 200, "{\"status\":\"DONE\"}");
+    } else if (path.endsWith("/cancel")) {
+      StubServer.respond(exchange, 200, "{\"status\":\"CANCELED\"}");
+    } else {
+      StubServer.respond(exchange, 404, "{\"code\":\"NOT_FOUND_PAYMENT\"}");
+    }
+  }
+
+  // 엔드포인트별 지연 기록
+  private class Report {
+
+    private final Map<String, Recorder> endpoints = new LinkedHashMap<>();
+    private final AtomicLong completedFlows = new AtomicLong();
+
+    private Report() {
+      int capacity = USERS * Math.max(ITERATIONS, WARMUP_ITERATIONS);
+      for (String endpoint : List.of(CREATE, SUCCESS, REFUND)) {
+        endpoints.put(endpoint, new Recorder(capacity));
+      }
+    }
+
+    // 2xx가 아니거나 호출이 실패하면 오류로 세고 null을 돌려준다
+    private JsonNode call(String endpoint, HttpRequest.Builder builder) {
+      Recorder recorder = endpoints.get(endpoint);
+      long start = System.nanoTime();
+      try {
+        HttpResponse<String> response =
+            client.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+        recorder.record(System.nanoTime() - start);
+        if (response.statusCode() / 100 != 2) {
+          recorder.errors.incrementAndGet();
+          return null;
+        }
+        return objectMapper.readTree(response.body());
+      } catch (IOException e) {
+        recorder.record(System.nanoTime() - start);
+        recorder.errors.incrementAndGet();
+        return null;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return null;
+      }
+    }
+  }
+
+  private static class Recorder {
+
+    private final long[] latencies;
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicInteger errors = new AtomicInteger();
+
+    private Recorder(int capacity) {
+      this.latencies = new long[capacity];
+    }
+
+    private void record(long nanos) {
+      latencies[size.getAndIncrement()] = nanos;
+    }
+
+    private int count() {
+      return size.get();
+    }
+
+    private double percentile(double percentile) {
+      int count = count();
+      if (count == 0) {
+        return 0;
+      }
+      long[] sorted = Arrays.copyOf(latencies, count);
+      Arrays.sort(sorted);
+      int index = (int) Math.min(count - 1, Math.ceil(percentile * count) - 1);
+      return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+  }
+
+  // 지연/오류 분포를 적용하는 내장 HTTP 스텁 (요청마다 가상 스레드)
+  private static class StubServer {
+
+    private final LatencyProfile latency;
+    private final double errorRate;
+    private HttpServer server;
+
+    private StubServer(LatencyProfile latency, double errorRate) {
+      this.latency = latency;
+      this.errorRate = errorRate;
+    }
+
+    private void start(Consumer<HttpServer> routes) throws IOException {
+      server = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+      server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+      routes.accept(server);
+
+      // 모든 경로에 지연과 오류 주입을 먼저 적용
+      server
+          .getContexts()
+          .forEach(
+              context ->
+                  context
+                      .getFilters()
+                      .add(
+                          new Filter() {
+                            @Override
+                            public void doFilter(
+                                HttpExchange exchange, Filter.Chain chain)
+                                throws IOException {
+                              sleep(latency.sampleMillis());
+                              if (ThreadLocalRandom.current().nextDouble() < errorRate) {
+                                respond(
+                                    exchange,
+                                    500,
+                                    "{\"code\":\"FAILED_INTERNAL_SYSTEM_PROCESSING\"}");
+                                return;
+                              }
+                              chain.doFilter(exchange);
+                            }
+
+                            @Override
+                            public String description() {
+                              return "latency and error injection";
+                            }
+                          }));
+      server.start();
+    }
+
+    private String baseUrl() {
+      return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    private void stop() {
+      if (server != null) {
+        server.stop(0);
+      }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body)
+        throws IOException {
+      byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().add("Content-Type", "application/json");
+      exchange.sendResponseHeaders(status, bytes.length);
+      exchange.getResponseBody().write(bytes);
+      exchange.close();
+    }
+
+    private static void sleep(long millis) {
+      try {
+        Thread.sleep(millis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /**
+   * 스텁 응답 지연 분포 (ms).
+   *
+   * <p>{@code fixed:<ms>}, {@code uniform:<min>:<max>}, {@code lognormal:<중앙값>:<p99>}.
+   */
+  private record LatencyProfile(String spec, String type, double a, double b) {
+
+    // 표준 정규분포 99 백분위수
+    private static final double Z_99 = 2.326;
+
+    private static LatencyProfile parse(String spec) {
+      String[] parts = spec.split(":");
+      return switch (parts[0]) {
+        case "fixed" -> new LatencyProfile(spec, "fixed", Double.parseDouble(parts[1]), 0);
+        case "uniform" ->
+            new LatencyProfile(
+                spec, "uniform", Double.parseDouble(parts[1]), Double.parseDouble(parts[2]));
+        case "lognormal" -> {
+          double mu = Math.log(Double.parseDouble(parts[1]));
+          double sigma = (Math.log(Double.parseDouble(parts[2])) - mu) / Z_99;
+          yield new LatencyProfile(spec, "lognormal", mu, sigma);
+        }
+        default -> throw new IllegalArgumentException("unknown latency profile: " + spec);
+      };
+    }
+
+    private long sampleMillis() {
+      ThreadLocalRandom random = ThreadLocalRandom.current();
+      double millis =
+          switch (type) {
+            case "fixed" -> a;
+            case "uniform" -> a + random.nextDouble() * (b - a);
+            default -> Math.exp(a + b * random.nextGaussian());
+          };
+      return Math.round(millis);
+    }
+
+    @Override
+    public String toString() {
+      return spec;
+    }
+  }
+}